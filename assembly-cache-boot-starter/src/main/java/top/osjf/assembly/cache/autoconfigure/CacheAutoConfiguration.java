@@ -60,7 +60,7 @@ import java.util.List;
 @ConditionalOnClass({CacheCommonsOperations.class})
 @EnableConfigurationProperties({CacheProperties.class})
 @EnableListenersAutoRegister
-@Import(ExpiringMapConfiguration.class)
+@Import({ExpiringMapConfiguration.class, CaffeineConfiguration.class})
 public class CacheAutoConfiguration implements CacheBannerDisplayDevice, EnvironmentAware {
 
     private final CacheProperties properties;
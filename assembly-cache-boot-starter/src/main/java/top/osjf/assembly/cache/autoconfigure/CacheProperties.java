@@ -32,6 +32,13 @@ public class CacheProperties {
      */
     private ExpiringMap expiringMap = new ExpiringMap();
 
+    /**
+     * Expiry implement for {@code com.github.benmanes.caffeine.cache.Caffeine}.
+     *
+     * @since 1.1.4
+     */
+    private Caffeine caffeine = new Caffeine();
+
     public Configuration getGlobeConfiguration() {
         return globeConfiguration;
     }
@@ -56,6 +63,14 @@ public class CacheProperties {
         this.expiringMap = expiringMap;
     }
 
+    public Caffeine getCaffeine() {
+        return caffeine;
+    }
+
+    public void setCaffeine(Caffeine caffeine) {
+        this.caffeine = caffeine;
+    }
+
     public static class ExpiringMap {
 
         /**
@@ -78,6 +93,19 @@ public class CacheProperties {
          */
         private ExpirationPolicy expirationPolicy = ExpirationPolicy.CREATED;
 
+        /**
+         * Set the number of independent maps the keys are striped across.
+         *
+         * <p>A value greater than {@code 1} reduces the contention of many
+         * threads writing to a single map, the {@code maxsize} is split
+         * evenly across the maps.
+         *
+         * <p>The default is {@code 1}.</p>
+         *
+         * @since 1.1.4
+         */
+        private Integer shards = 1;
+
         public Integer getMaxSize() {
             return maxSize;
         }
@@ -93,12 +121,62 @@ public class CacheProperties {
         public void setExpirationPolicy(ExpirationPolicy expirationPolicy) {
             this.expirationPolicy = expirationPolicy;
         }
+
+        public Integer getShards() {
+            return shards;
+        }
+
+        public void setShards(Integer shards) {
+            this.shards = shards;
+        }
+    }
+
+    /**
+     * @since 1.1.4
+     */
+    public static class Caffeine {
+
+        /**
+         * Set a {@code maxsize} for cache, beyond which entries are evicted
+         * by the frequency-aware W-TinyLFU policy.
+         *
+         * <p>The default is {@code 500}.</p>
+         */
+        private Long maxSize = 500L;
+
+        /**
+         * Set a {@code expirationPolicy} for cache.
+         *
+         * <p>With {@link ExpirationPolicy#ACCESSED} the expiration of an entry
+         * is also reset when it is read.
+         *
+         * <p>The default is {@code ExpirationPolicy.CREATED}.</p>
+         */
+        private ExpirationPolicy expirationPolicy = ExpirationPolicy.CREATED;
+
+        public Long getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(Long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public ExpirationPolicy getExpirationPolicy() {
+            return expirationPolicy;
+        }
+
+        public void setExpirationPolicy(ExpirationPolicy expirationPolicy) {
+            this.expirationPolicy = expirationPolicy;
+        }
     }
 
     /**
      * The underlying support type for caching.
      */
     public enum Client {
-        EXPIRE_MAP
+        EXPIRE_MAP,
+        //@since 1.1.4
+        CAFFEINE
     }
 }
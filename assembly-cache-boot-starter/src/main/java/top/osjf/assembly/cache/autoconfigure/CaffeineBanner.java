@@ -0,0 +1,31 @@
+package top.osjf.assembly.cache.autoconfigure;
+
+/**
+ * {@link top.osjf.assembly.cache.autoconfigure.CacheProperties.Caffeine} Print relevant information
+ * in the form of a logo to the console.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+class CaffeineBanner implements StartUpBanner {
+
+    private static final String BANNER = "" +
+            "            __  __      _            \n" +
+            "  ___ __ _ / _|/ _| ___(_)_ __   ___ \n" +
+            " / __/ _` | |_| |_ / _ \\ | '_ \\ / _ \\\n" +
+            "| (_| (_| |  _|  _|  __/ | | | |  __/\n" +
+            " \\___\\__,_|_| |_|  \\___|_|_| |_|\\___|";
+
+
+    private static final String CAFFEINE_SINE = " :: Caffeine :: ";
+
+    @Override
+    public String getBanner() {
+        return BANNER;
+    }
+
+    @Override
+    public String getLeftSign() {
+        return CAFFEINE_SINE;
+    }
+}
@@ -0,0 +1,92 @@
+package top.osjf.assembly.cache.autoconfigure;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import top.osjf.assembly.cache.config.caffeine.CaffeineClients;
+import top.osjf.assembly.cache.factory.CacheFactory;
+import top.osjf.assembly.cache.factory.CaffeineCacheFactory;
+import top.osjf.assembly.util.annotation.NotNull;
+
+import java.io.PrintStream;
+
+/**
+ * One of the optional caches for this component {@link Caffeine}, selected with
+ * {@code assembly.cache.client=caffeine} when Caffeine is on the classpath.
+ * <p>
+ * The following is an explanation of important parameters<br>
+ * <h3>{@link CacheProperties#getCaffeine()}.</h3><br>
+ * {@code Max Size } : the maximum number of entries, beyond which entries are
+ * evicted by the frequency-aware W-TinyLFU policy.<br>
+ * {@code Expiration Policy }: {@code CREATED} resets the expiration of an entry on
+ * write, {@code ACCESSED} also on read.<br>
+ * Each entry expires after its own duration, the default one being
+ * {@link top.osjf.assembly.cache.config.Configuration#getDefaultCacheDuration()}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({Caffeine.class})
+@ConditionalOnProperty(
+        name = "assembly.cache.client",
+        havingValue = "caffeine")
+public class CaffeineConfiguration extends CacheCommonsConfiguration implements CacheBannerDisplayDevice,
+        EnvironmentAware {
+
+    private Environment environment;
+
+    public CaffeineConfiguration(CacheProperties properties) {
+        super(properties);
+    }
+
+    @Override
+    public void printBanner(Environment environment, Class<?> sourceClass, PrintStream out) {
+        /*
+         * print caffeine version and banner info
+         */
+        StartUpBannerExecutor.printBanner(environment, getStartUpBanner(), sourceClass, out);
+    }
+
+    @Override
+    public void setEnvironment(@NotNull Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    @NotNull
+    public Environment getEnvironment() {
+        return this.environment;
+    }
+
+    @Override
+    @NotNull
+    public Class<?> getSourceClass() {
+        return Caffeine.class;
+    }
+
+    @Override
+    @NotNull
+    public StartUpBanner getStartUpBanner() {
+        return new CaffeineBanner();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean({CacheFactory.class})
+    public CacheFactory caffeineCacheExecutorFactory() {
+        CacheProperties properties = getProperties();
+        CacheProperties.Caffeine caffeine = properties.getCaffeine();
+        CaffeineClients.CaffeineClientsBuilder builder = CaffeineClients
+                .builder()
+                .acquireMaxSize(caffeine.getMaxSize())
+                .acquireDefaultExpireTime(properties.getGlobeConfiguration().getDefaultCacheDuration())
+                .acquireDefaultExpireTimeUnit(properties.getGlobeConfiguration().getDefaultCacheDurationUnit())
+                .acquireDefaultExpirationPolicy(caffeine.getExpirationPolicy());
+        return new CaffeineCacheFactory(builder.build());
+    }
+}
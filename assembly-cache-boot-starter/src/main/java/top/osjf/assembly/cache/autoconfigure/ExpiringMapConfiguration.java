@@ -96,7 +96,8 @@ public class ExpiringMapConfiguration extends CacheCommonsConfiguration implemen
                 .acquireMaxSize(expiringMap.getMaxSize())
                 .acquireDefaultExpireTime(properties.getGlobeConfiguration().getDefaultCacheDuration())
                 .acquireDefaultExpireTimeUnit(properties.getGlobeConfiguration().getDefaultCacheDurationUnit())
-                .acquireDefaultExpirationPolicy(expiringMap.getExpirationPolicy());
+                .acquireDefaultExpirationPolicy(expiringMap.getExpirationPolicy())
+                .acquireShards(expiringMap.getShards());
         return new ExpiringMapCacheFactory(builder.build());
     }
 }
@@ -1,16 +1,25 @@
 package top.osjf.assembly.cache.autoconfigure;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
+import top.osjf.assembly.cache.config.Configuration;
 import top.osjf.assembly.cache.persistence.CachePersistenceReduction;
+import top.osjf.assembly.cache.persistence.CachePersistenceReductionProgress;
 
 /**
  * Cache the process information bean of the persistent file recovery class.
+ * <p>Since 1.1.4, when {@link Configuration#getReductionAwaitTimeout()} is positive,
+ * the initialization of this bean waits for the restore to complete within
+ * the timeout, so that application readiness covers the restored cache.
  *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.8
  */
 public class PersistenceReductionProcess implements InitializingBean {
 
+    private static final Logger log = LoggerFactory.getLogger(PersistenceReductionProcess.class);
+
     private final String path;
 
     public PersistenceReductionProcess(String path) {
@@ -19,6 +28,21 @@ public class PersistenceReductionProcess implements InitializingBean {
 
     @Override
     public void afterPropertiesSet() {
-        CachePersistenceReduction.INSTANCE.reductionUsePath(path);
+        Configuration configuration = Configuration.getGlobalConfiguration();
+        CachePersistenceReduction reduction = configuration.getPersistenceMode().getReduction();
+        reduction.reductionUsePath(path);
+        long timeout = configuration.getReductionAwaitTimeout();
+        CachePersistenceReductionProgress progress = reduction.getReductionProgress();
+        if (timeout <= 0 || progress == null) {
+            return;
+        }
+        try {
+            if (!progress.await(timeout, configuration.getReductionAwaitTimeoutUnit())) {
+                log.warn("Cache restore not completed within {} {} : {}", timeout,
+                        configuration.getReductionAwaitTimeoutUnit(), progress);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
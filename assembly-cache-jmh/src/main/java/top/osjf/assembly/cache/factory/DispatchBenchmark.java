@@ -0,0 +1,120 @@
+package top.osjf.assembly.cache.factory;
+
+import net.jodah.expiringmap.ExpirationPolicy;
+import org.openjdk.jmh.annotations.*;
+import top.osjf.assembly.cache.command.CacheInvocationHandler;
+import top.osjf.assembly.cache.command.PersistenceCacheExecutor;
+import top.osjf.assembly.cache.command.expiremap.ExpiringMapInvocationHandler;
+import top.osjf.assembly.cache.command.expiremap.ExpiringMapPersistenceExecutor;
+import top.osjf.assembly.cache.config.Configuration;
+import top.osjf.assembly.cache.config.expiringmap.DefaultExpiringMapClients;
+import top.osjf.assembly.cache.jmh.BenchmarkKeys;
+import top.osjf.assembly.cache.persistence.CachePersistenceThreadLocal;
+import top.osjf.assembly.cache.serializer.StringPairSerializer;
+import top.osjf.assembly.util.lang.ReflectUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the per-command overhead of the dispatch of an
+ * {@link ExpiringMapCacheExecutor} on 1024 {@link BenchmarkKeys#keys}, with
+ * cache persistence disabled, every invocation getting or setting the next key.
+ *
+ * <ul>
+ *     <li>{@code target}: the {@link ExpiringMapCacheExecutorImpl} called directly.</li>
+ *     <li>{@code decorator}: an {@link ExpiringMapPersistenceExecutor}, the
+ *     {@link PersistenceCacheExecutor} created by default.</li>
+ *     <li>{@code proxy}: a jdk proxy of an {@link ExpiringMapInvocationHandler},
+ *     the {@link CacheInvocationHandler} created when
+ *     {@link Configuration#isEnableProxyDispatch()}.</li>
+ * </ul>
+ *
+ * <p>The benchmark lives in the package of the centers to create its own
+ * {@link AbstractExpireMapCenter} instead of the global one.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatchBenchmark {
+
+    /*** The count of keys, a power of two.*/
+    private static final int SIZE = 1024;
+
+    private byte[][] keys;
+
+    private final byte[] value = BenchmarkKeys.serialize("value");
+
+    private ExpiringMapCacheExecutor target;
+
+    private ExpiringMapCacheExecutor decorator;
+
+    private ExpiringMapCacheExecutor proxy;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        Configuration configuration = Configuration.getGlobalConfiguration();
+        configuration.setEnablePersistence(false);
+        configuration.setEnableSimilarKeyIndex(false);
+        AbstractExpireMapCenter center = AbstractExpireMapCenter.createExpireMapCenter0(
+                new DefaultExpiringMapClients(Integer.MAX_VALUE, 1L, TimeUnit.HOURS, ExpirationPolicy.CREATED));
+        ExpiringMapCacheExecutorImpl executor = new ExpiringMapCacheExecutorImpl(() -> center);
+        target = executor;
+        decorator = new ExpiringMapPersistenceExecutor(executor);
+        proxy = ReflectUtils.newProxyInstance(new ExpiringMapInvocationHandler(executor),
+                executor.getClass().getInterfaces());
+        //The serializers a CacheTemplate binds to the thread of a command
+        CachePersistenceThreadLocal.putData(new StringPairSerializer(), new StringPairSerializer());
+        keys = BenchmarkKeys.serialize(BenchmarkKeys.keys(SIZE));
+        for (byte[] key : keys) {
+            target.set(key, value);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        target.deleteAll();
+        CachePersistenceThreadLocal.putData(null);
+    }
+
+    @Benchmark
+    public byte[] targetGet() {
+        return target.get(nextKey());
+    }
+
+    @Benchmark
+    public Boolean targetSet() {
+        return target.set(nextKey(), value);
+    }
+
+    @Benchmark
+    public byte[] decoratorGet() {
+        return decorator.get(nextKey());
+    }
+
+    @Benchmark
+    public Boolean decoratorSet() {
+        return decorator.set(nextKey(), value);
+    }
+
+    @Benchmark
+    public byte[] proxyGet() {
+        return proxy.get(nextKey());
+    }
+
+    @Benchmark
+    public Boolean proxySet() {
+        return proxy.set(nextKey(), value);
+    }
+
+    private byte[] nextKey() {
+        return keys[next++ & (SIZE - 1)];
+    }
+}
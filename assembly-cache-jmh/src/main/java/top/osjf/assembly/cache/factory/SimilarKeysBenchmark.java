@@ -0,0 +1,111 @@
+package top.osjf.assembly.cache.factory;
+
+import net.jodah.expiringmap.ExpirationPolicy;
+import net.jodah.expiringmap.ExpiringMap;
+import org.openjdk.jmh.annotations.*;
+import top.osjf.assembly.cache.config.Configuration;
+import top.osjf.assembly.cache.config.expiringmap.DefaultExpiringMapClients;
+import top.osjf.assembly.cache.jmh.BenchmarkKeys;
+import top.osjf.assembly.cache.serializer.CacheByteKeyIdentify;
+import top.osjf.assembly.util.data.ByteIdentify;
+import top.osjf.assembly.util.data.Identify;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark of a similar key query of {@link ExpiringMapCacheExecutorImpl#findSimilarKeys}
+ * on an {@link ExpireMapCenter} holding 10k, 100k and 1M {@link BenchmarkKeys#keys},
+ * every invocation querying the {@code domain:id:} prefix of the next of 1024 keys.
+ *
+ * <ul>
+ *     <li>{@code scan}: without the similar key index, every key of the cache is
+ *     deserialized and compared with the query.</li>
+ *     <li>{@code index}: with the {@link SimilarKeyIndex}, only the keys holding
+ *     every trigram of the query are compared with it.</li>
+ * </ul>
+ *
+ * <p>The benchmark lives in the package of the centers to reach the similar key
+ * candidates the executor filters, both return the same keys.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx6g")
+@State(Scope.Benchmark)
+public class SimilarKeysBenchmark {
+
+    /*** The count of queries, a power of two.*/
+    private static final int QUERIES = 1024;
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private AbstractExpireMapCenter scanCenter;
+
+    private AbstractExpireMapCenter indexCenter;
+
+    private final ByteIdentify[] queries = new ByteIdentify[QUERIES];
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        scanCenter = createCenter(false);
+        indexCenter = createCenter(true);
+        String[] keys = BenchmarkKeys.keys(size);
+        ByteIdentify value = new ByteIdentify(BenchmarkKeys.serialize("value"));
+        for (String key : keys) {
+            byte[] bytes = BenchmarkKeys.serialize(key);
+            ByteIdentify identify = new CacheByteKeyIdentify(bytes, BenchmarkKeys.KEY_PAIR_SERIALIZER_NAME);
+            scanCenter.reload(identify, value, 1L, TimeUnit.HOURS);
+            indexCenter.reload(identify, value, 1L, TimeUnit.HOURS);
+        }
+        Random random = new Random(BenchmarkKeys.SEED + 1);
+        for (int i = 0; i < QUERIES; i++) {
+            String key = keys[random.nextInt(size)];
+            queries[i] = new CacheByteKeyIdentify(BenchmarkKeys.serialize(key.substring(0,
+                    key.lastIndexOf(':') + 1)), BenchmarkKeys.KEY_PAIR_SERIALIZER_NAME);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        scanCenter.getAll().forEach(ExpiringMap::clear);
+        indexCenter.getAll().forEach(ExpiringMap::clear);
+        indexCenter.clearIndex();
+    }
+
+    @Benchmark
+    public List<byte[]> scan() {
+        return findSimilarKeys(scanCenter, queries[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public List<byte[]> index() {
+        return findSimilarKeys(indexCenter, queries[next++ & (QUERIES - 1)]);
+    }
+
+    /*
+     * The query of ExpiringMapCacheExecutorImpl#findSimilarKeys.
+     */
+    private static List<byte[]> findSimilarKeys(AbstractExpireMapCenter center, ByteIdentify query) {
+        return center.similarKeyCandidates(query)
+                .stream()
+                .filter(identify -> identify.similarTo(query) && center.get(identify).containsKey(identify))
+                .map(Identify::getData)
+                .collect(Collectors.toList());
+    }
+
+    private static AbstractExpireMapCenter createCenter(boolean similarKeyIndex) {
+        Configuration.getGlobalConfiguration().setEnableSimilarKeyIndex(similarKeyIndex);
+        return AbstractExpireMapCenter.createExpireMapCenter0(new DefaultExpiringMapClients(Integer.MAX_VALUE,
+                1L, TimeUnit.HOURS, ExpirationPolicy.CREATED));
+    }
+}
@@ -0,0 +1,76 @@
+package top.osjf.assembly.cache.jmh;
+
+import top.osjf.assembly.cache.serializer.PairSerializer;
+import top.osjf.assembly.cache.serializer.StringPairSerializer;
+
+import java.util.Random;
+
+/**
+ * Seeded generator of the cache keys used by the benchmarks, so that every
+ * run works on the same keys.
+ *
+ * <p>The keys look like the ones of an application, {@code user:42:profile},
+ * and are serialized with the {@link StringPairSerializer} as the cache
+ * executor does before creating its key identify.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public final class BenchmarkKeys {
+
+    /*** The seed of the generated keys.*/
+    public static final long SEED = 20240601L;
+
+    /*** The name of the {@link PairSerializer} of the keys.*/
+    public static final String KEY_PAIR_SERIALIZER_NAME = StringPairSerializer.class.getName();
+
+    private static final String[] DOMAINS = {"user", "order", "product", "session", "cart", "stock",
+            "coupon", "address"};
+
+    private static final String[] FIELDS = {"profile", "detail", "summary", "token", "items", "count"};
+
+    private static final PairSerializer<String> SERIALIZER = new StringPairSerializer();
+
+    private BenchmarkKeys() {
+    }
+
+    /**
+     * Return the given count of distinct keys, from {@link #SEED}.
+     *
+     * @param count the count of keys.
+     * @return the keys.
+     */
+    public static String[] keys(int count) {
+        Random random = new Random(SEED);
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = DOMAINS[random.nextInt(DOMAINS.length)] + ":" + i + ":"
+                    + FIELDS[random.nextInt(FIELDS.length)];
+        }
+        return keys;
+    }
+
+    /**
+     * Return the keys serialized with the {@link StringPairSerializer}.
+     *
+     * @param keys the keys.
+     * @return the serialized keys.
+     */
+    public static byte[][] serialize(String[] keys) {
+        byte[][] bytes = new byte[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            bytes[i] = serialize(keys[i]);
+        }
+        return bytes;
+    }
+
+    /**
+     * Return a key serialized with the {@link StringPairSerializer}.
+     *
+     * @param key the key.
+     * @return the serialized key.
+     */
+    public static byte[] serialize(String key) {
+        return SERIALIZER.serialize(key);
+    }
+}
@@ -0,0 +1,121 @@
+package top.osjf.assembly.cache.jmh;
+
+import net.jodah.expiringmap.ExpirationPolicy;
+import net.jodah.expiringmap.ExpiringMap;
+import org.openjdk.jmh.annotations.*;
+import top.osjf.assembly.cache.serializer.CacheByteKeyIdentify;
+import top.osjf.assembly.util.data.ByteIdentify;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the get and put throughput of the {@link ExpiringMap} of the
+ * cache center with its three kinds of key, every invocation creating the key
+ * of the next serialized {@link BenchmarkKeys#keys} as a cache operation does.
+ *
+ * <ul>
+ *     <li>{@code legacy}: a {@link LegacyCacheByteIdentify}, the key before 1.1.4,
+ *     hashing reflectively and binding its pair serializer on creation.</li>
+ *     <li>{@code byteIdentify}: a {@link ByteIdentify}, hashing its bytes once
+ *     with the 64-bit CityHash and comparing them by content.</li>
+ *     <li>{@code cacheByteKeyIdentify}: a {@link CacheByteKeyIdentify}, the key of
+ *     the cache center, a {@link ByteIdentify} resolving its pair serializer only
+ *     when it is deserialized.</li>
+ * </ul>
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class KeyIdentifyBenchmark {
+
+    /*** The count of keys, a power of two.*/
+    private static final int SIZE = 1 << 14;
+
+    private final ByteIdentify value = new ByteIdentify(BenchmarkKeys.serialize("value"));
+
+    private byte[][] keys;
+
+    private ExpiringMap<ByteIdentify, ByteIdentify> legacyMap;
+
+    private ExpiringMap<ByteIdentify, ByteIdentify> byteIdentifyMap;
+
+    private ExpiringMap<ByteIdentify, ByteIdentify> cacheByteKeyIdentifyMap;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        keys = BenchmarkKeys.serialize(BenchmarkKeys.keys(SIZE));
+        legacyMap = newMap();
+        byteIdentifyMap = newMap();
+        cacheByteKeyIdentifyMap = newMap();
+        for (byte[] key : keys) {
+            legacyMap.put(new LegacyCacheByteIdentify(key, BenchmarkKeys.KEY_PAIR_SERIALIZER_NAME), value);
+            byteIdentifyMap.put(new ByteIdentify(key), value);
+            cacheByteKeyIdentifyMap.put(new CacheByteKeyIdentify(key, BenchmarkKeys.KEY_PAIR_SERIALIZER_NAME),
+                    value);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        legacyMap.clear();
+        byteIdentifyMap.clear();
+        cacheByteKeyIdentifyMap.clear();
+    }
+
+    @Benchmark
+    public ByteIdentify legacyGet() {
+        return legacyMap.get(new LegacyCacheByteIdentify(nextKey(), BenchmarkKeys.KEY_PAIR_SERIALIZER_NAME));
+    }
+
+    @Benchmark
+    public ByteIdentify legacyPut() {
+        return legacyMap.put(new LegacyCacheByteIdentify(nextKey(), BenchmarkKeys.KEY_PAIR_SERIALIZER_NAME),
+                value);
+    }
+
+    @Benchmark
+    public ByteIdentify byteIdentifyGet() {
+        return byteIdentifyMap.get(new ByteIdentify(nextKey()));
+    }
+
+    @Benchmark
+    public ByteIdentify byteIdentifyPut() {
+        return byteIdentifyMap.put(new ByteIdentify(nextKey()), value);
+    }
+
+    @Benchmark
+    public ByteIdentify cacheByteKeyIdentifyGet() {
+        return cacheByteKeyIdentifyMap.get(new CacheByteKeyIdentify(nextKey(),
+                BenchmarkKeys.KEY_PAIR_SERIALIZER_NAME));
+    }
+
+    @Benchmark
+    public ByteIdentify cacheByteKeyIdentifyPut() {
+        return cacheByteKeyIdentifyMap.put(new CacheByteKeyIdentify(nextKey(),
+                BenchmarkKeys.KEY_PAIR_SERIALIZER_NAME), value);
+    }
+
+    private byte[] nextKey() {
+        return keys[next++ & (SIZE - 1)];
+    }
+
+    /*
+     * The map of the cache center, without a size limit and with a
+     * duration longer than the benchmark.
+     */
+    private static ExpiringMap<ByteIdentify, ByteIdentify> newMap() {
+        return ExpiringMap.builder()
+                .expiration(1, TimeUnit.HOURS)
+                .expirationPolicy(ExpirationPolicy.CREATED)
+                .variableExpiration()
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package top.osjf.assembly.cache.jmh;
+
+import cn.hutool.core.lang.hash.CityHash;
+import top.osjf.assembly.cache.serializer.CacheByteIdentify;
+import top.osjf.assembly.cache.serializer.CacheByteKeyIdentify;
+import top.osjf.assembly.util.data.ByteIdentify;
+import top.osjf.assembly.util.data.Identify;
+import top.osjf.assembly.util.lang.ReflectUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * The key of the cache center before {@link CacheByteKeyIdentify}: a
+ * {@link CacheByteIdentify} binding its pair serializer on creation, whose
+ * {@link #hashCode()} and {@link #equals(Object)} are the ones of
+ * {@link Identify} before 1.1.4, a reflective lookup of the {@code hashCode}
+ * of the data on every call then {@link CityHash#hash32(byte[])}, and
+ * equality of hash codes.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+class LegacyCacheByteIdentify extends CacheByteIdentify {
+
+    private static final long serialVersionUID = 6010520409962398476L;
+
+    LegacyCacheByteIdentify(byte[] var, String pairSerializerName) {
+        super(var, pairSerializerName);
+    }
+
+    @Override
+    public int hashCode() {
+        byte[] data = getData();
+        Method method = ReflectUtils.getMethod(data.getClass(), "hashCode");
+        if (method != null) {
+            if (!method.getDeclaringClass().getName().equals("java.lang.Object")) {
+                return data.hashCode();
+            }
+        }
+        return CityHash.hash32(data);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (!(obj instanceof ByteIdentify)) {
+            return false;
+        }
+        return this.hashCode() == obj.hashCode();
+    }
+}
@@ -1,5 +1,6 @@
 package top.osjf.assembly.cache.command;
 
+import top.osjf.assembly.cache.config.Configuration;
 import top.osjf.assembly.cache.persistence.CachePersistenceSolver;
 import top.osjf.assembly.cache.persistence.PersistenceExec;
 import top.osjf.assembly.util.annotation.CanNull;
@@ -54,6 +55,18 @@ public class CacheInvocationHandler<T> implements InvocationHandler, Serializabl
         if (!exec.expectValue().test(result)) {
             return;
         }
-        exec.value().dispose(CachePersistenceSolver.INSTANCE, args);
+        exec.value().dispose(getSolver(), args);
+    }
+
+    /**
+     * Return the {@link CachePersistenceSolver} of the configured
+     * {@link top.osjf.assembly.cache.persistence.PersistenceMode}.
+     *
+     * @return {@link CachePersistenceSolver}.
+     * @since 1.1.4
+     */
+    @SuppressWarnings("rawtypes")
+    public CachePersistenceSolver getSolver() {
+        return Configuration.getGlobalConfiguration().getPersistenceMode().getSolver();
     }
 }
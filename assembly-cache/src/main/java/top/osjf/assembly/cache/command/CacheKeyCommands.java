@@ -4,6 +4,7 @@ import top.osjf.assembly.cache.persistence.PersistenceExec;
 import top.osjf.assembly.cache.persistence.PersistenceExecTypeEnum;
 import top.osjf.assembly.util.annotation.CanNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -55,6 +56,24 @@ public interface CacheKeyCommands {
     @CanNull
     byte[] get(byte[] key);
 
+    /**
+     * Get the values of multiple {@code keys} in one pass.
+     * <p>
+     * By default, call {@link #get(byte[])} key by key, implementations that
+     * can read the keys together should override it.
+     *
+     * @param keys must not be {@literal null}.
+     * @return the values in the order of the keys, {@literal null} for a key that does not exist.
+     * @since 1.1.4
+     */
+    default List<byte[]> mGet(byte[]... keys) {
+        List<byte[]> values = new ArrayList<>(keys.length);
+        for (byte[] key : keys) {
+            values.add(get(key));
+        }
+        return values;
+    }
+
     /**
      * Get Similar keys of {@code key}.
      *
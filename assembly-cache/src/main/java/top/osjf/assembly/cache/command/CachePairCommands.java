@@ -1,9 +1,11 @@
 package top.osjf.assembly.cache.command;
 
+import top.osjf.assembly.cache.persistence.Entry;
 import top.osjf.assembly.cache.persistence.PersistenceExec;
 import top.osjf.assembly.cache.persistence.PersistenceExecTypeEnum;
 import top.osjf.assembly.util.annotation.CanNull;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -72,4 +74,30 @@ public interface CachePairCommands {
     @PersistenceExec(value = PersistenceExecTypeEnum.REPLACE_VALUE,
             expectValue = PersistenceExec.ValueExpectations.NOT_NULL)
     byte[] getAndSet(byte[] key, byte[] newValue);
+
+    /**
+     * Set multiple {@code key} and {@code value} pairs in one pass, each expiring after
+     * its own duration or after the default one when it has none.
+     * <p>
+     * By default, call {@link #setE} or {@link #set} entry by entry, implementations
+     * that can write the entries together should override it.
+     *
+     * @param entries must not be {@literal null}.
+     * @return {@literal true} when all entries have been set.
+     * @since 1.1.4
+     */
+    @PersistenceExec(value = PersistenceExecTypeEnum.SET_ALL, expectValue = PersistenceExec.ValueExpectations.REALLY)
+    default Boolean mSet(List<Entry<byte[], byte[]>> entries) {
+        boolean allSet = true;
+        for (Entry<byte[], byte[]> entry : entries) {
+            Boolean set;
+            if (entry.haveDuration()) {
+                set = setE(entry.getKey(), entry.getValue(), entry.getDuration(), entry.getTimeUnit());
+            } else {
+                set = set(entry.getKey(), entry.getValue());
+            }
+            allSet &= Boolean.TRUE.equals(set);
+        }
+        return allSet;
+    }
 }
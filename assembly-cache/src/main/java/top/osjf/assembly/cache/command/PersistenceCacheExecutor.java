@@ -0,0 +1,511 @@
+package top.osjf.assembly.cache.command;
+
+import top.osjf.assembly.cache.config.Configuration;
+import top.osjf.assembly.cache.factory.CacheExecutor;
+import top.osjf.assembly.cache.factory.NativeCacheExecutor;
+import top.osjf.assembly.cache.persistence.CachePersistenceSolver;
+import top.osjf.assembly.cache.persistence.Entry;
+import top.osjf.assembly.cache.persistence.PersistenceExec;
+import top.osjf.assembly.util.annotation.CanNull;
+import top.osjf.assembly.util.annotation.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorator of {@link NativeCacheExecutor} performing the cache persistence operations
+ * of {@link PersistenceExec} like {@link CacheInvocationHandler}, but without reflection:
+ * the annotations of the {@link CacheCommands} methods are resolved once when the class
+ * is loaded, each command calls the target directly, and nothing more is done when
+ * cache persistence is not enabled in the global {@link Configuration}, read on each
+ * command so that a configuration installed after this decorator is created applies.
+ * <p>The native methods of {@link NativeCacheExecutor} are called on the target directly.
+ *
+ * @param <T> The type of real object.
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public abstract class PersistenceCacheExecutor<T extends NativeCacheExecutor> implements NativeCacheExecutor {
+
+    private static final PersistenceExec DELETE_EXEC =
+            resolve(CacheKeyCommands.class, "delete", byte[][].class);
+
+    private static final PersistenceExec DELETE_TYPE_EXEC =
+            resolve(CacheKeyCommands.class, "deleteType", byte[].class);
+
+    private static final PersistenceExec DELETE_ALL_EXEC =
+            resolve(CacheKeyCommands.class, "deleteAll");
+
+    private static final PersistenceExec SET_EXPIRATION_EXEC =
+            resolve(CacheKeyCommands.class, "setExpiration", byte[].class, Long.class, TimeUnit.class);
+
+    private static final PersistenceExec RESET_EXPIRATION_EXEC =
+            resolve(CacheKeyCommands.class, "resetExpiration", byte[].class);
+
+    private static final PersistenceExec SET_EXEC =
+            resolve(CachePairCommands.class, "set", byte[].class, byte[].class);
+
+    private static final PersistenceExec SET_E_EXEC =
+            resolve(CachePairCommands.class, "setE", byte[].class, byte[].class, Long.class, TimeUnit.class);
+
+    private static final PersistenceExec SET_NX_EXEC =
+            resolve(CachePairCommands.class, "setNX", byte[].class, byte[].class);
+
+    private static final PersistenceExec SET_EX_EXEC =
+            resolve(CachePairCommands.class, "setEX", byte[].class, byte[].class, Long.class, TimeUnit.class);
+
+    private static final PersistenceExec GET_AND_SET_EXEC =
+            resolve(CachePairCommands.class, "getAndSet", byte[].class, byte[].class);
+
+    private static final PersistenceExec M_SET_EXEC =
+            resolve(CachePairCommands.class, "mSet", List.class);
+
+    private final T target;
+
+    public PersistenceCacheExecutor(T target) {
+        this.target = target;
+    }
+
+    @NotNull
+    public T getTarget() {
+        return this.target;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#delete(byte[]...)
+     */
+    @Override
+    public Long delete(byte[]... keys) {
+        Long result = target.delete(keys);
+        if (shouldPersistence(DELETE_EXEC, result)) {
+            persistenceExec(DELETE_EXEC, new Object[]{keys});
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#deleteType(byte[])
+     */
+    @Override
+    public Map<byte[], byte[]> deleteType(byte[] key) {
+        Map<byte[], byte[]> result = target.deleteType(key);
+        if (shouldPersistence(DELETE_TYPE_EXEC, result)) {
+            persistenceExec(DELETE_TYPE_EXEC, new Object[]{key});
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#deleteAll()
+     */
+    @Override
+    public Boolean deleteAll() {
+        Boolean result = target.deleteAll();
+        if (shouldPersistence(DELETE_ALL_EXEC, result)) {
+            //Like a proxy invocation without parameters
+            persistenceExec(DELETE_ALL_EXEC, null);
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#get(byte[])
+     */
+    @Override
+    public byte[] get(byte[] key) {
+        return target.get(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#mGet(byte[]...)
+     */
+    @Override
+    public List<byte[]> mGet(byte[]... keys) {
+        return target.mGet(keys);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#getSimilarKeys(byte[])
+     */
+    @Override
+    public List<byte[]> getSimilarKeys(byte[] rawKey) {
+        return target.getSimilarKeys(rawKey);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#hasKey(byte[])
+     */
+    @Override
+    public Boolean hasKey(byte[] key) {
+        return target.hasKey(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#getExpiration(byte[])
+     */
+    @Override
+    public Long getExpiration(byte[] key) {
+        return target.getExpiration(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#getExpiration(byte[], TimeUnit)
+     */
+    @Override
+    public Long getExpiration(byte[] key, TimeUnit unit) {
+        return target.getExpiration(key, unit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#getExpectedExpiration(byte[])
+     */
+    @Override
+    public Long getExpectedExpiration(byte[] key) {
+        return target.getExpectedExpiration(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#getExpectedExpiration(byte[], TimeUnit)
+     */
+    @Override
+    public Long getExpectedExpiration(byte[] key, TimeUnit unit) {
+        return target.getExpectedExpiration(key, unit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#setExpiration(byte[], Long, TimeUnit)
+     */
+    @Override
+    public Boolean setExpiration(byte[] key, Long duration, TimeUnit timeUnit) {
+        Boolean result = target.setExpiration(key, duration, timeUnit);
+        if (shouldPersistence(SET_EXPIRATION_EXEC, result)) {
+            persistenceExec(SET_EXPIRATION_EXEC, new Object[]{key, duration, timeUnit});
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#resetExpiration(byte[])
+     */
+    @Override
+    public Boolean resetExpiration(byte[] key) {
+        Boolean result = target.resetExpiration(key);
+        if (shouldPersistence(RESET_EXPIRATION_EXEC, result)) {
+            persistenceExec(RESET_EXPIRATION_EXEC, new Object[]{key});
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CachePairCommands#set(byte[], byte[])
+     */
+    @Override
+    public Boolean set(byte[] key, byte[] value) {
+        Boolean result = target.set(key, value);
+        if (shouldPersistence(SET_EXEC, result)) {
+            persistenceExec(SET_EXEC, new Object[]{key, value});
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CachePairCommands#setE(byte[], byte[], Long, TimeUnit)
+     */
+    @Override
+    public Boolean setE(byte[] key, byte[] value, Long duration, TimeUnit unit) {
+        Boolean result = target.setE(key, value, duration, unit);
+        if (shouldPersistence(SET_E_EXEC, result)) {
+            persistenceExec(SET_E_EXEC, new Object[]{key, value, duration, unit});
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CachePairCommands#setNX(byte[], byte[])
+     */
+    @Override
+    public Boolean setNX(byte[] key, byte[] value) {
+        Boolean result = target.setNX(key, value);
+        if (shouldPersistence(SET_NX_EXEC, result)) {
+            persistenceExec(SET_NX_EXEC, new Object[]{key, value});
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CachePairCommands#setEX(byte[], byte[], Long, TimeUnit)
+     */
+    @Override
+    public Boolean setEX(byte[] key, byte[] value, Long duration, TimeUnit unit) {
+        Boolean result = target.setEX(key, value, duration, unit);
+        if (shouldPersistence(SET_EX_EXEC, result)) {
+            persistenceExec(SET_EX_EXEC, new Object[]{key, value, duration, unit});
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CachePairCommands#getAndSet(byte[], byte[])
+     */
+    @Override
+    public byte[] getAndSet(byte[] key, byte[] newValue) {
+        byte[] result = target.getAndSet(key, newValue);
+        if (shouldPersistence(GET_AND_SET_EXEC, result)) {
+            persistenceExec(GET_AND_SET_EXEC, new Object[]{key, newValue});
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CachePairCommands#mSet(List)
+     */
+    @Override
+    public Boolean mSet(List<Entry<byte[], byte[]>> entries) {
+        Boolean result = target.mSet(entries);
+        if (shouldPersistence(M_SET_EXEC, result)) {
+            persistenceExec(M_SET_EXEC, new Object[]{entries});
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#put(byte[], byte[])
+     */
+    @Override
+    public Boolean put(byte[] key, byte[] value) {
+        return target.put(key, value);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#putDuration(byte[], byte[], Long, TimeUnit)
+     */
+    @Override
+    public Boolean putDuration(byte[] key, byte[] value, Long duration, TimeUnit unit) {
+        return target.putDuration(key, value, duration, unit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#putIfAbsent(byte[], byte[])
+     */
+    @Override
+    public Boolean putIfAbsent(byte[] key, byte[] value) {
+        return target.putIfAbsent(key, value);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#putIfAbsentDuration(byte[], byte[], Long, TimeUnit)
+     */
+    @Override
+    public Boolean putIfAbsentDuration(byte[] key, byte[] value, Long duration, TimeUnit unit) {
+        return target.putIfAbsentDuration(key, value, duration, unit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#getVal(byte[])
+     */
+    @Override
+    public byte[] getVal(byte[] key) {
+        return target.getVal(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#getVals(byte[]...)
+     */
+    @Override
+    public List<byte[]> getVals(byte[]... keys) {
+        return target.getVals(keys);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#putAll(List)
+     */
+    @Override
+    public Boolean putAll(List<Entry<byte[], byte[]>> entries) {
+        return target.putAll(entries);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#findSimilarKeys(byte[])
+     */
+    @Override
+    public List<byte[]> findSimilarKeys(byte[] key) {
+        return target.findSimilarKeys(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#replace(byte[], byte[])
+     */
+    @Override
+    public byte[] replace(byte[] key, byte[] newValue) {
+        return target.replace(key, newValue);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#deleteByKeys(byte[]...)
+     */
+    @Override
+    public Long deleteByKeys(byte[]... keys) {
+        return target.deleteByKeys(keys);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#deleteSimilarKey(byte[])
+     */
+    @Override
+    public Map<byte[], byte[]> deleteSimilarKey(byte[] key) {
+        return target.deleteSimilarKey(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#reboot()
+     */
+    @Override
+    public Boolean reboot() {
+        return target.reboot();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#containsKey(byte[])
+     */
+    @Override
+    public Boolean containsKey(byte[] key) {
+        return target.containsKey(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#containsValue(byte[])
+     */
+    @Override
+    public Boolean containsValue(byte[] value) {
+        return target.containsValue(value);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#getExpirationWithKey(byte[])
+     */
+    @Override
+    public Long getExpirationWithKey(byte[] key) {
+        return target.getExpirationWithKey(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#getExpirationWithUnit(byte[], TimeUnit)
+     */
+    @Override
+    public Long getExpirationWithUnit(byte[] key, TimeUnit unit) {
+        return target.getExpirationWithUnit(key, unit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#getExpectedExpirationWithKey(byte[])
+     */
+    @Override
+    public Long getExpectedExpirationWithKey(byte[] key) {
+        return target.getExpectedExpirationWithKey(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#getExpectedExpirationWithUnit(byte[], TimeUnit)
+     */
+    @Override
+    public Long getExpectedExpirationWithUnit(byte[] key, TimeUnit unit) {
+        return target.getExpectedExpirationWithUnit(key, unit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#setExpirationDuration(byte[], Long, TimeUnit)
+     */
+    @Override
+    public Boolean setExpirationDuration(byte[] key, Long duration, TimeUnit timeUnit) {
+        return target.setExpirationDuration(key, duration, timeUnit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.factory.NativeCacheExecutor#resetExpirationWithKey(byte[])
+     */
+    @Override
+    public Boolean resetExpirationWithKey(byte[] key) {
+        return target.resetExpirationWithKey(key);
+    }
+
+    /**
+     * Determine whether the result of a command needs cache persistence operations.
+     *
+     * @param exec   Caching persistent annotations, {@literal null} when the command has none.
+     * @param result Cached execution results.
+     * @return if {@code true} perform cache persistence operations.
+     */
+    protected boolean shouldPersistence(@CanNull PersistenceExec exec, @CanNull Object result) {
+        return exec != null && Configuration.getGlobalConfiguration().isEnablePersistence()
+                && exec.expectValue().test(result);
+    }
+
+    /**
+     * Perform cache persistence operations.
+     *
+     * @param exec Caching persistent annotations.
+     * @param args Cache execution parameter array.
+     */
+    protected void persistenceExec(@NotNull PersistenceExec exec, @CanNull Object[] args) {
+        exec.value().dispose(getSolver(), args);
+    }
+
+    /**
+     * Return the {@link CachePersistenceSolver} of the configured
+     * {@link top.osjf.assembly.cache.persistence.PersistenceMode}.
+     *
+     * @return {@link CachePersistenceSolver}.
+     */
+    @SuppressWarnings("rawtypes")
+    public CachePersistenceSolver getSolver() {
+        return Configuration.getGlobalConfiguration().getPersistenceMode().getSolver();
+    }
+
+    private static PersistenceExec resolve(Class<?> commandsClass, String name, Class<?>... parameterTypes) {
+        try {
+            return commandsClass.getMethod(name, parameterTypes).getAnnotation(PersistenceExec.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Cache command [" + name + "] no found", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package top.osjf.assembly.cache.command.caffeine;
+
+import top.osjf.assembly.cache.command.CacheInvocationHandler;
+import top.osjf.assembly.cache.factory.CaffeineCacheExecutor;
+
+/**
+ * Given target {@link CaffeineCacheExecutor} for {@link CacheInvocationHandler}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public class CaffeineInvocationHandler extends CacheInvocationHandler<CaffeineCacheExecutor> {
+
+    private static final long serialVersionUID = -6178920624436216342L;
+
+    public CaffeineInvocationHandler(CaffeineCacheExecutor target) {
+        super(target);
+    }
+}
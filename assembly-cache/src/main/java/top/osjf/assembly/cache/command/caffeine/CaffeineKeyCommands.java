@@ -0,0 +1,143 @@
+package top.osjf.assembly.cache.command.caffeine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import top.osjf.assembly.cache.command.CacheKeyCommands;
+import top.osjf.assembly.cache.factory.CaffeineCacheExecutor;
+import top.osjf.assembly.util.annotation.CanNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * About the {@code Key} within {@link Cache} of Caffeine operating instructions.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public class CaffeineKeyCommands implements CacheKeyCommands {
+
+    private final CaffeineCacheExecutor delegate;
+
+    public CaffeineKeyCommands(CaffeineCacheExecutor delegate) {
+        this.delegate = delegate;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#delete(byte[]...)
+     */
+    @CanNull
+    @Override
+    public Long delete(byte[]... keys) {
+        return this.delegate.deleteByKeys(keys);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#deleteType(byte[]...)
+     */
+    @Override
+    public Map<byte[], byte[]> deleteType(byte[] key) {
+        return this.delegate.deleteSimilarKey(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#deleteAll()
+     */
+    @Override
+    public Boolean deleteAll() {
+        return this.delegate.reboot();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#get(byte[])
+     */
+    @Override
+    public byte[] get(byte[] key) {
+        return this.delegate.getVal(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#mGet(byte[]...)
+     */
+    @Override
+    public List<byte[]> mGet(byte[]... keys) {
+        return this.delegate.getVals(keys);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#getSimilarKeys(byte[])
+     */
+    @Override
+    public List<byte[]> getSimilarKeys(byte[] rawKey) {
+        return this.delegate.findSimilarKeys(rawKey);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#hasKey(byte[])
+     */
+    @Override
+    public Boolean hasKey(byte[] key) {
+        return this.delegate.containsKey(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#getExpiration(byte[])
+     */
+    @Override
+    public Long getExpiration(byte[] key) {
+        return this.delegate.getExpirationWithKey(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#getExpiration(byte[], TimeUnit)
+     */
+    @Override
+    public Long getExpiration(byte[] key, TimeUnit unit) {
+        return this.delegate.getExpirationWithUnit(key, unit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#getExpectedExpiration(byte[])
+     */
+    @Override
+    public Long getExpectedExpiration(byte[] key) {
+        return this.delegate.getExpectedExpirationWithKey(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#getExpectedExpiration(byte[], TimeUnit)
+     */
+    @Override
+    public Long getExpectedExpiration(byte[] key, TimeUnit unit) {
+        return this.delegate.getExpectedExpirationWithUnit(key, unit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#setExpiration(byte[], Long, TimeUnit)
+     */
+    @Override
+    public Boolean setExpiration(byte[] key, Long duration, TimeUnit timeUnit) {
+        return this.delegate.setExpirationDuration(key, duration, timeUnit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#resetExpiration(byte[])
+     */
+    @Override
+    public Boolean resetExpiration(byte[] key) {
+        return this.delegate.resetExpirationWithKey(key);
+    }
+}
@@ -0,0 +1,78 @@
+package top.osjf.assembly.cache.command.caffeine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import top.osjf.assembly.cache.command.CachePairCommands;
+import top.osjf.assembly.cache.factory.CaffeineCacheExecutor;
+import top.osjf.assembly.cache.persistence.Entry;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * About the {@code Pair} within {@link Cache} of Caffeine operating instructions.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public class CaffeinePairCommands implements CachePairCommands {
+
+    private final CaffeineCacheExecutor delegate;
+
+    public CaffeinePairCommands(CaffeineCacheExecutor delegate) {
+        this.delegate = delegate;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CachePairCommands#set(byte[], byte[])
+     */
+    @Override
+    public Boolean set(byte[] key, byte[] value) {
+        return this.delegate.put(key, value);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CachePairCommands#setE(byte[], byte[], Long, TimeUnit)
+     */
+    @Override
+    public Boolean setE(byte[] key, byte[] value, Long duration, TimeUnit unit) {
+        return this.delegate.putDuration(key, value, duration, unit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CachePairCommands#setNX(byte[], byte[])
+     */
+    @Override
+    public Boolean setNX(byte[] key, byte[] value) {
+        return this.delegate.putIfAbsent(key, value);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CachePairCommands#setEX(byte[], byte[], Long, TimeUnit)
+     */
+    @Override
+    public Boolean setEX(byte[] key, byte[] value, Long duration, TimeUnit unit) {
+        return this.delegate.putIfAbsentDuration(key, value, duration, unit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CachePairCommands#getAndSet(byte[], byte[])
+     */
+    @Override
+    public byte[] getAndSet(byte[] key, byte[] newValue) {
+        return this.delegate.replace(key, newValue);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CachePairCommands#mSet(List)
+     */
+    @Override
+    public Boolean mSet(List<Entry<byte[], byte[]>> entries) {
+        return this.delegate.putAll(entries);
+    }
+}
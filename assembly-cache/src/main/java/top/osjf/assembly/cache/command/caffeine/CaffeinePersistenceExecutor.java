@@ -0,0 +1,17 @@
+package top.osjf.assembly.cache.command.caffeine;
+
+import top.osjf.assembly.cache.command.PersistenceCacheExecutor;
+import top.osjf.assembly.cache.factory.CaffeineCacheExecutor;
+
+/**
+ * Given target {@link CaffeineCacheExecutor} for {@link PersistenceCacheExecutor}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public class CaffeinePersistenceExecutor extends PersistenceCacheExecutor<CaffeineCacheExecutor> implements CaffeineCacheExecutor {
+
+    public CaffeinePersistenceExecutor(CaffeineCacheExecutor target) {
+        super(target);
+    }
+}
@@ -60,6 +60,15 @@ public class ExpiringMapKeyCommands implements CacheKeyCommands {
         return this.delegate.getVal(key);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CacheKeyCommands#mGet(byte[]...)
+     */
+    @Override
+    public List<byte[]> mGet(byte[]... keys) {
+        return this.delegate.getVals(keys);
+    }
+
     /*
      * (non-Javadoc)
      * io.github.zpf9705.expiring.command.ExpireStringCommands#getSimilarKeys(Object)
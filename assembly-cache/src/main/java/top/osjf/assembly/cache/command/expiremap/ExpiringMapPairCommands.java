@@ -3,7 +3,9 @@ package top.osjf.assembly.cache.command.expiremap;
 import net.jodah.expiringmap.ExpiringMap;
 import top.osjf.assembly.cache.command.CachePairCommands;
 import top.osjf.assembly.cache.factory.ExpiringMapCacheExecutor;
+import top.osjf.assembly.cache.persistence.Entry;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -64,4 +66,13 @@ public class ExpiringMapPairCommands implements CachePairCommands {
     public byte[] getAndSet(byte[] key, byte[] newValue) {
         return this.delegate.replace(key, newValue);
     }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.command.CachePairCommands#mSet(List)
+     */
+    @Override
+    public Boolean mSet(List<Entry<byte[], byte[]>> entries) {
+        return this.delegate.putAll(entries);
+    }
 }
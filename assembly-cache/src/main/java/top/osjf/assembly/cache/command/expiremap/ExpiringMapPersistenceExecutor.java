@@ -0,0 +1,17 @@
+package top.osjf.assembly.cache.command.expiremap;
+
+import top.osjf.assembly.cache.command.PersistenceCacheExecutor;
+import top.osjf.assembly.cache.factory.ExpiringMapCacheExecutor;
+
+/**
+ * Given target {@link ExpiringMapCacheExecutor} for {@link PersistenceCacheExecutor}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public class ExpiringMapPersistenceExecutor extends PersistenceCacheExecutor<ExpiringMapCacheExecutor> implements ExpiringMapCacheExecutor {
+
+    public ExpiringMapPersistenceExecutor(ExpiringMapCacheExecutor target) {
+        super(target);
+    }
+}
@@ -2,6 +2,8 @@ package top.osjf.assembly.cache.config;
 
 import top.osjf.assembly.cache.listener.ExpirationMessageListener;
 import top.osjf.assembly.cache.persistence.ListeningRecovery;
+import top.osjf.assembly.cache.persistence.PersistenceMode;
+import top.osjf.assembly.cache.persistence.PersistenceWriter;
 import top.osjf.assembly.util.lang.ClassUtils;
 import top.osjf.assembly.util.lang.ReflectUtils;
 import top.osjf.assembly.util.system.SystemUtils;
@@ -79,6 +81,109 @@ public class Configuration {
      */
     private String persistencePath;
 
+    /**
+     * The storage layout of cache persistence.
+     * <p>Default to {@link PersistenceMode#FILE_PER_KEY}, one persistent file per key.
+     * @since 1.1.4
+     */
+    private PersistenceMode persistenceMode;
+
+    /**
+     * The maximum size in bytes of a single segment file when using
+     * {@link PersistenceMode#SEGMENTED_LOG}, a new segment is rolled
+     * once the active one exceeds it.
+     * @since 1.1.4
+     */
+    private Long segmentMaxBytes;
+
+    /**
+     * The interval between two compactions of the segment files when using
+     * {@link PersistenceMode#SEGMENTED_LOG}.
+     * @since 1.1.4
+     */
+    private Long compactionInterval;
+
+    /**
+     * The interval unit between two compactions of the segment files.
+     * @since 1.1.4
+     */
+    private TimeUnit compactionIntervalUnit;
+
+    /**
+     * The maximum number of pending keys of the asynchronous cache persistence writer,
+     * mutations of a key already pending are coalesced and take no extra room.
+     * @since 1.1.4
+     */
+    private Integer persistenceWriterCapacity;
+
+    /**
+     * The maximum number of pending keys written by the asynchronous cache persistence
+     * writer in one flush.
+     * @since 1.1.4
+     */
+    private Integer persistenceWriterBatchSize;
+
+    /**
+     * The maximum time a mutation waits in the asynchronous cache persistence writer
+     * before being flushed when the batch is not full.
+     * @since 1.1.4
+     */
+    private Long persistenceWriterFlushInterval;
+
+    /**
+     * The unit of the maximum time a mutation waits before being flushed.
+     * @since 1.1.4
+     */
+    private TimeUnit persistenceWriterFlushIntervalUnit;
+
+    /**
+     * What the asynchronous cache persistence writer does with a mutation when it is full.
+     * <p>Default to {@link PersistenceWriter.FullPolicy#BLOCK}.
+     * @since 1.1.4
+     */
+    private PersistenceWriter.FullPolicy persistenceWriterFullPolicy;
+
+    /**
+     * The number of threads restoring persistent caches in parallel on startup.
+     * @since 1.1.4
+     */
+    private Integer reductionParallelism;
+
+    /**
+     * The number of persistent caches decoded and reloaded to the cache center
+     * as one batch on startup.
+     * @since 1.1.4
+     */
+    private Integer reductionBatchSize;
+
+    /**
+     * The maximum time that application startup waits for the restore of persistent
+     * caches, no waiting when it is not greater than zero.
+     * @since 1.1.4
+     */
+    private Long reductionAwaitTimeout;
+
+    /**
+     * The time unit that application startup waits for the restore of persistent caches.
+     * @since 1.1.4
+     */
+    private TimeUnit reductionAwaitTimeoutUnit;
+
+    /**
+     * Whether to maintain an index of cache keys for similar key queries, instead
+     * of scanning all keys.
+     * @since 1.1.4
+     */
+    private Boolean enableSimilarKeyIndex;
+
+    /**
+     * Whether cache executors dispatch through a JDK proxy that looks up
+     * {@link top.osjf.assembly.cache.persistence.PersistenceExec} on every call,
+     * instead of a decorator with the annotations resolved once.
+     * @since 1.1.4
+     */
+    private Boolean enableProxyDispatch;
+
     /**
      * Collection of listeners for callback when cache values expire.
      */
@@ -113,6 +218,52 @@ public class Configuration {
     /*** Cache persistence path for system variable key.*/
     public static final String persistencePathKey = "assembly.cache.persistence.path";
 
+    /*** Cache persistence storage layout for system variable key.*/
+    public static final String persistenceModeKey = "assembly.cache.persistence.mode";
+
+    /*** The maximum size of a persistence segment file for system variable key.*/
+    public static final String segmentMaxBytesKey = "assembly.cache.persistence.segment.max.bytes";
+
+    /*** The compaction interval of persistence segment files for system variable key.*/
+    public static final String compactionIntervalKey = "assembly.cache.persistence.compaction.interval";
+
+    /*** The compaction interval unit of persistence segment files for system variable key.*/
+    public static final String compactionIntervalUnitKey = "assembly.cache.persistence.compaction.interval.timeUnit";
+
+    /*** The maximum number of pending keys of the persistence writer for system variable key.*/
+    public static final String persistenceWriterCapacityKey = "assembly.cache.persistence.writer.capacity";
+
+    /*** The number of pending keys written in one flush of the persistence writer for system variable key.*/
+    public static final String persistenceWriterBatchSizeKey = "assembly.cache.persistence.writer.batch.size";
+
+    /*** The maximum time a mutation waits before being flushed for system variable key.*/
+    public static final String persistenceWriterFlushIntervalKey = "assembly.cache.persistence.writer.flush.interval";
+
+    /*** The unit of the maximum time a mutation waits before being flushed for system variable key.*/
+    public static final String persistenceWriterFlushIntervalUnitKey =
+            "assembly.cache.persistence.writer.flush.interval.timeUnit";
+
+    /*** What the persistence writer does with a mutation when it is full for system variable key.*/
+    public static final String persistenceWriterFullPolicyKey = "assembly.cache.persistence.writer.full.policy";
+
+    /*** The number of threads restoring persistent caches for system variable key.*/
+    public static final String reductionParallelismKey = "assembly.cache.reduction.parallelism";
+
+    /*** The batch size of restoring persistent caches for system variable key.*/
+    public static final String reductionBatchSizeKey = "assembly.cache.reduction.batch.size";
+
+    /*** The maximum time startup waits for restoring persistent caches for system variable key.*/
+    public static final String reductionAwaitTimeoutKey = "assembly.cache.reduction.await.timeout";
+
+    /*** The time unit startup waits for restoring persistent caches for system variable key.*/
+    public static final String reductionAwaitTimeoutUnitKey = "assembly.cache.reduction.await.timeout.timeUnit";
+
+    /*** Whether to maintain an index of cache keys for similar key queries for system variable key.*/
+    public static final String enableSimilarKeyIndexKey = "assembly.cache.similar.key.index.enable";
+
+    /*** Whether cache executors dispatch through a JDK proxy for system variable key.*/
+    public static final String enableProxyDispatchKey = "assembly.cache.proxy.dispatch.enable";
+
     /*** The fully qualified collection of class names for cache expiration listeners of the system variable key
      * Please separate classes completely with commas.
      * @see #multipleSplitSymbols
@@ -188,6 +339,97 @@ public class Configuration {
     private static final String defaultValueOfPersistencePath = SystemUtils.getCurrentProjectPath() +
             File.separator + "expire" + File.separator;
 
+    /**
+     * The default value of cache persistence storage layout.
+     * @since 1.1.4
+     */
+    private static final PersistenceMode defaultValuePersistenceMode = PersistenceMode.FILE_PER_KEY;
+
+    /**
+     * The default value of the maximum size of a persistence segment file (64 MB).
+     * @since 1.1.4
+     */
+    private static final Long defaultValueSegmentMaxBytes = 64L * 1024 * 1024;
+
+    /**
+     * The default value of the compaction interval of persistence segment files.
+     * @since 1.1.4
+     */
+    private static final Long defaultValueCompactionInterval = 10L;
+
+    /**
+     * The default value of the compaction interval unit of persistence segment files.
+     * @since 1.1.4
+     */
+    private static final TimeUnit defaultValueCompactionIntervalUnit = TimeUnit.MINUTES;
+
+    /**
+     * The default value of the maximum number of pending keys of the persistence writer.
+     * @since 1.1.4
+     */
+    private static final Integer defaultValuePersistenceWriterCapacity = 10000;
+
+    /**
+     * The default value of the number of pending keys written in one flush.
+     * @since 1.1.4
+     */
+    private static final Integer defaultValuePersistenceWriterBatchSize = 256;
+
+    /**
+     * The default value of the maximum time a mutation waits before being flushed.
+     * @since 1.1.4
+     */
+    private static final Long defaultValuePersistenceWriterFlushInterval = 100L;
+
+    /**
+     * The default value of the unit of the maximum time a mutation waits before being flushed.
+     * @since 1.1.4
+     */
+    private static final TimeUnit defaultValuePersistenceWriterFlushIntervalUnit = TimeUnit.MILLISECONDS;
+
+    /**
+     * The default value of what the persistence writer does with a mutation when it is full.
+     * @since 1.1.4
+     */
+    private static final PersistenceWriter.FullPolicy defaultValuePersistenceWriterFullPolicy =
+            PersistenceWriter.FullPolicy.BLOCK;
+
+    /**
+     * The default value of the number of threads restoring persistent caches.
+     * @since 1.1.4
+     */
+    private static final Integer defaultValueReductionParallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The default value of the batch size of restoring persistent caches.
+     * @since 1.1.4
+     */
+    private static final Integer defaultValueReductionBatchSize = 256;
+
+    /**
+     * The default value of the maximum time startup waits for restoring persistent caches.
+     * @since 1.1.4
+     */
+    private static final Long defaultValueReductionAwaitTimeout = 0L;
+
+    /**
+     * The default value of the time unit startup waits for restoring persistent caches.
+     * @since 1.1.4
+     */
+    private static final TimeUnit defaultValueReductionAwaitTimeoutUnit = TimeUnit.SECONDS;
+
+    /**
+     * The default value of whether to maintain an index of cache keys for similar key queries.
+     * @since 1.1.4
+     */
+    private static final Boolean defaultValueEnableSimilarKeyIndex = false;
+
+    /**
+     * The default value of whether cache executors dispatch through a JDK proxy.
+     * @since 1.1.4
+     */
+    private static final Boolean defaultValueEnableProxyDispatch = false;
+
     /***
      * @since 1.1.4
      * No parameter construction.*/
@@ -207,6 +449,21 @@ public class Configuration {
         this.nonCachePersistentCriticalDurationUnit = parentConfiguration.getNonCachePersistentCriticalDurationUnit();
         this.enablePersistenceAsync = parentConfiguration.isEnablePersistenceAsync();
         this.persistencePath = parentConfiguration.getPersistencePath();
+        this.persistenceMode = parentConfiguration.getPersistenceMode();
+        this.segmentMaxBytes = parentConfiguration.getSegmentMaxBytes();
+        this.compactionInterval = parentConfiguration.getCompactionInterval();
+        this.compactionIntervalUnit = parentConfiguration.getCompactionIntervalUnit();
+        this.persistenceWriterCapacity = parentConfiguration.getPersistenceWriterCapacity();
+        this.persistenceWriterBatchSize = parentConfiguration.getPersistenceWriterBatchSize();
+        this.persistenceWriterFlushInterval = parentConfiguration.getPersistenceWriterFlushInterval();
+        this.persistenceWriterFlushIntervalUnit = parentConfiguration.getPersistenceWriterFlushIntervalUnit();
+        this.persistenceWriterFullPolicy = parentConfiguration.getPersistenceWriterFullPolicy();
+        this.reductionParallelism = parentConfiguration.getReductionParallelism();
+        this.reductionBatchSize = parentConfiguration.getReductionBatchSize();
+        this.reductionAwaitTimeout = parentConfiguration.getReductionAwaitTimeout();
+        this.reductionAwaitTimeoutUnit = parentConfiguration.getReductionAwaitTimeoutUnit();
+        this.enableSimilarKeyIndex = parentConfiguration.isEnableSimilarKeyIndex();
+        this.enableProxyDispatch = parentConfiguration.isEnableProxyDispatch();
         this.expirationMessageListeners.addAll(parentConfiguration.unmodifiableExpirationMessageListeners());
         this.listeningRecoveries.addAll(parentConfiguration.unmodifiableListeningRecoveries());
         this.compareDefaultCompareWithCachePersistence();
@@ -228,9 +485,15 @@ public class Configuration {
      * @since 1.1.4
      * @return globally unique configuration object.
      */
-    public static synchronized Configuration getGlobalConfiguration() {
+    public static Configuration getGlobalConfiguration() {
+        Configuration configuration = Configuration.configuration;
         if (configuration == null) {
-            configuration = new Configuration();
+            synchronized (Configuration.class) {
+                if (Configuration.configuration == null) {
+                    Configuration.configuration = new Configuration();
+                }
+                configuration = Configuration.configuration;
+            }
         }
         return configuration;
     }
@@ -306,6 +569,81 @@ public class Configuration {
         this.persistencePath = persistencePath;
     }
 
+    //@since 1.1.4
+    public void setPersistenceMode(PersistenceMode persistenceMode) {
+        this.persistenceMode = persistenceMode;
+    }
+
+    //@since 1.1.4
+    public void setSegmentMaxBytes(Long segmentMaxBytes) {
+        this.segmentMaxBytes = segmentMaxBytes;
+    }
+
+    //@since 1.1.4
+    public void setCompactionInterval(Long compactionInterval) {
+        this.compactionInterval = compactionInterval;
+    }
+
+    //@since 1.1.4
+    public void setCompactionIntervalUnit(TimeUnit compactionIntervalUnit) {
+        this.compactionIntervalUnit = compactionIntervalUnit;
+    }
+
+    //@since 1.1.4
+    public void setPersistenceWriterCapacity(Integer persistenceWriterCapacity) {
+        this.persistenceWriterCapacity = persistenceWriterCapacity;
+    }
+
+    //@since 1.1.4
+    public void setPersistenceWriterBatchSize(Integer persistenceWriterBatchSize) {
+        this.persistenceWriterBatchSize = persistenceWriterBatchSize;
+    }
+
+    //@since 1.1.4
+    public void setPersistenceWriterFlushInterval(Long persistenceWriterFlushInterval) {
+        this.persistenceWriterFlushInterval = persistenceWriterFlushInterval;
+    }
+
+    //@since 1.1.4
+    public void setPersistenceWriterFlushIntervalUnit(TimeUnit persistenceWriterFlushIntervalUnit) {
+        this.persistenceWriterFlushIntervalUnit = persistenceWriterFlushIntervalUnit;
+    }
+
+    //@since 1.1.4
+    public void setPersistenceWriterFullPolicy(PersistenceWriter.FullPolicy persistenceWriterFullPolicy) {
+        this.persistenceWriterFullPolicy = persistenceWriterFullPolicy;
+    }
+
+    //@since 1.1.4
+    public void setReductionParallelism(Integer reductionParallelism) {
+        this.reductionParallelism = reductionParallelism;
+    }
+
+    //@since 1.1.4
+    public void setReductionBatchSize(Integer reductionBatchSize) {
+        this.reductionBatchSize = reductionBatchSize;
+    }
+
+    //@since 1.1.4
+    public void setReductionAwaitTimeout(Long reductionAwaitTimeout) {
+        this.reductionAwaitTimeout = reductionAwaitTimeout;
+    }
+
+    //@since 1.1.4
+    public void setReductionAwaitTimeoutUnit(TimeUnit reductionAwaitTimeoutUnit) {
+        this.reductionAwaitTimeoutUnit = reductionAwaitTimeoutUnit;
+    }
+
+    //@since 1.1.4
+    public void setEnableSimilarKeyIndex(Boolean enableSimilarKeyIndex) {
+        this.enableSimilarKeyIndex = enableSimilarKeyIndex;
+    }
+
+    //@since 1.1.4
+    public void setEnableProxyDispatch(Boolean enableProxyDispatch) {
+        this.enableProxyDispatch = enableProxyDispatch;
+    }
+
 //———————————————————————————————— get main setting ——————————————————————————————————————————
 
     //@since 1.1.4
@@ -354,6 +692,98 @@ public class Configuration {
                 this::setPersistencePath);
     }
 
+    //@since 1.1.4
+    public PersistenceMode getPersistenceMode() {
+        return getOrPropertyUpdate(persistenceMode, persistenceModeKey, PersistenceMode::valueOf,
+                defaultValuePersistenceMode, this::setPersistenceMode);
+    }
+
+    //@since 1.1.4
+    public Long getSegmentMaxBytes() {
+        return getOrPropertyUpdate(segmentMaxBytes, segmentMaxBytesKey, Long::valueOf,
+                defaultValueSegmentMaxBytes, this::setSegmentMaxBytes);
+    }
+
+    //@since 1.1.4
+    public Long getCompactionInterval() {
+        return getOrPropertyUpdate(compactionInterval, compactionIntervalKey, Long::valueOf,
+                defaultValueCompactionInterval, this::setCompactionInterval);
+    }
+
+    //@since 1.1.4
+    public TimeUnit getCompactionIntervalUnit() {
+        return getOrPropertyUpdate(compactionIntervalUnit, compactionIntervalUnitKey, TimeUnit::valueOf,
+                defaultValueCompactionIntervalUnit, this::setCompactionIntervalUnit);
+    }
+
+    //@since 1.1.4
+    public Integer getPersistenceWriterCapacity() {
+        return getOrPropertyUpdate(persistenceWriterCapacity, persistenceWriterCapacityKey, Integer::valueOf,
+                defaultValuePersistenceWriterCapacity, this::setPersistenceWriterCapacity);
+    }
+
+    //@since 1.1.4
+    public Integer getPersistenceWriterBatchSize() {
+        return getOrPropertyUpdate(persistenceWriterBatchSize, persistenceWriterBatchSizeKey, Integer::valueOf,
+                defaultValuePersistenceWriterBatchSize, this::setPersistenceWriterBatchSize);
+    }
+
+    //@since 1.1.4
+    public Long getPersistenceWriterFlushInterval() {
+        return getOrPropertyUpdate(persistenceWriterFlushInterval, persistenceWriterFlushIntervalKey, Long::valueOf,
+                defaultValuePersistenceWriterFlushInterval, this::setPersistenceWriterFlushInterval);
+    }
+
+    //@since 1.1.4
+    public TimeUnit getPersistenceWriterFlushIntervalUnit() {
+        return getOrPropertyUpdate(persistenceWriterFlushIntervalUnit, persistenceWriterFlushIntervalUnitKey,
+                TimeUnit::valueOf, defaultValuePersistenceWriterFlushIntervalUnit,
+                this::setPersistenceWriterFlushIntervalUnit);
+    }
+
+    //@since 1.1.4
+    public PersistenceWriter.FullPolicy getPersistenceWriterFullPolicy() {
+        return getOrPropertyUpdate(persistenceWriterFullPolicy, persistenceWriterFullPolicyKey,
+                PersistenceWriter.FullPolicy::valueOf, defaultValuePersistenceWriterFullPolicy,
+                this::setPersistenceWriterFullPolicy);
+    }
+
+    //@since 1.1.4
+    public Integer getReductionParallelism() {
+        return getOrPropertyUpdate(reductionParallelism, reductionParallelismKey, Integer::valueOf,
+                defaultValueReductionParallelism, this::setReductionParallelism);
+    }
+
+    //@since 1.1.4
+    public Integer getReductionBatchSize() {
+        return getOrPropertyUpdate(reductionBatchSize, reductionBatchSizeKey, Integer::valueOf,
+                defaultValueReductionBatchSize, this::setReductionBatchSize);
+    }
+
+    //@since 1.1.4
+    public Long getReductionAwaitTimeout() {
+        return getOrPropertyUpdate(reductionAwaitTimeout, reductionAwaitTimeoutKey, Long::valueOf,
+                defaultValueReductionAwaitTimeout, this::setReductionAwaitTimeout);
+    }
+
+    //@since 1.1.4
+    public TimeUnit getReductionAwaitTimeoutUnit() {
+        return getOrPropertyUpdate(reductionAwaitTimeoutUnit, reductionAwaitTimeoutUnitKey, TimeUnit::valueOf,
+                defaultValueReductionAwaitTimeoutUnit, this::setReductionAwaitTimeoutUnit);
+    }
+
+    //@since 1.1.4
+    public boolean isEnableSimilarKeyIndex() {
+        return getOrPropertyUpdate(enableSimilarKeyIndex, enableSimilarKeyIndexKey, Boolean::valueOf,
+                defaultValueEnableSimilarKeyIndex, this::setEnableSimilarKeyIndex);
+    }
+
+    //@since 1.1.4
+    public boolean isEnableProxyDispatch() {
+        return getOrPropertyUpdate(enableProxyDispatch, enableProxyDispatchKey, Boolean::valueOf,
+                defaultValueEnableProxyDispatch, this::setEnableProxyDispatch);
+    }
+
     /**
      * Add a cache expiration listener.
      * @since 1.1.4
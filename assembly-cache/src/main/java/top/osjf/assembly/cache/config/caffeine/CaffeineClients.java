@@ -0,0 +1,180 @@
+package top.osjf.assembly.cache.config.caffeine;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.jodah.expiringmap.ExpirationPolicy;
+import top.osjf.assembly.util.annotation.CanNull;
+import top.osjf.assembly.util.lang.Asserts;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Here is about {@link Caffeine} client configuration interface.
+ * <p>
+ * Provides the function of the configuration and obtain.
+ * <p>
+ * Providing optional elements allows a more specific configuration
+ * of the client.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public interface CaffeineClients {
+
+    /**
+     * Obtain the maximum number of entries for {@link Caffeine}, beyond which
+     * entries are evicted by its W-TinyLFU policy.
+     *
+     * @return {@literal Long} cache max size.
+     */
+    Long getMaxSize();
+
+    /**
+     * Obtain the default cache time for {@link Caffeine}.
+     *
+     * @return {@literal Long} default expire time.
+     */
+    Long getDefaultExpireTime();
+
+    /**
+     * Obtain the default cache time unit of {@link #getDefaultExpireTime()}.
+     *
+     * @return {@literal TimeUnit} default expire time unit.
+     */
+    TimeUnit getDefaultExpireTimeUnit();
+
+    /**
+     * Whether the expiration is reset on write only or also on read,
+     * please refer to {@link ExpirationPolicy}.
+     *
+     * @return {@literal ExpirationPolicy} default ExpirationPolicy.
+     */
+    ExpirationPolicy getExpirationPolicy();
+
+    /**
+     * Create a new {@link CaffeineClientsBuilder} to build {@link CaffeineClients} to be used.
+     *
+     * @return a new {@link CaffeineClientsBuilder} to build {@link CaffeineClients}.
+     */
+    static CaffeineClientsBuilder builder() {
+        return new CaffeineClientsBuilder();
+    }
+
+    /**
+     * Create a default new {@link CaffeineClientsBuilder} to build {@link CaffeineClients}
+     * <dl>
+     *     <dt>max_size</dt>
+     *     <dd>20*50</dd>
+     *     <dt>expire_time</dt>
+     *     <dd>30L</dd>
+     *     <dt>expire_time_unit</dt>
+     *     <dd>TimeUnit.SECONDS</dd>
+     *     <dt>ExpirationPolicy</dt>
+     *     <dd>CREATED</dd>
+     * </dl>
+     *
+     * @return a {@link CaffeineClients} with defaults.
+     */
+    static CaffeineClients defaultConfiguration() {
+        return builder().build();
+    }
+
+    /**
+     * Simple Construction Class of {@link CaffeineClients}
+     */
+    class CaffeineClientsBuilder {
+
+        @CanNull
+        Long maxSize;
+        @CanNull
+        Long defaultExpireTime;
+        @CanNull
+        TimeUnit defaultExpireTimeUnit;
+        @CanNull
+        ExpirationPolicy expirationPolicy;
+        static final Long DEFAULT_MAX_SIZE = 20L * 50;
+        static final Long DEFAULT_EXPIRE_TIME = 30L;
+        static final TimeUnit DEFAULT_EXPIRE_TIME_UNIT = TimeUnit.SECONDS;
+        static final ExpirationPolicy DEFAULT_EXPIRATION_POLICY = ExpirationPolicy.CREATED;
+
+        CaffeineClientsBuilder() {
+        }
+
+        /**
+         * Given the cache one of the biggest capacity.
+         *
+         * @param maxSize The maximum capacity.
+         * @return {@link CaffeineClientsBuilder}.
+         */
+        public CaffeineClientsBuilder acquireMaxSize(Long maxSize) {
+            Asserts.isTrue(this.maxSize == null,
+                    "MaxSize existing configuration values, please do not cover");
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Given the cache of a default cache expiration time.
+         *
+         * @param defaultExpireTime The default cache expiration time.
+         * @return {@link CaffeineClientsBuilder}.
+         */
+        public CaffeineClientsBuilder acquireDefaultExpireTime(Long defaultExpireTime) {
+            Asserts.isTrue(this.defaultExpireTime == null,
+                    "DefaultExpireTime existing configuration values, please do not cover");
+            this.defaultExpireTime = defaultExpireTime;
+            return this;
+        }
+
+        /**
+         * Given the cache of a default cache expiration time units.
+         *
+         * @param defaultExpireTimeUnit The default cache expiration time units.
+         * @return {@link CaffeineClientsBuilder}.
+         */
+        public CaffeineClientsBuilder acquireDefaultExpireTimeUnit(TimeUnit defaultExpireTimeUnit) {
+            Asserts.isTrue(this.defaultExpireTimeUnit == null,
+                    "DefaultExpireTimeUnit existing configuration values, please do not cover");
+            this.defaultExpireTimeUnit = defaultExpireTimeUnit;
+            return this;
+        }
+
+        /**
+         * Given the cache of a default cache expiration expired strategy.
+         *
+         * @param expirationPolicy The default cache expiration expired strategy.
+         * @return {@link CaffeineClientsBuilder}.
+         */
+        public CaffeineClientsBuilder acquireDefaultExpirationPolicy(ExpirationPolicy expirationPolicy) {
+            Asserts.isTrue(this.expirationPolicy == null,
+                    "ExpirationPolicy existing configuration values, please do not cover");
+            this.expirationPolicy = expirationPolicy;
+            return this;
+        }
+
+        /**
+         * Build the {@link CaffeineClients} with the configuration applied from this builder.
+         *
+         * @return a new {@link CaffeineClients} implementation.
+         */
+        public DefaultCaffeineClients build() {
+            if (this.maxSize == null || this.maxSize == 0L) {
+                this.maxSize = DEFAULT_MAX_SIZE;
+            }
+            if (this.defaultExpireTime == null || this.defaultExpireTime == 0L) {
+                this.defaultExpireTime = DEFAULT_EXPIRE_TIME;
+            }
+            if (this.defaultExpireTimeUnit == null) {
+                this.defaultExpireTimeUnit = DEFAULT_EXPIRE_TIME_UNIT;
+            }
+            if (this.expirationPolicy == null) {
+                this.expirationPolicy = DEFAULT_EXPIRATION_POLICY;
+            }
+            return new DefaultCaffeineClients(
+                    this.maxSize,
+                    this.defaultExpireTime,
+                    this.defaultExpireTimeUnit,
+                    this.expirationPolicy
+            );
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package top.osjf.assembly.cache.config.caffeine;
+
+import net.jodah.expiringmap.ExpirationPolicy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Default implementation for {@link CaffeineClients}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public class DefaultCaffeineClients implements CaffeineClients {
+
+    private final Long maxSize;
+    private final Long defaultExpireTime;
+    private final TimeUnit defaultExpireTimeUnit;
+    private final ExpirationPolicy expirationPolicy;
+
+    public DefaultCaffeineClients(Long maxSize,
+                                  Long defaultExpireTime,
+                                  TimeUnit defaultExpireTimeUnit,
+                                  ExpirationPolicy expirationPolicy
+    ) {
+        this.maxSize = maxSize;
+        this.defaultExpireTime = defaultExpireTime;
+        this.defaultExpireTimeUnit = defaultExpireTimeUnit;
+        this.expirationPolicy = expirationPolicy;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.config.caffeine.CaffeineClients#getMaxSize()
+     */
+    @Override
+    public Long getMaxSize() {
+        return this.maxSize;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.config.caffeine.CaffeineClients#getDefaultExpireTime()
+     */
+    @Override
+    public Long getDefaultExpireTime() {
+        return this.defaultExpireTime;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.config.caffeine.CaffeineClients#getDefaultExpireTimeUnit()
+     */
+    @Override
+    public TimeUnit getDefaultExpireTimeUnit() {
+        return this.defaultExpireTimeUnit;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.config.caffeine.CaffeineClients#getExpirationPolicy()
+     */
+    @Override
+    public ExpirationPolicy getExpirationPolicy() {
+        return this.expirationPolicy;
+    }
+}
@@ -16,16 +16,28 @@ public class DefaultExpiringMapClients implements ExpiringMapClients {
     private final Long defaultExpireTime;
     private final TimeUnit defaultExpireTimeUnit;
     private final ExpirationPolicy expirationPolicy;
+    private final Integer shards;
 
     public DefaultExpiringMapClients(Integer maxSize,
                                      Long defaultExpireTime,
                                      TimeUnit defaultExpireTimeUnit,
                                      ExpirationPolicy expirationPolicy
+    ) {
+        this(maxSize, defaultExpireTime, defaultExpireTimeUnit, expirationPolicy, 1);
+    }
+
+    //@since 1.1.4
+    public DefaultExpiringMapClients(Integer maxSize,
+                                     Long defaultExpireTime,
+                                     TimeUnit defaultExpireTimeUnit,
+                                     ExpirationPolicy expirationPolicy,
+                                     Integer shards
     ) {
         this.maxSize = maxSize;
         this.defaultExpireTime = defaultExpireTime;
         this.defaultExpireTimeUnit = defaultExpireTimeUnit;
         this.expirationPolicy = expirationPolicy;
+        this.shards = shards;
     }
 
     /*
@@ -63,4 +75,13 @@ public class DefaultExpiringMapClients implements ExpiringMapClients {
     public ExpirationPolicy getExpirationPolicy() {
         return this.expirationPolicy;
     }
+
+    /*
+     * (non-Javadoc)
+     * @see top.osjf.assembly.cache.config.expiringmap.ExpiringMapClients#getShards()
+     */
+    @Override
+    public Integer getShards() {
+        return this.shards;
+    }
 }
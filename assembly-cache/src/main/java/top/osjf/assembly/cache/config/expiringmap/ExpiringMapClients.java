@@ -48,6 +48,18 @@ public interface ExpiringMapClients {
      */
     ExpirationPolicy getExpirationPolicy();
 
+    /**
+     * Obtain the number of independent {@link ExpiringMap} the keys are striped
+     * across by hash, each with its own expiration, a value greater than {@code 1}
+     * selects the sharded cache center.
+     *
+     * @return {@literal Integer} number of shards.
+     * @since 1.1.4
+     */
+    default Integer getShards() {
+        return 1;
+    }
+
     /**
      * Create a new {@link ExpiringMapClientsBuilder} to build {@link ExpiringMapClients} to be used.
      *
@@ -89,10 +101,13 @@ public interface ExpiringMapClients {
         TimeUnit defaultExpireTimeUnit;
         @CanNull
         ExpirationPolicy expirationPolicy;
+        @CanNull
+        Integer shards;
         static final Integer DEFAULT_MAX_SIZE = 20 * 50;
         static final Long DEFAULT_EXPIRE_TIME = 30L;
         static final TimeUnit DEFAULT_EXPIRE_TIME_UNIT = TimeUnit.SECONDS;
         static final ExpirationPolicy DEFAULT_EXPIRATION_POLICY = ExpirationPolicy.CREATED;
+        static final Integer DEFAULT_SHARDS = 1;
 
         ExpiringMapClientsBuilder() {
         }
@@ -149,6 +164,20 @@ public interface ExpiringMapClients {
             return this;
         }
 
+        /**
+         * Given the number of maps the keys are striped across.
+         *
+         * @param shards The number of shards.
+         * @return {@link ExpiringMapClientsBuilder}.
+         * @since 1.1.4
+         */
+        public ExpiringMapClientsBuilder acquireShards(Integer shards) {
+            Asserts.isTrue(this.shards == null,
+                    "Shards existing configuration values, please do not cover");
+            this.shards = shards;
+            return this;
+        }
+
         /**
          * Build the {@link ExpiringMapClients} with the configuration applied from this builder.
          *
@@ -167,11 +196,15 @@ public interface ExpiringMapClients {
             if (this.expirationPolicy == null) {
                 this.expirationPolicy = DEFAULT_EXPIRATION_POLICY;
             }
+            if (this.shards == null || this.shards < 1) {
+                this.shards = DEFAULT_SHARDS;
+            }
             return new DefaultExpiringMapClients(
                     this.maxSize,
                     this.defaultExpireTime,
                     this.defaultExpireTimeUnit,
-                    this.expirationPolicy
+                    this.expirationPolicy,
+                    this.shards
             );
         }
     }
@@ -1,6 +1,7 @@
 package top.osjf.assembly.cache.factory;
 
 import top.osjf.assembly.cache.serializer.CacheByteIdentify;
+import top.osjf.assembly.cache.serializer.CacheByteKeyIdentify;
 import top.osjf.assembly.cache.serializer.SerializerOperationType;
 import top.osjf.assembly.util.annotation.CanNull;
 import top.osjf.assembly.util.annotation.NotNull;
@@ -46,6 +47,30 @@ public abstract class AbstractCacheExecutor<T> implements DefaultCacheExecutor {
         public abstract V inHelp(ByteIdentify keyByteIdentify, T helpCenter);
     }
 
+    /**
+     * Callback of multiple keys, identified once and handled in one pass of the help center.
+     *
+     * @param <V> The type of result.
+     * @since 1.1.4
+     */
+    abstract class IdentifyKeysCallback<V> implements HelpCenterValueCallback<V, T> {
+        private final ByteIdentify[] keyByteIdentifies;
+
+        public IdentifyKeysCallback(byte[]... keys) {
+            this.keyByteIdentifies = new ByteIdentify[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                this.keyByteIdentifies[i] = identifyKeyByteArray(keys[i]);
+            }
+        }
+
+        @Override
+        public V doInHelpCenter(HelpCenter<T> center) {
+            return inHelp(this.keyByteIdentifies, getHelpCenter());
+        }
+
+        public abstract V inHelp(ByteIdentify[] keyByteIdentifies, T helpCenter);
+    }
+
     public T getHelpCenter() {
         return this.helpCenter.getHelpCenter();
     }
@@ -63,7 +88,7 @@ public abstract class AbstractCacheExecutor<T> implements DefaultCacheExecutor {
      * @since 1.1.4
      */
     protected ByteIdentify identifyKeyByteArray(byte[] var) {
-        return identifyByteArray(var, SerializerOperationType.KEY);
+        return new CacheByteKeyIdentify(var, SerializerOperationType.KEY.get());
     }
 
     /**
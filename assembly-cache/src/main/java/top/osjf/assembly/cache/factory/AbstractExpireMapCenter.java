@@ -0,0 +1,222 @@
+package top.osjf.assembly.cache.factory;
+
+import net.jodah.expiringmap.ExpiringMap;
+import top.osjf.assembly.cache.config.Configuration;
+import top.osjf.assembly.cache.config.expiringmap.ExpiringMapClients;
+import top.osjf.assembly.cache.listener.ByteMessage;
+import top.osjf.assembly.cache.listener.DefaultExpiringmapExpirationListener;
+import top.osjf.assembly.cache.serializer.CacheByteKeyIdentify;
+import top.osjf.assembly.util.annotation.CanNull;
+import top.osjf.assembly.util.annotation.NotNull;
+import top.osjf.assembly.util.data.ByteIdentify;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cache center based on one or several {@link ExpiringMap}, operations on a key go
+ * to the map returned by {@link #get(ByteIdentify)}, and operations on the whole
+ * cache to the maps returned by {@link #getAll()}.
+ * <p>
+ * The globally unique center is created through
+ * {@link #createExpireMapCenter(ExpiringMapClients)}: an {@link ExpireMapCenter} over
+ * a single map, or a {@link ShardedExpireMapCenter} when
+ * {@link ExpiringMapClients#getShards()} is greater than {@code 1}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public abstract class AbstractExpireMapCenter
+        extends AbstractRecordActivationCenter<AbstractExpireMapCenter, ByteIdentify, ByteIdentify> {
+
+    private static final long serialVersionUID = 2867052326353440791L;
+
+    /**
+     * {@link AbstractExpireMapCenter} of globally unique singletons.
+     */
+    private static volatile AbstractExpireMapCenter expireMapCenter;
+
+    /**
+     * The index of keys for similar key queries, {@literal null} when not enabled.
+     */
+    private final SimilarKeyIndex similarKeyIndex;
+
+    /**
+     * Wrapper function for key/value.
+     */
+    private static final Function<Object[], ByteIdentify> wrapperFunction =
+            args -> AbstractCacheExecutor.Holder.createByteIdentify(args[0], args[1]);
+
+    /**
+     * Wrapper function for key.
+     */
+    private static final Function<Object[], ByteIdentify> keyWrapperFunction =
+            args -> new CacheByteKeyIdentify((byte[]) args[0], (String) args[1]);
+
+    AbstractExpireMapCenter(@CanNull SimilarKeyIndex similarKeyIndex) {
+        this.similarKeyIndex = similarKeyIndex;
+    }
+
+    /**
+     * Create a cache center about {@link ExpiringMap} using
+     * custom configuration.
+     *
+     * @param clients Configuration of {@link ExpiringMap}.
+     * @return a cache center about {@link ExpiringMap}.
+     */
+    protected static synchronized AbstractExpireMapCenter createExpireMapCenter(@NotNull ExpiringMapClients clients) {
+        if (expireMapCenter == null) {
+            expireMapCenter = createExpireMapCenter0(clients);
+            setGlobalCenter(expireMapCenter);
+        }
+        return expireMapCenter;
+    }
+
+    /* create a center within ExpiringMapClients */
+    static AbstractExpireMapCenter createExpireMapCenter0(ExpiringMapClients clients) {
+        SimilarKeyIndex similarKeyIndex = null;
+        if (Configuration.getGlobalConfiguration().isEnableSimilarKeyIndex()) {
+            similarKeyIndex = new SimilarKeyIndex();
+        }
+        int maxSize = clients.getMaxSize();
+        int shards = clients.getShards() == null ? 1 : Math.max(1, clients.getShards());
+        //Each shard holds at least one entry
+        shards = Math.max(1, Math.min(shards, maxSize));
+        if (shards == 1) {
+            return new ExpireMapCenter(createExpiringMap(clients, maxSize, similarKeyIndex), similarKeyIndex);
+        }
+        //Split the max size across the shards, the remainder one by one on the first ones
+        List<ExpiringMap<ByteIdentify, ByteIdentify>> expiringMaps = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            int shardMaxSize = maxSize / shards + (i < maxSize % shards ? 1 : 0);
+            expiringMaps.add(createExpiringMap(clients, shardMaxSize, similarKeyIndex));
+        }
+        return new ShardedExpireMapCenter(expiringMaps, similarKeyIndex);
+    }
+
+    /* create an ExpiringMap within ExpiringMapClients and its listeners */
+    static ExpiringMap<ByteIdentify, ByteIdentify> createExpiringMap(ExpiringMapClients clients, int maxSize,
+                                                                     @CanNull SimilarKeyIndex similarKeyIndex) {
+        ExpiringMap<ByteIdentify, ByteIdentify> expiringMap = ExpiringMap.builder()
+                .maxSize(maxSize)
+                .expiration(clients.getDefaultExpireTime(), clients.getDefaultExpireTimeUnit())
+                .expirationPolicy(clients.getExpirationPolicy())
+                .variableExpiration()
+                .build();
+        expiringMap.addExpirationListener(DefaultExpiringmapExpirationListener.INSTANCE);
+        if (similarKeyIndex != null) {
+            //The key may have been put again before the listener
+            expiringMap.addExpirationListener((key, value) ->
+                    similarKeyIndex.removeIfAbsent(key, expiringMap::containsKey));
+        }
+        return expiringMap;
+    }
+
+    @Override
+    public AbstractExpireMapCenter getHelpCenter() {
+        if (expireMapCenter == null) throw new CenterUninitializedException(AbstractExpireMapCenter.class);
+        return expireMapCenter;
+    }
+
+    /**
+     * Return the {@link ExpiringMap} holding the key.
+     *
+     * @param key the key of cache.
+     * @return the {@link ExpiringMap} holding the key.
+     */
+    public abstract ExpiringMap<ByteIdentify, ByteIdentify> get(@NotNull ByteIdentify key);
+
+    /**
+     * Return all {@link ExpiringMap} of this center.
+     *
+     * @return all {@link ExpiringMap} of this center.
+     */
+    public abstract List<ExpiringMap<ByteIdentify, ByteIdentify>> getAll();
+
+    @Override
+    public void reload(@NotNull ByteIdentify key, @NotNull ByteIdentify value, @NotNull Long duration,
+                       @NotNull TimeUnit unit) {
+        ExpiringMap<ByteIdentify, ByteIdentify> expiringMap = get(key);
+        if (expiringMap == null) return;
+        expiringMap.put(key, value, duration, unit);
+        index(key);
+    }
+
+    /**
+     * Record the key put into the cache for similar key queries.
+     *
+     * @param key the key put into the cache.
+     */
+    void index(ByteIdentify key) {
+        if (similarKeyIndex != null) {
+            similarKeyIndex.add(key);
+        }
+    }
+
+    /**
+     * Forget the key removed from the cache for similar key queries, unless
+     * it has been put again since, to be called after the removal.
+     *
+     * @param key the key removed from the cache.
+     */
+    void unindex(ByteIdentify key) {
+        if (similarKeyIndex != null) {
+            similarKeyIndex.removeIfAbsent(key, k -> get(k).containsKey(k));
+        }
+    }
+
+    /**
+     * Forget all keys for similar key queries.
+     */
+    void clearIndex() {
+        if (similarKeyIndex != null) {
+            similarKeyIndex.clear();
+        }
+    }
+
+    /**
+     * Return the keys that may be similar to the queried key.
+     *
+     * @param key the queried key.
+     * @return the candidate keys, all keys of the cache when no index can be used.
+     */
+    Collection<ByteIdentify> similarKeyCandidates(ByteIdentify key) {
+        Collection<ByteIdentify> candidates = null;
+        if (similarKeyIndex != null) {
+            candidates = similarKeyIndex.candidates(key);
+        }
+        if (candidates != null) {
+            return candidates;
+        }
+        List<ExpiringMap<ByteIdentify, ByteIdentify>> expiringMaps = getAll();
+        if (expiringMaps.size() == 1) {
+            return expiringMaps.get(0).keySet();
+        }
+        List<ByteIdentify> keys = new ArrayList<>();
+        for (ExpiringMap<ByteIdentify, ByteIdentify> expiringMap : expiringMaps) {
+            keys.addAll(expiringMap.keySet());
+        }
+        return keys;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void cleanSupportingElements(@NotNull ByteMessage message) {
+        //Remove persistent cache
+        Configuration.getGlobalConfiguration().getPersistenceMode().getSolver()
+                .removePersistenceWithKey(message.getByteKey());
+    }
+
+    @Override
+    public Function<Object[], ByteIdentify> wrapKeyFunc() {
+        return keyWrapperFunction;
+    }
+
+    @Override
+    public Function<Object[], ByteIdentify> wrapValueFunc() {
+        return wrapperFunction;
+    }
+}
@@ -0,0 +1,206 @@
+package top.osjf.assembly.cache.factory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import top.osjf.assembly.cache.persistence.Entry;
+import top.osjf.assembly.util.annotation.CanNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cache factory executor of the {@link Cache} of Caffeine.<br>
+ * Used to call one's own method.<br>
+ * <p>
+ * Here, we also list the instruction methods in reference
+ * {@link top.osjf.assembly.cache.command.CacheCommands} to
+ * provide the final implementation for the instruction methods.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public interface CaffeineCacheExecutor extends NativeCacheExecutor {
+
+    /**
+     * Execute on {@link Cache#put(Object, Object)} with the default duration.
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return Returns result value.
+     */
+    Boolean put(byte[] key, byte[] value);
+
+    /**
+     * Execute on {@link Cache#put(Object, Object)} with the given duration.
+     *
+     * @param key      must not be {@literal null}
+     * @param value    must not be {@literal null}
+     * @param duration must not be {@literal null}
+     * @param unit     must not be {@literal null}
+     * @return Returns result value.
+     */
+    Boolean putDuration(byte[] key, byte[] value, Long duration, TimeUnit unit);
+
+    /**
+     * Execute on {@link java.util.concurrent.ConcurrentMap#putIfAbsent(Object, Object)}
+     * of {@link Cache#asMap()} with the default duration.
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return Returns result value.
+     */
+    Boolean putIfAbsent(byte[] key, byte[] value);
+
+    /**
+     * Execute on {@link java.util.concurrent.ConcurrentMap#putIfAbsent(Object, Object)}
+     * of {@link Cache#asMap()} with the given duration.
+     *
+     * @param key      must not be {@literal null}
+     * @param value    must not be {@literal null}
+     * @param duration must not be {@literal null}
+     * @param unit     must not be {@literal null}
+     * @return Returns result value.
+     */
+    Boolean putIfAbsentDuration(byte[] key, byte[] value, Long duration, TimeUnit unit);
+
+    /**
+     * Execute on {@link Cache#getIfPresent(Object)}.
+     *
+     * @param key must not be {@literal null}
+     * @return Returns result value.
+     */
+    byte[] getVal(byte[] key);
+
+    /**
+     * Execute on {@link Cache#getIfPresent(Object)} for multiple keys in one pass.
+     *
+     * @param keys must not be {@literal null}
+     * @return Returns result values, {@literal null} for a key that does not exist.
+     * @since 1.1.4
+     */
+    @Override
+    default List<byte[]> getVals(byte[]... keys) {
+        return NativeCacheExecutor.super.getVals(keys);
+    }
+
+    /**
+     * Execute on {@link Cache#putAll(Map)} for multiple entries in one pass.
+     *
+     * @param entries must not be {@literal null}
+     * @return Returns result value.
+     * @since 1.1.4
+     */
+    @Override
+    default Boolean putAll(List<Entry<byte[], byte[]>> entries) {
+        return NativeCacheExecutor.super.putAll(entries);
+    }
+
+    /**
+     * Find the keys similar to the given key.
+     *
+     * @param key must not be {@literal null}
+     * @return Returns result value.
+     */
+    List<byte[]> findSimilarKeys(byte[] key);
+
+    /**
+     * Replace the value of the key keeping its duration.
+     *
+     * @param key      must not be {@literal null}
+     * @param newValue must not be {@literal null}
+     * @return Returns the old value.
+     */
+    byte[] replace(byte[] key, byte[] newValue);
+
+    /**
+     * Execute on {@link java.util.concurrent.ConcurrentMap#remove(Object)} of {@link Cache#asMap()}.
+     *
+     * @param keys must not be {@literal null}
+     * @return Returns result value.
+     */
+    @CanNull
+    Long deleteByKeys(byte[]... keys);
+
+    /**
+     * Remove the keys similar to the given key.
+     *
+     * @param key must not be {@literal null}
+     * @return Returns result value.
+     */
+    Map<byte[], byte[]> deleteSimilarKey(byte[] key);
+
+    /**
+     * Execute on {@link Cache#invalidateAll()}.
+     *
+     * @return Returns result value.
+     */
+    Boolean reboot();
+
+    /**
+     * Execute on {@link java.util.concurrent.ConcurrentMap#containsKey(Object)} of {@link Cache#asMap()}.
+     *
+     * @param key must not be {@literal null}
+     * @return Returns result value.
+     */
+    Boolean containsKey(byte[] key);
+
+    /**
+     * Determine whether any key is mapped to the value.
+     *
+     * @param value must not be {@literal null}
+     * @return contains result
+     */
+    Boolean containsValue(byte[] value);
+
+    /**
+     * Return the duration of the key in milliseconds.
+     *
+     * @param key must not be {@literal null}
+     * @return Returns result value.
+     */
+    Long getExpirationWithKey(byte[] key);
+
+    /**
+     * Return the duration of the key in the given unit.
+     *
+     * @param key  must not be {@literal null}
+     * @param unit must not be {@literal null}
+     * @return Returns result value.
+     */
+    Long getExpirationWithUnit(byte[] key, TimeUnit unit);
+
+    /**
+     * Return the remaining time of the key in milliseconds.
+     *
+     * @param key must not be {@literal null}
+     * @return Returns result value.
+     */
+    Long getExpectedExpirationWithKey(byte[] key);
+
+    /**
+     * Return the remaining time of the key in the given unit.
+     *
+     * @param key  must not be {@literal null}
+     * @param unit must not be {@literal null}
+     * @return Returns result value.
+     */
+    Long getExpectedExpirationWithUnit(byte[] key, TimeUnit unit);
+
+    /**
+     * Set a new duration to the key and restart its expiration.
+     *
+     * @param key      must not be {@literal null}
+     * @param duration must not be {@literal null}
+     * @param timeUnit must not be {@literal null}
+     * @return Returns result value.
+     */
+    Boolean setExpirationDuration(byte[] key, Long duration, TimeUnit timeUnit);
+
+    /**
+     * Restart the expiration of the key with its duration.
+     *
+     * @param key must not be {@literal null}
+     * @return Returns result value.
+     */
+    Boolean resetExpirationWithKey(byte[] key);
+}
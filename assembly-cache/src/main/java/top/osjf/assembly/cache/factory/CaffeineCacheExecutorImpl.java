@@ -0,0 +1,337 @@
+package top.osjf.assembly.cache.factory;
+
+import top.osjf.assembly.cache.command.CacheKeyCommands;
+import top.osjf.assembly.cache.command.CachePairCommands;
+import top.osjf.assembly.cache.command.caffeine.CaffeineKeyCommands;
+import top.osjf.assembly.cache.command.caffeine.CaffeinePairCommands;
+import top.osjf.assembly.cache.persistence.Entry;
+import top.osjf.assembly.util.annotation.CanNull;
+import top.osjf.assembly.util.data.ByteIdentify;
+import top.osjf.assembly.util.data.Identify;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The implementation class for interface {@link CaffeineCacheExecutor}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public class CaffeineCacheExecutorImpl extends AbstractCacheExecutor<CaffeineCenter>
+        implements CaffeineCacheExecutor {
+
+    public CaffeineCacheExecutorImpl(HelpCenter<CaffeineCenter> center) {
+        super(center);
+    }
+
+    @Override
+    public CachePairCommands pairCommands() {
+        return new CaffeinePairCommands(this);
+    }
+
+    @Override
+    public CacheKeyCommands keyCommands() {
+        return new CaffeineKeyCommands(this);
+    }
+
+    @Override
+    public Boolean put(byte[] key, byte[] value) {
+
+        final ByteIdentify valueByteIdentify = identifyValueByteArray(value);
+
+        return this.execute(new IdentifyKeyCallback<Boolean>(key) {
+            @Override
+            public Boolean inHelp(ByteIdentify keyByteIdentify, CaffeineCenter helpCenter) {
+                helpCenter.get().put(keyByteIdentify,
+                        new CaffeineCenter.Value(valueByteIdentify, helpCenter.getDefaultDurationNanos()));
+                helpCenter.index(keyByteIdentify);
+                return true;
+            }
+        });
+    }
+
+    @Override
+    public Boolean putDuration(byte[] key, byte[] value, Long duration, TimeUnit unit) {
+
+        final ByteIdentify valueByteIdentify = identifyValueByteArray(value);
+
+        return this.execute(new IdentifyKeyCallback<Boolean>(key) {
+            @Override
+            public Boolean inHelp(ByteIdentify keyByteIdentify, CaffeineCenter helpCenter) {
+                helpCenter.get().put(keyByteIdentify,
+                        new CaffeineCenter.Value(valueByteIdentify, unit.toNanos(duration)));
+                helpCenter.index(keyByteIdentify);
+                return true;
+            }
+        });
+    }
+
+    @Override
+    public Boolean putIfAbsent(byte[] key, byte[] value) {
+
+        final ByteIdentify valueByteIdentify = identifyValueByteArray(value);
+
+        return this.execute(new IdentifyKeyCallback<Boolean>(key) {
+            @Override
+            public Boolean inHelp(ByteIdentify keyByteIdentify, CaffeineCenter helpCenter) {
+                if (helpCenter.get().asMap().putIfAbsent(keyByteIdentify,
+                        new CaffeineCenter.Value(valueByteIdentify, helpCenter.getDefaultDurationNanos())) == null) {
+                    helpCenter.index(keyByteIdentify);
+                    return true;
+                }
+                return false;
+            }
+        });
+    }
+
+    @Override
+    public Boolean putIfAbsentDuration(byte[] key, byte[] value, Long duration, TimeUnit unit) {
+
+        final ByteIdentify valueByteIdentify = identifyValueByteArray(value);
+
+        return this.execute(new IdentifyKeyCallback<Boolean>(key) {
+            @Override
+            public Boolean inHelp(ByteIdentify keyByteIdentify, CaffeineCenter helpCenter) {
+                if (helpCenter.get().asMap().putIfAbsent(keyByteIdentify,
+                        new CaffeineCenter.Value(valueByteIdentify, unit.toNanos(duration))) == null) {
+                    helpCenter.index(keyByteIdentify);
+                    return true;
+                }
+                return false;
+            }
+        });
+    }
+
+    @Override
+    public byte[] getVal(byte[] key) {
+        CaffeineCenter.Value value = getValue(key);
+        return value == null ? null : value.getValue().getData();
+    }
+
+    @Override
+    public List<byte[]> getVals(byte[]... keys) {
+        return this.execute(new IdentifyKeysCallback<List<byte[]>>(keys) {
+            @Override
+            public List<byte[]> inHelp(ByteIdentify[] keyByteIdentifies, CaffeineCenter helpCenter) {
+                List<byte[]> values = new ArrayList<>(keyByteIdentifies.length);
+                for (ByteIdentify keyByteIdentify : keyByteIdentifies) {
+                    CaffeineCenter.Value value = helpCenter.get().getIfPresent(keyByteIdentify);
+                    values.add(value == null ? null : value.getValue().getData());
+                }
+                return values;
+            }
+        });
+    }
+
+    @Override
+    public Boolean putAll(List<Entry<byte[], byte[]>> entries) {
+
+        final byte[][] keys = new byte[entries.size()][];
+        final ByteIdentify[] valueByteIdentifies = new ByteIdentify[entries.size()];
+        for (int i = 0; i < keys.length; i++) {
+            Entry<byte[], byte[]> entry = entries.get(i);
+            keys[i] = entry.getKey();
+            valueByteIdentifies[i] = identifyValueByteArray(entry.getValue());
+        }
+
+        return this.execute(new IdentifyKeysCallback<Boolean>(keys) {
+            @Override
+            public Boolean inHelp(ByteIdentify[] keyByteIdentifies, CaffeineCenter helpCenter) {
+                Map<ByteIdentify, CaffeineCenter.Value> values = new LinkedHashMap<>(keyByteIdentifies.length);
+                for (int i = 0; i < keyByteIdentifies.length; i++) {
+                    Entry<byte[], byte[]> entry = entries.get(i);
+                    long durationNanos = entry.haveDuration() ? entry.getTimeUnit().toNanos(entry.getDuration())
+                            : helpCenter.getDefaultDurationNanos();
+                    values.put(keyByteIdentifies[i], new CaffeineCenter.Value(valueByteIdentifies[i], durationNanos));
+                }
+                helpCenter.get().putAll(values);
+                values.keySet().forEach(helpCenter::index);
+                return true;
+            }
+        });
+    }
+
+    @Override
+    public List<byte[]> findSimilarKeys(byte[] key) {
+
+        return this.execute(new IdentifyKeyCallback<List<byte[]>>(key) {
+
+            @Override
+            public List<byte[]> inHelp(ByteIdentify keyByteIdentify, CaffeineCenter helpCenter) {
+
+                return helpCenter.similarKeyCandidates(keyByteIdentify)
+                        .stream()
+                        .filter(identify -> identify.similarTo(keyByteIdentify)
+                                && helpCenter.get().asMap().containsKey(identify))
+                        .map(Identify::getData)
+                        .collect(Collectors.toList());
+            }
+        });
+    }
+
+    @Override
+    public byte[] replace(byte[] key, byte[] newValue) {
+
+        final ByteIdentify valueByteIdentify = identifyValueByteArray(newValue);
+
+        return this.execute(new IdentifyKeyCallback<byte[]>(key) {
+            @Override
+            public byte[] inHelp(ByteIdentify keyByteIdentify, CaffeineCenter helpCenter) {
+                ByteIdentify[] old = new ByteIdentify[1];
+                helpCenter.get().asMap().computeIfPresent(keyByteIdentify, (k, v) -> {
+                    old[0] = v.getValue();
+                    return new CaffeineCenter.Value(valueByteIdentify, v.getDurationNanos());
+                });
+                return old[0] == null ? null : old[0].getData();
+            }
+        });
+    }
+
+    @CanNull
+    @Override
+    public Long deleteByKeys(byte[]... keys) {
+        return this.execute(new IdentifyKeysCallback<Long>(keys) {
+            @Override
+            public Long inHelp(ByteIdentify[] keyByteIdentifies, CaffeineCenter helpCenter) {
+                long count = 0L;
+                for (ByteIdentify keyByteIdentify : keyByteIdentifies) {
+                    if (helpCenter.get().asMap().remove(keyByteIdentify) != null) {
+                        count++;
+                    }
+                    helpCenter.unindex(keyByteIdentify);
+                }
+                return count;
+            }
+        });
+    }
+
+    @Override
+    public Map<byte[], byte[]> deleteSimilarKey(byte[] key) {
+        List<byte[]> keys = findSimilarKeys(key);
+        Map<byte[], byte[]> delMap = new HashMap<>();
+        for (byte[] _key : keys) {
+            CaffeineCenter.Value removed = remove(_key);
+            if (removed != null) {
+                delMap.put(_key, removed.getValue().getData());
+            }
+        }
+        return delMap;
+    }
+
+    @Override
+    public Boolean reboot() {
+        return this.execute(new IdentifyKeyCallback<Boolean>() {
+            @Override
+            public Boolean inHelp(ByteIdentify keyByteIdentify, CaffeineCenter helpCenter) {
+                helpCenter.get().invalidateAll();
+                helpCenter.clearIndex();
+                return true;
+            }
+        });
+    }
+
+    @Override
+    public Boolean containsKey(byte[] key) {
+        return this.execute(new IdentifyKeyCallback<Boolean>(key) {
+            @Override
+            public Boolean inHelp(ByteIdentify keyByteIdentify, CaffeineCenter helpCenter) {
+                return helpCenter.get().asMap().containsKey(keyByteIdentify);
+            }
+        });
+    }
+
+    @Override
+    public Boolean containsValue(byte[] value) {
+        final ByteIdentify valueByteIdentify = identifyValueByteArray(value);
+        return this.execute((center) -> center.getHelpCenter().get().asMap().values().stream()
+                .anyMatch(v -> v.getValue().equals(valueByteIdentify)));
+    }
+
+    @Override
+    public Long getExpirationWithKey(byte[] key) {
+        CaffeineCenter.Value value = getValue(key);
+        return value == null ? null : TimeUnit.NANOSECONDS.toMillis(value.getDurationNanos());
+    }
+
+    @Override
+    public Long getExpirationWithUnit(byte[] key, TimeUnit unit) {
+        Long expiration = this.getExpirationWithKey(key);
+        if (expiration == null) return null;
+        return unit.convert(expiration, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Long getExpectedExpirationWithKey(byte[] key) {
+        return this.execute(new IdentifyKeyCallback<Long>(key) {
+            @Override
+            public Long inHelp(ByteIdentify keyByteIdentify, CaffeineCenter helpCenter) {
+                OptionalLong expiresAfter = helpCenter.varExpiration()
+                        .getExpiresAfter(keyByteIdentify, TimeUnit.MILLISECONDS);
+                return expiresAfter.isPresent() ? expiresAfter.getAsLong() : null;
+            }
+        });
+    }
+
+    @Override
+    public Long getExpectedExpirationWithUnit(byte[] key, TimeUnit unit) {
+        Long expectedExpiration = this.getExpectedExpirationWithKey(key);
+        if (expectedExpiration == null) return null;
+        return unit.convert(expectedExpiration, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Boolean setExpirationDuration(byte[] key, Long duration, TimeUnit timeUnit) {
+
+        return this.execute(new IdentifyKeyCallback<Boolean>(key) {
+            @Override
+            public Boolean inHelp(ByteIdentify keyByteIdentify, CaffeineCenter helpCenter) {
+                //Replace the value to carry the new duration and restart the expiration
+                return helpCenter.get().asMap().computeIfPresent(keyByteIdentify, (k, v) ->
+                        new CaffeineCenter.Value(v.getValue(), timeUnit.toNanos(duration))) != null;
+            }
+        });
+    }
+
+    @Override
+    public Boolean resetExpirationWithKey(byte[] key) {
+        return this.execute(new IdentifyKeyCallback<Boolean>(key) {
+            @Override
+            public Boolean inHelp(ByteIdentify keyByteIdentify, CaffeineCenter helpCenter) {
+                CaffeineCenter.Value value = helpCenter.get().getIfPresent(keyByteIdentify);
+                if (value == null) {
+                    return false;
+                }
+                helpCenter.varExpiration().setExpiresAfter(keyByteIdentify, value.getDurationNanos(),
+                        TimeUnit.NANOSECONDS);
+                return true;
+            }
+        });
+    }
+
+    private CaffeineCenter.Value getValue(byte[] key) {
+        return this.execute(new IdentifyKeyCallback<CaffeineCenter.Value>(key) {
+            @Override
+            public CaffeineCenter.Value inHelp(ByteIdentify keyByteIdentify, CaffeineCenter helpCenter) {
+                return helpCenter.get().getIfPresent(keyByteIdentify);
+            }
+        });
+    }
+
+    private CaffeineCenter.Value remove(byte[] key) {
+        return this.execute(new IdentifyKeyCallback<CaffeineCenter.Value>(key) {
+            @Override
+            public CaffeineCenter.Value inHelp(ByteIdentify keyByteIdentify, CaffeineCenter helpCenter) {
+                CaffeineCenter.Value removed = helpCenter.get().asMap().remove(keyByteIdentify);
+                helpCenter.unindex(keyByteIdentify);
+                return removed;
+            }
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package top.osjf.assembly.cache.factory;
+
+import top.osjf.assembly.cache.command.caffeine.CaffeineInvocationHandler;
+import top.osjf.assembly.cache.command.caffeine.CaffeinePersistenceExecutor;
+import top.osjf.assembly.cache.config.Configuration;
+import top.osjf.assembly.cache.config.caffeine.CaffeineClients;
+import top.osjf.assembly.util.annotation.NotNull;
+import top.osjf.assembly.util.lang.ReflectUtils;
+
+/**
+ * The creation class of the cache execution factory for Caffeine.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public class CaffeineCacheFactory implements CacheFactory {
+
+    private final CaffeineClients clients;
+
+    private volatile CaffeineCacheExecutor executor;
+
+    public CaffeineCacheFactory(@NotNull CaffeineClients clients) {
+        this.clients = clients;
+        //The center is created now, for the restore of persisted caches
+        CaffeineCenter.createCaffeineCenter(clients);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The executor is created on the first call, so that the dispatch follows the
+     * global {@link Configuration} even when it is installed after this factory.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    @NotNull
+    public CacheExecutor executor() {
+        CaffeineCacheExecutor executor = this.executor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.executor;
+                if (executor == null) {
+                    this.executor = executor = doCreateCaffeineExecutor(clients);
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Create a {@link CaffeineCacheExecutor} object using its configuration
+     * {@link CaffeineClients}, decorated by {@link CaffeinePersistenceExecutor}, or by a jdk
+     * proxy when {@link Configuration#isEnableProxyDispatch()}.
+     *
+     * @param clients The configuration interface for Caffeine , must not be {@literal null}.
+     * @return The cache factory executor of Caffeine.
+     */
+    public CaffeineCacheExecutor doCreateCaffeineExecutor(CaffeineClients clients) {
+        //Real object generated singleton operation
+        CaffeineCenter caffeineCenter = CaffeineCenter.createCaffeineCenter(clients);
+        CaffeineCacheExecutorImpl target = new CaffeineCacheExecutorImpl(() -> caffeineCenter);
+        if (!Configuration.getGlobalConfiguration().isEnableProxyDispatch()) {
+            //Decorator with persistence annotations resolved once
+            return new CaffeinePersistenceExecutor(target);
+        }
+        //To approach the processor
+        CaffeineInvocationHandler processor = new CaffeineInvocationHandler(target);
+        //returns a jdk proxy object
+        return ReflectUtils.newProxyInstance(processor, processor.getTarget().getClass().getInterfaces());
+    }
+}
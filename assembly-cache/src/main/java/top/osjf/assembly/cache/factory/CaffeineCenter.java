@@ -0,0 +1,273 @@
+package top.osjf.assembly.cache.factory;
+
+import com.github.benmanes.caffeine.cache.*;
+import net.jodah.expiringmap.ExpirationPolicy;
+import top.osjf.assembly.cache.config.Configuration;
+import top.osjf.assembly.cache.config.caffeine.CaffeineClients;
+import top.osjf.assembly.cache.listener.ByteMessage;
+import top.osjf.assembly.cache.listener.DefaultCaffeineRemovalListener;
+import top.osjf.assembly.cache.persistence.Entry;
+import top.osjf.assembly.cache.serializer.CacheByteKeyIdentify;
+import top.osjf.assembly.util.annotation.CanNull;
+import top.osjf.assembly.util.annotation.NotNull;
+import top.osjf.assembly.util.data.ByteIdentify;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cache center based on {@link Caffeine}.
+ * <p>
+ * The entries are admitted and evicted by the W-TinyLFU policy of {@link Caffeine}
+ * beyond {@link CaffeineClients#getMaxSize()}, and each entry expires after its own
+ * duration on the timer wheel of {@link Caffeine#expireAfter(Expiry)}, reads do not
+ * take any lock.
+ * <p>
+ * Each cached {@link Value} carries its duration, so that a write without duration
+ * takes the default one, a replacement keeps the duration of the entry, and the
+ * expiration is reset on write, or also on read with {@link ExpirationPolicy#ACCESSED}.
+ * <p>It must be created through {@link #createCaffeineCenter(CaffeineClients)} and
+ * always maintain a unique operand.</p>
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public class CaffeineCenter extends AbstractRecordActivationCenter<CaffeineCenter, ByteIdentify, ByteIdentify>
+        implements Supplier<Cache<ByteIdentify, CaffeineCenter.Value>> {
+
+    private static final long serialVersionUID = 6052713867018931633L;
+
+    /**
+     * {@link CaffeineCenter} of globally unique singletons.
+     */
+    private static volatile CaffeineCenter caffeineCenter;
+
+    /**
+     * The cache center supports the core of classes.
+     */
+    private final Cache<ByteIdentify, Value> cache;
+
+    /**
+     * The default duration of entries in nanoseconds.
+     */
+    private final long defaultDurationNanos;
+
+    /**
+     * The index of keys for similar key queries, {@literal null} when not enabled.
+     */
+    private final SimilarKeyIndex similarKeyIndex;
+
+    /**
+     * Wrapper function for key.
+     */
+    private static final Function<Object[], ByteIdentify> keyWrapperFunction =
+            args -> new CacheByteKeyIdentify((byte[]) args[0], (String) args[1]);
+
+    /**
+     * Wrapper function for value.
+     */
+    private static final Function<Object[], ByteIdentify> valueWrapperFunction =
+            args -> AbstractCacheExecutor.Holder.createByteIdentify(args[0], args[1]);
+
+    private CaffeineCenter(CaffeineClients clients, @CanNull SimilarKeyIndex similarKeyIndex) {
+        this.defaultDurationNanos = clients.getDefaultExpireTimeUnit().toNanos(clients.getDefaultExpireTime());
+        this.similarKeyIndex = similarKeyIndex;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(clients.getMaxSize())
+                .expireAfter(new ValueExpiry(clients.getExpirationPolicy() == ExpirationPolicy.ACCESSED))
+                .scheduler(Scheduler.systemScheduler())
+                .removalListener(this::onRemoval)
+                .build();
+    }
+
+    /**
+     * Create a cache center about {@link Caffeine} using
+     * custom configuration.
+     *
+     * @param clients Configuration of {@link Caffeine}.
+     * @return a cache center about {@link Caffeine}.
+     */
+    protected static synchronized CaffeineCenter createCaffeineCenter(@NotNull CaffeineClients clients) {
+        if (caffeineCenter == null) {
+            SimilarKeyIndex similarKeyIndex = null;
+            if (Configuration.getGlobalConfiguration().isEnableSimilarKeyIndex()) {
+                similarKeyIndex = new SimilarKeyIndex();
+            }
+            caffeineCenter = new CaffeineCenter(clients, similarKeyIndex);
+            setGlobalCenter(caffeineCenter);
+        }
+        return caffeineCenter;
+    }
+
+    @Override
+    public CaffeineCenter getHelpCenter() {
+        if (caffeineCenter == null) throw new CenterUninitializedException(CaffeineCenter.class);
+        return caffeineCenter;
+    }
+
+    @Override
+    public Cache<ByteIdentify, Value> get() {
+        return cache;
+    }
+
+    /**
+     * Return the default duration of entries in nanoseconds.
+     *
+     * @return the default duration of entries in nanoseconds.
+     */
+    public long getDefaultDurationNanos() {
+        return defaultDurationNanos;
+    }
+
+    /**
+     * Return the variable expiration policy of the cache.
+     *
+     * @return the variable expiration policy of the cache.
+     */
+    public Policy.VarExpiration<ByteIdentify, Value> varExpiration() {
+        return cache.policy().expireVariably().orElseThrow(() ->
+                new IllegalStateException("Caffeine cache without variable expiration"));
+    }
+
+    @Override
+    public void reload(@NotNull ByteIdentify key, @NotNull ByteIdentify value, @NotNull Long duration,
+                       @NotNull TimeUnit unit) {
+        cache.put(key, new Value(value, unit.toNanos(duration)));
+        index(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The batch is put with a single {@link Cache#putAll}, each {@link Value}
+     * carrying the remaining duration of its entry.
+     *
+     * @param entries {@inheritDoc}
+     */
+    @Override
+    public void reloadAll(@NotNull List<Entry<ByteIdentify, ByteIdentify>> entries) {
+        Map<ByteIdentify, Value> values = new LinkedHashMap<>(entries.size() * 4 / 3 + 1);
+        for (Entry<ByteIdentify, ByteIdentify> entry : entries) {
+            values.put(entry.getKey(),
+                    new Value(entry.getValue(), entry.getTimeUnit().toNanos(entry.getDuration())));
+        }
+        cache.putAll(values);
+        for (ByteIdentify key : values.keySet()) {
+            index(key);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void cleanSupportingElements(@NotNull ByteMessage message) {
+        //Remove persistent cache
+        Configuration.getGlobalConfiguration().getPersistenceMode().getSolver()
+                .removePersistenceWithKey(message.getByteKey());
+    }
+
+    @Override
+    public Function<Object[], ByteIdentify> wrapKeyFunc() {
+        return keyWrapperFunction;
+    }
+
+    @Override
+    public Function<Object[], ByteIdentify> wrapValueFunc() {
+        return valueWrapperFunction;
+    }
+
+    void index(ByteIdentify key) {
+        if (similarKeyIndex != null) {
+            similarKeyIndex.add(key);
+        }
+    }
+
+    void unindex(ByteIdentify key) {
+        if (similarKeyIndex != null) {
+            similarKeyIndex.removeIfAbsent(key, cache.asMap()::containsKey);
+        }
+    }
+
+    void clearIndex() {
+        if (similarKeyIndex != null) {
+            similarKeyIndex.clear();
+        }
+    }
+
+    Collection<ByteIdentify> similarKeyCandidates(ByteIdentify key) {
+        Collection<ByteIdentify> candidates = null;
+        if (similarKeyIndex != null) {
+            candidates = similarKeyIndex.candidates(key);
+        }
+        return candidates == null ? cache.asMap().keySet() : candidates;
+    }
+
+    private void onRemoval(@CanNull ByteIdentify key, @CanNull Value value, RemovalCause cause) {
+        if (key == null || value == null || !cause.wasEvicted()) {
+            return;
+        }
+        //The key may have been put again before the listener
+        unindex(key);
+        DefaultCaffeineRemovalListener.INSTANCE.onRemoval(key, value.getValue(), cause);
+    }
+
+    /**
+     * The cached value with the duration it expires after.
+     */
+    public static final class Value implements Serializable {
+
+        private static final long serialVersionUID = -2291262466539513035L;
+
+        private final ByteIdentify value;
+
+        private final long durationNanos;
+
+        public Value(@NotNull ByteIdentify value, long durationNanos) {
+            this.value = value;
+            this.durationNanos = durationNanos;
+        }
+
+        public ByteIdentify getValue() {
+            return value;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+    }
+
+    /**
+     * Expire each entry after the duration carried by its {@link Value}.
+     */
+    private static final class ValueExpiry implements Expiry<ByteIdentify, Value>, Serializable {
+
+        private static final long serialVersionUID = 3581383512427541386L;
+
+        private final boolean resetOnRead;
+
+        ValueExpiry(boolean resetOnRead) {
+            this.resetOnRead = resetOnRead;
+        }
+
+        @Override
+        public long expireAfterCreate(@NotNull ByteIdentify key, @NotNull Value value, long currentTime) {
+            return value.durationNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(@NotNull ByteIdentify key, @NotNull Value value, long currentTime,
+                                      long currentDuration) {
+            return value.durationNanos;
+        }
+
+        @Override
+        public long expireAfterRead(@NotNull ByteIdentify key, @NotNull Value value, long currentTime,
+                                    long currentDuration) {
+            return resetOnRead ? value.durationNanos : currentDuration;
+        }
+    }
+}
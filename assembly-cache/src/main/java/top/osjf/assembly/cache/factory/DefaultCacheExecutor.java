@@ -1,5 +1,6 @@
 package top.osjf.assembly.cache.factory;
 
+import top.osjf.assembly.cache.persistence.Entry;
 import top.osjf.assembly.util.annotation.CanNull;
 
 import java.util.List;
@@ -103,9 +104,19 @@ public interface DefaultCacheExecutor extends CacheExecutor {
         return keyCommands().get(key);
     }
 
+    @Override
+    default List<byte[]> mGet(byte[]... keys) {
+        return keyCommands().mGet(keys);
+    }
+
     @CanNull
     @Override
     default byte[] getAndSet(byte[] key, byte[] newValue) {
         return pairCommands().getAndSet(key, newValue);
     }
+
+    @Override
+    default Boolean mSet(List<Entry<byte[], byte[]>> entries) {
+        return pairCommands().mSet(entries);
+    }
 }
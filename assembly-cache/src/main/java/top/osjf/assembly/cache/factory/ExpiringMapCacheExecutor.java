@@ -1,6 +1,7 @@
 package top.osjf.assembly.cache.factory;
 
 import net.jodah.expiringmap.ExpiringMap;
+import top.osjf.assembly.cache.persistence.Entry;
 import top.osjf.assembly.util.annotation.CanNull;
 
 import java.util.List;
@@ -18,7 +19,7 @@ import java.util.concurrent.TimeUnit;
  * @author zpf
  * @since 1.0.0
  */
-public interface ExpiringMapCacheExecutor extends CacheExecutor {
+public interface ExpiringMapCacheExecutor extends NativeCacheExecutor {
 
     /**
      * Execute on {@link ExpiringMap#put(Object, Object)}.
@@ -68,6 +69,30 @@ public interface ExpiringMapCacheExecutor extends CacheExecutor {
      */
     byte[] getVal(byte[] key);
 
+    /**
+     * Execute on {@link ExpiringMap#get(Object)} for multiple keys in one pass.
+     *
+     * @param keys must not be {@literal null}
+     * @return Returns result values, {@literal null} for a key that does not exist.
+     * @since 1.1.4
+     */
+    @Override
+    default List<byte[]> getVals(byte[]... keys) {
+        return NativeCacheExecutor.super.getVals(keys);
+    }
+
+    /**
+     * Execute on {@link ExpiringMap#put(Object, Object, long, TimeUnit)} for multiple entries in one pass.
+     *
+     * @param entries must not be {@literal null}
+     * @return Returns result value.
+     * @since 1.1.4
+     */
+    @Override
+    default Boolean putAll(List<Entry<byte[], byte[]>> entries) {
+        return NativeCacheExecutor.super.putAll(entries);
+    }
+
     /**
      * Execute on {@link ExpiringMap#get(Object)}.
      *
@@ -1,13 +1,16 @@
 package top.osjf.assembly.cache.factory;
 
+import net.jodah.expiringmap.ExpiringMap;
 import top.osjf.assembly.cache.command.CacheKeyCommands;
 import top.osjf.assembly.cache.command.CachePairCommands;
 import top.osjf.assembly.cache.command.expiremap.ExpiringMapKeyCommands;
 import top.osjf.assembly.cache.command.expiremap.ExpiringMapPairCommands;
+import top.osjf.assembly.cache.persistence.Entry;
 import top.osjf.assembly.util.annotation.CanNull;
 import top.osjf.assembly.util.data.ByteIdentify;
 import top.osjf.assembly.util.data.Identify;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,11 +23,11 @@ import java.util.stream.Collectors;
  * @author zpf
  * @since 1.0.0
  */
-public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<ExpireMapCenter>
+public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<AbstractExpireMapCenter>
         implements ExpiringMapCacheExecutor {
 
-    public ExpiringMapCacheExecutorImpl(HelpCenter<ExpireMapCenter> center) {
-        super(center);
+    public ExpiringMapCacheExecutorImpl(HelpCenter<? extends AbstractExpireMapCenter> center) {
+        super(center::getHelpCenter);
     }
 
     /*
@@ -56,8 +59,9 @@ public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<ExpireMa
 
         return this.execute(new IdentifyKeyCallback<Boolean>(key) {
             @Override
-            public Boolean inHelp(ByteIdentify keyByteIdentify, ExpireMapCenter helpCenter) {
-                helpCenter.get().put(keyByteIdentify, valueByteIdentify);
+            public Boolean inHelp(ByteIdentify keyByteIdentify, AbstractExpireMapCenter helpCenter) {
+                helpCenter.get(keyByteIdentify).put(keyByteIdentify, valueByteIdentify);
+                helpCenter.index(keyByteIdentify);
                 return true;
             }
         });
@@ -74,8 +78,9 @@ public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<ExpireMa
 
         return this.execute(new IdentifyKeyCallback<Boolean>(key) {
             @Override
-            public Boolean inHelp(ByteIdentify keyByteIdentify, ExpireMapCenter helpCenter) {
-                helpCenter.get().put(keyByteIdentify, valueByteIdentify, duration, unit);
+            public Boolean inHelp(ByteIdentify keyByteIdentify, AbstractExpireMapCenter helpCenter) {
+                helpCenter.get(keyByteIdentify).put(keyByteIdentify, valueByteIdentify, duration, unit);
+                helpCenter.index(keyByteIdentify);
                 return true;
             }
         });
@@ -92,8 +97,12 @@ public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<ExpireMa
 
         return this.execute(new IdentifyKeyCallback<Boolean>(key) {
             @Override
-            public Boolean inHelp(ByteIdentify keyByteIdentify, ExpireMapCenter helpCenter) {
-                return helpCenter.get().putIfAbsent(keyByteIdentify, valueByteIdentify) == null;
+            public Boolean inHelp(ByteIdentify keyByteIdentify, AbstractExpireMapCenter helpCenter) {
+                if (helpCenter.get(keyByteIdentify).putIfAbsent(keyByteIdentify, valueByteIdentify) == null) {
+                    helpCenter.index(keyByteIdentify);
+                    return true;
+                }
+                return false;
             }
         });
     }
@@ -110,10 +119,11 @@ public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<ExpireMa
 
         return this.execute(new IdentifyKeyCallback<Boolean>(key) {
             @Override
-            public Boolean inHelp(ByteIdentify keyByteIdentify, ExpireMapCenter helpCenter) {
-                ByteIdentify old = helpCenter.get().putIfAbsent(keyByteIdentify, valueByteIdentify);
+            public Boolean inHelp(ByteIdentify keyByteIdentify, AbstractExpireMapCenter helpCenter) {
+                ByteIdentify old = helpCenter.get(keyByteIdentify).putIfAbsent(keyByteIdentify, valueByteIdentify);
                 if (old == null) {
-                    helpCenter.get().setExpiration(keyByteIdentify, duration, unit);
+                    helpCenter.get(keyByteIdentify).setExpiration(keyByteIdentify, duration, unit);
+                    helpCenter.index(keyByteIdentify);
                     return true;
                 }
                 return false;
@@ -127,22 +137,72 @@ public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<ExpireMa
      */
     @Override
     public byte[] getVal(byte[] key) {
-        ByteIdentify identify = this.execute((center) ->
-                center.getHelpCenter().get().get(identifyKeyByteArray(key)));
+        ByteIdentify identify = this.execute(new IdentifyKeyCallback<ByteIdentify>(key) {
+            @Override
+            public ByteIdentify inHelp(ByteIdentify keyByteIdentify, AbstractExpireMapCenter helpCenter) {
+                return helpCenter.get(keyByteIdentify).get(keyByteIdentify);
+            }
+        });
         return identify == null ? null : identify.getData();
     }
 
+    @Override
+    public List<byte[]> getVals(byte[]... keys) {
+        return this.execute(new IdentifyKeysCallback<List<byte[]>>(keys) {
+            @Override
+            public List<byte[]> inHelp(ByteIdentify[] keyByteIdentifies, AbstractExpireMapCenter helpCenter) {
+                List<byte[]> values = new ArrayList<>(keyByteIdentifies.length);
+                for (ByteIdentify keyByteIdentify : keyByteIdentifies) {
+                    ByteIdentify identify = helpCenter.get(keyByteIdentify).get(keyByteIdentify);
+                    values.add(identify == null ? null : identify.getData());
+                }
+                return values;
+            }
+        });
+    }
+
+    @Override
+    public Boolean putAll(List<Entry<byte[], byte[]>> entries) {
+
+        final byte[][] keys = new byte[entries.size()][];
+        final ByteIdentify[] valueByteIdentifies = new ByteIdentify[entries.size()];
+        for (int i = 0; i < keys.length; i++) {
+            Entry<byte[], byte[]> entry = entries.get(i);
+            keys[i] = entry.getKey();
+            valueByteIdentifies[i] = identifyValueByteArray(entry.getValue());
+        }
+
+        return this.execute(new IdentifyKeysCallback<Boolean>(keys) {
+            @Override
+            public Boolean inHelp(ByteIdentify[] keyByteIdentifies, AbstractExpireMapCenter helpCenter) {
+                for (int i = 0; i < keyByteIdentifies.length; i++) {
+                    ByteIdentify keyByteIdentify = keyByteIdentifies[i];
+                    Entry<byte[], byte[]> entry = entries.get(i);
+                    if (entry.haveDuration()) {
+                        helpCenter.get(keyByteIdentify).put(keyByteIdentify, valueByteIdentifies[i],
+                                entry.getDuration(), entry.getTimeUnit());
+                    } else {
+                        helpCenter.get(keyByteIdentify).put(keyByteIdentify, valueByteIdentifies[i]);
+                    }
+                    helpCenter.index(keyByteIdentify);
+                }
+                return true;
+            }
+        });
+    }
+
     @Override
     public List<byte[]> findSimilarKeys(byte[] key) {
 
         return this.execute(new IdentifyKeyCallback<List<byte[]>>(key) {
 
             @Override
-            public List<byte[]> inHelp(ByteIdentify keyByteIdentify, ExpireMapCenter helpCenter) {
+            public List<byte[]> inHelp(ByteIdentify keyByteIdentify, AbstractExpireMapCenter helpCenter) {
 
-                return helpCenter.get().keySet()
+                return helpCenter.similarKeyCandidates(keyByteIdentify)
                         .stream()
-                        .filter(identify -> identify.similarTo(keyByteIdentify))
+                        .filter(identify -> identify.similarTo(keyByteIdentify)
+                                && helpCenter.get(identify).containsKey(identify))
                         .map(Identify::getData)
                         .collect(Collectors.toList());
             }
@@ -160,8 +220,8 @@ public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<ExpireMa
 
         return this.execute(new IdentifyKeyCallback<byte[]>(key) {
             @Override
-            public byte[] inHelp(ByteIdentify keyByteIdentify, ExpireMapCenter helpCenter) {
-                ByteIdentify identify = helpCenter.get().replace(keyByteIdentify, valueByteIdentify);
+            public byte[] inHelp(ByteIdentify keyByteIdentify, AbstractExpireMapCenter helpCenter) {
+                ByteIdentify identify = helpCenter.get(keyByteIdentify).replace(keyByteIdentify, valueByteIdentify);
                 if (identify != null) {
                     return identify.getData();
                 }
@@ -177,17 +237,19 @@ public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<ExpireMa
     @CanNull
     @Override
     public Long deleteByKeys(byte[]... keys) {
-        long count = 0L;
-        for (byte[] key : keys) {
-
-            ByteIdentify removed = this.execute((center) -> center.getHelpCenter().get()
-                    .remove(identifyKeyByteArray(key)));
-
-            if (removed != null) {
-                count++;
+        return this.execute(new IdentifyKeysCallback<Long>(keys) {
+            @Override
+            public Long inHelp(ByteIdentify[] keyByteIdentifies, AbstractExpireMapCenter helpCenter) {
+                long count = 0L;
+                for (ByteIdentify keyByteIdentify : keyByteIdentifies) {
+                    if (helpCenter.get(keyByteIdentify).remove(keyByteIdentify) != null) {
+                        count++;
+                    }
+                    helpCenter.unindex(keyByteIdentify);
+                }
+                return count;
             }
-        }
-        return count;
+        });
     }
 
     /*
@@ -201,8 +263,14 @@ public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<ExpireMa
 
         for (byte[] _key : keys) {
 
-            ByteIdentify removed = this.execute((center) -> center.getHelpCenter().get()
-                    .remove(identifyKeyByteArray(key)));
+            ByteIdentify removed = this.execute(new IdentifyKeyCallback<ByteIdentify>(_key) {
+                @Override
+                public ByteIdentify inHelp(ByteIdentify keyByteIdentify, AbstractExpireMapCenter helpCenter) {
+                    ByteIdentify removed = helpCenter.get(keyByteIdentify).remove(keyByteIdentify);
+                    helpCenter.unindex(keyByteIdentify);
+                    return removed;
+                }
+            });
 
             if (removed != null) {
                 delMap.put(_key, removed.getData());
@@ -219,8 +287,9 @@ public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<ExpireMa
     public Boolean reboot() {
         return this.execute(new IdentifyKeyCallback<Boolean>() {
             @Override
-            public Boolean inHelp(ByteIdentify keyByteIdentify, ExpireMapCenter helpCenter) {
-                helpCenter.get().clear();
+            public Boolean inHelp(ByteIdentify keyByteIdentify, AbstractExpireMapCenter helpCenter) {
+                helpCenter.getAll().forEach(ExpiringMap::clear);
+                helpCenter.clearIndex();
                 return true;
             }
         });
@@ -232,8 +301,12 @@ public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<ExpireMa
      */
     @Override
     public Boolean containsKey(byte[] key) {
-        return this.execute((center) -> center.getHelpCenter().get()
-                .containsKey(identifyKeyByteArray(key)));
+        return this.execute(new IdentifyKeyCallback<Boolean>(key) {
+            @Override
+            public Boolean inHelp(ByteIdentify keyByteIdentify, AbstractExpireMapCenter helpCenter) {
+                return helpCenter.get(keyByteIdentify).containsKey(keyByteIdentify);
+            }
+        });
     }
 
     /*
@@ -242,8 +315,9 @@ public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<ExpireMa
      */
     @Override
     public Boolean containsValue(byte[] value) {
-        return this.execute((center) -> center.getHelpCenter().get()
-                .containsValue(identifyValueByteArray(value)));
+        final ByteIdentify valueByteIdentify = identifyValueByteArray(value);
+        return this.execute((center) -> center.getHelpCenter().getAll().stream()
+                .anyMatch(expiringMap -> expiringMap.containsValue(valueByteIdentify)));
     }
 
     /*
@@ -252,8 +326,12 @@ public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<ExpireMa
      */
     @Override
     public Long getExpirationWithKey(byte[] key) {
-        return this.execute((center) -> center.getHelpCenter().get()
-                .getExpiration(identifyKeyByteArray(key)));
+        return this.execute(new IdentifyKeyCallback<Long>(key) {
+            @Override
+            public Long inHelp(ByteIdentify keyByteIdentify, AbstractExpireMapCenter helpCenter) {
+                return helpCenter.get(keyByteIdentify).getExpiration(keyByteIdentify);
+            }
+        });
     }
 
     /*
@@ -273,8 +351,12 @@ public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<ExpireMa
      */
     @Override
     public Long getExpectedExpirationWithKey(byte[] key) {
-        return this.execute((center) -> center.getHelpCenter().get()
-                .getExpectedExpiration(identifyKeyByteArray(key)));
+        return this.execute(new IdentifyKeyCallback<Long>(key) {
+            @Override
+            public Long inHelp(ByteIdentify keyByteIdentify, AbstractExpireMapCenter helpCenter) {
+                return helpCenter.get(keyByteIdentify).getExpectedExpiration(keyByteIdentify);
+            }
+        });
     }
 
     /*
@@ -297,8 +379,8 @@ public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<ExpireMa
 
         return this.execute(new IdentifyKeyCallback<Boolean>(key) {
             @Override
-            public Boolean inHelp(ByteIdentify keyByteIdentify, ExpireMapCenter helpCenter) {
-                helpCenter.get().setExpiration(keyByteIdentify, duration, timeUnit);
+            public Boolean inHelp(ByteIdentify keyByteIdentify, AbstractExpireMapCenter helpCenter) {
+                helpCenter.get(keyByteIdentify).setExpiration(keyByteIdentify, duration, timeUnit);
                 return true;
             }
         });
@@ -312,8 +394,8 @@ public class ExpiringMapCacheExecutorImpl extends AbstractCacheExecutor<ExpireMa
     public Boolean resetExpirationWithKey(byte[] key) {
         return this.execute(new IdentifyKeyCallback<Boolean>(key) {
             @Override
-            public Boolean inHelp(ByteIdentify keyByteIdentify, ExpireMapCenter helpCenter) {
-                helpCenter.get().resetExpiration(keyByteIdentify);
+            public Boolean inHelp(ByteIdentify keyByteIdentify, AbstractExpireMapCenter helpCenter) {
+                helpCenter.get(keyByteIdentify).resetExpiration(keyByteIdentify);
                 return true;
             }
         });
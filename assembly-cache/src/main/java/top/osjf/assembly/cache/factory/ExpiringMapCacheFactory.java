@@ -2,6 +2,8 @@ package top.osjf.assembly.cache.factory;
 
 import net.jodah.expiringmap.ExpiringMap;
 import top.osjf.assembly.cache.command.expiremap.ExpiringMapInvocationHandler;
+import top.osjf.assembly.cache.command.expiremap.ExpiringMapPersistenceExecutor;
+import top.osjf.assembly.cache.config.Configuration;
 import top.osjf.assembly.cache.config.expiringmap.ExpiringMapClients;
 import top.osjf.assembly.util.annotation.NotNull;
 import top.osjf.assembly.util.lang.ReflectUtils;
@@ -14,31 +16,56 @@ import top.osjf.assembly.util.lang.ReflectUtils;
  */
 public class ExpiringMapCacheFactory implements CacheFactory {
 
-    private final ExpiringMapCacheExecutor executor;
+    private final ExpiringMapClients clients;
+
+    private volatile ExpiringMapCacheExecutor executor;
 
     public ExpiringMapCacheFactory(@NotNull ExpiringMapClients clients) {
-        this.executor = doCreateExpiringMapExecutor(clients);
+        this.clients = clients;
+        //The center is created now, for the restore of persisted caches
+        AbstractExpireMapCenter.createExpireMapCenter(clients);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The executor is created on the first call, so that the dispatch follows the
+     * global {@link Configuration} even when it is installed after this factory.
+     *
+     * @return {@inheritDoc}
+     */
     @Override
     @NotNull
     public CacheExecutor executor() {
-        return this.executor;
+        ExpiringMapCacheExecutor executor = this.executor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.executor;
+                if (executor == null) {
+                    this.executor = executor = doCreateExpiringMapExecutor(clients);
+                }
+            }
+        }
+        return executor;
     }
 
     /**
-     * Create a jdk proxy based {@link ExpiringMapCacheExecutor} object using its configuration
-     * {@link ExpiringMapClients}.
+     * Create a {@link ExpiringMapCacheExecutor} object using its configuration
+     * {@link ExpiringMapClients}, decorated by {@link ExpiringMapPersistenceExecutor}, or by a jdk
+     * proxy when {@link Configuration#isEnableProxyDispatch()}.
      *
      * @param clients The configuration interface for the Expiring map , must not be {@literal null}.
      * @return The cache factory executor of the Expiring map.
      */
     public ExpiringMapCacheExecutor doCreateExpiringMapExecutor(ExpiringMapClients clients) {
         //Real object generated singleton operation
-        ExpireMapCenter expireMapCenter = ExpireMapCenter.createExpireMapCenter(clients);
+        AbstractExpireMapCenter expireMapCenter = AbstractExpireMapCenter.createExpireMapCenter(clients);
+        ExpiringMapCacheExecutorImpl target = new ExpiringMapCacheExecutorImpl(() -> expireMapCenter);
+        if (!Configuration.getGlobalConfiguration().isEnableProxyDispatch()) {
+            //Decorator with persistence annotations resolved once
+            return new ExpiringMapPersistenceExecutor(target);
+        }
         //To approach the processor
-        ExpiringMapInvocationHandler processor = new ExpiringMapInvocationHandler(
-                new ExpiringMapCacheExecutorImpl(() -> expireMapCenter));
+        ExpiringMapInvocationHandler processor = new ExpiringMapInvocationHandler(target);
         //returns a jdk proxy object
         return ReflectUtils.newProxyInstance(processor, processor.getTarget().getClass().getInterfaces());
     }
@@ -0,0 +1,221 @@
+package top.osjf.assembly.cache.factory;
+
+import top.osjf.assembly.cache.persistence.Entry;
+import top.osjf.assembly.util.annotation.CanNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cache factory executor of the native methods shared by the caches of the
+ * memory, implemented over ExpiringMap by {@link ExpiringMapCacheExecutor} and over
+ * Caffeine by {@link CaffeineCacheExecutor}.
+ * <p>
+ * Here, we also list the instruction methods in reference
+ * {@link top.osjf.assembly.cache.command.CacheCommands} to
+ * provide the final implementation for the instruction methods.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public interface NativeCacheExecutor extends CacheExecutor {
+
+    /**
+     * Put the value of the key with the default duration.
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return Returns result value.
+     */
+    Boolean put(byte[] key, byte[] value);
+
+    /**
+     * Put the value of the key with the given duration.
+     *
+     * @param key      must not be {@literal null}
+     * @param value    must not be {@literal null}
+     * @param duration must not be {@literal null}
+     * @param unit     must not be {@literal null}
+     * @return Returns result value.
+     */
+    Boolean putDuration(byte[] key, byte[] value, Long duration, TimeUnit unit);
+
+    /**
+     * Put the value of the key with the default duration if the key is absent.
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return Returns result value.
+     */
+    Boolean putIfAbsent(byte[] key, byte[] value);
+
+    /**
+     * Put the value of the key with the given duration if the key is absent.
+     *
+     * @param key      must not be {@literal null}
+     * @param value    must not be {@literal null}
+     * @param duration must not be {@literal null}
+     * @param unit     must not be {@literal null}
+     * @return Returns result value.
+     */
+    Boolean putIfAbsentDuration(byte[] key, byte[] value, Long duration, TimeUnit unit);
+
+    /**
+     * Return the value of the key.
+     *
+     * @param key must not be {@literal null}
+     * @return Returns result value.
+     */
+    byte[] getVal(byte[] key);
+
+    /**
+     * Return the values of multiple keys in one pass.
+     * <p>
+     * By default, call {@link #getVal(byte[])} key by key, executors that can
+     * read the keys together should override it.
+     *
+     * @param keys must not be {@literal null}
+     * @return Returns result values, {@literal null} for a key that does not exist.
+     */
+    default List<byte[]> getVals(byte[]... keys) {
+        List<byte[]> values = new ArrayList<>(keys.length);
+        for (byte[] key : keys) {
+            values.add(getVal(key));
+        }
+        return values;
+    }
+
+    /**
+     * Put multiple entries in one pass.
+     * <p>
+     * By default, call {@link #putDuration} or {@link #put} entry by entry, executors
+     * that can write the entries together should override it.
+     *
+     * @param entries must not be {@literal null}
+     * @return Returns result value.
+     */
+    default Boolean putAll(List<Entry<byte[], byte[]>> entries) {
+        boolean allPut = true;
+        for (Entry<byte[], byte[]> entry : entries) {
+            Boolean put;
+            if (entry.haveDuration()) {
+                put = putDuration(entry.getKey(), entry.getValue(), entry.getDuration(), entry.getTimeUnit());
+            } else {
+                put = put(entry.getKey(), entry.getValue());
+            }
+            allPut &= Boolean.TRUE.equals(put);
+        }
+        return allPut;
+    }
+
+    /**
+     * Find the keys similar to the given key.
+     *
+     * @param key must not be {@literal null}
+     * @return Returns result value.
+     */
+    List<byte[]> findSimilarKeys(byte[] key);
+
+    /**
+     * Replace the value of the key keeping its duration.
+     *
+     * @param key      must not be {@literal null}
+     * @param newValue must not be {@literal null}
+     * @return Returns the old value.
+     */
+    byte[] replace(byte[] key, byte[] newValue);
+
+    /**
+     * Remove the keys.
+     *
+     * @param keys must not be {@literal null}
+     * @return Returns result value.
+     */
+    @CanNull
+    Long deleteByKeys(byte[]... keys);
+
+    /**
+     * Remove the keys similar to the given key.
+     *
+     * @param key must not be {@literal null}
+     * @return Returns result value.
+     */
+    Map<byte[], byte[]> deleteSimilarKey(byte[] key);
+
+    /**
+     * Remove all keys.
+     *
+     * @return Returns result value.
+     */
+    Boolean reboot();
+
+    /**
+     * Determine whether the key exists.
+     *
+     * @param key must not be {@literal null}
+     * @return Returns result value.
+     */
+    Boolean containsKey(byte[] key);
+
+    /**
+     * Determine whether any key is mapped to the value.
+     *
+     * @param value must not be {@literal null}
+     * @return contains result
+     */
+    Boolean containsValue(byte[] value);
+
+    /**
+     * Return the duration of the key in milliseconds.
+     *
+     * @param key must not be {@literal null}
+     * @return Returns result value.
+     */
+    Long getExpirationWithKey(byte[] key);
+
+    /**
+     * Return the duration of the key in the given unit.
+     *
+     * @param key  must not be {@literal null}
+     * @param unit must not be {@literal null}
+     * @return Returns result value.
+     */
+    Long getExpirationWithUnit(byte[] key, TimeUnit unit);
+
+    /**
+     * Return the remaining time of the key in milliseconds.
+     *
+     * @param key must not be {@literal null}
+     * @return Returns result value.
+     */
+    Long getExpectedExpirationWithKey(byte[] key);
+
+    /**
+     * Return the remaining time of the key in the given unit.
+     *
+     * @param key  must not be {@literal null}
+     * @param unit must not be {@literal null}
+     * @return Returns result value.
+     */
+    Long getExpectedExpirationWithUnit(byte[] key, TimeUnit unit);
+
+    /**
+     * Set a new duration to the key and restart its expiration.
+     *
+     * @param key      must not be {@literal null}
+     * @param duration must not be {@literal null}
+     * @param timeUnit must not be {@literal null}
+     * @return Returns result value.
+     */
+    Boolean setExpirationDuration(byte[] key, Long duration, TimeUnit timeUnit);
+
+    /**
+     * Restart the expiration of the key with its duration.
+     *
+     * @param key must not be {@literal null}
+     * @return Returns result value.
+     */
+    Boolean resetExpirationWithKey(byte[] key);
+}
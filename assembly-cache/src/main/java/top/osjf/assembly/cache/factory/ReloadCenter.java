@@ -5,6 +5,7 @@ import top.osjf.assembly.cache.persistence.Entry;
 import top.osjf.assembly.util.annotation.NotNull;
 import top.osjf.assembly.util.lang.ArrayUtils;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
@@ -30,6 +31,20 @@ public interface ReloadCenter<K, V> {
      */
     void reload(@NotNull K key, @NotNull V value, @NotNull Long duration, @NotNull TimeUnit unit);
 
+    /**
+     * Cache values recovery of a batch of {@link Entry}, called once per
+     * restored batch so that implementations can reload in bulk, by default
+     * each entry is reloaded with {@link #reload}.
+     *
+     * @param entries must not be {@literal null}.
+     * @since 1.1.4
+     */
+    default void reloadAll(@NotNull List<Entry<K, V>> entries) {
+        for (Entry<K, V> entry : entries) {
+            reload(entry.getKey(), entry.getValue(), entry.getDuration(), entry.getTimeUnit());
+        }
+    }
+
 
     /**
      * Remove expired keys of auxiliary elements.
@@ -0,0 +1,48 @@
+package top.osjf.assembly.cache.factory;
+
+import net.jodah.expiringmap.ExpiringMap;
+import top.osjf.assembly.cache.config.expiringmap.ExpiringMapClients;
+import top.osjf.assembly.util.annotation.CanNull;
+import top.osjf.assembly.util.annotation.NotNull;
+import top.osjf.assembly.util.data.ByteIdentify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cache center striping keys by hash across several independent {@link ExpiringMap},
+ * each with its own lock and expiration, so that writes of different keys no longer
+ * contend on a single map.
+ * <p>Selected when {@link ExpiringMapClients#getShards()} is greater than {@code 1},
+ * the {@link ExpiringMapClients#getMaxSize()} is split across the maps. Unlike
+ * {@link ExpireMapCenter}, no single map holds every key, so operations on a key go to
+ * {@link #get(ByteIdentify)}, and operations on the whole cache to {@link #getAll()}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public class ShardedExpireMapCenter extends AbstractExpireMapCenter {
+
+    private static final long serialVersionUID = 4154562587364316513L;
+
+    private final List<ExpiringMap<ByteIdentify, ByteIdentify>> expiringMaps;
+
+    ShardedExpireMapCenter(@NotNull List<ExpiringMap<ByteIdentify, ByteIdentify>> expiringMaps,
+                           @CanNull SimilarKeyIndex similarKeyIndex) {
+        super(similarKeyIndex);
+        this.expiringMaps = Collections.unmodifiableList(new ArrayList<>(expiringMaps));
+    }
+
+    @Override
+    public ExpiringMap<ByteIdentify, ByteIdentify> get(@NotNull ByteIdentify key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return expiringMaps.get((h & Integer.MAX_VALUE) % expiringMaps.size());
+    }
+
+    @Override
+    public List<ExpiringMap<ByteIdentify, ByteIdentify>> getAll() {
+        return expiringMaps;
+    }
+}
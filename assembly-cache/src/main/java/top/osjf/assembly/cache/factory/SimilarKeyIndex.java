@@ -0,0 +1,174 @@
+package top.osjf.assembly.cache.factory;
+
+import top.osjf.assembly.util.annotation.CanNull;
+import top.osjf.assembly.util.annotation.NotNull;
+import top.osjf.assembly.util.data.ByteIdentify;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Trigram index over the deserialized {@link String} form of cache keys, so that
+ * a similar key query only verifies the keys containing every trigram of the
+ * queried key instead of deserializing every key of the cache.
+ * <p>Keys that are not deserialized to a {@link String} are kept aside and always
+ * verified, and queries that are not a {@link String} of at least three characters
+ * fall back to scanning all keys. The candidates returned may contain keys that
+ * have already left the cache, callers must verify them.
+ * <p>Adding and removing a key hold a lock striped by key, and a key is only
+ * removed once the cache no longer holds it, so that a key put again while it
+ * expires or is deleted stays indexed: callers put the key into the cache before
+ * {@link #add} and remove it from the cache before {@link #removeIfAbsent}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+final class SimilarKeyIndex {
+
+    private static final int GRAM = 3;
+
+    private static final Object NON_STRING = new Object();
+
+    /*** The count of striped locks, a power of two.*/
+    private static final int LOCKS = 64;
+
+    /*** Indexed keys and their deserialized form.*/
+    private final Map<ByteIdentify, Object> keys = new ConcurrentHashMap<>();
+
+    /*** The keys containing each trigram.*/
+    private final Map<Long, Set<ByteIdentify>> grams = new ConcurrentHashMap<>();
+
+    /*** Keys not deserialized to a string.*/
+    private final Set<ByteIdentify> nonStringKeys = ConcurrentHashMap.newKeySet();
+
+    /*** Locks serializing the updates of a key with the check of its presence.*/
+    private final Object[] locks = new Object[LOCKS];
+
+    SimilarKeyIndex() {
+        for (int i = 0; i < LOCKS; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Index a key already put into the cache.
+     *
+     * @param key the key put into the cache.
+     */
+    void add(@NotNull ByteIdentify key) {
+        synchronized (lock(key)) {
+            if (keys.containsKey(key)) {
+                return;
+            }
+            Object data = deserialize(key);
+            keys.put(key, data instanceof String ? data : NON_STRING);
+            if (data instanceof String) {
+                String str = (String) data;
+                for (int i = 0; i + GRAM <= str.length(); i++) {
+                    grams.computeIfAbsent(gram(str, i), v -> ConcurrentHashMap.newKeySet()).add(key);
+                }
+            } else {
+                nonStringKeys.add(key);
+            }
+        }
+    }
+
+    /**
+     * Forget a key already removed from the cache, unless the cache holds it
+     * again, checked under the lock of the key so that the {@link #add} of a
+     * concurrent put is not lost.
+     *
+     * @param key    the key removed from the cache.
+     * @param cached whether the cache holds the key.
+     */
+    void removeIfAbsent(@NotNull ByteIdentify key, @NotNull Predicate<ByteIdentify> cached) {
+        synchronized (lock(key)) {
+            if (cached.test(key)) {
+                return;
+            }
+            Object data = keys.remove(key);
+            if (data == null) {
+                return;
+            }
+            if (data instanceof String) {
+                String str = (String) data;
+                for (int i = 0; i + GRAM <= str.length(); i++) {
+                    Set<ByteIdentify> posting = grams.get(gram(str, i));
+                    if (posting != null) {
+                        posting.remove(key);
+                    }
+                }
+            } else {
+                nonStringKeys.remove(key);
+            }
+        }
+    }
+
+    void clear() {
+        keys.clear();
+        grams.clear();
+        nonStringKeys.clear();
+    }
+
+    /**
+     * Return the keys that may be similar to the queried key.
+     *
+     * @param query the queried key.
+     * @return the candidate keys, {@literal null} when the query can not use the index.
+     */
+    @CanNull
+    Collection<ByteIdentify> candidates(@NotNull ByteIdentify query) {
+        Object data = deserialize(query);
+        if (!(data instanceof String) || ((String) data).length() < GRAM) {
+            return null;
+        }
+        String str = (String) data;
+        List<Set<ByteIdentify>> postings = new ArrayList<>();
+        Set<ByteIdentify> rarest = null;
+        for (int i = 0; i + GRAM <= str.length(); i++) {
+            Set<ByteIdentify> posting = grams.get(gram(str, i));
+            if (posting == null) {
+                rarest = Collections.emptySet();
+                break;
+            }
+            postings.add(posting);
+            if (rarest == null || posting.size() < rarest.size()) {
+                rarest = posting;
+            }
+        }
+        List<ByteIdentify> candidates = new ArrayList<>(nonStringKeys);
+        //Keys containing the query contain all its trigrams
+        for (ByteIdentify key : rarest) {
+            boolean all = true;
+            for (Set<ByteIdentify> posting : postings) {
+                if (posting != rarest && !posting.contains(key)) {
+                    all = false;
+                    break;
+                }
+            }
+            if (all) {
+                candidates.add(key);
+            }
+        }
+        return candidates;
+    }
+
+    private Object lock(ByteIdentify key) {
+        int h = key.hashCode();
+        return locks[(h ^ (h >>> 16)) & (LOCKS - 1)];
+    }
+
+    private static Object deserialize(ByteIdentify key) {
+        try {
+            Object data = key.getDeserializeFc().apply(key.getData());
+            return data == null ? NON_STRING : data;
+        } catch (Throwable e) {
+            return NON_STRING;
+        }
+    }
+
+    private static long gram(String str, int index) {
+        return ((long) str.charAt(index) << 32) | ((long) str.charAt(index + 1) << 16) | str.charAt(index + 2);
+    }
+}
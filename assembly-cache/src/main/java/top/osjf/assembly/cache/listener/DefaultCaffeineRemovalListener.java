@@ -0,0 +1,32 @@
+package top.osjf.assembly.cache.listener;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import top.osjf.assembly.util.annotation.CanNull;
+import top.osjf.assembly.util.annotation.NotNull;
+import top.osjf.assembly.util.data.ByteIdentify;
+
+/**
+ * The default expiration synchronization listener for {@link com.github.benmanes.caffeine.cache.Cache},
+ * entries evicted for expiration or size are handled as expired, like
+ * {@link DefaultExpiringmapExpirationListener}, and explicit removals are ignored.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public class DefaultCaffeineRemovalListener extends AbstractExpirationHandler implements
+        RemovalListener<ByteIdentify, ByteIdentify> {
+
+    public static final DefaultCaffeineRemovalListener INSTANCE = new DefaultCaffeineRemovalListener();
+
+    private DefaultCaffeineRemovalListener() {
+    }
+
+    @Override
+    public void onRemoval(@CanNull ByteIdentify key, @CanNull ByteIdentify value, @NotNull RemovalCause cause) {
+        if (key == null || value == null || !cause.wasEvicted()) {
+            return;
+        }
+        handlerExpirationMessage(new DefaultMessage(key, value));
+    }
+}
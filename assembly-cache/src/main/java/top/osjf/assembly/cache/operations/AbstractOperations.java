@@ -5,6 +5,8 @@ import top.osjf.assembly.cache.serializer.PairSerializer;
 import top.osjf.assembly.util.annotation.CanNull;
 import top.osjf.assembly.util.lang.Asserts;
 
+import java.util.Collection;
+
 /**
  * In order to be compatible with all data types related to the Java language,
  * this abstract class uniformly converts data into byte arrays and passes
@@ -83,6 +85,15 @@ public abstract class AbstractOperations<K, V> {
         return valueSerializer().serialize(value);
     }
 
+    byte[][] rawKeys(Collection<K> keys) {
+        final byte[][] rawKeys = new byte[keys.size()][];
+        int i = 0;
+        for (K key : keys) {
+            rawKeys[i++] = rawKey(key);
+        }
+        return rawKeys;
+    }
+
     K deserializeKey(byte[] key) {
         if (keySerializer() == null) {
             return (K) key;
@@ -1,10 +1,10 @@
 package top.osjf.assembly.cache.operations;
 
 import top.osjf.assembly.cache.factory.CacheExecutor;
+import top.osjf.assembly.cache.persistence.Entry;
 import top.osjf.assembly.util.lang.CollectionUtils;
 
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -117,4 +117,77 @@ public class DefaultValueOperations<K, V> extends AbstractOperations<K, V> imple
             }
         });
     }
+
+    /*
+     * (non-Javadoc)
+     * @see ValueOperations#multiGet(Collection)
+     */
+    @Override
+    public List<V> multiGet(Collection<K> keys) {
+
+        if (CollectionUtils.isEmpty(keys)) {
+            return Collections.emptyList();
+        }
+        byte[][] rawKeys = this.rawKeys(keys);
+        List<byte[]> rawValues = this.execute((executor) -> executor.mGet(rawKeys));
+        if (rawValues == null) {
+            return Collections.emptyList();
+        }
+        List<V> values = new ArrayList<>(rawValues.size());
+        for (byte[] rawValue : rawValues) {
+            values.add(rawValue == null ? null : deserializeValue(rawValue));
+        }
+        return values;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ValueOperations#multiSet(Map)
+     */
+    @Override
+    public void multiSet(Map<K, V> map) {
+        multiSet(map, null, null);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ValueOperations#multiSet(Map, Long, TimeUnit)
+     */
+    @Override
+    public void multiSet(Map<K, V> map, Long duration, TimeUnit unit) {
+
+        if (map == null || map.isEmpty()) {
+            return;
+        }
+        List<Entry<byte[], byte[]>> rawEntries = new ArrayList<>(map.size());
+        map.forEach((key, value) -> rawEntries.add(Entry.of(rawKey(key), rawValue(value), duration, unit)));
+        this.execute((executor) -> executor.mSet(rawEntries));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ValueOperations#multiSet(Collection)
+     */
+    @Override
+    public void multiSet(Collection<Entry<K, V>> entries) {
+
+        if (CollectionUtils.isEmpty(entries)) {
+            return;
+        }
+        List<Entry<byte[], byte[]>> rawEntries = new ArrayList<>(entries.size());
+        for (Entry<K, V> entry : entries) {
+            rawEntries.add(Entry.of(rawKey(entry.getKey()), rawValue(entry.getValue()),
+                    entry.getDuration(), entry.getTimeUnit()));
+        }
+        this.execute((executor) -> executor.mSet(rawEntries));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ValueOperations#multiDelete(Collection)
+     */
+    @Override
+    public Long multiDelete(Collection<K> keys) {
+        return getCommonsOperations().delete(keys);
+    }
 }
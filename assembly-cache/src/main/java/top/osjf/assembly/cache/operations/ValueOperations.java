@@ -1,8 +1,12 @@
 package top.osjf.assembly.cache.operations;
 
+import top.osjf.assembly.cache.persistence.Entry;
 import top.osjf.assembly.util.annotation.CanNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -85,6 +89,73 @@ public interface ValueOperations<K, V> {
     @CanNull
     V getAndSet(K key, V newValue);
 
+    /**
+     * Get the values of multiple {@code keys} in one pass.
+     *
+     * @param keys must not be {@literal null}.
+     * @return the values in the order of the keys, {@literal null} for a key that does not exist.
+     * @since 1.1.4
+     */
+    default List<V> multiGet(Collection<K> keys) {
+        List<V> values = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            values.add(get(key));
+        }
+        return values;
+    }
+
+    /**
+     * Set multiple {@code key} and {@code value} pairs in one pass.
+     * There is expiry time for the default configuration
+     *
+     * @param map must not be {@literal null}.
+     * @since 1.1.4
+     */
+    default void multiSet(Map<K, V> map) {
+        map.forEach(this::set);
+    }
+
+    /**
+     * Set multiple {@code key} and {@code value} pairs in one pass, all with the same expiration {@code timeout}.
+     *
+     * @param map      must not be {@literal null}.
+     * @param duration the keys expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @since 1.1.4
+     */
+    default void multiSet(Map<K, V> map, Long duration, TimeUnit unit) {
+        map.forEach((key, value) -> set(key, value, duration, unit));
+    }
+
+    /**
+     * Set multiple {@code key} and {@code value} pairs in one pass, each with its own expiration
+     * {@code timeout}, or the default one when the entry has none.
+     *
+     * @param entries must not be {@literal null}.
+     * @since 1.1.4
+     */
+    default void multiSet(Collection<Entry<K, V>> entries) {
+        for (Entry<K, V> entry : entries) {
+            if (entry.haveDuration()) {
+                set(entry.getKey(), entry.getValue(), entry.getDuration(), entry.getTimeUnit());
+            } else {
+                set(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Delete multiple {@code keys} in one pass.
+     *
+     * @param keys must not be {@literal null}.
+     * @return The number of keys that were removed.
+     * @since 1.1.4
+     */
+    @CanNull
+    default Long multiDelete(Collection<K> keys) {
+        return getCommonsOperations().delete(keys);
+    }
+
     /**
      * To get the operator {@code ExpireOperations}
      *
@@ -16,13 +16,14 @@ import top.osjf.assembly.cache.serializer.PairSerializerNotFoundException;
 import top.osjf.assembly.util.annotation.CanNull;
 import top.osjf.assembly.util.annotation.NotNull;
 import top.osjf.assembly.util.encode.DigestUtils;
-import top.osjf.assembly.util.io.IoUtils;
 import top.osjf.assembly.util.json.FastJsonUtils;
 import top.osjf.assembly.util.lang.*;
 
-import java.io.*;
-import java.net.URL;
+import java.io.File;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +57,7 @@ import java.util.stream.Collectors;
  *      <li>{@link ValueOperations}</li>
  *      <li>{@link PersistenceExec}</li>
  *      <li>{@link CacheInvocationHandler#persistenceExec(Object, PersistenceExec, Object[])}</li>
+ *      <li>{@link top.osjf.assembly.cache.command.PersistenceCacheExecutor}</li>
  *  </ul>
  *  And provides a cache persistence mode of operation , Asynchronous and synchronous
  *  <ul>
@@ -90,6 +92,7 @@ import java.util.stream.Collectors;
  *      <li>{@link CachePersistenceReduction#reductionUseString(StringBuilder)}</li>
  *      <li>{@link CachePersistenceReduction#reductionUsePath(String)}</li>
  *      <li>{@link CachePersistenceReduction#reductionUseFile(File)}</li>
+ *      <li>{@link CachePersistenceReduction#reductionUseBuffer(ByteBuffer)}</li>
  *  </ul>
  *  And provides asynchronous takes up the recovery of the main thread
  * <p>
@@ -155,6 +158,9 @@ public abstract class AbstractCachePersistence<K, V> extends AbstractPersistence
     /*** Encapsulation object for persisting file content.*/
     private AbstractPersistenceStore<K, V> store;
 
+    /*** The progress of the latest restore of persistent files.*/
+    private static volatile CachePersistenceReductionProgress reductionProgress;
+
     /*** Used for caching serialization tool objects during cache recovery.*/
     private static final Map<String, PairSerializer> SERIALIZER_CACHE = new ConcurrentHashMap<>();
 
@@ -768,12 +774,31 @@ public abstract class AbstractCachePersistence<K, V> extends AbstractPersistence
         //write
         writeLock.lock();
         try {
-            this.writeSingleFileLine(this.store.toString());
+            byte[] content = encodeStore(this.store);
+            if (content == null) {
+                this.writeSingleFileLine(this.store.toString());
+            } else {
+                this.writeSingleFileBytes(content);
+            }
         } finally {
             writeLock.unlock();
         }
     }
 
+    /**
+     * Encode the store into the binary content of the persistent file, leaving
+     * it to the subclass by default for completion.
+     * <p>Returns {@literal null} to keep the JSON text format of {@link AbstractPersistenceStore#toString()}.
+     *
+     * @param store Cached attribute storage model.
+     * @return binary content of the persistent file, or {@literal null}.
+     * @since 1.1.4
+     */
+    @CanNull
+    protected byte[] encodeStore(@NotNull AbstractPersistenceStore<K, V> store) {
+        return null;
+    }
+
     @Override
     public boolean persistenceExist() {
         readLock.lock();
@@ -917,57 +942,104 @@ public abstract class AbstractCachePersistence<K, V> extends AbstractPersistence
                 }
             }
         }
-        if (CollectionUtils.isEmpty(files)) {
-            return;
+        if (files == null) {
+            files = Collections.emptyList();
         }
-        //Loop back
-        List<File> lookFiles = files;
-        //Start a new thread for file recovery operations
-        new Thread(() -> lookFiles.forEach(v -> {
-            try {
-                reductionUseFile(v);
-            } catch (Throwable e) {
-                if (log.isWarnEnabled()) {
-                    log.warn("Restore cache file {}  error : {}", v.getName(), e.getMessage());
-                }
-            }
-        }), "Cache Restore thread").start();
+        //Restore files in parallel batches
+        reductionProgress = new ReductionPipeline<File>(v -> reductionItem(readPersistence(v))).start(files);
+    }
+
+    @Override
+    public CachePersistenceReductionProgress getReductionProgress() {
+        return reductionProgress;
     }
 
     @Override
     public void reductionUseFile(@NotNull File file) {
+        reductionUseEntry(readPersistence(file));
+    }
+
+    @Override
+    public void reductionUseString(@NotNull StringBuilder buffer) {
+        reductionUseEntry(restorePersistence(decodeStore(buffer.toString())));
+    }
+
+    @Override
+    public void reductionUseBuffer(@NotNull ByteBuffer buffer) {
+        reductionUseEntry(restorePersistence(decodeStore(buffer)));
+    }
+
+    /**
+     * Read a persistent file and restore its {@link AbstractCachePersistence},
+     * the binary content is decoded first and the JSON text written before 1.1.4
+     * is the fallback.
+     *
+     * @param file must not be {@literal null}.
+     * @return the restored {@link AbstractCachePersistence}.
+     * @since 1.1.4
+     */
+    protected AbstractCachePersistence<K, V> readPersistence(@NotNull File file) {
         Asserts.notNull(file, "File no be null");
-        InputStream in = null;
-        BufferedReader read = null;
-        StringBuilder buffer = new StringBuilder();
+        ByteBuffer buffer;
         try {
-            URL url = file.toURI().toURL();
-            in = url.openStream();
-            read = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
-            String line;
-            while ((line = read.readLine()) != null) {
-                //@
-                // - This form
-                // @
-                if (AT.equals(line)) {
-                    continue;
-                }
-                buffer.append(line);
-            }
+            buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
         } catch (Throwable e) {
             throw new CachePersistenceException("Buff read cache error [" + e.getMessage() + "]");
-        } finally {
-            IoUtils.closeAny(in, read);
         }
-        //Perform follow-up supplement
-        reductionUseString(buffer);
+        if (PersistenceStoreCodec.isBinary(buffer)) {
+            return restorePersistence(decodeStore(buffer));
+        }
+        //Fall back to the JSON text written before 1.1.4
+        StringBuilder builder = new StringBuilder();
+        for (String line : StandardCharsets.UTF_8.decode(buffer).toString().split("\n")) {
+            //@
+            // - This form
+            // @
+            line = line.trim();
+            if (AT.equals(line)) {
+                continue;
+            }
+            builder.append(line);
+        }
+        return restorePersistence(decodeStore(builder.toString()));
     }
 
-    @Override
-    public void reductionUseString(@NotNull StringBuilder buffer) {
-        String json = buffer.toString();
-        //check json
-        Asserts.isTrue(FastJsonUtils.isValidObject(json), "Buffer data [" + json + "] no a valid json");
+    /**
+     * Decode the binary content of a persistent file, leaving it to the
+     * subclass by default for completion.
+     *
+     * @param buffer binary content of a persistent file.
+     * @return Cached attribute storage model.
+     * @since 1.1.4
+     */
+    protected AbstractPersistenceStore<K, V> decodeStore(@NotNull ByteBuffer buffer) {
+        throw new CachePersistenceException("Binary content no supported by " + getClass().getName());
+    }
+
+    /**
+     * Decode the JSON text of a persistent file, leaving it to the
+     * subclass by default for completion.
+     *
+     * @param json JSON text of a persistent file.
+     * @return Cached attribute storage model.
+     * @since 1.1.4
+     */
+    protected AbstractPersistenceStore<K, V> decodeStore(@NotNull String json) {
+        throw new CachePersistenceException("JSON content no supported by " + getClass().getName());
+    }
+
+    /**
+     * Register the decoded store as a runtime {@link AbstractCachePersistence}
+     * without querying the cache.
+     *
+     * @param store Cached attribute storage model.
+     * @return the restored {@link AbstractCachePersistence}.
+     * @since 1.1.4
+     */
+    protected AbstractCachePersistence<K, V> restorePersistence(@NotNull AbstractPersistenceStore<K, V> store) {
+        AbstractCachePersistence<K, V> globePersistence = ofSetPersistence(getClass(), store);
+        Asserts.notNull(globePersistence, "GlobePersistence no be null");
+        return globePersistence;
     }
 
     /**
@@ -977,6 +1049,29 @@ public abstract class AbstractCachePersistence<K, V> extends AbstractPersistence
      * @param <T> generics of subclasses of {@link AbstractCachePersistence}.
      */
     protected <T extends AbstractCachePersistence<K, V>> void reductionUseEntry(@NotNull T t) {
+        ReductionPipeline.ReductionItem item = reductionItem(t);
+        if (item == null) {
+            throw new CachePersistenceException("File [" + t.getWritePath() + "] record time [" +
+                    t.getAttributeStore().getExpire() + "] before or equals now");
+        }
+        //reload
+        Entry<K, V> entry = item.getEntry();
+        Center center = AbstractRecordActivationCenter.getGlobalCenter();
+        center.reload(entry.getKey(), entry.getValue(), entry.getDuration(), entry.getTimeUnit());
+        item.getAfterReload().run();
+    }
+
+    /**
+     * Check the expiration of a restored persistence and prepare its wrapped key/value
+     * and remaining time for the {@code Center}, expired persistent file is deleted.
+     *
+     * @param t   must not be {@literal null}.
+     * @param <T> generics of subclasses of {@link AbstractCachePersistence}.
+     * @return the item to be reloaded, {@literal null} when expired.
+     * @since 1.1.4
+     */
+    @CanNull
+    <T extends AbstractCachePersistence<K, V>> ReductionPipeline.ReductionItem reductionItem(@NotNull T t) {
         //current time
         long currentTimeMillis = System.currentTimeMillis();
         AbstractPersistenceStore<K, V> persistence = t.getAttributeStore();
@@ -984,44 +1079,55 @@ public abstract class AbstractCachePersistence<K, V> extends AbstractPersistence
         if (persistence.getExpire() == null || currentTimeMillis >= persistence.getExpire()) {
             //Delete the persistent file
             t.removePersistence();
-            throw new CachePersistenceException("File [" + t.getWritePath() + "] record time [" + persistence.getExpire() +
-                    "] before or equals now");
+            return null;
         }
         //save key/value with byte[]
         Entry<K, V> entry = persistence.getEntry();
         //check entry
         checkEntry(entry);
+        TimeUnit unit = entry.getTimeUnit() == null ? TimeUnit.MILLISECONDS : entry.getTimeUnit();
         //Calculate remaining time units
-        Long condition = condition(currentTimeMillis, persistence.getExpire(), entry.getTimeUnit());
-        //reload
+        Long condition = condition(currentTimeMillis, persistence.getExpire(), unit);
         Center center = AbstractRecordActivationCenter.getGlobalCenter();
-        K wrapperKey = (K) center.wrapKeyFunc().apply(new Object[]{entry.getKey(),
+        Object wrapperKey = center.wrapKeyFunc().apply(new Object[]{entry.getKey(),
                 persistence.getKeyPairSerializerName()});
-        V wrapperValue = (V) center.wrapValueFunc().apply(new Object[]{entry.getValue(),
+        Object wrapperValue = center.wrapValueFunc().apply(new Object[]{entry.getValue(),
                 persistence.getValuePairSerializerName()});
-        center.reload(wrapperKey, wrapperValue, condition, entry.getTimeUnit());
-        PairSerializer<K> keyPairSerializer = getPairSerializerByName(persistence.getKeyPairSerializerName());
-        PairSerializer<V> valuePairSerializer = getPairSerializerByName(persistence.getValuePairSerializerName());
-        //Callback for restoring cached keys and values
+        return new ReductionPipeline.ReductionItem(Entry.of(wrapperKey, wrapperValue, condition, unit),
+                () -> notifyListeningRecoveries(persistence, condition, unit));
+    }
+
+    /**
+     * Callback for restoring cached keys and values.
+     *
+     * @param persistence Cached attribute storage model.
+     * @param condition   remaining time.
+     * @param unit        remaining time unit.
+     */
+    private void notifyListeningRecoveries(AbstractPersistenceStore<K, V> persistence, Long condition,
+                                           TimeUnit unit) {
         List<ListeningRecovery> listeningRecoveries = configuration.unmodifiableListeningRecoveries();
-        if (CollectionUtils.isNotEmpty(listeningRecoveries)) {
-            K key;
-            V value;
+        if (CollectionUtils.isEmpty(listeningRecoveries)) {
+            return;
+        }
+        Entry<K, V> entry = persistence.getEntry();
+        K key;
+        V value;
+        try {
+            PairSerializer<K> keyPairSerializer = getPairSerializerByName(persistence.getKeyPairSerializerName());
+            PairSerializer<V> valuePairSerializer =
+                    getPairSerializerByName(persistence.getValuePairSerializerName());
+            key = deserialize(keyPairSerializer, entry.getKey());
+            value = deserialize(valuePairSerializer, entry.getValue());
+        } catch (Throwable e) {
+            log.error("Deserialization failed.", e);
+            return;
+        }
+        for (ListeningRecovery recovery : listeningRecoveries) {
             try {
-                key = deserialize(keyPairSerializer, entry.getKey());
-                value = deserialize(valuePairSerializer, entry.getKey());
+                recovery.recovery(key, value, condition, unit);
             } catch (Throwable e) {
-                log.error("Deserialization failed.", e);
-                e.printStackTrace(System.err);
-                return;
-            }
-            for (ListeningRecovery recovery : listeningRecoveries) {
-                try {
-                    recovery.recovery(key, value, condition, entry.getTimeUnit());
-                } catch (Throwable e) {
-                    log.error("Failed to recover cache key {} - value {}.", key, value);
-                    e.printStackTrace(System.err);
-                }
+                log.error("Failed to recover cache key {} - value {}.", key, value);
             }
         }
     }
@@ -139,4 +139,21 @@ public abstract class AbstractPersistenceFileManager extends FileManager {
         }
         appendLines(Collections.singletonList(json), file, StandardCharsets.UTF_8);
     }
+
+    /**
+     * Write single file bytes.
+     *
+     * @param content write content
+     * @since 1.1.4
+     */
+    public void writeSingleFileBytes(byte[] content) {
+        if (content == null || content.length == 0) {
+            return;
+        }
+        File file = touchWritePath();
+        if (file == null) {
+            return;
+        }
+        writeBytes(content, file);
+    }
 }
@@ -5,8 +5,8 @@ import top.osjf.assembly.cache.serializer.DeserializeTypeErrorException;
 import top.osjf.assembly.cache.serializer.PairSerializer;
 import top.osjf.assembly.util.annotation.NotNull;
 import top.osjf.assembly.util.json.FastJsonUtils;
-import top.osjf.assembly.util.lang.Asserts;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 /**
@@ -70,22 +70,28 @@ public class ByteCachePersistence extends AbstractCachePersistence<byte[], byte[
     }
 
     @Override
-    public void reductionUseString(@NotNull StringBuilder buffer) {
-        super.reductionUseString(buffer);
-        //parse json
-        BytePersistence persistence;
+    protected AbstractPersistenceStore<byte[], byte[]> decodeStore(@NotNull String json) {
         try {
-            persistence = FastJsonUtils.toObject(buffer.toString(),
-                    new FastJsonUtils.TypeReferences<BytePersistence>() {
-                    });
+            return FastJsonUtils.toObject(json, new FastJsonUtils.TypeReferences<BytePersistence>() {
+            });
         } catch (Exception e) {
-            throw new CachePersistenceException("Buffer data [" + buffer + " ] parse Persistence error " +
+            throw new CachePersistenceException("Buffer data [" + json + " ] parse Persistence error " +
                     "[" + e.getMessage() + "]");
         }
-        //No cache in the cache
-        ByteCachePersistence globePersistence = ofSetPersistence(ByteCachePersistence.class, persistence);
-        Asserts.notNull(globePersistence, "GlobePersistence no be null");
-        this.reductionUseEntry(globePersistence);
+    }
+
+    @Override
+    protected AbstractPersistenceStore<byte[], byte[]> decodeStore(@NotNull ByteBuffer buffer) {
+        try {
+            return PersistenceStoreCodec.decode(buffer, BytePersistence::new);
+        } catch (Exception e) {
+            throw new CachePersistenceException("Buffer data decode Persistence error [" + e.getMessage() + "]");
+        }
+    }
+
+    @Override
+    protected byte[] encodeStore(@NotNull AbstractPersistenceStore<byte[], byte[]> store) {
+        return PersistenceStoreCodec.encode(store);
     }
 
     @Override
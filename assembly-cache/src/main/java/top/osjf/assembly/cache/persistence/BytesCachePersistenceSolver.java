@@ -3,6 +3,7 @@ package top.osjf.assembly.cache.persistence;
 import top.osjf.assembly.util.lang.Asserts;
 import top.osjf.assembly.util.annotation.CanNull;
 import top.osjf.assembly.util.annotation.NotNull;
+import top.osjf.assembly.util.logger.Console;
 
 import java.util.Arrays;
 import java.util.List;
@@ -21,7 +22,7 @@ public class BytesCachePersistenceSolver implements CachePersistenceSolver<byte[
                                @CanNull Long duration,
                                @CanNull TimeUnit timeUnit) {
 
-        run(() -> {
+        run(key, true, () -> {
             ByteCachePersistence put =
                     ByteCachePersistence
                             .ofSetBytes(Entry.of(key, value, duration, timeUnit));
@@ -30,9 +31,31 @@ public class BytesCachePersistenceSolver implements CachePersistenceSolver<byte[
         }, "BytesCachePersistenceSolver::putPersistence");
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The files of the entries are written in one run, the entries that can
+     * not be persisted being skipped.
+     *
+     * @param entries {@inheritDoc}
+     */
     @Override
-    public void replaceValuePersistence(@NotNull byte[] key, @NotNull byte[] newValue) {
+    public void putAllPersistence(@NotNull List<Entry<byte[], byte[]>> entries) {
         run(() -> {
+            for (Entry<byte[], byte[]> entry : entries) {
+                try {
+                    //If repeated direct coverage
+                    ByteCachePersistence.ofSetBytes(entry).write();
+                } catch (Throwable e) {
+                    Console.warn("Run the cache Persistence method [{}] An exception occurs [{}]",
+                            "BytesCachePersistenceSolver::putAllPersistence", e.getMessage());
+                }
+            }
+        }, "BytesCachePersistenceSolver::putAllPersistence");
+    }
+
+    @Override
+    public void replaceValuePersistence(@NotNull byte[] key, @NotNull byte[] newValue) {
+        run(key, false, () -> {
             ByteCachePersistence replace = ByteCachePersistence.ofGetBytes(key);
             Asserts.isTrue(replace.persistenceExist(), "persistence no exist");
             replace.replacePersistence(newValue);
@@ -42,7 +65,7 @@ public class BytesCachePersistenceSolver implements CachePersistenceSolver<byte[
     @Override
     public void replaceDurationPersistence(@NotNull byte[] key, @NotNull Long duration,
                                            @NotNull TimeUnit timeUnit) {
-        run(() -> {
+        run(key, false, () -> {
             ByteCachePersistence replaceDuration = ByteCachePersistence.ofGetBytes(key);
             Asserts.isTrue(replaceDuration.persistenceExist(), "persistence no exist");
             replaceDuration.setExpirationPersistence(duration, timeUnit);
@@ -51,7 +74,7 @@ public class BytesCachePersistenceSolver implements CachePersistenceSolver<byte[
 
     @Override
     public void restDurationPersistence(@NotNull byte[] key) {
-        run(() -> {
+        run(key, false, () -> {
             ByteCachePersistence reset = ByteCachePersistence.ofGetBytes(key);
             Asserts.isTrue(reset.persistenceExist(), "persistence no exist");
             reset.resetExpirationPersistence();
@@ -60,7 +83,7 @@ public class BytesCachePersistenceSolver implements CachePersistenceSolver<byte[
 
     @Override
     public void removePersistenceWithKey(@NotNull byte[] key) {
-        run(() -> {
+        run(key, true, () -> {
             ByteCachePersistence remove = ByteCachePersistence.ofGetBytes(key);
             Asserts.isTrue(remove.persistenceExist(), "Persistence no exist, no repeat del");
             remove.removePersistence();
@@ -80,7 +80,7 @@ public class CachePersistenceKeyIdentify<T> implements SimilarAble<CachePersiste
         if (!(obj instanceof CachePersistenceKeyIdentify)) {
             return false;
         }
-        return this.hashCode() == obj.hashCode();
+        return identify.equals(((CachePersistenceKeyIdentify) obj).getIdentify());
     }
 
     @Override
@@ -5,6 +5,7 @@ import top.osjf.assembly.util.annotation.CanNull;
 import top.osjf.assembly.util.annotation.NotNull;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 
 /**
  * The cache file recovery method defines an interface that can parse paths, files, and strings.
@@ -41,4 +42,27 @@ public interface CachePersistenceReduction {
      * @throws CachePersistenceException Cache persistence exception.
      */
     void reductionUseString(@NotNull StringBuilder builder) throws CachePersistenceException;
+
+    /**
+     * Restore the cache file based on the provided binary content, decoding
+     * directly from the buffer.
+     *
+     * @param buffer The binary content of a persistent file.
+     * @throws CachePersistenceException Cache persistence exception.
+     * @since 1.1.4
+     */
+    default void reductionUseBuffer(@NotNull ByteBuffer buffer) throws CachePersistenceException {
+        throw new CachePersistenceException("Binary content no supported by " + getClass().getName());
+    }
+
+    /**
+     * Returns the progress of the latest restore started by {@link #reductionUsePath(String)}.
+     *
+     * @return the progress of the latest restore, {@literal null} when none has been started.
+     * @since 1.1.4
+     */
+    @CanNull
+    default CachePersistenceReductionProgress getReductionProgress() {
+        return null;
+    }
 }
@@ -0,0 +1,119 @@
+package top.osjf.assembly.cache.persistence;
+
+import top.osjf.assembly.util.annotation.NotNull;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of a cache restore started by {@link CachePersistenceReduction#reductionUsePath(String)},
+ * exposing the restored, expired and failed counters and the elapsed time, and
+ * allowing callers to wait for its completion.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public class CachePersistenceReductionProgress {
+
+    private final int total;
+
+    private final AtomicLong restored = new AtomicLong();
+
+    private final AtomicLong expired = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final long startTime = System.currentTimeMillis();
+
+    private volatile long endTime;
+
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    public CachePersistenceReductionProgress(int total) {
+        this.total = total;
+    }
+
+    void restored(int count) {
+        restored.addAndGet(count);
+    }
+
+    void expired() {
+        expired.incrementAndGet();
+    }
+
+    void failed(int count) {
+        failed.addAndGet(count);
+    }
+
+    void complete() {
+        endTime = System.currentTimeMillis();
+        done.countDown();
+    }
+
+    /**
+     * @return the number of persistent records to be restored.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * @return the number of records reloaded into the cache center.
+     */
+    public long getRestored() {
+        return restored.get();
+    }
+
+    /**
+     * @return the number of records skipped because they had expired.
+     */
+    public long getExpired() {
+        return expired.get();
+    }
+
+    /**
+     * @return the number of records that failed to be restored.
+     */
+    public long getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * @return if {@code true} the restore has completed.
+     */
+    public boolean isDone() {
+        return done.getCount() == 0;
+    }
+
+    /**
+     * @return the elapsed milliseconds of the restore, up to now while it is running.
+     */
+    public long getElapsedMillis() {
+        return (isDone() ? endTime : System.currentTimeMillis()) - startTime;
+    }
+
+    /**
+     * Wait for the restore to complete.
+     *
+     * @param timeout the maximum time to wait.
+     * @param unit    the time unit of the timeout.
+     * @return if {@code true} the restore has completed, {@code false} if the waiting time elapsed.
+     * @throws InterruptedException if the current thread is interrupted while waiting.
+     */
+    public boolean await(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        return done.await(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return "CachePersistenceReductionProgress{" +
+                "total=" + total +
+                ", restored=" + getRestored() +
+                ", expired=" + getExpired() +
+                ", failed=" + getFailed() +
+                ", elapsedMillis=" + getElapsedMillis() +
+                ", done=" + isDone() +
+                '}';
+    }
+}
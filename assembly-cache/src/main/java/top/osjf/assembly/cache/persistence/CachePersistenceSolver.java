@@ -4,6 +4,7 @@ import top.osjf.assembly.util.annotation.CanNull;
 import top.osjf.assembly.util.annotation.NotNull;
 import top.osjf.assembly.util.logger.Console;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -32,6 +33,19 @@ public interface CachePersistenceSolver<K, V> {
      */
     void putPersistence(@NotNull K key, @NotNull V value, @CanNull Long duration, @CanNull TimeUnit timeUnit);
 
+    /**
+     * Put multiple {@code key} and {@code value} entries persistence, each one like
+     * {@link #putPersistence(Object, Object, Long, TimeUnit)}.
+     *
+     * @param entries must not be {@literal null}.
+     * @since 1.1.4
+     */
+    default void putAllPersistence(@NotNull List<Entry<K, V>> entries) {
+        for (Entry<K, V> entry : entries) {
+            putPersistence(entry.getKey(), entry.getValue(), entry.getDuration(), entry.getTimeUnit());
+        }
+    }
+
     /**
      * Replace the corresponding {@code  key} {@code value} the value of a {@code newValue}
      *
@@ -74,7 +88,7 @@ public interface CachePersistenceSolver<K, V> {
      * Remove all the cache files
      */
     default void removeAllPersistence() {
-        run(AbstractCachePersistence::cleanAllCacheFile, "removeAllPersistence");
+        runClear(AbstractCachePersistence::cleanAllCacheFile, "removeAllPersistence");
     }
 
     /**
@@ -88,4 +102,34 @@ public interface CachePersistenceSolver<K, V> {
         capable.run(runnable,
                 esg -> Console.warn("Run the cache Persistence method [{}] An exception occurs [{}]", method, esg));
     }
+
+    /**
+     * Run the method of a key and capture the exception
+     *
+     * @param key       The key of the method.
+     * @param supersede if {@code true} the method writes the whole state of the key.
+     * @param runnable  method runnable
+     * @param method    method name
+     * @see MethodRunnableCapable#run(Object, boolean, Runnable, java.util.function.Consumer)
+     * @since 1.1.4
+     */
+    default void run(@NotNull Object key, boolean supersede, @NotNull Runnable runnable, @NotNull String method) {
+        MethodRunnableCapable capable = Runner.getCapable();
+        capable.run(key, supersede, runnable,
+                esg -> Console.warn("Run the cache Persistence method [{}] An exception occurs [{}]", method, esg));
+    }
+
+    /**
+     * Run the method removing all persistence and capture the exception
+     *
+     * @param runnable method runnable
+     * @param method   method name
+     * @see MethodRunnableCapable#runClear(Runnable, java.util.function.Consumer)
+     * @since 1.1.4
+     */
+    default void runClear(@NotNull Runnable runnable, @NotNull String method) {
+        MethodRunnableCapable capable = Runner.getCapable();
+        capable.runClear(runnable,
+                esg -> Console.warn("Run the cache Persistence method [{}] An exception occurs [{}]", method, esg));
+    }
 }
@@ -57,6 +57,9 @@ public interface Dispose {
             case SET:
                 variable = DisposeVariable.analysisSet(args);
                 break;
+            case SET_ALL:
+                variable = DisposeVariable.analysisSetAll(args);
+                break;
             case REPLACE_VALUE:
                 variable = DisposeVariable.analysisReplaceValue(args);
                 break;
@@ -91,6 +94,7 @@ public interface Dispose {
         private Long duration;
         private TimeUnit unit;
         private List<Object> anyKeys;
+        private List<Entry> entries;
 
         public DisposeVariable() {
         }
@@ -127,6 +131,10 @@ public interface Dispose {
             this.anyKeys = anyKeys;
         }
 
+        private void setEntries(List<Entry> entries) {
+            this.entries = entries;
+        }
+
         private void setDuration(Object duration) {
             this.duration = Long.parseLong(duration.toString());
         }
@@ -143,6 +151,10 @@ public interface Dispose {
             return anyKeys;
         }
 
+        public List<Entry> getEntries() {
+            return entries;
+        }
+
         public Object getKey() {
             return key;
         }
@@ -181,6 +193,18 @@ public interface Dispose {
             return variable;
         }
 
+        /*
+         * @see top.osjf.assembly.cache.operations.ValueOperations#multiSet(java.util.Collection)
+         */
+        @SuppressWarnings("unchecked")
+        private static DisposeVariable analysisSetAll(@NotNull Object[] args) {
+            DisposeVariable variable = init();
+            if (args.length == lengthSi) {
+                variable.setEntries((List<Entry>) args[indexOne]);
+            }
+            return variable;
+        }
+
         /*
          * @see io.github.zpf9705.expiring.core.ValueOperations#getAndSet(Object, Object)
          */
@@ -19,4 +19,32 @@ public interface MethodRunnableCapable {
      * @param errorLoggerConsumer Persistence method error logger
      */
     void run(@NotNull Runnable runnable, @NotNull Consumer<String> errorLoggerConsumer);
+
+    /**
+     * Runnable with a {@code persistence method} of a key, the methods of
+     * a same key being run in order.
+     *
+     * @param key                 The key of the persistence method.
+     * @param supersede           if {@code true} the method writes the whole state of the
+     *                            key and the pending methods of the key before it may be skipped.
+     * @param runnable            {@link Runnable}
+     * @param errorLoggerConsumer Persistence method error logger
+     * @since 1.1.4
+     */
+    default void run(@NotNull Object key, boolean supersede, @NotNull Runnable runnable,
+                     @NotNull Consumer<String> errorLoggerConsumer) {
+        run(runnable, errorLoggerConsumer);
+    }
+
+    /**
+     * Runnable with a {@code persistence method} removing all persistence, the
+     * pending methods before it may be skipped.
+     *
+     * @param runnable            {@link Runnable}
+     * @param errorLoggerConsumer Persistence method error logger
+     * @since 1.1.4
+     */
+    default void runClear(@NotNull Runnable runnable, @NotNull Consumer<String> errorLoggerConsumer) {
+        run(runnable, errorLoggerConsumer);
+    }
 }
@@ -19,6 +19,11 @@ public enum PersistenceExecTypeEnum implements Dispose {
                     variable.getDuration(),
                     variable.getUnit());
         }
+    }, SET_ALL {
+        @Override
+        public void dispose(@NotNull CachePersistenceSolver solver, @NotNull DisposeVariable variable) {
+            solver.putAllPersistence(variable.getEntries());
+        }
     }, REPLACE_VALUE {
         @Override
         public void dispose(@NotNull CachePersistenceSolver solver, @NotNull DisposeVariable variable) {
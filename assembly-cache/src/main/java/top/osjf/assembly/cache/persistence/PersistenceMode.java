@@ -0,0 +1,59 @@
+package top.osjf.assembly.cache.persistence;
+
+/**
+ * The storage layout used by cache persistence, selected through
+ * {@link top.osjf.assembly.cache.config.Configuration#getPersistenceMode()}.
+ *
+ * <ul>
+ *     <li>{@link #FILE_PER_KEY} keeps one {@code .aof} file per cache key,
+ *     the historical layout handled by {@link BytesCachePersistenceSolver}.</li>
+ *     <li>{@link #SEGMENTED_LOG} appends every mutation as a binary record to
+ *     a rolling set of segment files handled by {@link SegmentedLogCachePersistenceSolver}.</li>
+ * </ul>
+ *
+ * @author zpf
+ * @since 1.1.4
+ */
+@SuppressWarnings("rawtypes")
+public enum PersistenceMode {
+
+    FILE_PER_KEY {
+        @Override
+        public CachePersistenceSolver getSolver() {
+            return CachePersistenceSolver.INSTANCE;
+        }
+
+        @Override
+        public CachePersistenceReduction getReduction() {
+            return CachePersistenceReduction.INSTANCE;
+        }
+    },
+
+    SEGMENTED_LOG {
+        @Override
+        public CachePersistenceSolver getSolver() {
+            return SegmentedLogCachePersistenceSolver.getInstance();
+        }
+
+        @Override
+        public CachePersistenceReduction getReduction() {
+            return SegmentedLogPersistence.getInstance();
+        }
+    };
+
+    /**
+     * Returns the {@link CachePersistenceSolver} that writes persistent records
+     * in this mode.
+     *
+     * @return {@link CachePersistenceSolver} of this mode.
+     */
+    public abstract CachePersistenceSolver getSolver();
+
+    /**
+     * Returns the {@link CachePersistenceReduction} that restores persistent
+     * records written in this mode.
+     *
+     * @return {@link CachePersistenceReduction} of this mode.
+     */
+    public abstract CachePersistenceReduction getReduction();
+}
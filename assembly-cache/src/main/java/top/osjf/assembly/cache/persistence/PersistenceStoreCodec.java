@@ -0,0 +1,160 @@
+package top.osjf.assembly.cache.persistence;
+
+import top.osjf.assembly.cache.exceptions.CachePersistenceException;
+import top.osjf.assembly.util.annotation.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * Compact length-prefixed binary codec of {@link AbstractCachePersistence.AbstractPersistenceStore}
+ * with {@code byte[]} key and value, replacing the FastJSON text where the key and value
+ * were carried as base64.
+ *
+ * <p>The content of a persistent file is laid out as:
+ * <pre>
+ *     int    {@link #MAGIC}
+ *     byte   {@link #VERSION}
+ *     int    body length
+ *     int    CRC32 of body
+ *     long   expiration timestamp (millis)
+ *     long   duration, {@code -1} when absent
+ *     byte   time unit ordinal, {@code -1} when absent
+ *     string key {@link top.osjf.assembly.cache.serializer.PairSerializer} name
+ *     string value {@link top.osjf.assembly.cache.serializer.PairSerializer} name
+ *     bytes  key
+ *     bytes  value
+ * </pre>
+ * Content that does not start with {@link #MAGIC} is considered to be the
+ * JSON text written before 1.1.4 and is left to the JSON reader.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public final class PersistenceStoreCodec {
+
+    /*** The header of binary persistent content.*/
+    public static final int MAGIC = 0x41435042;
+
+    /*** The current version of binary persistent content.*/
+    public static final byte VERSION = 1;
+
+    /*** Magic, version, body length and checksum in front of the body.*/
+    static final int HEADER_BYTES = 4 + 1 + 4 + 4;
+
+    private PersistenceStoreCodec() {
+    }
+
+    /**
+     * Determine whether the buffer holds binary persistent content, without
+     * moving its position.
+     *
+     * @param buffer must not be {@literal null}.
+     * @return if {@code true} the content starts with {@link #MAGIC}.
+     */
+    public static boolean isBinary(@NotNull ByteBuffer buffer) {
+        return buffer.remaining() >= HEADER_BYTES && buffer.getInt(buffer.position()) == MAGIC;
+    }
+
+    /**
+     * Encode a store into binary persistent content.
+     *
+     * @param store must not be {@literal null}.
+     * @return binary persistent content.
+     */
+    public static byte[] encode(@NotNull AbstractCachePersistence.AbstractPersistenceStore<byte[], byte[]> store) {
+        Entry<byte[], byte[]> entry = store.getEntry();
+        byte[] keyName = stringBytes(store.getKeyPairSerializerName());
+        byte[] valueName = stringBytes(store.getValuePairSerializerName());
+        int length = 8 + 8 + 1 + 4 + keyName.length + 4 + valueName.length + 4 + entry.getKey().length + 4
+                + entry.getValue().length;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + length);
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.putInt(length);
+        buffer.putInt(0);
+        buffer.putLong(store.getExpire());
+        buffer.putLong(entry.getDuration() == null ? -1L : entry.getDuration());
+        buffer.put(entry.getTimeUnit() == null ? -1 : (byte) entry.getTimeUnit().ordinal());
+        putBytes(buffer, keyName);
+        putBytes(buffer, valueName);
+        putBytes(buffer, entry.getKey());
+        putBytes(buffer, entry.getValue());
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_BYTES, length);
+        buffer.putInt(HEADER_BYTES - 4, (int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * Decode binary persistent content directly from the buffer.
+     *
+     * @param buffer        must not be {@literal null}.
+     * @param storeSupplier create an empty store, must not be {@literal null}.
+     * @param <P>           generics of subclasses of {@link AbstractCachePersistence.AbstractPersistenceStore}.
+     * @return decoded store.
+     * @throws CachePersistenceException the content is not binary, of an unsupported
+     *                                   version, truncated or its checksum does not match.
+     */
+    public static <P extends AbstractCachePersistence.AbstractPersistenceStore<byte[], byte[]>> P decode(
+            @NotNull ByteBuffer buffer, @NotNull Supplier<P> storeSupplier) {
+        if (!isBinary(buffer)) {
+            throw new CachePersistenceException("Buffer data no a binary cache persistence");
+        }
+        buffer.getInt();
+        byte version = buffer.get();
+        if (version > VERSION) {
+            throw new CachePersistenceException("Unsupported binary cache persistence version [" + version + "]");
+        }
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new CachePersistenceException("Binary cache persistence truncated");
+        }
+        ByteBuffer body = buffer.slice();
+        body.limit(length);
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new CachePersistenceException("Binary cache persistence checksum mismatch");
+        }
+        long expire = body.getLong();
+        long duration = body.getLong();
+        byte unit = body.get();
+        String keyName = getString(body);
+        String valueName = getString(body);
+        byte[] key = getBytes(body);
+        byte[] value = getBytes(body);
+        buffer.position(buffer.position() + length);
+        P store = storeSupplier.get();
+        store.setEntry(Entry.of(key, value, duration < 0 ? null : duration,
+                unit < 0 ? null : TimeUnit.values()[unit]));
+        store.setExpire(expire);
+        store.setKeyPairSerializerName(keyName);
+        store.setValuePairSerializerName(valueName);
+        return store;
+    }
+
+    private static byte[] stringBytes(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = getBytes(buffer);
+        return bytes.length == 0 ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static byte[] getBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,394 @@
+package top.osjf.assembly.cache.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import top.osjf.assembly.cache.config.Configuration;
+import top.osjf.assembly.util.annotation.CanNull;
+import top.osjf.assembly.util.annotation.NotNull;
+import top.osjf.assembly.util.data.ByteIdentify;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous cache persistence writer, running the persistence methods on a
+ * dedicated thread instead of one task of the common pool per cache mutation.
+ *
+ * <p>Methods are queued by key in submission order: the methods of a key still pending
+ * are coalesced, a method writing the whole state of the key (put or remove) dropping
+ * the pending ones before it, so that a hot key costs a single write per flush while
+ * the order of the methods of a key is preserved. Methods without key (removing similar
+ * keys) are barriers that are never coalesced across, and removing all persistence drops
+ * everything still pending.
+ *
+ * <p>The queue is flushed in batches of {@link Configuration#getPersistenceWriterBatchSize()}
+ * keys, or once the oldest pending method has waited {@link Configuration#getPersistenceWriterFlushInterval()}.
+ * When {@link Configuration#getPersistenceWriterCapacity()} keys are pending, new keys are
+ * handled according to {@link Configuration#getPersistenceWriterFullPolicy()}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public class PersistenceWriter extends Runner {
+
+    private static final Logger log = LoggerFactory.getLogger(PersistenceWriter.class);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Condition notFull = lock.newCondition();
+
+    /*** Pending slots in submission order.*/
+    private final Deque<Slot> slots = new ArrayDeque<>();
+
+    /*** Pending slots of keys after the last barrier, which further methods of the key are coalesced into.*/
+    private final Map<Object, Slot> openSlots = new HashMap<>();
+
+    private final int capacity;
+
+    private final int batchSize;
+
+    private final long flushIntervalNanos;
+
+    private final FullPolicy fullPolicy;
+
+    private final AtomicLong submitted = new AtomicLong();
+
+    private final AtomicLong coalesced = new AtomicLong();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final AtomicLong written = new AtomicLong();
+
+    private final AtomicLong flushes = new AtomicLong();
+
+    private final AtomicLong flushNanos = new AtomicLong();
+
+    private volatile long lastFlushNanos;
+
+    private volatile boolean closed;
+
+    private final Thread writerThread;
+
+    public PersistenceWriter(@NotNull Configuration configuration) {
+        this.capacity = Math.max(1, configuration.getPersistenceWriterCapacity());
+        this.batchSize = Math.max(1, configuration.getPersistenceWriterBatchSize());
+        this.flushIntervalNanos = configuration.getPersistenceWriterFlushIntervalUnit()
+                .toNanos(configuration.getPersistenceWriterFlushInterval());
+        this.fullPolicy = configuration.getPersistenceWriterFullPolicy();
+        this.writerThread = new Thread(this::writeLoop, "Cache Persistence Writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "Cache Persistence Writer Closer"));
+    }
+
+    @Override
+    public void run(@NotNull Runnable runnable, @NotNull Consumer<String> errorLoggerConsumer) {
+        submit(null, false, false, new Task(runnable, errorLoggerConsumer));
+    }
+
+    @Override
+    public void run(@NotNull Object key, boolean supersede, @NotNull Runnable runnable,
+                    @NotNull Consumer<String> errorLoggerConsumer) {
+        submit(key instanceof byte[] ? new ByteIdentify((byte[]) key) : key, supersede, false,
+                new Task(runnable, errorLoggerConsumer));
+    }
+
+    @Override
+    public void runClear(@NotNull Runnable runnable, @NotNull Consumer<String> errorLoggerConsumer) {
+        submit(null, true, true, new Task(runnable, errorLoggerConsumer));
+    }
+
+    private void submit(@CanNull Object key, boolean supersede, boolean clear, Task task) {
+        submitted.incrementAndGet();
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            if (clear) {
+                //Everything pending is about to be removed
+                for (Slot slot : slots) {
+                    coalesced.addAndGet(slot.tasks.size());
+                }
+                slots.clear();
+                openSlots.clear();
+                enqueue(new Slot(null, task));
+                return;
+            }
+            for (; ; ) {
+                if (key != null) {
+                    Slot slot = openSlots.get(key);
+                    if (slot != null) {
+                        if (supersede) {
+                            coalesced.addAndGet(slot.tasks.size());
+                            slot.tasks.clear();
+                        }
+                        slot.tasks.add(task);
+                        return;
+                    }
+                }
+                if (slots.size() < capacity || closed) {
+                    break;
+                }
+                if (fullPolicy == FullPolicy.DISCARD) {
+                    dropped.incrementAndGet();
+                    return;
+                }
+                try {
+                    notFull.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.incrementAndGet();
+                    return;
+                }
+            }
+            Slot slot = new Slot(key, task);
+            if (key != null) {
+                openSlots.put(key, slot);
+            } else {
+                //A barrier, later methods are not coalesced into earlier slots
+                openSlots.clear();
+            }
+            enqueue(slot);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(Slot slot) {
+        slots.addLast(slot);
+        if (slots.size() == 1 || slots.size() >= batchSize) {
+            notEmpty.signal();
+        }
+    }
+
+    private void writeLoop() {
+        for (; ; ) {
+            List<Slot> batch;
+            try {
+                batch = takeBatch();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (batch == null) {
+                return;
+            }
+            long start = System.nanoTime();
+            for (Slot slot : batch) {
+                for (Task task : slot.tasks) {
+                    task.execute();
+                    written.incrementAndGet();
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            lastFlushNanos = elapsed;
+            flushNanos.addAndGet(elapsed);
+            flushes.incrementAndGet();
+        }
+    }
+
+    /*
+     * Wait for a full batch or the flush interval of the oldest pending slot,
+     * return null once closed and drained.
+     */
+    @CanNull
+    private List<Slot> takeBatch() throws InterruptedException {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            long deadline = 0L;
+            while (slots.size() < batchSize && !closed) {
+                if (slots.isEmpty()) {
+                    deadline = 0L;
+                    notEmpty.await();
+                    continue;
+                }
+                if (deadline == 0L) {
+                    deadline = System.nanoTime() + flushIntervalNanos;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L) {
+                    break;
+                }
+                notEmpty.awaitNanos(remaining);
+            }
+            if (slots.isEmpty()) {
+                return null;
+            }
+            List<Slot> batch = new ArrayList<>(Math.min(batchSize, slots.size()));
+            while (batch.size() < batchSize && !slots.isEmpty()) {
+                Slot slot = slots.pollFirst();
+                if (slot.key != null) {
+                    openSlots.remove(slot.key, slot);
+                }
+                batch.add(slot);
+            }
+            notFull.signalAll();
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Write everything still pending and stop the writer, waiting at most ten seconds.
+     */
+    public void close() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            log.warn("Cache persistence writer closed with {} keys still pending", getQueueDepth());
+        }
+    }
+
+    /**
+     * @return the number of pending keys.
+     */
+    public int getQueueDepth() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of persistence methods submitted.
+     */
+    public long getSubmitted() {
+        return submitted.get();
+    }
+
+    /**
+     * @return the number of persistence methods dropped because a later method of
+     * the same key made them useless.
+     */
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    /**
+     * @return the number of persistence methods dropped because the writer was full
+     * or the submitting thread was interrupted while waiting.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * @return the number of persistence methods run.
+     */
+    public long getWritten() {
+        return written.get();
+    }
+
+    /**
+     * @return the number of flushes.
+     */
+    public long getFlushCount() {
+        return flushes.get();
+    }
+
+    /**
+     * @return the nanoseconds taken by the last flush.
+     */
+    public long getLastFlushLatencyNanos() {
+        return lastFlushNanos;
+    }
+
+    /**
+     * @return the average nanoseconds taken by a flush.
+     */
+    public long getAverageFlushLatencyNanos() {
+        long count = flushes.get();
+        return count == 0 ? 0L : flushNanos.get() / count;
+    }
+
+    @Override
+    public String toString() {
+        return "PersistenceWriter{" +
+                "queueDepth=" + getQueueDepth() +
+                ", submitted=" + getSubmitted() +
+                ", coalesced=" + getCoalesced() +
+                ", dropped=" + getDropped() +
+                ", written=" + getWritten() +
+                ", flushCount=" + getFlushCount() +
+                ", averageFlushLatencyNanos=" + getAverageFlushLatencyNanos() +
+                '}';
+    }
+
+    /**
+     * What the writer does with a method of a new key when {@link Configuration#getPersistenceWriterCapacity()}
+     * keys are pending.
+     */
+    public enum FullPolicy {
+
+        /*** The submitting thread waits for room, pushing back on cache mutations.*/
+        BLOCK,
+
+        /*** The method is dropped and counted in {@link PersistenceWriter#getDropped()}.*/
+        DISCARD
+    }
+
+    /*
+     * The pending methods of a key, or a single method without key.
+     */
+    private static final class Slot {
+
+        private final Object key;
+
+        private final List<Task> tasks = new ArrayList<>(1);
+
+        Slot(Object key, Task task) {
+            this.key = key;
+            this.tasks.add(task);
+        }
+    }
+
+    /*
+     * A persistence method with the thread data of its submitter.
+     */
+    private static final class Task {
+
+        private final Runnable runnable;
+
+        private final Consumer<String> errorLoggerConsumer;
+
+        private final CachePersistenceThreadLocal.CachePersistenceThreadData data;
+
+        Task(Runnable runnable, Consumer<String> errorLoggerConsumer) {
+            this.runnable = runnable;
+            this.errorLoggerConsumer = errorLoggerConsumer;
+            this.data = CachePersistenceThreadLocal.getData();
+        }
+
+        void execute() {
+            CachePersistenceThreadLocal.putData(data);
+            try {
+                runnable.run();
+            } catch (Throwable e) {
+                if (!EXCEPTION_PREDICATE.test(e)) errorLoggerConsumer.accept(e.getMessage());
+            } finally {
+                CachePersistenceThreadLocal.putData(null);
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package top.osjf.assembly.cache.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import top.osjf.assembly.cache.config.Configuration;
+import top.osjf.assembly.cache.factory.AbstractRecordActivationCenter;
+import top.osjf.assembly.cache.factory.Center;
+import top.osjf.assembly.util.annotation.CanNull;
+import top.osjf.assembly.util.annotation.NotNull;
+import top.osjf.assembly.util.lang.Asserts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Restore pipeline shared by the persistence modes: sources (files or records)
+ * are split into batches decoded in parallel on a bounded pool of
+ * {@link Configuration#getReductionParallelism()} threads, and each batch is
+ * handed to {@link Center#reloadAll(List)}, which puts it in bulk where the
+ * cache supports a bulk put with per-entry expiration (Caffeine), and entry by
+ * entry otherwise (ExpiringMap).
+ *
+ * @param <S> The type of restore source.
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+final class ReductionPipeline<S> {
+
+    private static final Logger log = LoggerFactory.getLogger(ReductionPipeline.class);
+
+    private final Decoder<S> decoder;
+
+    private final int parallelism;
+
+    private final int batchSize;
+
+    ReductionPipeline(@NotNull Decoder<S> decoder) {
+        Configuration configuration = Configuration.getGlobalConfiguration();
+        this.decoder = decoder;
+        this.parallelism = Math.max(1, configuration.getReductionParallelism());
+        this.batchSize = Math.max(1, configuration.getReductionBatchSize());
+    }
+
+    /**
+     * Restore the sources asynchronously.
+     *
+     * @param sources must not be {@literal null}.
+     * @return the progress of this restore.
+     */
+    CachePersistenceReductionProgress start(@NotNull List<S> sources) {
+        CachePersistenceReductionProgress progress = new CachePersistenceReductionProgress(sources.size());
+        if (sources.isEmpty()) {
+            progress.complete();
+            return progress;
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "Cache Restore thread-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int from = 0; from < sources.size(); from += batchSize) {
+            List<S> batch = sources.subList(from, Math.min(from + batchSize, sources.size()));
+            futures.add(CompletableFuture.runAsync(() -> restore(batch, progress), pool));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((v, e) -> {
+            pool.shutdown();
+            progress.complete();
+            log.info("Cache restore completed : {}", progress);
+        });
+        return progress;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void restore(List<S> batch, CachePersistenceReductionProgress progress) {
+        List<ReductionItem> items = new ArrayList<>(batch.size());
+        for (S source : batch) {
+            try {
+                ReductionItem item = decoder.decode(source);
+                if (item == null) {
+                    progress.expired();
+                } else {
+                    items.add(item);
+                }
+            } catch (Throwable e) {
+                progress.failed(1);
+                if (log.isWarnEnabled()) {
+                    log.warn("Restore cache {} error : {}", source, e.getMessage());
+                }
+            }
+        }
+        if (items.isEmpty()) {
+            return;
+        }
+        List<Entry> entries = new ArrayList<>(items.size());
+        for (ReductionItem item : items) {
+            entries.add(item.entry);
+        }
+        try {
+            Center center = AbstractRecordActivationCenter.getGlobalCenter();
+            Asserts.notNull(center, "Cache center is not initialized");
+            center.reloadAll(entries);
+        } catch (Throwable e) {
+            progress.failed(items.size());
+            log.warn("Reload cache batch error : {}", e.getMessage());
+            return;
+        }
+        progress.restored(items.size());
+        for (ReductionItem item : items) {
+            if (item.afterReload != null) {
+                item.afterReload.run();
+            }
+        }
+    }
+
+    /**
+     * Decode a restore source into a {@link ReductionItem}.
+     *
+     * @param <S> The type of restore source.
+     */
+    @FunctionalInterface
+    interface Decoder<S> {
+
+        /**
+         * @param source restore source.
+         * @return the item to be reloaded, {@literal null} when the source has expired.
+         * @throws Exception decode failed.
+         */
+        @CanNull
+        ReductionItem decode(S source) throws Exception;
+    }
+
+    /**
+     * An entry ready for {@link Center#reload}, with its key and value already
+     * wrapped by the center and its remaining duration, and the callback run
+     * after the batch has been reloaded.
+     */
+    static final class ReductionItem {
+
+        @SuppressWarnings("rawtypes")
+        private final Entry entry;
+
+        private final Runnable afterReload;
+
+        @SuppressWarnings("rawtypes")
+        ReductionItem(@NotNull Entry entry, @CanNull Runnable afterReload) {
+            this.entry = entry;
+            this.afterReload = afterReload;
+        }
+
+        @SuppressWarnings("rawtypes")
+        Entry getEntry() {
+            return entry;
+        }
+
+        Runnable getAfterReload() {
+            return afterReload;
+        }
+    }
+}
@@ -4,7 +4,6 @@ import top.osjf.assembly.cache.config.Configuration;
 import top.osjf.assembly.cache.exceptions.OnOpenPersistenceException;
 import top.osjf.assembly.util.annotation.NotNull;
 
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -17,14 +16,14 @@ import java.util.function.Predicate;
  */
 public abstract class Runner implements MethodRunnableCapable {
 
-    private static final Predicate<Throwable> EXCEPTION_PREDICATE = (e) -> e instanceof OnOpenPersistenceException;
+    static final Predicate<Throwable> EXCEPTION_PREDICATE = (e) -> e instanceof OnOpenPersistenceException;
 
     private static volatile MethodRunnableCapable capable;
 
     /**
      * Get a Singleton {@code MethodRunnableCapable}
      * <ul>
-     *     <li>{@link ASyncPersistenceRunner}</li>
+     *     <li>{@link PersistenceWriter}</li>
      *     <li>{@link SyncPersistenceRunner}</li>
      * </ul>
      *
@@ -33,7 +32,7 @@ public abstract class Runner implements MethodRunnableCapable {
     public static synchronized MethodRunnableCapable getCapable() {
         if (capable == null) {
             if (Configuration.getGlobalConfiguration().isEnablePersistenceAsync()) {
-                capable = new ASyncPersistenceRunner();
+                capable = new PersistenceWriter(Configuration.getGlobalConfiguration());
             } else {
                 capable = new SyncPersistenceRunner();
             }
@@ -58,25 +57,4 @@ public abstract class Runner implements MethodRunnableCapable {
             }
         }
     }
-
-    /**
-     * ASync to run Persistence method
-     */
-    private static class ASyncPersistenceRunner extends Runner {
-
-        @Override
-        public void run(@NotNull Runnable runnable, @NotNull Consumer<String> errorLoggerConsumer) {
-            CachePersistenceThreadLocal.CachePersistenceThreadData data = CachePersistenceThreadLocal.getData();
-            CompletableFuture.runAsync(() -> {
-                CachePersistenceThreadLocal.putData(data);
-                try {
-                    runnable.run();
-                } finally {
-                    CachePersistenceThreadLocal.putData(null);
-                }
-            }).whenComplete((s, e) -> {
-                if (!EXCEPTION_PREDICATE.test(e)) errorLoggerConsumer.accept(e.getMessage());
-            });
-        }
-    }
 }
@@ -0,0 +1,168 @@
+package top.osjf.assembly.cache.persistence;
+
+import top.osjf.assembly.cache.config.Configuration;
+import top.osjf.assembly.util.annotation.CanNull;
+import top.osjf.assembly.util.annotation.NotNull;
+import top.osjf.assembly.util.lang.Asserts;
+import top.osjf.assembly.util.logger.Console;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The key/value of the byte array type implements the operation of caching
+ * persistence on an append-only {@link SegmentedLogPersistence}, every
+ * mutation costs one appended record instead of a file deletion and creation.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public class SegmentedLogCachePersistenceSolver implements CachePersistenceSolver<byte[], byte[]> {
+
+    private static volatile SegmentedLogCachePersistenceSolver instance;
+
+    private final SegmentedLogPersistence persistence;
+
+    public SegmentedLogCachePersistenceSolver(@NotNull SegmentedLogPersistence persistence) {
+        this.persistence = persistence;
+    }
+
+    /**
+     * Return a singleton {@link SegmentedLogCachePersistenceSolver} on the global
+     * {@link SegmentedLogPersistence}.
+     *
+     * @return a singleton {@link SegmentedLogCachePersistenceSolver}.
+     */
+    public static synchronized SegmentedLogCachePersistenceSolver getInstance() {
+        if (instance == null) {
+            instance = new SegmentedLogCachePersistenceSolver(SegmentedLogPersistence.getInstance());
+        }
+        return instance;
+    }
+
+    @Override
+    public void putPersistence(@NotNull byte[] key, @NotNull byte[] value,
+                               @CanNull Long duration,
+                               @CanNull TimeUnit timeUnit) {
+        run(key, true, () -> {
+            Entry<byte[], byte[]> entry = Entry.of(key, value, duration, timeUnit);
+            AbstractCachePersistence.checkOf(entry);
+            persistence.put(key, value, durationMillis(entry),
+                    CachePersistenceThreadLocal.getKeyPairSerializerName(),
+                    CachePersistenceThreadLocal.getValuePairSerializerName());
+        }, "SegmentedLogCachePersistenceSolver::putPersistence");
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The entries are appended by {@link SegmentedLogPersistence#appendAll} in one
+     * run, the ones that can not be persisted being skipped.
+     *
+     * @param entries {@inheritDoc}
+     */
+    @Override
+    public void putAllPersistence(@NotNull List<Entry<byte[], byte[]>> entries) {
+        run(() -> {
+            AbstractCachePersistence.checkOpenPersistence();
+            String keyPairSerializerName = CachePersistenceThreadLocal.getKeyPairSerializerName();
+            String valuePairSerializerName = CachePersistenceThreadLocal.getValuePairSerializerName();
+            long now = System.currentTimeMillis();
+            List<SegmentedLogPersistence.Record> records = new ArrayList<>(entries.size());
+            for (Entry<byte[], byte[]> entry : entries) {
+                try {
+                    AbstractCachePersistence.checkOf(entry);
+                } catch (Throwable e) {
+                    Console.warn("Run the cache Persistence method [{}] An exception occurs [{}]",
+                            "SegmentedLogCachePersistenceSolver::putAllPersistence", e.getMessage());
+                    continue;
+                }
+                long duration = durationMillis(entry);
+                records.add(new SegmentedLogPersistence.Record(SegmentedLogPersistence.OP_PUT, now + duration,
+                        duration, keyPairSerializerName, valuePairSerializerName, entry.getKey(),
+                        entry.getValue()));
+            }
+            persistence.appendAll(records);
+        }, "SegmentedLogCachePersistenceSolver::putAllPersistence");
+    }
+
+    @Override
+    public void replaceValuePersistence(@NotNull byte[] key, @NotNull byte[] newValue) {
+        run(key, false, () -> {
+            SegmentedLogPersistence.Record record = getRecord(key);
+            persistence.put(key, newValue, record.getDuration(), record.getKeyPairSerializerName(),
+                    record.getValuePairSerializerName());
+        }, "SegmentedLogCachePersistenceSolver::replacePersistence");
+    }
+
+    @Override
+    public void replaceDurationPersistence(@NotNull byte[] key, @NotNull Long duration,
+                                           @NotNull TimeUnit timeUnit) {
+        run(key, false, () -> {
+            SegmentedLogPersistence.Record record = getRecord(key);
+            persistence.put(key, record.getValue(), timeUnit.toMillis(duration),
+                    record.getKeyPairSerializerName(), record.getValuePairSerializerName());
+        }, "SegmentedLogCachePersistenceSolver::setEPersistence");
+    }
+
+    @Override
+    public void restDurationPersistence(@NotNull byte[] key) {
+        run(key, false, () -> {
+            SegmentedLogPersistence.Record record = getRecord(key);
+            persistence.put(key, record.getValue(), record.getDuration(), record.getKeyPairSerializerName(),
+                    record.getValuePairSerializerName());
+        }, "SegmentedLogCachePersistenceSolver::restPersistence");
+    }
+
+    @Override
+    public void removePersistenceWithKey(@NotNull byte[] key) {
+        run(key, true, () -> {
+            AbstractCachePersistence.checkOpenPersistence();
+            Asserts.isTrue(persistence.remove(key), "Persistence no exist, no repeat del");
+        }, "SegmentedLogCachePersistenceSolver::removePersistenceWithKey");
+    }
+
+    @Override
+    public void removeSimilarKeyPersistence(@NotNull byte[] key) {
+        run(() -> {
+            Asserts.notNull(key, "key no be null");
+            AbstractCachePersistence.checkOpenPersistence();
+            List<byte[]> similar = persistence.similarKeys(key,
+                    CachePersistenceThreadLocal.getSafeKeyPairSerializerName());
+            Asserts.notEmpty(similar,
+                    "No found key [" + Arrays.toString(key) + "] similar persistence");
+            similar.forEach(persistence::remove);
+        }, "SegmentedLogCachePersistenceSolver::removePersistence");
+    }
+
+    @Override
+    public void removeAllPersistence() {
+        runClear(() -> {
+            AbstractCachePersistence.checkOpenPersistence();
+            persistence.clear();
+        }, "SegmentedLogCachePersistenceSolver::removeAllPersistence");
+    }
+
+    /*
+     * Return the live record of the key or fail as the file solver does.
+     */
+    private SegmentedLogPersistence.Record getRecord(byte[] key) {
+        AbstractCachePersistence.checkOpenPersistence();
+        SegmentedLogPersistence.Record record = persistence.get(key);
+        Asserts.notNull(record, "persistence no exist");
+        return record;
+    }
+
+    /*
+     * Calculate the duration in milliseconds, using the configured default
+     * when the entry provides none.
+     */
+    private static long durationMillis(Entry<byte[], byte[]> entry) {
+        if (entry.haveDuration()) {
+            return entry.getTimeUnit().toMillis(entry.getDuration());
+        }
+        Configuration configuration = Configuration.getGlobalConfiguration();
+        return configuration.getDefaultCacheDurationUnit().toMillis(configuration.getDefaultCacheDuration());
+    }
+}
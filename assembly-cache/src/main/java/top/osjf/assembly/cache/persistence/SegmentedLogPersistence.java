@@ -0,0 +1,910 @@
+package top.osjf.assembly.cache.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import top.osjf.assembly.cache.config.Configuration;
+import top.osjf.assembly.cache.exceptions.CachePersistenceException;
+import top.osjf.assembly.cache.factory.AbstractRecordActivationCenter;
+import top.osjf.assembly.cache.factory.Center;
+import top.osjf.assembly.cache.serializer.PairSerializer;
+import top.osjf.assembly.util.annotation.CanNull;
+import top.osjf.assembly.util.annotation.NotNull;
+import top.osjf.assembly.util.lang.Asserts;
+import top.osjf.assembly.util.lang.CollectionUtils;
+import top.osjf.assembly.util.lang.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only segmented log holding every cache persistence mutation
+ * as a binary record, used by {@link PersistenceMode#SEGMENTED_LOG}.
+ *
+ * <p>Instead of deleting and re-creating one {@code .aof} file per key,
+ * each {@code put/replace/remove} is appended to the active segment file,
+ * the active segment is rolled once it exceeds
+ * {@link Configuration#getSegmentMaxBytes()}, and a periodic compaction
+ * rewrites only the live and unexpired records into fresh segments rolled
+ * at the same size.
+ *
+ * <p>A record is laid out as:
+ * <pre>
+ *     int    body length
+ *     int    CRC32 of body
+ *     byte   operation ({@link #OP_PUT} / {@link #OP_REMOVE})
+ *     long   expiration timestamp (millis)
+ *     long   duration (millis)
+ *     string key {@link PairSerializer} name
+ *     string value {@link PairSerializer} name
+ *     bytes  key
+ *     bytes  value
+ * </pre>
+ * A record whose length or checksum does not match marks the torn tail of
+ * a segment, replay stops there and the active segment is truncated to its
+ * last valid record.
+ *
+ * <p>Restoring through {@link #reductionUsePath(String)} replays the
+ * segments sequentially in order and reloads the latest live value of each
+ * key into the global {@link Center}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+public class SegmentedLogPersistence implements CachePersistenceReduction {
+
+    private static final Logger log = LoggerFactory.getLogger(SegmentedLogPersistence.class);
+
+    /*** The prefix name of the segment file.*/
+    public static final String SEGMENT_PREFIX = "segment-";
+
+    /*** The suffix name of the segment file.*/
+    public static final String SEGMENT_SUFFIX = ".seg";
+
+    /*** Operation of a record that stores the latest value of a key.*/
+    public static final byte OP_PUT = 1;
+
+    /*** Operation of a record that removes a key.*/
+    public static final byte OP_REMOVE = 2;
+
+    /*** Length and checksum in front of each record body.*/
+    static final int HEADER_BYTES = 8;
+
+    /*** The size of the buffer streaming a segment during replay, grown only for a larger record.*/
+    static final int REPLAY_BUFFER_BYTES = 64 * 1024;
+
+    private static volatile SegmentedLogPersistence instance;
+
+    private final File directory;
+
+    private final long segmentMaxBytes;
+
+    private final Object lock = new Object();
+
+    /*** The position of the latest live record of each key.*/
+    private Map<ByteBuffer, Location> index = new HashMap<>();
+
+    /*** Segment files in order of sequence.*/
+    private final NavigableMap<Long, File> segments = new TreeMap<>();
+
+    private long activeSequence;
+
+    private FileChannel activeChannel;
+
+    private long activeSize;
+
+    private long totalBytes;
+
+    private long liveBytes;
+
+    private boolean opened;
+
+    private ScheduledExecutorService compactionScheduler;
+
+    /*** The progress of the latest reload of live records.*/
+    private volatile CachePersistenceReductionProgress reductionProgress;
+
+    public SegmentedLogPersistence(@NotNull String path, long segmentMaxBytes) {
+        Asserts.notNull(path, "Path no be null");
+        AbstractPersistenceFileManager.checkDirectory(path);
+        this.directory = new File(path);
+        this.segmentMaxBytes = segmentMaxBytes;
+    }
+
+    /**
+     * Return a singleton {@link SegmentedLogPersistence} configured by the global
+     * {@link Configuration}, and schedule its periodic compaction.
+     *
+     * @return a singleton {@link SegmentedLogPersistence}.
+     */
+    public static synchronized SegmentedLogPersistence getInstance() {
+        if (instance == null) {
+            Configuration configuration = Configuration.getGlobalConfiguration();
+            SegmentedLogPersistence persistence = new SegmentedLogPersistence(configuration.getPersistencePath(),
+                    configuration.getSegmentMaxBytes());
+            persistence.scheduleCompaction(configuration.getCompactionInterval(),
+                    configuration.getCompactionIntervalUnit());
+            instance = persistence;
+        }
+        return instance;
+    }
+
+    //************************ write methods *******************//
+
+    /**
+     * Append the latest value of a key.
+     *
+     * @param key                     must not be {@literal null}.
+     * @param value                   must not be {@literal null}.
+     * @param duration                the duration in milliseconds.
+     * @param keyPairSerializerName   can be {@literal null}.
+     * @param valuePairSerializerName can be {@literal null}.
+     */
+    public void put(@NotNull byte[] key, @NotNull byte[] value, long duration,
+                    @CanNull String keyPairSerializerName, @CanNull String valuePairSerializerName) {
+        append(new Record(OP_PUT, System.currentTimeMillis() + duration, duration,
+                keyPairSerializerName, valuePairSerializerName, key, value));
+    }
+
+    /**
+     * Append several records at once, holding the lock of the log once and
+     * writing the records of each segment with a single gathering write.
+     *
+     * @param records must not be {@literal null}.
+     */
+    public void appendAll(@NotNull List<Record> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        ByteBuffer[] buffers = new ByteBuffer[records.size()];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = encode(records.get(i));
+        }
+        synchronized (lock) {
+            open();
+            try {
+                int from = 0;
+                while (from < buffers.length) {
+                    if (activeSize > 0 && activeSize + buffers[from].remaining() > segmentMaxBytes) {
+                        roll();
+                    }
+                    //The records fitting the active segment, at least one
+                    long end = activeSize + buffers[from].remaining();
+                    int to = from + 1;
+                    while (to < buffers.length && end + buffers[to].remaining() <= segmentMaxBytes) {
+                        end += buffers[to++].remaining();
+                    }
+                    long offset = activeSize;
+                    activeChannel.position(offset);
+                    while (buffers[to - 1].hasRemaining()) {
+                        activeChannel.write(buffers, from, to - from);
+                    }
+                    for (int i = from; i < to; i++) {
+                        Record record = records.get(i);
+                        int size = buffers[i].limit();
+                        index(record.key, record, activeSequence, offset, size);
+                        offset += size;
+                    }
+                    totalBytes += end - activeSize;
+                    activeSize = end;
+                    from = to;
+                }
+            } catch (IOException e) {
+                throw new CachePersistenceException("Append segment error [" + e.getMessage() + "]");
+            }
+        }
+    }
+
+    /**
+     * Append the removal of a key.
+     *
+     * @param key must not be {@literal null}.
+     * @return if {@code true} the key had a live record.
+     */
+    public boolean remove(@NotNull byte[] key) {
+        synchronized (lock) {
+            open();
+            if (!index.containsKey(ByteBuffer.wrap(key))) {
+                return false;
+            }
+            append(new Record(OP_REMOVE, 0L, 0L, null, null, key, new byte[0]));
+            return true;
+        }
+    }
+
+    /**
+     * Remove all records by deleting every segment file and starting a new one.
+     */
+    public void clear() {
+        synchronized (lock) {
+            open();
+            try {
+                closeActive();
+                for (File file : segments.values()) {
+                    deleteSegment(file);
+                }
+                segments.clear();
+                index.clear();
+                totalBytes = 0L;
+                liveBytes = 0L;
+                openActive(activeSequence + 1);
+            } catch (IOException e) {
+                throw new CachePersistenceException("Clear segments error [" + e.getMessage() + "]");
+            }
+        }
+    }
+
+    //************************ read methods *******************//
+
+    /**
+     * Read the latest live record of a key.
+     *
+     * @param key must not be {@literal null}.
+     * @return the latest live record, {@literal null} when absent or expired.
+     */
+    @CanNull
+    public Record get(@NotNull byte[] key) {
+        synchronized (lock) {
+            open();
+            Location location = index.get(ByteBuffer.wrap(key));
+            if (location == null || location.expire <= System.currentTimeMillis()) {
+                return null;
+            }
+            try {
+                return decode(readRaw(location), location.sequence, location.offset);
+            } catch (IOException e) {
+                throw new CachePersistenceException("Read segment error [" + e.getMessage() + "]");
+            }
+        }
+    }
+
+    /**
+     * Find the keys of live records that are similar to the given key.
+     *
+     * @param key                   must not be {@literal null}.
+     * @param keyPairSerializerName can be {@literal null}.
+     * @return similar keys.
+     */
+    public List<byte[]> similarKeys(@NotNull byte[] key, @CanNull String keyPairSerializerName) {
+        Map<ByteBuffer, Location> snapshot;
+        synchronized (lock) {
+            open();
+            snapshot = new HashMap<>(index);
+        }
+        CachePersistenceKeyIdentify<byte[]> challenge = new CachePersistenceKeyIdentify<>(key, keyPairSerializerName);
+        List<byte[]> similar = new ArrayList<>();
+        for (Map.Entry<ByteBuffer, Location> entry : snapshot.entrySet()) {
+            byte[] candidate = entry.getKey().array();
+            if (new CachePersistenceKeyIdentify<>(candidate, entry.getValue().keyPairSerializerName)
+                    .similarTo(challenge)) {
+                similar.add(candidate);
+            }
+        }
+        return similar;
+    }
+
+    //************************ reduction methods *******************//
+
+    @Override
+    public void reductionUsePath(@CanNull String path) {
+        if (StringUtils.isBlank(path) || Objects.equals(path, AbstractCachePersistence.DEFAULT_WRITE_PATH_SIGN)) {
+            path = Configuration.getGlobalConfiguration().getPersistencePath();
+        }
+        File dir = new File(path);
+        if (!dir.isDirectory()) {
+            log.info("This path [{}] belong file no a directory", path);
+            return;
+        }
+        Map<ByteBuffer, Record> live = new LinkedHashMap<>();
+        if (sameDirectory(dir)) {
+            synchronized (lock) {
+                if (!opened) {
+                    open(live);
+                } else {
+                    replayDirectory(dir, live, true);
+                }
+            }
+        } else {
+            replayDirectory(dir, live, true);
+        }
+        reload(live.values());
+    }
+
+    @Override
+    public void reductionUseFile(@NotNull File file) {
+        Asserts.notNull(file, "File no be null");
+        Map<ByteBuffer, Record> live = new LinkedHashMap<>();
+        try {
+            replaySegment(parseSequence(file), file, live, true, false);
+        } catch (IOException e) {
+            throw new CachePersistenceException("Replay segment error [" + e.getMessage() + "]");
+        }
+        reload(live.values());
+    }
+
+    @Override
+    public CachePersistenceReductionProgress getReductionProgress() {
+        return reductionProgress;
+    }
+
+    @Override
+    public void reductionUseString(@NotNull StringBuilder builder) {
+        throw new CachePersistenceException("Segmented log records are binary and can not be restored from string");
+    }
+
+    //************************ compaction *******************//
+
+    /**
+     * Schedule periodic compaction on a daemon thread.
+     *
+     * @param interval compaction interval.
+     * @param unit     compaction interval unit.
+     */
+    public synchronized void scheduleCompaction(long interval, @NotNull TimeUnit unit) {
+        if (compactionScheduler != null || interval <= 0) {
+            return;
+        }
+        compactionScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Cache Segment Compaction thread");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactionScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                compact();
+            } catch (Throwable e) {
+                log.warn("Compact cache segments error : {}", e.getMessage());
+            }
+        }, interval, interval, unit);
+    }
+
+    /**
+     * Rewrite the live and unexpired records into new segments and delete the
+     * older ones, skipped while less than half of the log is superseded,
+     * removed or expired records.
+     */
+    public void compact() {
+        synchronized (lock) {
+            if (!opened || totalBytes == 0L) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            long expiredBytes = 0L;
+            for (Location location : index.values()) {
+                if (location.expire <= now) {
+                    expiredBytes += location.size;
+                }
+            }
+            if ((totalBytes - liveBytes + expiredBytes) * 2 < totalBytes) {
+                return;
+            }
+            long sequence = activeSequence + 1;
+            List<File> targets = new ArrayList<>();
+            Map<ByteBuffer, Location> compacted = new HashMap<>();
+            long written = 0L;
+            FileChannel out = null;
+            long position = 0L;
+            try {
+                try {
+                    for (Map.Entry<ByteBuffer, Location> entry : index.entrySet()) {
+                        Location location = entry.getValue();
+                        if (location.expire <= now) {
+                            continue;
+                        }
+                        if (out == null || (position > 0 && position + location.size > segmentMaxBytes)) {
+                            if (out != null) {
+                                out.force(true);
+                                out.close();
+                                sequence++;
+                            }
+                            File target = segmentFile(sequence);
+                            targets.add(target);
+                            out = FileChannel.open(target.toPath(), StandardOpenOption.CREATE_NEW,
+                                    StandardOpenOption.WRITE);
+                            position = 0L;
+                        }
+                        ByteBuffer raw = readRaw(location);
+                        writeFully(out, raw, position);
+                        compacted.put(entry.getKey(), location.moveTo(sequence, position));
+                        position += location.size;
+                        written += location.size;
+                    }
+                    if (out != null) {
+                        out.force(true);
+                    }
+                } finally {
+                    if (out != null) {
+                        out.close();
+                    }
+                }
+            } catch (IOException e) {
+                for (File target : targets) {
+                    deleteSegment(target);
+                }
+                throw new CachePersistenceException("Compact segments error [" + e.getMessage() + "]");
+            }
+            try {
+                closeActive();
+                for (File file : segments.values()) {
+                    deleteSegment(file);
+                }
+                segments.clear();
+                for (int i = 0; i < targets.size() - 1; i++) {
+                    segments.put(parseSequence(targets.get(i)), targets.get(i));
+                }
+                index = compacted;
+                totalBytes = written;
+                liveBytes = written;
+                openActive(sequence);
+            } catch (IOException e) {
+                throw new CachePersistenceException("Compact segments error [" + e.getMessage() + "]");
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Compacted cache segments into {} segments with {} live records", targets.size(),
+                        compacted.size());
+            }
+        }
+    }
+
+    /**
+     * Flush and close the active segment and stop compaction.
+     */
+    public void close() {
+        synchronized (lock) {
+            if (compactionScheduler != null) {
+                compactionScheduler.shutdownNow();
+            }
+            try {
+                closeActive();
+            } catch (IOException e) {
+                throw new CachePersistenceException("Close segment error [" + e.getMessage() + "]");
+            }
+            opened = false;
+        }
+    }
+
+    //************************ internal *******************//
+
+    private void append(Record record) {
+        ByteBuffer buffer = encode(record);
+        int size = buffer.remaining();
+        synchronized (lock) {
+            open();
+            try {
+                if (activeSize > 0 && activeSize + size > segmentMaxBytes) {
+                    roll();
+                }
+                long offset = activeSize;
+                writeFully(activeChannel, buffer, offset);
+                activeSize += size;
+                totalBytes += size;
+                index(record.key, record, activeSequence, offset, size);
+            } catch (IOException e) {
+                throw new CachePersistenceException("Append segment error [" + e.getMessage() + "]");
+            }
+        }
+    }
+
+    private void index(byte[] key, Record record, long sequence, long offset, int size) {
+        Location old = index.remove(ByteBuffer.wrap(key));
+        if (old != null) {
+            liveBytes -= old.size;
+        }
+        if (record.op == OP_PUT) {
+            index.put(ByteBuffer.wrap(key), new Location(sequence, offset, size, record.expire,
+                    record.keyPairSerializerName));
+            liveBytes += size;
+        }
+    }
+
+    private void open() {
+        if (!opened) {
+            open(null);
+        }
+    }
+
+    private void open(@CanNull Map<ByteBuffer, Record> live) {
+        try {
+            segments.clear();
+            index.clear();
+            totalBytes = 0L;
+            liveBytes = 0L;
+            long validEnd = 0L;
+            for (File file : listSegments(directory)) {
+                long sequence = parseSequence(file);
+                segments.put(sequence, file);
+                validEnd = replaySegment(sequence, file, live, true, true);
+            }
+            if (segments.isEmpty()) {
+                openActive(1L);
+            } else {
+                Map.Entry<Long, File> last = segments.lastEntry();
+                openActive(last.getKey());
+                if (activeChannel.size() > validEnd) {
+                    log.warn("Truncate torn tail of segment [{}] at {}", last.getValue().getName(), validEnd);
+                    activeChannel.truncate(validEnd);
+                    totalBytes -= activeSize - validEnd;
+                    activeSize = validEnd;
+                }
+            }
+            opened = true;
+        } catch (IOException e) {
+            throw new CachePersistenceException("Open segments error [" + e.getMessage() + "]");
+        }
+    }
+
+    private void replayDirectory(File dir, Map<ByteBuffer, Record> live, boolean retainValue) {
+        for (File file : listSegments(dir)) {
+            try {
+                replaySegment(parseSequence(file), file, live, retainValue, false);
+            } catch (Throwable e) {
+                log.warn("Replay cache segment {} error : {}", file.getName(), e.getMessage());
+            }
+        }
+    }
+
+    /*
+     * Replay a segment in order, update the index when opening this log and
+     * collect the latest records into the given map, return the offset after
+     * the last valid record.
+     */
+    private long replaySegment(long sequence, File file, @CanNull Map<ByteBuffer, Record> live,
+                               boolean retainValue, boolean owned) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (owned) {
+                totalBytes += fileSize;
+            }
+            if (fileSize == 0L) {
+                return 0L;
+            }
+            long offset = 0L;
+            ByteBuffer buffer = ByteBuffer.allocate(REPLAY_BUFFER_BYTES);
+            buffer.limit(0);
+            while (fileSize - offset >= HEADER_BYTES) {
+                buffer = fill(channel, buffer, offset, HEADER_BYTES);
+                int length = buffer.getInt(buffer.position());
+                if (length <= 0 || length > fileSize - offset - HEADER_BYTES) {
+                    break;
+                }
+                int size = HEADER_BYTES + length;
+                buffer = fill(channel, buffer, offset, size);
+                ByteBuffer raw = buffer.slice();
+                raw.limit(size);
+                Record record = decode(raw, sequence, offset);
+                if (record == null) {
+                    break;
+                }
+                if (owned) {
+                    index(record.key, record, sequence, offset, size);
+                }
+                if (live != null) {
+                    ByteBuffer key = ByteBuffer.wrap(record.key);
+                    live.remove(key);
+                    if (record.op == OP_PUT) {
+                        live.put(key, retainValue ? record : record.withoutValue());
+                    }
+                }
+                buffer.position(buffer.position() + size);
+                offset += size;
+            }
+            return offset;
+        }
+    }
+
+    /*
+     * Make sure the buffer, whose position is at the given segment offset,
+     * holds at least the needed bytes, reading the following ones from the
+     * channel into the same buffer or into a larger one for a larger record.
+     */
+    private static ByteBuffer fill(FileChannel channel, ByteBuffer buffer, long offset, int needed)
+            throws IOException {
+        if (buffer.remaining() >= needed) {
+            return buffer;
+        }
+        int capacity = Math.max(needed, REPLAY_BUFFER_BYTES);
+        ByteBuffer target = buffer.capacity() == capacity ? buffer.compact()
+                : ByteBuffer.allocate(capacity).put(buffer);
+        long position = offset + target.position();
+        while (target.position() < needed) {
+            int read = channel.read(target, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of segment");
+            }
+            position += read;
+        }
+        target.flip();
+        return target;
+    }
+
+    private void reload(Collection<Record> records) {
+        //Reload the live records in parallel batches
+        reductionProgress = new ReductionPipeline<Record>(this::reductionItem).start(new ArrayList<>(records));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ReductionPipeline.ReductionItem reductionItem(Record record) {
+        long surplus = record.expire - System.currentTimeMillis();
+        if (surplus <= 0) {
+            return null;
+        }
+        Center center = AbstractRecordActivationCenter.getGlobalCenter();
+        Object key = center.wrapKeyFunc().apply(new Object[]{record.key, record.keyPairSerializerName});
+        Object value = center.wrapValueFunc().apply(new Object[]{record.value, record.valuePairSerializerName});
+        return new ReductionPipeline.ReductionItem(Entry.of(key, value, surplus, TimeUnit.MILLISECONDS),
+                () -> notifyListeningRecoveries(record, surplus));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void notifyListeningRecoveries(Record record, long surplus) {
+        List<ListeningRecovery> listeningRecoveries =
+                Configuration.getGlobalConfiguration().unmodifiableListeningRecoveries();
+        if (CollectionUtils.isEmpty(listeningRecoveries)) {
+            return;
+        }
+        Object realKey;
+        Object realValue;
+        try {
+            PairSerializer keyPairSerializer = AbstractCachePersistence.getPairSerializerByName(
+                    record.keyPairSerializerName);
+            PairSerializer valuePairSerializer = AbstractCachePersistence.getPairSerializerByName(
+                    record.valuePairSerializerName);
+            realKey = keyPairSerializer.deserialize(record.key);
+            realValue = valuePairSerializer.deserialize(record.value);
+        } catch (Throwable e) {
+            log.error("Deserialization failed.", e);
+            return;
+        }
+        for (ListeningRecovery recovery : listeningRecoveries) {
+            try {
+                recovery.recovery(realKey, realValue, surplus, TimeUnit.MILLISECONDS);
+            } catch (Throwable e) {
+                log.error("Failed to recover cache key {} - value {}.", realKey, realValue);
+            }
+        }
+    }
+
+    private void roll() throws IOException {
+        closeActive();
+        openActive(activeSequence + 1);
+    }
+
+    private void openActive(long sequence) throws IOException {
+        File file = segmentFile(sequence);
+        activeChannel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        activeSequence = sequence;
+        activeSize = activeChannel.size();
+        segments.put(sequence, file);
+    }
+
+    private void closeActive() throws IOException {
+        if (activeChannel != null && activeChannel.isOpen()) {
+            activeChannel.force(false);
+            activeChannel.close();
+        }
+    }
+
+    private ByteBuffer readRaw(Location location) throws IOException {
+        ByteBuffer raw = ByteBuffer.allocate(location.size);
+        if (location.sequence == activeSequence && activeChannel != null && activeChannel.isOpen()) {
+            readFully(activeChannel, raw, location.offset);
+        } else {
+            try (FileChannel channel = FileChannel.open(segments.get(location.sequence).toPath(),
+                    StandardOpenOption.READ)) {
+                readFully(channel, raw, location.offset);
+            }
+        }
+        raw.flip();
+        return raw;
+    }
+
+    private boolean sameDirectory(File dir) {
+        return dir != null && directory.getAbsoluteFile().equals(dir.getAbsoluteFile());
+    }
+
+    private File segmentFile(long sequence) {
+        return new File(directory, SEGMENT_PREFIX + String.format("%020d", sequence) + SEGMENT_SUFFIX);
+    }
+
+    private static void deleteSegment(File file) {
+        if (file.exists() && !file.delete()) {
+            log.warn("Delete cache segment [{}] failed", file.getName());
+        }
+    }
+
+    private static List<File> listSegments(File dir) {
+        File[] files = dir.listFiles((d, name) -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+        if (files == null) {
+            return Collections.emptyList();
+        }
+        List<File> sorted = new ArrayList<>(Arrays.asList(files));
+        sorted.sort(Comparator.comparingLong(SegmentedLogPersistence::parseSequence));
+        return sorted;
+    }
+
+    private static long parseSequence(File file) {
+        String name = file.getName();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (RuntimeException e) {
+            throw new CachePersistenceException("[" + name + "] no a cache segment file");
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of segment");
+            }
+            position += read;
+        }
+    }
+
+    //************************ codec *******************//
+
+    static ByteBuffer encode(Record record) {
+        byte[] keyName = stringBytes(record.keyPairSerializerName);
+        byte[] valueName = stringBytes(record.valuePairSerializerName);
+        int length = 1 + 8 + 8 + 4 + keyName.length + 4 + valueName.length + 4 + record.key.length + 4
+                + record.value.length;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + length);
+        buffer.putInt(length);
+        buffer.putInt(0);
+        buffer.put(record.op);
+        buffer.putLong(record.expire);
+        buffer.putLong(record.duration);
+        putBytes(buffer, keyName);
+        putBytes(buffer, valueName);
+        putBytes(buffer, record.key);
+        putBytes(buffer, record.value);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_BYTES, length);
+        buffer.putInt(4, (int) crc.getValue());
+        buffer.flip();
+        return buffer;
+    }
+
+    /*
+     * Decode a record starting at the current position of the buffer,
+     * return null when its checksum does not match.
+     */
+    @CanNull
+    static Record decode(ByteBuffer buffer, long sequence, long offset) {
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        ByteBuffer body = buffer.slice();
+        body.limit(length);
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            log.warn("Cache segment record at {}:{} checksum mismatch", sequence, offset);
+            return null;
+        }
+        byte op = body.get();
+        long expire = body.getLong();
+        long duration = body.getLong();
+        String keyName = getString(body);
+        String valueName = getString(body);
+        byte[] key = getBytes(body);
+        byte[] value = getBytes(body);
+        return new Record(op, expire, duration, keyName, valueName, key, value);
+    }
+
+    private static byte[] stringBytes(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = getBytes(buffer);
+        return bytes.length == 0 ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static byte[] getBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    //************************ help classes *******************//
+
+    /**
+     * A decoded mutation record of the segmented log.
+     */
+    public static class Record {
+        private final byte op;
+        private final long expire;
+        private final long duration;
+        private final String keyPairSerializerName;
+        private final String valuePairSerializerName;
+        private final byte[] key;
+        private final byte[] value;
+
+        public Record(byte op, long expire, long duration, String keyPairSerializerName,
+                      String valuePairSerializerName, byte[] key, byte[] value) {
+            this.op = op;
+            this.expire = expire;
+            this.duration = duration;
+            this.keyPairSerializerName = keyPairSerializerName;
+            this.valuePairSerializerName = valuePairSerializerName;
+            this.key = key;
+            this.value = value;
+        }
+
+        Record withoutValue() {
+            return new Record(op, expire, duration, keyPairSerializerName, valuePairSerializerName, key,
+                    new byte[0]);
+        }
+
+        public byte getOp() {
+            return op;
+        }
+
+        public long getExpire() {
+            return expire;
+        }
+
+        public long getDuration() {
+            return duration;
+        }
+
+        public String getKeyPairSerializerName() {
+            return keyPairSerializerName;
+        }
+
+        public String getValuePairSerializerName() {
+            return valuePairSerializerName;
+        }
+
+        public byte[] getKey() {
+            return key;
+        }
+
+        public byte[] getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * The position of a live record inside a segment.
+     */
+    private static class Location {
+        private final long sequence;
+        private final long offset;
+        private final int size;
+        private final long expire;
+        private final String keyPairSerializerName;
+
+        Location(long sequence, long offset, int size, long expire, String keyPairSerializerName) {
+            this.sequence = sequence;
+            this.offset = offset;
+            this.size = size;
+            this.expire = expire;
+            this.keyPairSerializerName = keyPairSerializerName;
+        }
+
+        Location moveTo(long sequence, long offset) {
+            return new Location(sequence, offset, size, expire, keyPairSerializerName);
+        }
+    }
+}
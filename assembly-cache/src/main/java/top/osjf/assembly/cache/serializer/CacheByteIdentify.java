@@ -15,13 +15,25 @@ public class CacheByteIdentify extends ByteIdentify {
 
     private final String pairSerializerName;
 
-    @SuppressWarnings("unchecked")
     public CacheByteIdentify(byte[] var, String pairSerializerName) {
+        this(var, pairSerializerName, true);
+    }
+
+    /**
+     * @param var                the byte array.
+     * @param pairSerializerName the class name of the {@link PairSerializer}.
+     * @param bindSerializer     whether to bind the functions of the {@link PairSerializer}
+     *                           now, otherwise subclasses resolve it on use.
+     */
+    @SuppressWarnings("unchecked")
+    protected CacheByteIdentify(byte[] var, String pairSerializerName, boolean bindSerializer) {
         super(var);
         this.pairSerializerName = pairSerializerName;
-        PairSerializer pairSerializer = getPairSerializer();
-        setSerializeFc(pairSerializer::serialize);
-        setDeserializeFc(pairSerializer::deserialize);
+        if (bindSerializer) {
+            PairSerializer pairSerializer = getPairSerializer();
+            setSerializeFc(pairSerializer::serialize);
+            setDeserializeFc(pairSerializer::deserialize);
+        }
     }
 
     public PairSerializer getPairSerializer() {
@@ -0,0 +1,39 @@
+package top.osjf.assembly.cache.serializer;
+
+import top.osjf.assembly.util.data.ByteIdentify;
+
+import java.util.function.Function;
+
+/**
+ * The key of the cache center, created on every cache operation, so that it
+ * only carries its byte array and the name of its {@link PairSerializer}: the
+ * hash is the one cached by {@link ByteIdentify}, and the {@link PairSerializer}
+ * is only looked up when the key is deserialized, for similar key queries or
+ * expiration messages.
+ * <p>The byte array is owned by this key and must not be modified after
+ * the key is created.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.1.4
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public final class CacheByteKeyIdentify extends CacheByteIdentify {
+
+    private static final long serialVersionUID = -3307245791512487395L;
+
+    public CacheByteKeyIdentify(byte[] var, String pairSerializerName) {
+        super(var, pairSerializerName, false);
+    }
+
+    @Override
+    public Function<Object, byte[]> getSerializeFc() {
+        PairSerializer pairSerializer = getPairSerializer();
+        return pairSerializer::serialize;
+    }
+
+    @Override
+    public Function<byte[], Object> getDeserializeFc() {
+        PairSerializer pairSerializer = getPairSerializer();
+        return pairSerializer::deserialize;
+    }
+}
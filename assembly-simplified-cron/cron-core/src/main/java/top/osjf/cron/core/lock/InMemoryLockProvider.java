@@ -0,0 +1,68 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.cron.core.lock;
+
+import top.osjf.cron.core.lang.NotNull;
+import top.osjf.cron.core.lang.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link LockProvider} implementation keeping its locks in memory, which only
+ * coordinates the repositories of a single node, and serves in tests.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.3
+ */
+public class InMemoryLockProvider implements LockProvider {
+
+    private final Map<String, LockState> locks = new ConcurrentHashMap<>();
+
+    @Override
+    @Nullable
+    public TaskLock tryLock(@NotNull String name, long fireTime, long leaseMillis) {
+        LockState state = locks.computeIfAbsent(name, n -> new LockState());
+        synchronized (state) {
+            long now = System.currentTimeMillis();
+            if (state.fireTime >= fireTime || state.lockedUntil > now) {
+                return null;
+            }
+            Object holder = new Object();
+            state.fireTime = fireTime;
+            state.lockedUntil = now + leaseMillis;
+            state.holder = holder;
+            return () -> {
+                synchronized (state) {
+                    if (state.holder == holder) {
+                        state.lockedUntil = System.currentTimeMillis();
+                        state.holder = null;
+                    }
+                }
+            };
+        }
+    }
+
+    private static class LockState {
+
+        private long fireTime = Long.MIN_VALUE;
+
+        private long lockedUntil;
+
+        private Object holder;
+    }
+}
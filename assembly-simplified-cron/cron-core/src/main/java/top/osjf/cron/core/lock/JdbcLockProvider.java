@@ -0,0 +1,175 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.cron.core.lock;
+
+import top.osjf.cron.core.exception.CronInternalException;
+import top.osjf.cron.core.lang.NotNull;
+import top.osjf.cron.core.lang.Nullable;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Objects;
+
+/**
+ * The {@link LockProvider} implementation keeping its locks in a table of a database
+ * shared by the nodes, one row per lock name:
+ * <pre>
+ * CREATE TABLE cron_task_lock (
+ *     name         VARCHAR(255) NOT NULL PRIMARY KEY,
+ *     fire_time    BIGINT       NOT NULL,
+ *     locked_until BIGINT       NOT NULL,
+ *     locked_by    VARCHAR(255) NOT NULL
+ * )
+ * </pre>
+ *
+ * <p>A lock is acquired by a single conditional update of its row, or by the insert
+ * of its row the first time, a duplicate key meaning another node has won. Times
+ * are those of the node clocks, which are expected to be synchronized.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.3
+ */
+public class JdbcLockProvider implements LockProvider {
+
+    /**
+     * The default name of the lock table.
+     */
+    public static final String DEFAULT_TABLE_NAME = "cron_task_lock";
+
+    private final DataSource dataSource;
+
+    private final String lockSql;
+
+    private final String insertSql;
+
+    private final String unlockSql;
+
+    /**
+     * The name of this node in the lock table.
+     */
+    private String lockedBy = ManagementFactory.getRuntimeMXBean().getName();
+
+    public JdbcLockProvider(@NotNull DataSource dataSource) {
+        this(dataSource, DEFAULT_TABLE_NAME);
+    }
+
+    public JdbcLockProvider(@NotNull DataSource dataSource, @NotNull String tableName) {
+        this.dataSource = Objects.requireNonNull(dataSource, "<DataSource> == <null>");
+        Objects.requireNonNull(tableName, "<tableName> == <null>");
+        this.lockSql = "UPDATE " + tableName + " SET fire_time = ?, locked_until = ?, locked_by = ?"
+                + " WHERE name = ? AND fire_time < ? AND locked_until <= ?";
+        this.insertSql = "INSERT INTO " + tableName + " (name, fire_time, locked_until, locked_by)"
+                + " VALUES (?, ?, ?, ?)";
+        this.unlockSql = "UPDATE " + tableName + " SET locked_until = ?"
+                + " WHERE name = ? AND fire_time = ? AND locked_by = ?";
+    }
+
+    /**
+     * Set the name of this node in the lock table, by default the name of the
+     * running JVM, such as {@code pid@hostname}.
+     *
+     * @param lockedBy the name of this node in the lock table.
+     */
+    public void setLockedBy(@NotNull String lockedBy) {
+        this.lockedBy = Objects.requireNonNull(lockedBy, "<lockedBy> == <null>");
+    }
+
+    @Override
+    @Nullable
+    public TaskLock tryLock(@NotNull String name, long fireTime, long leaseMillis) {
+        long now = System.currentTimeMillis();
+        String by = lockedBy;
+        try (Connection connection = dataSource.getConnection()) {
+            boolean acquired;
+            try (PreparedStatement statement = connection.prepareStatement(lockSql)) {
+                statement.setLong(1, fireTime);
+                statement.setLong(2, now + leaseMillis);
+                statement.setString(3, by);
+                statement.setString(4, name);
+                statement.setLong(5, fireTime);
+                statement.setLong(6, now);
+                acquired = statement.executeUpdate() > 0;
+            }
+            if (!acquired) {
+                acquired = insert(connection, name, fireTime, now + leaseMillis, by);
+            }
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+            return acquired ? () -> unlock(name, fireTime, by) : null;
+        }
+        catch (SQLException e) {
+            throw new CronInternalException(e);
+        }
+    }
+
+    /**
+     * Insert the row of a lock acquired for the first time.
+     *
+     * @return {@code true} if inserted, {@code false} if the row already exists.
+     */
+    private boolean insert(Connection connection, String name, long fireTime, long lockedUntil, String by)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(insertSql)) {
+            statement.setString(1, name);
+            statement.setLong(2, fireTime);
+            statement.setLong(3, lockedUntil);
+            statement.setString(4, by);
+            return statement.executeUpdate() > 0;
+        }
+        catch (SQLException e) {
+            if (isDuplicateKey(e)) {
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                }
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private void unlock(String name, long fireTime, String by) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(unlockSql)) {
+            statement.setLong(1, System.currentTimeMillis());
+            statement.setString(2, name);
+            statement.setLong(3, fireTime);
+            statement.setString(4, by);
+            statement.executeUpdate();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        }
+        catch (SQLException e) {
+            throw new CronInternalException(e);
+        }
+    }
+
+    /**
+     * Whether the given exception reports a violated unique constraint, which
+     * drivers not throwing {@link SQLIntegrityConstraintViolationException} report
+     * with a SQL state of class {@code 23}.
+     */
+    private static boolean isDuplicateKey(SQLException e) {
+        return e instanceof SQLIntegrityConstraintViolationException
+                || (e.getSQLState() != null && e.getSQLState().startsWith("23"));
+    }
+}
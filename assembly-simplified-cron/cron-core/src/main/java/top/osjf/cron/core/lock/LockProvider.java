@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.cron.core.lock;
+
+import top.osjf.cron.core.lang.NotNull;
+import top.osjf.cron.core.lang.Nullable;
+
+/**
+ * The {@code LockProvider} interface is the SPI coordinating the nodes of a cluster
+ * running the same scheduled tasks, so that only one of them runs a task at a given
+ * fire time.
+ *
+ * <p>A lock is identified by a name shared by the nodes, such as the name of the task
+ * method. It is acquired for a fire time and a lease: it can be acquired only if no
+ * node holds it within an unexpired lease, and no node has already acquired it for
+ * the same or a later fire time. A lock whose holder dies is freed when its lease
+ * expires.
+ *
+ * <p>Implementations are {@link InMemoryLockProvider} for a single node and tests, and
+ * {@link JdbcLockProvider} for the nodes sharing a database.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.3
+ */
+public interface LockProvider {
+
+    /**
+     * Try to acquire the lock of the given name for the given fire time.
+     *
+     * @param name        the name of the lock, shared by the nodes.
+     * @param fireTime    the fire time of the task, as a UNIX-era millis value.
+     * @param leaseMillis the maximum time the lock is held if it is not unlocked.
+     * @return the acquired lock, {@literal null} if another node holds it or has
+     * already acquired it for this fire time.
+     */
+    @Nullable
+    TaskLock tryLock(@NotNull String name, long fireTime, long leaseMillis);
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.cron.core.lock;
+
+import top.osjf.cron.core.lang.NotNull;
+import top.osjf.cron.core.lang.Nullable;
+
+/**
+ * The {@code ScheduledFireTime} carries the time a scheduler has fired a task for
+ * to the {@link TaskLocker} wrapping its runnable, on the thread running it.
+ *
+ * <p>This time is the one of the trigger, such as the minute a cron4j launcher has
+ * matched or the time a Spring trigger has computed, and is the same on every node
+ * whatever the delay before the task starts running. A {@link TaskLocker} with no
+ * scheduled fire time falls back to the current time truncated to a precision.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.3
+ */
+public final class ScheduledFireTime {
+
+    private static final ThreadLocal<Long> FIRE_TIME = new ThreadLocal<>();
+
+    private ScheduledFireTime() {
+    }
+
+    /**
+     * Run the given runnable with the given scheduled fire time, unless a fire time
+     * is already set on the current thread by an outer scheduler, which wins.
+     *
+     * @param scheduledFireTime the time the task is fired for, as a UNIX-era millis value.
+     * @param runnable          the runnable of the task.
+     */
+    public static void runAt(long scheduledFireTime, @NotNull Runnable runnable) {
+        if (FIRE_TIME.get() != null) {
+            runnable.run();
+            return;
+        }
+        FIRE_TIME.set(scheduledFireTime);
+        try {
+            runnable.run();
+        }
+        finally {
+            FIRE_TIME.remove();
+        }
+    }
+
+    /**
+     * Return the scheduled fire time of the task running on the current thread.
+     *
+     * @return the scheduled fire time, {@literal null} if the scheduler has not set any.
+     */
+    @Nullable
+    public static Long get() {
+        return FIRE_TIME.get();
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.cron.core.lock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import top.osjf.cron.core.lang.NotNull;
+import top.osjf.cron.core.lang.Nullable;
+import top.osjf.cron.core.repository.CronMethodRunnable;
+import top.osjf.cron.core.repository.RunnableTaskBody;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code TaskLocker} wraps the tasks registered in a
+ * {@link top.osjf.cron.core.repository.CronTaskRepository}, so that every time one
+ * fires it first acquires its lock from a {@link LockProvider}, and is skipped if
+ * another node has acquired it for this fire time.
+ *
+ * <p>The fire time is the {@link ScheduledFireTime scheduled fire time} the scheduler
+ * has fired the task for, the same on every node. A scheduler giving none, such as
+ * Hutool, leaves the fire time to the current time truncated to a precision, the
+ * granularity of the task expression by default: nodes whose runs start on either
+ * side of a precision boundary, delayed by a queue, a thread start or a pause, then
+ * compute two fire times, and the later node runs the fire again once the first has
+ * unlocked it. The lock is held until the task has run, or its
+ * {@link #setLeaseMillis lease} expires. A task failing to acquire its lock because
+ * of the provider itself is skipped too.
+ *
+ * <p>The lock name of a task is the name of its {@link RunnableTaskBody}, such as the
+ * bean name followed by the method name for a {@code @Cron} method, or else the name
+ * of the declaring class and method of a {@link CronMethodRunnable}, shared by all the
+ * beans of that class. A task without either is not locked, as it has no name shared
+ * by the nodes.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.3
+ */
+public class TaskLocker {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskLocker.class);
+
+    /**
+     * The default maximum time a lock is held, in milliseconds.
+     */
+    public static final long DEFAULT_LEASE_MILLIS = 5 * 60 * 1000L;
+
+    /**
+     * The default precision of the fire times, in milliseconds, for the tasks with
+     * an unknown expression or an expression with seconds.
+     */
+    public static final long DEFAULT_FIRE_TIME_PRECISION_MILLIS = 1000L;
+
+    /**
+     * The precision of the fire times of the tasks with a minute level expression.
+     */
+    public static final long MINUTE_FIRE_TIME_PRECISION_MILLIS = 60 * 1000L;
+
+    private final LockProvider lockProvider;
+
+    private long leaseMillis = DEFAULT_LEASE_MILLIS;
+
+    /**
+     * The precision of the fire times, {@code 0} for the granularity of the task expressions.
+     */
+    private long fireTimePrecisionMillis;
+
+    private final LongAdder executions = new LongAdder();
+
+    private final LongAdder skippedExecutions = new LongAdder();
+
+    private final LongAdder lockFailures = new LongAdder();
+
+    private final Map<String, LongAdder> skippedExecutionsByName = new ConcurrentHashMap<>();
+
+    public TaskLocker(@NotNull LockProvider lockProvider) {
+        this.lockProvider = Objects.requireNonNull(lockProvider, "<LockProvider> == <null>");
+    }
+
+    /**
+     * Set the maximum time a lock is held if its task has not ended, after which
+     * another node can run the task again. It should exceed the longest run of
+     * the tasks.
+     *
+     * @param leaseMillis the maximum time a lock is held, in milliseconds.
+     */
+    public void setLeaseMillis(long leaseMillis) {
+        if (leaseMillis <= 0) {
+            throw new IllegalArgumentException("leaseMillis must be positive");
+        }
+        this.leaseMillis = leaseMillis;
+    }
+
+    /**
+     * Set the precision the current time is truncated to into a fire time when the
+     * scheduler gives no scheduled fire time, by default one minute for the minute
+     * level expressions and one second for the others.
+     *
+     * @param fireTimePrecisionMillis the precision of the fire times, in milliseconds.
+     */
+    public void setFireTimePrecisionMillis(long fireTimePrecisionMillis) {
+        if (fireTimePrecisionMillis <= 0) {
+            throw new IllegalArgumentException("fireTimePrecisionMillis must be positive");
+        }
+        this.fireTimePrecisionMillis = fireTimePrecisionMillis;
+    }
+
+    /**
+     * Return the runnable of the given task body, wrapped so that it runs only
+     * when its lock is acquired.
+     *
+     * @param body the task body.
+     * @return the wrapped runnable, or the runnable itself if the task has no lock name.
+     */
+    @NotNull
+    public Runnable wrap(@NotNull RunnableTaskBody body) {
+        return wrap(body, null);
+    }
+
+    /**
+     * Return the runnable of the given task body, wrapped so that it runs only
+     * when its lock is acquired, its fire time falling back to the granularity
+     * of the given expression.
+     *
+     * @param body       the task body.
+     * @param expression the cron expression of the task, {@literal null} if unknown.
+     * @return the wrapped runnable, or the runnable itself if the task has no lock name.
+     */
+    @NotNull
+    public Runnable wrap(@NotNull RunnableTaskBody body, @Nullable String expression) {
+        Runnable runnable = body.getRunnable();
+        String name = body.getName();
+        if (name == null && runnable instanceof CronMethodRunnable) {
+            name = runnable.toString();
+        }
+        if (name == null) {
+            logger.warn("Task {} has no name shared by the nodes, it is not locked.", runnable);
+            return runnable;
+        }
+        return wrap(name, runnable, expression);
+    }
+
+    /**
+     * Return the given runnable wrapped so that it runs only when the lock of the
+     * given name is acquired.
+     *
+     * @param name     the lock name.
+     * @param runnable the runnable of the task.
+     * @return the wrapped runnable.
+     */
+    @NotNull
+    public Runnable wrap(@NotNull String name, @NotNull Runnable runnable) {
+        return wrap(name, runnable, null);
+    }
+
+    /**
+     * Return the given runnable wrapped so that it runs only when the lock of the
+     * given name is acquired, its fire time falling back to the granularity of the
+     * given expression.
+     *
+     * @param name       the lock name.
+     * @param runnable   the runnable of the task.
+     * @param expression the cron expression of the task, {@literal null} if unknown.
+     * @return the wrapped runnable.
+     */
+    @NotNull
+    public Runnable wrap(@NotNull String name, @NotNull Runnable runnable, @Nullable String expression) {
+        return new LockingRunnable(name, runnable, getGranularityMillis(expression));
+    }
+
+    /**
+     * Return the number of task runs, on this node.
+     *
+     * @return the number of task runs.
+     */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    /**
+     * Return the number of task fires skipped, their lock being held by another
+     * node or failing to be acquired.
+     *
+     * @return the number of skipped fires.
+     */
+    public long getSkippedExecutions() {
+        return skippedExecutions.sum();
+    }
+
+    /**
+     * Return the number of skipped fires of the task with the given lock name.
+     *
+     * @param name the lock name.
+     * @return the number of skipped fires of the task.
+     */
+    public long getSkippedExecutions(@NotNull String name) {
+        LongAdder adder = skippedExecutionsByName.get(name);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * Return the number of fires skipped because the lock provider failed.
+     *
+     * @return the number of lock failures.
+     */
+    public long getLockFailures() {
+        return lockFailures.sum();
+    }
+
+    private void run(String name, Runnable runnable, long granularityMillis) {
+        Long scheduledFireTime = ScheduledFireTime.get();
+        long fireTime;
+        if (scheduledFireTime != null) {
+            fireTime = scheduledFireTime;
+        }
+        else {
+            long precision = fireTimePrecisionMillis > 0 ? fireTimePrecisionMillis : granularityMillis;
+            fireTime = System.currentTimeMillis() / precision * precision;
+        }
+        TaskLock lock;
+        try {
+            lock = lockProvider.tryLock(name, fireTime, leaseMillis);
+        }
+        catch (RuntimeException e) {
+            lockFailures.increment();
+            skip(name);
+            logger.warn("Failed to acquire the lock of task {}, skipped.", name, e);
+            return;
+        }
+        if (lock == null) {
+            skip(name);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Lock of task {} is held by another node, skipped.", name);
+            }
+            return;
+        }
+        executions.increment();
+        try {
+            runnable.run();
+        }
+        finally {
+            unlock(name, lock);
+        }
+    }
+
+    private void skip(String name) {
+        skippedExecutions.increment();
+        skippedExecutionsByName.computeIfAbsent(name, n -> new LongAdder()).increment();
+    }
+
+    /**
+     * Return the granularity of the given cron expression, one minute if none of its
+     * {@code |} separated parts has a seconds field other than {@code 0}, which
+     * expressions of five fields do not have, and one second otherwise.
+     */
+    private static long getGranularityMillis(@Nullable String expression) {
+        if (expression == null) {
+            return DEFAULT_FIRE_TIME_PRECISION_MILLIS;
+        }
+        for (String part : expression.split("\\|")) {
+            String[] fields = part.trim().split("\\s+");
+            if (fields.length >= 6 && !"0".equals(fields[0])) {
+                return DEFAULT_FIRE_TIME_PRECISION_MILLIS;
+            }
+        }
+        return MINUTE_FIRE_TIME_PRECISION_MILLIS;
+    }
+
+    private static void unlock(String name, TaskLock lock) {
+        try {
+            lock.unlock();
+        }
+        catch (RuntimeException e) {
+            logger.warn("Failed to release the lock of task {}, released when its lease expires.", name, e);
+        }
+    }
+
+    /**
+     * The runnable of a task running only when its lock is acquired.
+     */
+    private class LockingRunnable implements Runnable {
+
+        private final String name;
+
+        private final Runnable runnable;
+
+        private final long granularityMillis;
+
+        LockingRunnable(String name, Runnable runnable, long granularityMillis) {
+            this.name = name;
+            this.runnable = runnable;
+            this.granularityMillis = granularityMillis;
+        }
+
+        @Override
+        public void run() {
+            TaskLocker.this.run(name, runnable, granularityMillis);
+        }
+
+        @Override
+        public String toString() {
+            return runnable.toString();
+        }
+    }
+}
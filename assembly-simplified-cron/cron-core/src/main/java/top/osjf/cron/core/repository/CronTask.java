@@ -17,6 +17,8 @@
 
 package top.osjf.cron.core.repository;
 
+import top.osjf.cron.core.lang.Nullable;
+
 /**
  * The {@code CronTask} class represents a timed task execution information wrapper
  * object, which contains a cron expression and a task to be executed (implemented
@@ -31,6 +33,8 @@ public final class CronTask {
 
     private final CronMethodRunnable runnable;
 
+    private final String name;
+
     /**
      * Construct a {@code CronTask} instance by given cron expression and {@code CronMethodRunnable}.
      *
@@ -38,8 +42,23 @@ public final class CronTask {
      * @param runnable   the task to be executed is implemented through {@code CronMethodRunnable}.
      */
     public CronTask(String expression, CronMethodRunnable runnable) {
+        this(expression, runnable, null);
+    }
+
+    /**
+     * Construct a {@code CronTask} instance by given cron expression, {@code CronMethodRunnable}
+     * and the name identifying the task on every node running it, such as the name of
+     * the target bean followed by the method name.
+     *
+     * @param expression the cron expression defines the execution time of the task.
+     * @param runnable   the task to be executed is implemented through {@code CronMethodRunnable}.
+     * @param name       the name of the task, shared by the nodes.
+     * @since 1.0.3
+     */
+    public CronTask(String expression, CronMethodRunnable runnable, @Nullable String name) {
         this.expression = expression;
         this.runnable = runnable;
+        this.name = name;
     }
 
     /**
@@ -60,6 +79,18 @@ public final class CronTask {
         return runnable;
     }
 
+    /**
+     * Return the name of the task, shared by the nodes, used as its lock name by a
+     * {@link top.osjf.cron.core.lock.TaskLocker}.
+     *
+     * @return the name of the task, {@literal null} if not given.
+     * @since 1.0.3
+     */
+    @Nullable
+    public String getName() {
+        return name;
+    }
+
     @Override
     public String toString() {
         return expression + "@" + runnable.toString();
@@ -20,6 +20,7 @@ package top.osjf.cron.core.repository;
 import top.osjf.cron.core.exception.CronInternalException;
 import top.osjf.cron.core.lang.NotNull;
 import top.osjf.cron.core.lang.Nullable;
+import top.osjf.cron.core.lock.TaskLocker;
 
 import java.util.Objects;
 
@@ -80,6 +81,23 @@ public abstract class RepositoryUtils {
         }
     }
 
+    /**
+     * Return the runnable of the given {@link RunnableTaskBody}, wrapped by the given
+     * {@link TaskLocker} if any so that it runs on a single node at every fire time.
+     *
+     * @param body       the task body, a {@link RunnableTaskBody}.
+     * @param taskLocker the task locker of the repository, {@literal null} if none.
+     * @param expression the cron expression the task is registered with.
+     * @return the runnable to schedule.
+     * @throws ClassCastException if input body is not a {@link RunnableTaskBody}.
+     */
+    @NotNull
+    public static Runnable getRunnable(@NotNull TaskBody body, @Nullable TaskLocker taskLocker,
+                                       @NotNull String expression) {
+        RunnableTaskBody runnableTaskBody = body.unwrap(RunnableTaskBody.class);
+        return taskLocker != null ? taskLocker.wrap(runnableTaskBody, expression) : runnableTaskBody.getRunnable();
+    }
+
     /**
      * Resolve exceptions and return corresponding exceptions according to the
      * {@link top.osjf.cron.core.repository.CronTaskRepository} specification.
@@ -17,6 +17,8 @@
 
 package top.osjf.cron.core.repository;
 
+import top.osjf.cron.core.lang.Nullable;
+
 /**
  * The implementation class of interface {@link TaskBody} carries an
  * executable {@link Runnable} object.
@@ -28,11 +30,38 @@ public class RunnableTaskBody implements TaskBody {
 
     private final Runnable runnable;
 
+    private final String name;
+
     public RunnableTaskBody(Runnable runnable) {
+        this(runnable, null);
+    }
+
+    /**
+     * Construct a {@code RunnableTaskBody} with the name identifying the task on
+     * every node running it, used as its lock name by a
+     * {@link top.osjf.cron.core.lock.TaskLocker}.
+     *
+     * @param runnable the runnable of the task.
+     * @param name     the name of the task, shared by the nodes.
+     * @since 1.0.3
+     */
+    public RunnableTaskBody(Runnable runnable, @Nullable String name) {
         this.runnable = runnable;
+        this.name = name;
     }
 
     public Runnable getRunnable() {
         return runnable;
     }
+
+    /**
+     * Return the name of the task, shared by the nodes.
+     *
+     * @return the name of the task, {@literal null} if not given.
+     * @since 1.0.3
+     */
+    @Nullable
+    public String getName() {
+        return name;
+    }
 }
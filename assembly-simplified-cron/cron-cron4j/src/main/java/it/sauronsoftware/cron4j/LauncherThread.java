@@ -49,6 +49,11 @@ class LauncherThread extends Thread {
 	 */
 	private long referenceTimeInMillis;
 
+	/**
+	 * Is the reference time the first of its minute?
+	 */
+	private boolean minuteTick;
+
 	/**
 	 * Builds the launcher.
 	 * 
@@ -58,12 +63,17 @@ class LauncherThread extends Thread {
 	 *            Task collectors, used to retrieve registered tasks.
 	 * @param referenceTimeInMillis
 	 *            A reference time for task launching.
+	 * @param minuteTick
+	 *            true if the reference time is the first of its minute, false
+	 *            to only launch the tasks whose scheduling pattern has a
+	 *            "second" field.
 	 */
 	public LauncherThread(Scheduler scheduler, TaskCollector[] collectors,
-                          long referenceTimeInMillis) {
+                          long referenceTimeInMillis, boolean minuteTick) {
 		this.scheduler = scheduler;
 		this.collectors = collectors;
 		this.referenceTimeInMillis = referenceTimeInMillis;
+		this.minuteTick = minuteTick;
 		// Thread name.
 		String name = "cron4j::scheduler[" + scheduler.getGuid()
 				+ "]::launcher[" + guid + "]";
@@ -83,21 +93,70 @@ class LauncherThread extends Thread {
 	 * Overrides {@link Thread#run()}.
 	 */
 	public void run() {
+		launch(scheduler, collectors, referenceTimeInMillis, minuteTick);
+		// Notifies completed.
+		scheduler.notifyLauncherCompleted(this);
+	}
+
+	/**
+	 * Spawns an executor for every task of the collectors matching the
+	 * reference time, until the current thread is interrupted. It is the work
+	 * of a launcher thread, also done by the launcher of a scheduler executing
+	 * its tasks within an executor.
+	 * 
+	 * @param scheduler
+	 *            The scheduler.
+	 * @param collectors
+	 *            Task collectors, used to retrieve registered tasks.
+	 * @param referenceTimeInMillis
+	 *            A reference time, used to check the tasks to launch.
+	 * @param minuteTick
+	 *            true if the reference time is the first of its minute, false
+	 *            to only launch the tasks whose scheduling pattern has a
+	 *            "second" field.
+	 */
+	static void launch(Scheduler scheduler, TaskCollector[] collectors,
+			long referenceTimeInMillis, boolean minuteTick) {
+		Thread current = Thread.currentThread();
 		outer: for (int i = 0; i < collectors.length; i++) {
-			TaskTable taskTable = collectors[i].getTasks();
+			TaskCollector collector = collectors[i];
+			if (collector instanceof MemoryTaskCollector
+					&& (!minuteTick || ((MemoryTaskCollector) collector).isIndexed())) {
+				// The memory collector returns only the matching tasks, every
+				// second tick only matching the patterns having a "second" field.
+				MemoryTaskCollector memoryCollector = (MemoryTaskCollector) collector;
+				TaskTable taskTable = memoryCollector.isIndexed()
+						? memoryCollector.getTasks(scheduler.getTimeZone(),
+								referenceTimeInMillis, minuteTick)
+						: memoryCollector.getSecondsTasks(scheduler.getTimeZone(),
+								referenceTimeInMillis, minuteTick);
+				int size = taskTable.size();
+				for (int j = 0; j < size; j++) {
+					if (current.isInterrupted()) {
+						break outer;
+					}
+					SchedulingPattern pattern = taskTable.getSchedulingPattern(j);
+					scheduler.spawnExecutor(taskTable.getTask(j),
+							pattern.getTickTime(scheduler.getTimeZone(),
+									referenceTimeInMillis));
+				}
+				continue;
+			}
+			TaskTable taskTable = collector.getTasks();
 			int size = taskTable.size();
 			for (int j = 0; j < size; j++) {
-				if (isInterrupted()) {
+				if (current.isInterrupted()) {
 					break outer;
 				}
 				SchedulingPattern pattern = taskTable.getSchedulingPattern(j);
-				if (pattern.match(scheduler.getTimeZone(), referenceTimeInMillis)) {
+				if ((minuteTick || pattern.hasSeconds())
+						&& pattern.matchTick(scheduler.getTimeZone(),
+								referenceTimeInMillis, minuteTick)) {
 					Task task = taskTable.getTask(j);
-					scheduler.spawnExecutor(task);
+					scheduler.spawnExecutor(task, pattern.getTickTime(
+							scheduler.getTimeZone(), referenceTimeInMillis));
 				}
 			}
 		}
-		// Notifies completed.
-		scheduler.notifyLauncherCompleted(this);
 	}
 }
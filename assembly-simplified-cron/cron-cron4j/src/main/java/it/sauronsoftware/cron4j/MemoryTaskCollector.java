@@ -19,11 +19,21 @@
 package it.sauronsoftware.cron4j;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.TimeZone;
 
 /**
  * <p>
  * A {@link TaskCollector} implementation managing a task list in memory.
  * </p>
+ * <p>
+ * When indexed, the collector also keeps its tasks in a queue ordered by their
+ * next matching minute, so that the tasks to launch at a given moment are
+ * found without matching every scheduling pattern, see
+ * {@link #getTasks(TimeZone, long, boolean)}.
+ * </p>
  * 
  * @author Carlo Pelliccia
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
@@ -51,6 +61,48 @@ class MemoryTaskCollector implements TaskCollector {
 	 */
 	private ArrayList ids = new ArrayList();
 
+	/**
+	 * The collected scheduling patterns having a "second" field, kept apart so
+	 * that a second tick only deals with them.
+	 */
+	private ArrayList secondsPatterns = new ArrayList();
+
+	/**
+	 * The tasks of the scheduling patterns having a "second" field.
+	 */
+	private ArrayList secondsTasks = new ArrayList();
+
+	/**
+	 * IDs for the task-pattern couples having a "second" field.
+	 */
+	private ArrayList secondsIds = new ArrayList();
+
+	/**
+	 * The index entries, ordered by their next matching minute, or null if the
+	 * collector is not indexed or the index is not built yet.
+	 */
+	private PriorityQueue index = null;
+
+	/**
+	 * The live index entries, by the ID of their task-pattern couple.
+	 */
+	private HashMap indexEntries = new HashMap();
+
+	/**
+	 * The time zone of the index.
+	 */
+	private TimeZone indexTimeZone = null;
+
+	/**
+	 * The last minute launched through the index.
+	 */
+	private long indexTime;
+
+	/**
+	 * Is this collector indexed?
+	 */
+	private boolean indexed = false;
+
 	/**
 	 * Counts how many task are currently collected by this collector.
 	 * 
@@ -76,6 +128,12 @@ class MemoryTaskCollector implements TaskCollector {
 		patterns.add(pattern);
 		tasks.add(task);
 		ids.add(id);
+		if (pattern.hasSeconds()) {
+			addSecondsPattern(id, pattern, task);
+		}
+		if (index != null) {
+			addIndexEntry(id, pattern, task);
+		}
 		return id;
 	}
 
@@ -88,7 +146,17 @@ class MemoryTaskCollector implements TaskCollector {
 	public synchronized void update(String id, SchedulingPattern pattern) {
 		int index = ids.indexOf(id);
 		if (index > -1) {
+			if (((SchedulingPattern) patterns.get(index)).hasSeconds()) {
+				removeSecondsPattern(id);
+			}
+			if (pattern.hasSeconds()) {
+				addSecondsPattern(id, pattern, (Task) tasks.get(index));
+			}
 			patterns.set(index, pattern);
+			if (this.index != null) {
+				removeIndexEntry(id);
+				addIndexEntry(id, pattern, (Task) tasks.get(index));
+			}
 		}
 	}
 
@@ -102,8 +170,13 @@ class MemoryTaskCollector implements TaskCollector {
 		int index = ids.indexOf(id);
 		if (index > -1) {
 			tasks.remove(index);
-			patterns.remove(index);
+			if (((SchedulingPattern) patterns.remove(index)).hasSeconds()) {
+				removeSecondsPattern(id);
+			}
 			ids.remove(index);
+			if (this.index != null) {
+				removeIndexEntry(id);
+			}
 		}
 	}
 
@@ -155,4 +228,257 @@ class MemoryTaskCollector implements TaskCollector {
 		return ret;
 	}
 
+	/**
+	 * Tests whether any collected scheduling pattern has a "second" field.
+	 * 
+	 * @return true if any collected pattern is checked every second.
+	 */
+	public synchronized boolean hasSecondsPatterns() {
+		return !secondsPatterns.isEmpty();
+	}
+
+	/**
+	 * Returns the first second after the given time matched by a collected
+	 * scheduling pattern having a "second" field.
+	 * 
+	 * @param timezone
+	 *            The time zone of the scheduler.
+	 * @param millis
+	 *            The time.
+	 * @return The first matching second, or {@link Long#MAX_VALUE} if no
+	 *         collected pattern has a "second" field.
+	 */
+	public synchronized long nextSecondsMatchingTime(TimeZone timezone, long millis) {
+		long next = Long.MAX_VALUE;
+		int size = secondsPatterns.size();
+		for (int i = 0; i < size; i++) {
+			SchedulingPattern p = (SchedulingPattern) secondsPatterns.get(i);
+			next = Math.min(next, p.nextMatchingTime(timezone, millis));
+		}
+		return next;
+	}
+
+	/**
+	 * Tests whether this collector is indexed.
+	 * 
+	 * @return true if this collector is indexed.
+	 */
+	public synchronized boolean isIndexed() {
+		return indexed;
+	}
+
+	/**
+	 * Sets whether this collector keeps its tasks in a queue ordered by their
+	 * next matching minute. The index is built at the first call of
+	 * {@link #getTasks(TimeZone, long, boolean)}.
+	 * 
+	 * @param indexed
+	 *            true to index this collector.
+	 */
+	public synchronized void setIndexed(boolean indexed) {
+		this.indexed = indexed;
+		if (!indexed) {
+			index = null;
+			indexEntries.clear();
+			indexTimeZone = null;
+		}
+	}
+
+	/**
+	 * Returns the tasks whose scheduling pattern matches the given reference
+	 * time, taking them from the index instead of matching every pattern. The
+	 * work is proportional to the number of matching tasks. The index is
+	 * rebuilt if the time zone has changed since the previous call. The
+	 * patterns having a "second" field are not indexed, and they are matched
+	 * as by {@link #getSecondsTasks(TimeZone, long, boolean)}.
+	 * 
+	 * @param timezone
+	 *            The time zone of the scheduler.
+	 * @param referenceTimeInMillis
+	 *            The reference time.
+	 * @param minuteTick
+	 *            true if the reference time is the first of its minute, false
+	 *            to only launch the patterns having a "second" field.
+	 * @return The tasks to launch, in a table.
+	 */
+	public synchronized TaskTable getTasks(TimeZone timezone,
+			long referenceTimeInMillis, boolean minuteTick) {
+		TaskTable ret = new TaskTable();
+		if (minuteTick) {
+			pollIndex(timezone, referenceTimeInMillis, ret);
+		}
+		collectSecondsTasks(timezone, referenceTimeInMillis, minuteTick, ret);
+		return ret;
+	}
+
+	/**
+	 * Returns the tasks whose scheduling pattern has a "second" field and
+	 * matches the given reference time, only matching these patterns. On a
+	 * minute tick, a pattern also matching the first second of the minute is
+	 * returned, so that its groups launched at the second 0 of their minutes
+	 * are not missed when the tick comes late.
+	 * 
+	 * @param timezone
+	 *            The time zone of the scheduler.
+	 * @param referenceTimeInMillis
+	 *            The reference time.
+	 * @param minuteTick
+	 *            true if the reference time is the first of its minute.
+	 * @return The tasks to launch, in a table.
+	 */
+	public synchronized TaskTable getSecondsTasks(TimeZone timezone,
+			long referenceTimeInMillis, boolean minuteTick) {
+		TaskTable ret = new TaskTable();
+		collectSecondsTasks(timezone, referenceTimeInMillis, minuteTick, ret);
+		return ret;
+	}
+
+	/**
+	 * Adds to the given table the tasks whose scheduling pattern has a
+	 * "second" field and matches the given reference time.
+	 */
+	private void collectSecondsTasks(TimeZone timezone,
+			long referenceTimeInMillis, boolean minuteTick, TaskTable ret) {
+		int size = secondsPatterns.size();
+		for (int i = 0; i < size; i++) {
+			SchedulingPattern p = (SchedulingPattern) secondsPatterns.get(i);
+			if (p.matchTick(timezone, referenceTimeInMillis, minuteTick)) {
+				ret.add(p, (Task) secondsTasks.get(i));
+			}
+		}
+	}
+
+	/**
+	 * Adds a task-pattern couple having a "second" field to the seconds lists.
+	 */
+	private void addSecondsPattern(String id, SchedulingPattern pattern,
+			Task task) {
+		secondsPatterns.add(pattern);
+		secondsTasks.add(task);
+		secondsIds.add(id);
+	}
+
+	/**
+	 * Removes a task-pattern couple from the seconds lists.
+	 */
+	private void removeSecondsPattern(String id) {
+		int index = secondsIds.indexOf(id);
+		if (index > -1) {
+			secondsPatterns.remove(index);
+			secondsTasks.remove(index);
+			secondsIds.remove(index);
+		}
+	}
+
+	/**
+	 * Takes from the index the tasks due at the given reference time, and
+	 * computes their next matching minute.
+	 */
+	private void pollIndex(TimeZone timezone, long referenceTimeInMillis,
+			TaskTable ret) {
+		long minute = (referenceTimeInMillis / 60000) * 60000;
+		if (index == null || !timezone.equals(indexTimeZone)) {
+			buildIndex(timezone, minute - 1);
+		}
+		while (!index.isEmpty()) {
+			IndexEntry entry = (IndexEntry) index.peek();
+			if (entry.nextTime > referenceTimeInMillis) {
+				break;
+			}
+			index.poll();
+			if (entry.removed) {
+				continue;
+			}
+			if (entry.nextTime >= minute) {
+				ret.add(entry.pattern, entry.task);
+				entry.nextTime = entry.pattern.nextMatchingTime(timezone, minute);
+			} else {
+				// A minute missed by the timer is not launched later, but the
+				// entry is offered again, to be polled now if it matches the
+				// current minute.
+				entry.nextTime = entry.pattern.nextMatchingTime(timezone, minute - 1);
+			}
+			index.add(entry);
+		}
+		if (minute > indexTime) {
+			indexTime = minute;
+		}
+	}
+
+	/**
+	 * Builds the index of the tasks, computing their first matching minute
+	 * after the given time.
+	 */
+	private void buildIndex(TimeZone timezone, long time) {
+		index = new PriorityQueue();
+		indexEntries.clear();
+		indexTimeZone = timezone;
+		indexTime = time;
+		int size = tasks.size();
+		for (int i = 0; i < size; i++) {
+			addIndexEntry((String) ids.get(i), (SchedulingPattern) patterns.get(i),
+					(Task) tasks.get(i));
+		}
+	}
+
+	/**
+	 * Adds a task-pattern couple to the index, with its first matching minute
+	 * after the last launched one, unless its pattern has a "second" field.
+	 */
+	private void addIndexEntry(String id, SchedulingPattern pattern, Task task) {
+		if (pattern.hasSeconds()) {
+			return;
+		}
+		IndexEntry entry = new IndexEntry(pattern, task,
+				pattern.nextMatchingTime(indexTimeZone, indexTime));
+		indexEntries.put(id, entry);
+		index.add(entry);
+	}
+
+	/**
+	 * Removes a task-pattern couple from the index. The entry is only marked
+	 * as removed and left in the queue, unless the removed entries outnumber
+	 * the live ones.
+	 */
+	private void removeIndexEntry(String id) {
+		IndexEntry entry = (IndexEntry) indexEntries.remove(id);
+		if (entry == null) {
+			return;
+		}
+		entry.removed = true;
+		if (index.size() > 2 * indexEntries.size() + 16) {
+			for (Iterator i = index.iterator(); i.hasNext();) {
+				if (((IndexEntry) i.next()).removed) {
+					i.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * An entry of the index: a task, its pattern and its next matching minute.
+	 */
+	private static class IndexEntry implements Comparable {
+
+		private final SchedulingPattern pattern;
+
+		private final Task task;
+
+		private long nextTime;
+
+		private boolean removed = false;
+
+		public IndexEntry(SchedulingPattern pattern, Task task, long nextTime) {
+			this.pattern = pattern;
+			this.task = task;
+			this.nextTime = nextTime;
+		}
+
+		public int compareTo(Object o) {
+			long other = ((IndexEntry) o).nextTime;
+			return nextTime < other ? -1 : (nextTime == other ? 0 : 1);
+		}
+
+	}
+
 }
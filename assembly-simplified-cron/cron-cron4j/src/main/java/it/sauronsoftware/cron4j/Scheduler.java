@@ -21,6 +21,11 @@ package it.sauronsoftware.cron4j;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>
@@ -81,7 +86,7 @@ public class Scheduler {
 	 * The thread checking the clock and requesting the spawning of launcher
 	 * threads.
 	 */
-	private TimerThread timer = null;
+	private volatile TimerThread timer = null;
 
 	/**
 	 * Currently running {@link LauncherThread} instances.
@@ -93,6 +98,23 @@ public class Scheduler {
 	 */
 	private ArrayList executors = null;
 
+	/**
+	 * The executor running the tasks, null to run every task within a thread
+	 * of its own.
+	 */
+	private Executor pool = null;
+
+	/**
+	 * The single thread launching the tasks when they are run by the
+	 * {@link #pool}, instead of a launcher thread every minute.
+	 */
+	private ExecutorService launcher = null;
+
+	/**
+	 * Whether {@link #stop()} is running, read without the lock it holds.
+	 */
+	private volatile boolean stopping = false;
+
 	/**
 	 * Internal lock, used to synchronize status-aware operations.
 	 */
@@ -185,6 +207,73 @@ public class Scheduler {
 		}
 	}
 
+	/**
+	 * Returns the executor running the tasks.
+	 * 
+	 * @return The executor running the tasks, or null if every task is run
+	 *         within a thread of its own.
+	 */
+	public Executor getExecutor() {
+		return pool;
+	}
+
+	/**
+	 * Sets the executor running the tasks. When it is set, the tasks are run
+	 * within the executor instead of a thread of their own, and they are
+	 * launched by a single thread instead of a launcher thread every minute.
+	 * An execution refused by the executor is not run.
+	 * 
+	 * This method must be called before the scheduler is started.
+	 * 
+	 * @param executor
+	 *            The executor running the tasks, or null to run every task
+	 *            within a thread of its own.
+	 * @throws IllegalStateException
+	 *             If the scheduler is started.
+	 */
+	public void setExecutor(Executor executor) throws IllegalStateException {
+		synchronized (lock) {
+			if (started) {
+				throw new IllegalStateException("Scheduler already started");
+			}
+			this.pool = executor;
+		}
+	}
+
+	/**
+	 * Tests whether the tasks scheduled on this scheduler are launched through
+	 * an index of their next matching minute.
+	 * 
+	 * @return true if the scheduled tasks are launched through an index.
+	 */
+	public boolean isIndexedLaunching() {
+		return memoryTaskCollector.isIndexed();
+	}
+
+	/**
+	 * Sets whether the tasks scheduled on this scheduler are launched through
+	 * an index of their next matching minute. Indexed, the scheduler keeps its
+	 * tasks in a queue ordered by the next minute matching their scheduling
+	 * pattern, so that every minute it only deals with the tasks to launch
+	 * instead of matching every scheduling pattern. The tasks of the added
+	 * task collectors and of the scheduled files are matched as usual.
+	 * 
+	 * This method must be called before the scheduler is started.
+	 * 
+	 * @param on
+	 *            If true, the scheduled tasks are launched through an index.
+	 * @throws IllegalStateException
+	 *             If the scheduler is started.
+	 */
+	public void setIndexedLaunching(boolean on) throws IllegalStateException {
+		synchronized (lock) {
+			if (started) {
+				throw new IllegalStateException("Scheduler already started");
+			}
+			memoryTaskCollector.setIndexed(on);
+		}
+	}
+
 	/**
 	 * Tests if this scheduler is started.
 	 * 
@@ -196,6 +285,16 @@ public class Scheduler {
 		}
 	}
 
+	/**
+	 * Tests if this scheduler is stopping, its threads being interrupted. Unlike
+	 * {@link #isStarted()}, it does not wait for the end of the stop.
+	 * 
+	 * @return true if {@link #stop()} is running.
+	 */
+	public boolean isStopping() {
+		return stopping;
+	}
+
 	/**
 	 * Adds a {@link File} instance to the scheduler. Every minute the file will
 	 * be parsed. The scheduler will execute any declared task whose scheduling
@@ -401,7 +500,9 @@ public class Scheduler {
 	 * @since 2.0
 	 */
 	public String schedule(SchedulingPattern schedulingPattern, Task task) {
-		return memoryTaskCollector.add(schedulingPattern, task);
+		String id = memoryTaskCollector.add(schedulingPattern, task);
+		wakeTimerUp(schedulingPattern);
+		return id;
 	}
 
 	/**
@@ -446,6 +547,7 @@ public class Scheduler {
 	 */
 	public void reschedule(String id, SchedulingPattern schedulingPattern) {
 		memoryTaskCollector.update(id, schedulingPattern);
+		wakeTimerUp(schedulingPattern);
 	}
 
 	/**
@@ -560,6 +662,18 @@ public class Scheduler {
 			// Initializes required lists.
 			launchers = new ArrayList();
 			executors = new ArrayList();
+			// Starts the single launcher of the pooled tasks.
+			if (pool != null) {
+				final String name = "cron4j::scheduler[" + guid + "]::launcher";
+				final boolean daemonLauncher = daemon;
+				launcher = Executors.newSingleThreadExecutor(new ThreadFactory() {
+					public Thread newThread(Runnable r) {
+						Thread thread = new Thread(r, name);
+						thread.setDaemon(daemonLauncher);
+						return thread;
+					}
+				});
+			}
 			// Starts the timer thread.
 			timer = new TimerThread(this);
 			timer.setDaemon(daemon);
@@ -582,10 +696,17 @@ public class Scheduler {
 			if (!started) {
 				throw new IllegalStateException("Scheduler not started");
 			}
+			stopping = true;
 			// Interrupts the timer and waits for its death.
 			timer.interrupt();
 			tillThreadDies(timer);
 			timer = null;
+			// Interrupts the launcher of the pooled tasks and waits for its end.
+			if (launcher != null) {
+				launcher.shutdownNow();
+				tillExecutorServiceTerminates(launcher);
+				launcher = null;
+			}
 			// Interrupts any running launcher and waits for its death.
 			for (;;) {
 				LauncherThread launcher = null;
@@ -599,6 +720,13 @@ public class Scheduler {
 				tillThreadDies(launcher);
 			}
 			launchers = null;
+			// Cancels the pooled executions still waiting for a thread.
+			synchronized (executors) {
+				int size = executors.size();
+				for (int i = 0; i < size; i++) {
+					((TaskExecutor) executors.get(i)).cancelIfNotRunning();
+				}
+			}
 			// Interrupts any running executor and waits for its death.
 			// Before exiting wait for all the active tasks end.
 			for (;;) {
@@ -617,20 +745,41 @@ public class Scheduler {
 			executors = null;
 			// Change the state of the object.
 			started = false;
+			stopping = false;
 		}
 	}
 
 	// -- PACKAGE RESERVED METHODS --------------------------------------------
 
 	/**
-	 * Starts a launcher thread.
+	 * Starts a launcher thread, or hands the launch over to the single launcher
+	 * of the pooled tasks.
 	 * 
 	 * @param referenceTimeInMillis
 	 *            Reference time in millis for the launcher.
-	 * @return The spawned launcher.
+	 * @return The spawned launcher, or null if the tasks are launched by the
+	 *         single launcher of the pooled tasks.
 	 */
 	LauncherThread spawnLauncher(long referenceTimeInMillis) {
-		TaskCollector[] nowCollectors;
+		return spawnLauncher(referenceTimeInMillis, true);
+	}
+
+	/**
+	 * Starts a launcher thread, or hands the launch over to the single launcher
+	 * of the pooled tasks.
+	 * 
+	 * @param referenceTimeInMillis
+	 *            Reference time in millis for the launcher.
+	 * @param minuteTick
+	 *            true if the reference time is the first of its minute, false
+	 *            to only launch the tasks whose scheduling pattern has a
+	 *            "second" field.
+	 * @return The spawned launcher, or null if the tasks are launched by the
+	 *         single launcher of the pooled tasks.
+	 */
+	LauncherThread spawnLauncher(final long referenceTimeInMillis,
+			final boolean minuteTick) {
+		final TaskCollector[] nowCollectors;
 		synchronized (collectors) {
 			int size = collectors.size();
 			nowCollectors = new TaskCollector[size];
@@ -638,8 +787,17 @@ public class Scheduler {
 				nowCollectors[i] = (TaskCollector) collectors.get(i);
 			}
 		}
+		if (launcher != null) {
+			launcher.execute(new Runnable() {
+				public void run() {
+					LauncherThread.launch(Scheduler.this, nowCollectors,
+							referenceTimeInMillis, minuteTick);
+				}
+			});
+			return null;
+		}
 		LauncherThread l = new LauncherThread(this, nowCollectors,
-				referenceTimeInMillis);
+				referenceTimeInMillis, minuteTick);
 		synchronized (launchers) {
 			launchers.add(l);
 		}
@@ -648,6 +806,32 @@ public class Scheduler {
 		return l;
 	}
 
+	/**
+	 * Returns the first second after the given time matched by a scheduling
+	 * pattern having a "second" field, among the scheduled tasks.
+	 * 
+	 * @param millis
+	 *            The time.
+	 * @return The first matching second, or {@link Long#MAX_VALUE} if no
+	 *         scheduled task has a pattern with a "second" field.
+	 */
+	long nextSecondsMatchingTime(long millis) {
+		return memoryTaskCollector.nextSecondsMatchingTime(getTimeZone(), millis);
+	}
+
+	/**
+	 * Wakes the timer up if the given pattern has a "second" field, so that it
+	 * is checked from the next second on instead of the next minute.
+	 */
+	private void wakeTimerUp(SchedulingPattern schedulingPattern) {
+		if (schedulingPattern.hasSeconds()) {
+			TimerThread t = timer;
+			if (t != null) {
+				t.wakeUp();
+			}
+		}
+	}
+
 	/**
 	 * Starts the given task within a task executor.
 	 * 
@@ -656,11 +840,29 @@ public class Scheduler {
 	 * @return The spawned task executor.
 	 */
 	TaskExecutor spawnExecutor(Task task) {
-		TaskExecutor e = new TaskExecutor(this, task);
+		return spawnExecutor(task, -1);
+	}
+
+	/**
+	 * Starts the given task within a task executor, for a scheduler tick.
+	 * 
+	 * @param task
+	 *            The task.
+	 * @param scheduledTime
+	 *            The time of the tick the task is launched for, or -1 if it is
+	 *            launched manually.
+	 * @return The spawned task executor.
+	 */
+	TaskExecutor spawnExecutor(Task task, long scheduledTime) {
+		TaskExecutor e = new TaskExecutor(this, task, scheduledTime);
 		synchronized (executors) {
 			executors.add(e);
 		}
-		e.start(daemon);
+		if (pool != null) {
+			e.start(pool);
+		} else {
+			e.start(daemon);
+		}
 		return e;
 	}
 
@@ -747,6 +949,27 @@ public class Scheduler {
 		}
 	}
 
+	/**
+	 * Notifies every registered listener that a task execution has been
+	 * cancelled while waiting for a thread, or refused by the executor running
+	 * the executions, as a failure due to the given exception. Unlike a
+	 * failure, it is not logged when no one is notified.
+	 * 
+	 * @param executor
+	 *            The task executor.
+	 * @param exception
+	 *            The cancellation or rejection exception.
+	 */
+	void notifyTaskCancelled(TaskExecutor executor, Throwable exception) {
+		synchronized (listeners) {
+			int size = listeners.size();
+			for (int i = 0; i < size; i++) {
+				SchedulerListener l = (SchedulerListener) listeners.get(i);
+				l.taskFailed(executor, exception);
+			}
+		}
+	}
+
 	// -- PRIVATE METHODS -----------------------------------------------------
 
 	/**
@@ -769,6 +992,24 @@ public class Scheduler {
 		} while (!dead);
 	}
 
+	/**
+	 * It waits until the given executor service has terminated, avoiding
+	 * {@link InterruptedException} instances.
+	 * 
+	 * @param service
+	 *            The executor service.
+	 */
+	private void tillExecutorServiceTerminates(ExecutorService service) {
+		boolean terminated = false;
+		do {
+			try {
+				terminated = service.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				;
+			}
+		} while (!terminated);
+	}
+
 	/**
 	 * It waits until the given task executor is dead. It is similar to
 	 * {@link TaskExecutor#join()}, but this one avoids
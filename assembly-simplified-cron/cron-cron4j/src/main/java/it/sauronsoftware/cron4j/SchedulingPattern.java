@@ -18,6 +18,8 @@
  */
 package it.sauronsoftware.cron4j;
 
+import java.time.*;
+import java.time.zone.ZoneRules;
 import java.util.*;
 
 /**
@@ -139,12 +141,31 @@ import java.util.*;
  * This pattern causes a task to be launched every day at 05:00, 10:08 and
  * 17:22.
  * </p>
+ * <p>
+ * A pattern can also start with a sixth part, the <strong>seconds
+ * sub-pattern</strong>, written with the same rules as the minutes one. A
+ * six parts pattern is checked every second instead of every minute:
+ * </p>
+ * <p>
+ * <strong>*&#47;15 * * * * *</strong><br>
+ * This pattern causes a task to be launched every 15 seconds.
+ * </p>
+ * <p>
+ * The five parts patterns combined with a six parts one, with the pipe
+ * character, are launched at the second 0 of their minutes, or at the first
+ * tick of their minutes if the scheduler checks it a few seconds late.
+ * </p>
  * 
  * @author Carlo Pelliccia
  * @since 2.0
  */
 public class SchedulingPattern {
 
+	/**
+	 * The parser for the second values.
+	 */
+	private static final ValueParser SECOND_VALUE_PARSER = new MinuteValueParser();
+
 	/**
 	 * The parser for the minute values.
 	 */
@@ -192,6 +213,12 @@ public class SchedulingPattern {
 	 */
 	private String asString;
 
+	/**
+	 * The ValueMatcher list for the "second" field, accepting only the second
+	 * 0 for the groups without it.
+	 */
+	protected ArrayList secondMatchers = new ArrayList();
+
 	/**
 	 * The ValueMatcher list for the "minute" field.
 	 */
@@ -222,6 +249,49 @@ public class SchedulingPattern {
 	 */
 	protected int matcherSize = 0;
 
+	/**
+	 * Has any matcher group a "second" field?
+	 */
+	private boolean seconds = false;
+
+	/**
+	 * The bit of {@link #dayOfMonthBits} set if the last day of the month is
+	 * accepted, days themselves being bits 1 to 31.
+	 */
+	private static final int LAST_DAY_OF_MONTH_BIT = 1;
+
+	/**
+	 * The "second" field of every matcher group, compiled as a bitset.
+	 */
+	private long[] secondBits;
+
+	/**
+	 * The "minute" field of every matcher group, compiled as a bitset: bit
+	 * <em>n</em> is set if minute <em>n</em> is accepted.
+	 */
+	private long[] minuteBits;
+
+	/**
+	 * The "hour" field of every matcher group, compiled as a bitset.
+	 */
+	private int[] hourBits;
+
+	/**
+	 * The "day of month" field of every matcher group, compiled as a bitset.
+	 */
+	private int[] dayOfMonthBits;
+
+	/**
+	 * The "month" field of every matcher group, compiled as a bitset.
+	 */
+	private int[] monthBits;
+
+	/**
+	 * The "day of week" field of every matcher group, compiled as a bitset,
+	 * Sunday being bit 0.
+	 */
+	private int[] dayOfWeekBits;
+
 	/**
 	 * Builds a SchedulingPattern parsing it from a string.
 	 * 
@@ -239,9 +309,24 @@ public class SchedulingPattern {
 		while (st1.hasMoreTokens()) {
 			String localPattern = st1.nextToken();
 			StringTokenizer st2 = new StringTokenizer(localPattern, " \t");
-			if (st2.countTokens() != 5) {
+			int tokens = st2.countTokens();
+			if (tokens != 5 && tokens != 6) {
 				throw new InvalidPatternException("invalid pattern: \"" + localPattern + "\"");
 			}
+			if (tokens == 6) {
+				try {
+					secondMatchers.add(buildValueMatcher(st2.nextToken(), SECOND_VALUE_PARSER));
+				} catch (Exception e) {
+					throw new InvalidPatternException("invalid pattern \""
+							+ localPattern + "\". Error parsing seconds field: "
+							+ e.getMessage() + ".");
+				}
+				seconds = true;
+			} else {
+				ArrayList zero = new ArrayList();
+				zero.add(new Integer(0));
+				secondMatchers.add(new IntArrayValueMatcher(zero));
+			}
 			try {
 				minuteMatchers.add(buildValueMatcher(st2.nextToken(), MINUTE_VALUE_PARSER));
 			} catch (Exception e) {
@@ -281,6 +366,7 @@ public class SchedulingPattern {
 			}
 			matcherSize++;
 		}
+		compile();
 	}
 
 	/**
@@ -443,9 +529,115 @@ public class SchedulingPattern {
 		}
 	}
 
+	/**
+	 * Compiles the matchers of every group into the bitsets, querying them for
+	 * every value of their field.
+	 */
+	private void compile() {
+		secondBits = new long[matcherSize];
+		minuteBits = new long[matcherSize];
+		hourBits = new int[matcherSize];
+		dayOfMonthBits = new int[matcherSize];
+		monthBits = new int[matcherSize];
+		dayOfWeekBits = new int[matcherSize];
+		for (int i = 0; i < matcherSize; i++) {
+			ValueMatcher secondMatcher = (ValueMatcher) secondMatchers.get(i);
+			ValueMatcher minuteMatcher = (ValueMatcher) minuteMatchers.get(i);
+			ValueMatcher hourMatcher = (ValueMatcher) hourMatchers.get(i);
+			ValueMatcher dayOfMonthMatcher = (ValueMatcher) dayOfMonthMatchers.get(i);
+			ValueMatcher monthMatcher = (ValueMatcher) monthMatchers.get(i);
+			ValueMatcher dayOfWeekMatcher = (ValueMatcher) dayOfWeekMatchers.get(i);
+			for (int v = 0; v <= 59; v++) {
+				if (secondMatcher.match(v)) {
+					secondBits[i] |= 1L << v;
+				}
+				if (minuteMatcher.match(v)) {
+					minuteBits[i] |= 1L << v;
+				}
+			}
+			for (int v = 0; v <= 23; v++) {
+				if (hourMatcher.match(v)) {
+					hourBits[i] |= 1 << v;
+				}
+			}
+			for (int v = 1; v <= 31; v++) {
+				if (dayOfMonthMatcher.match(v)) {
+					dayOfMonthBits[i] |= 1 << v;
+				}
+			}
+			if (dayOfMonthMatcher instanceof DayOfMonthValueMatcher
+					&& dayOfMonthMatcher.match(32)) {
+				dayOfMonthBits[i] |= LAST_DAY_OF_MONTH_BIT;
+			}
+			for (int v = 1; v <= 12; v++) {
+				if (monthMatcher.match(v)) {
+					monthBits[i] |= 1 << v;
+				}
+			}
+			for (int v = 0; v <= 6; v++) {
+				if (dayOfWeekMatcher.match(v)) {
+					dayOfWeekBits[i] |= 1 << v;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests whether this pattern has a "second" field, in any of its matcher
+	 * groups.
+	 * 
+	 * @return true if this pattern is checked every second.
+	 */
+	public boolean hasSeconds() {
+		return seconds;
+	}
+
+	/**
+	 * Tests whether the pattern matches the reference time of a scheduler
+	 * tick. On a minute tick, a pattern having a "second" field also matches
+	 * if it matches the first second of the minute: its five parts groups,
+	 * launched at the second 0 of their minutes, are not missed when the tick
+	 * comes a few seconds late.
+	 * 
+	 * @param timezone
+	 *            A time zone.
+	 * @param millis
+	 *            The reference time of the tick.
+	 * @param minuteTick
+	 *            true if the tick is the first of its minute.
+	 * @return true if the tasks of the pattern are launched at this tick.
+	 */
+	boolean matchTick(TimeZone timezone, long millis, boolean minuteTick) {
+		if (match(timezone, millis)) {
+			return true;
+		}
+		return minuteTick && seconds
+				&& match(timezone, millis - Math.floorMod(millis, 60000L));
+	}
+
+	/**
+	 * Returns the time a tick matched by the pattern is scheduled at: the
+	 * second of the reference time for a pattern having a "second" field
+	 * matching it, the first second of its minute otherwise.
+	 * 
+	 * @param timezone
+	 *            A time zone.
+	 * @param millis
+	 *            The reference time of a tick matched by the pattern.
+	 * @return The scheduled time of the tick.
+	 */
+	long getTickTime(TimeZone timezone, long millis) {
+		if (seconds && match(timezone, millis)) {
+			return millis - Math.floorMod(millis, 1000L);
+		}
+		return millis - Math.floorMod(millis, 60000L);
+	}
+
 	/**
 	 * This methods returns true if the given timestamp (expressed as a UNIX-era
-	 * millis value) matches the pattern, according to the given time zone.
+	 * millis value) matches the pattern, according to the given time zone. The
+	 * seconds of the timestamp are checked only if the pattern has a "second"
+	 * field.
 	 * 
 	 * @param timezone
 	 *            A time zone.
@@ -454,29 +646,34 @@ public class SchedulingPattern {
 	 * @return true if the given timestamp matches the pattern.
 	 */
 	public boolean match(TimeZone timezone, long millis) {
-		GregorianCalendar gc = new GregorianCalendar();
-		gc.setTimeInMillis(millis);
-		gc.setTimeZone(timezone);
-		int minute = gc.get(Calendar.MINUTE);
-		int hour = gc.get(Calendar.HOUR_OF_DAY);
-		int dayOfMonth = gc.get(Calendar.DAY_OF_MONTH);
-		int month = gc.get(Calendar.MONTH) + 1;
-		int dayOfWeek = gc.get(Calendar.DAY_OF_WEEK) - 1;
-		int year = gc.get(Calendar.YEAR);
+		// Splits the local time into its fields, without any calendar.
+		long local = millis + timezone.getOffset(millis);
+		long epochDay = Math.floorDiv(local, 86400000L);
+		int millisOfDay = (int) Math.floorMod(local, 86400000L);
+		int second = (millisOfDay / 1000) % 60;
+		int minuteOfDay = millisOfDay / 60000;
+		int minute = minuteOfDay % 60;
+		int hour = minuteOfDay / 60;
+		int dayOfWeek = (int) Math.floorMod(epochDay + 4, 7L);
+		// Days to civil date, in the proleptic Gregorian calendar.
+		long shifted = epochDay + 719468;
+		long era = Math.floorDiv(shifted, 146097L);
+		int dayOfEra = (int) (shifted - era * 146097);
+		int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		int shiftedMonth = (5 * dayOfYear + 2) / 153;
+		int dayOfMonth = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+		int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+		long year = era * 400 + yearOfEra + (month <= 2 ? 1 : 0);
+		boolean leapYear = (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+		boolean lastDayOfMonth = dayOfMonth == lengthOfMonth(month, leapYear);
 		for (int i = 0; i < matcherSize; i++) {
-			ValueMatcher minuteMatcher = (ValueMatcher) minuteMatchers.get(i);
-			ValueMatcher hourMatcher = (ValueMatcher) hourMatchers.get(i);
-			ValueMatcher dayOfMonthMatcher = (ValueMatcher) dayOfMonthMatchers.get(i);
-			ValueMatcher monthMatcher = (ValueMatcher) monthMatchers.get(i);
-			ValueMatcher dayOfWeekMatcher = (ValueMatcher) dayOfWeekMatchers.get(i);
-			boolean eval = minuteMatcher.match(minute)
-					&& hourMatcher.match(hour)
-					&& ((dayOfMonthMatcher instanceof DayOfMonthValueMatcher) ? ((DayOfMonthValueMatcher) dayOfMonthMatcher)
-							.match(dayOfMonth, month, gc.isLeapYear(year))
-							: dayOfMonthMatcher.match(dayOfMonth))
-					&& monthMatcher.match(month)
-					&& dayOfWeekMatcher.match(dayOfWeek);
-			if (eval) {
+			if ((!seconds || (secondBits[i] & (1L << second)) != 0)
+					&& (minuteBits[i] & (1L << minute)) != 0
+					&& (hourBits[i] & (1 << hour)) != 0
+					&& matchDayOfMonth(i, dayOfMonth, lastDayOfMonth)
+					&& (monthBits[i] & (1 << month)) != 0
+					&& (dayOfWeekBits[i] & (1 << dayOfWeek)) != 0) {
 				return true;
 			}
 		}
@@ -496,6 +693,178 @@ public class SchedulingPattern {
 		return match(TimeZone.getDefault(), millis);
 	}
 
+	/**
+	 * How many years ahead {@link #nextMatchingTime(TimeZone, long)} looks for
+	 * a matching day, enough for a pattern matching a leap day only on some
+	 * day of the week.
+	 */
+	private static final int NEXT_MATCHING_YEARS = 100;
+
+	/**
+	 * Returns the first minute after the given timestamp matching the pattern,
+	 * according to the given time zone, or the first second if the pattern has
+	 * a "second" field. A time returned here is a time for which
+	 * {@link #match(TimeZone, long)} returns true, and no minute (or second)
+	 * between the given timestamp and the returned one matches the pattern.
+	 * 
+	 * @param timezone
+	 *            A time zone.
+	 * @param millis
+	 *            The timestamp, as a UNIX-era millis value.
+	 * @return The first matching minute (or second) after the given timestamp,
+	 *         as a UNIX-era millis value, or {@link Long#MAX_VALUE} if the
+	 *         pattern never matches in the next hundred years.
+	 */
+	public long nextMatchingTime(TimeZone timezone, long millis) {
+		if (!seconds) {
+			return nextMatchingMinute(timezone, Math.floorDiv(millis, 60000L) * 60000L + 60000L);
+		}
+		long from = Math.floorDiv(millis, 1000L) * 1000L + 1000L;
+		long secondMask = 0;
+		for (int i = 0; i < matcherSize; i++) {
+			secondMask |= secondBits[i];
+		}
+		long minute = nextMatchingMinute(timezone, Math.floorDiv(from, 60000L) * 60000L);
+		while (minute != Long.MAX_VALUE) {
+			long mask = secondMask;
+			if (minute < from) {
+				mask &= -1L << ((from - minute) / 1000L);
+			}
+			for (; mask != 0; mask &= mask - 1) {
+				long time = minute + Long.numberOfTrailingZeros(mask) * 1000L;
+				if (match(timezone, time)) {
+					return time;
+				}
+			}
+			minute = nextMatchingMinute(timezone, minute + 60000L);
+		}
+		return Long.MAX_VALUE;
+	}
+
+	/**
+	 * Returns the first minute, from the given one on, matching the minute
+	 * and the coarser fields of any matcher group.
+	 */
+	private long nextMatchingMinute(TimeZone timezone, long from) {
+		ZoneId zone = timezone.toZoneId();
+		ZoneRules rules = zone.getRules();
+		LocalDate day = LocalDateTime.ofInstant(Instant.ofEpochMilli(from), zone).toLocalDate();
+		LocalDate end = day.plusYears(NEXT_MATCHING_YEARS);
+		int monthMask = 0;
+		for (int i = 0; i < matcherSize; i++) {
+			monthMask |= monthBits[i];
+		}
+		boolean[] dayMatches = new boolean[matcherSize];
+		while (day.isBefore(end)) {
+			if ((monthMask & (1 << day.getMonthValue())) == 0) {
+				day = day.withDayOfMonth(1).plusMonths(1);
+				continue;
+			}
+			if (matchDay(day, dayMatches)) {
+				long next = nextMatchingMinute(rules, day, dayMatches, from);
+				if (next != Long.MAX_VALUE) {
+					return next;
+				}
+			}
+			day = day.plusDays(1);
+		}
+		return Long.MAX_VALUE;
+	}
+
+	/**
+	 * Tests whether any matcher group accepts the given day, marking the
+	 * groups accepting it.
+	 */
+	private boolean matchDay(LocalDate day, boolean[] dayMatches) {
+		int dayOfMonth = day.getDayOfMonth();
+		int month = day.getMonthValue();
+		int dayOfWeek = day.getDayOfWeek().getValue() % 7;
+		boolean lastDayOfMonth = dayOfMonth == day.lengthOfMonth();
+		boolean any = false;
+		for (int i = 0; i < matcherSize; i++) {
+			dayMatches[i] = matchDayOfMonth(i, dayOfMonth, lastDayOfMonth)
+					&& (monthBits[i] & (1 << month)) != 0
+					&& (dayOfWeekBits[i] & (1 << dayOfWeek)) != 0;
+			any |= dayMatches[i];
+		}
+		return any;
+	}
+
+	/**
+	 * Returns the first minute of the given day, not before the given instant,
+	 * matching the hours and minutes of the groups accepting the day. Local
+	 * times skipped by a transition of the time zone never match, local times
+	 * repeated by a transition match once for every offset.
+	 */
+	private long nextMatchingMinute(ZoneRules rules, LocalDate day, boolean[] dayMatches, long from) {
+		LocalDateTime dayStart = day.atStartOfDay();
+		int minOffset = Math.min(rules.getOffset(dayStart).getTotalSeconds(),
+				rules.getOffset(dayStart.plusDays(1)).getTotalSeconds());
+		int maxOffset = Math.max(rules.getOffset(dayStart).getTotalSeconds(),
+				rules.getOffset(dayStart.plusDays(1)).getTotalSeconds());
+		// No local time before this one is at or after the given instant.
+		int firstMinute = 0;
+		long lowest = from / 1000L + minOffset - dayStart.toEpochSecond(ZoneOffset.UTC);
+		if (lowest > 0) {
+			firstMinute = (int) Math.min(lowest / 60L, 24 * 60);
+		}
+		long best = Long.MAX_VALUE;
+		for (int hour = firstMinute / 60; hour < 24; hour++) {
+			long minutes = 0;
+			for (int i = 0; i < matcherSize; i++) {
+				if (dayMatches[i] && (hourBits[i] & (1 << hour)) != 0) {
+					minutes |= minuteBits[i];
+				}
+			}
+			if (hour == firstMinute / 60) {
+				minutes &= -1L << (firstMinute % 60);
+			}
+			for (; minutes != 0; minutes &= minutes - 1) {
+				LocalDateTime local = dayStart.plusMinutes(hour * 60 + Long.numberOfTrailingZeros(minutes));
+				// No later local time is before the best instant found.
+				if (best != Long.MAX_VALUE
+						&& (local.toEpochSecond(ZoneOffset.UTC) - maxOffset) * 1000L >= best) {
+					return best;
+				}
+				List offsets = rules.getValidOffsets(local);
+				for (int i = 0; i < offsets.size(); i++) {
+					long time = local.toEpochSecond((ZoneOffset) offsets.get(i)) * 1000L;
+					if (time >= from && time < best) {
+						best = time;
+					}
+				}
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Tests whether the given group accepts the given day of month, or the
+	 * last day of the month if that is the given day.
+	 */
+	private boolean matchDayOfMonth(int group, int dayOfMonth, boolean lastDayOfMonth) {
+		int bits = dayOfMonthBits[group];
+		return (bits & (1 << dayOfMonth)) != 0
+				|| (lastDayOfMonth && (bits & LAST_DAY_OF_MONTH_BIT) != 0);
+	}
+
+	/**
+	 * Returns the length of the given month.
+	 */
+	private static int lengthOfMonth(int month, boolean leapYear) {
+		switch (month) {
+		case 2:
+			return leapYear ? 29 : 28;
+		case 4:
+		case 6:
+		case 9:
+		case 11:
+			return 30;
+		default:
+			return 31;
+		}
+	}
+
 	/**
 	 * Returns the pattern as a string.
 	 * 
@@ -20,6 +20,9 @@ package it.sauronsoftware.cron4j;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * <p>
@@ -76,6 +79,12 @@ public class TaskExecutor {
 	 */
 	private long startTime = -1;
 
+	/**
+	 * The time of the scheduler tick this executor has been launched for, or
+	 * -1 if it has been launched manually.
+	 */
+	private long scheduledTime = -1;
+
 	/**
 	 * The thread actually executing the task.
 	 */
@@ -91,6 +100,17 @@ public class TaskExecutor {
 	 */
 	private boolean stopped = false;
 
+	/**
+	 * Is the task executed within an {@link Executor}, rather than within a
+	 * thread of its own?
+	 */
+	private boolean pooled = false;
+
+	/**
+	 * Has the execution within an {@link Executor} completed?
+	 */
+	private boolean finished = false;
+
 	/**
 	 * A lock object, for synchronization purposes.
 	 */
@@ -105,8 +125,24 @@ public class TaskExecutor {
 	 *            The task that has to be executed.
 	 */
 	TaskExecutor(Scheduler scheduler, Task task) {
+		this(scheduler, task, -1);
+	}
+
+	/**
+	 * Builds the executor of a task launched by a scheduler tick.
+	 * 
+	 * @param scheduler
+	 *            The scheduler whose this executor belongs to.
+	 * @param task
+	 *            The task that has to be executed.
+	 * @param scheduledTime
+	 *            The time of the tick the task is launched for, or -1 if it is
+	 *            launched manually.
+	 */
+	TaskExecutor(Scheduler scheduler, Task task, long scheduledTime) {
 		this.scheduler = scheduler;
 		this.task = task;
+		this.scheduledTime = scheduledTime;
 		this.context = new MyContext();
 	}
 
@@ -194,6 +230,20 @@ public class TaskExecutor {
 		return startTime;
 	}
 
+	/**
+	 * Returns the time the task is scheduled at, that is the time of the
+	 * scheduler tick it has been launched for: the first second of the minute
+	 * for a pattern without a "second" field, the matched second otherwise.
+	 * Unlike the start time, it does not depend on the delay before the
+	 * execution starts.
+	 * 
+	 * @return The scheduled time of the execution, or a value less than 0 if
+	 *         the task has been launched manually.
+	 */
+	public long getScheduledTime() {
+		return scheduledTime;
+	}
+
 	/**
 	 * Checks whether this executor supports pausing.
 	 * 
@@ -248,6 +298,49 @@ public class TaskExecutor {
 		}
 	}
 
+	/**
+	 * Starts executing the task within the given executor, instead of a
+	 * secondary thread of its own. If the executor refuses the execution, the
+	 * executor completes without executing the task, and, as for a cancelled
+	 * execution, the scheduler listeners are notified of a failed task and the
+	 * executor listeners of a terminated execution, both with the
+	 * {@link RejectedExecutionException}.
+	 * 
+	 * @param executor
+	 *            The executor running the task.
+	 */
+	void start(Executor executor) {
+		synchronized (lock) {
+			startTime = System.currentTimeMillis();
+			pooled = true;
+		}
+		try {
+			executor.execute(new Runner());
+		} catch (RejectedExecutionException e) {
+			try {
+				scheduler.notifyTaskCancelled(this, e);
+			} finally {
+				notifyExecutionTerminated(e);
+				completed();
+			}
+		}
+	}
+
+	/**
+	 * Cancels the execution within an {@link Executor} if it is still waiting
+	 * for a thread, so that the task will not be executed. When the cancelled
+	 * execution is given its thread, the scheduler listeners are notified of a
+	 * failed task and the executor listeners of a terminated execution, both
+	 * with a {@link CancellationException}.
+	 */
+	void cancelIfNotRunning() {
+		synchronized (lock) {
+			if (pooled && thread == null && !finished) {
+				stopped = true;
+			}
+		}
+	}
+
 	/**
 	 * Pauses the ongoing execution.
 	 * 
@@ -293,20 +386,22 @@ public class TaskExecutor {
 		}
 		boolean joinit = false;
 		synchronized (lock) {
-			if (thread != null && !stopped) {
+			if ((thread != null || (pooled && !finished)) && !stopped) {
 				stopped = true;
 				if (paused) {
 					resume();
 				}
 				notifyExecutionStopping();
-				thread.interrupt();
+				if (thread != null) {
+					thread.interrupt();
+				}
 				joinit = true;
 			}
 		}
 		if (joinit) {
 			do {
 				try {
-					thread.join();
+					join();
 					break;
 				} catch (InterruptedException e) {
 					continue;
@@ -325,7 +420,13 @@ public class TaskExecutor {
 	 *             exception is thrown.
 	 */
 	public void join() throws InterruptedException {
-		if (thread != null) {
+		if (pooled) {
+			synchronized (lock) {
+				while (!finished) {
+					lock.wait();
+				}
+			}
+		} else if (thread != null) {
 			thread.join();
 		}
 	}
@@ -337,6 +438,11 @@ public class TaskExecutor {
 	 * @return true if this executor is alive; false otherwise.
 	 */
 	public boolean isAlive() {
+		if (pooled) {
+			synchronized (lock) {
+				return !finished;
+			}
+		}
 		if (thread != null) {
 			return thread.isAlive();
 		} else {
@@ -479,6 +585,21 @@ public class TaskExecutor {
 		}
 	}
 
+	/**
+	 * Notifies the scheduler that the execution is completed and, within an
+	 * {@link Executor}, releases the thread and wakes up the joining threads.
+	 */
+	private void completed() {
+		scheduler.notifyExecutorCompleted(myself);
+		if (pooled) {
+			synchronized (lock) {
+				thread = null;
+				finished = true;
+				lock.notifyAll();
+			}
+		}
+	}
+
 	/**
 	 * Inner Runnable class.
 	 */
@@ -488,6 +609,25 @@ public class TaskExecutor {
 		 * It implements {@link Thread#run()}, executing the wrapped task.
 		 */
 		public void run() {
+			if (pooled) {
+				synchronized (lock) {
+					if (!stopped) {
+						thread = Thread.currentThread();
+					}
+				}
+				if (thread == null) {
+					// Cancelled while waiting for a thread.
+					Throwable cancellation = new CancellationException(
+							"Execution cancelled while waiting for a thread");
+					try {
+						scheduler.notifyTaskCancelled(myself, cancellation);
+					} finally {
+						notifyExecutionTerminated(cancellation);
+						completed();
+					}
+					return;
+				}
+			}
 			Throwable error = null;
 			startTime = System.currentTimeMillis();
 			try {
@@ -504,7 +644,7 @@ public class TaskExecutor {
 			} finally {
 				// Notify.
 				notifyExecutionTerminated(error);
-				scheduler.notifyExecutorCompleted(myself);
+				completed();
 			}
 		}
 	}
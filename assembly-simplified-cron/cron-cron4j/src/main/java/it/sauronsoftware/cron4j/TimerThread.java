@@ -24,6 +24,11 @@ package it.sauronsoftware.cron4j;
  * most of the time sleeping. It wakes up every minute and it requests to the
  * scheduler the spawning of a {@link LauncherThread}.
  * </p>
+ * <p>
+ * If the scheduler has tasks whose scheduling pattern has a "second" field, it
+ * also wakes up at the next second matched by any of them, requesting the
+ * launch of those tasks only.
+ * </p>
  * 
  * @author Carlo Pelliccia
  * @since 2.0
@@ -40,6 +45,16 @@ class TimerThread extends Thread {
 	 */
 	private Scheduler scheduler;
 
+	/**
+	 * The lock the timer sleeps on.
+	 */
+	private final Object sleepLock = new Object();
+
+	/**
+	 * Has the timer been woken up?
+	 */
+	private boolean wokenUp = false;
+
 	/**
 	 * Builds the timer thread.
 	 * 
@@ -62,28 +77,47 @@ class TimerThread extends Thread {
 		return guid;
 	}
 
+	/**
+	 * Wakes the timer up, so that it computes again the next time it has to
+	 * wake up at.
+	 */
+	public void wakeUp() {
+		synchronized (sleepLock) {
+			wokenUp = true;
+			sleepLock.notifyAll();
+		}
+	}
+
 	/**
 	 * It has been reported that the {@link Thread#sleep(long)} method sometimes
 	 * exits before the requested time has passed. This one offers an
 	 * alternative that sometimes could sleep a few millis more than requested,
-	 * but never less.
+	 * but never less, unless the timer is woken up.
 	 * 
 	 * @param millis
 	 *            The length of time to sleep in milliseconds.
+	 * @return true if the timer has been woken up before the requested time.
 	 * @throws InterruptedException
 	 *             If another thread has interrupted the current thread. The
 	 *             <i>interrupted status</i> of the current thread is cleared
 	 *             when this exception is thrown.
 	 * @see Thread#sleep(long)
 	 */
-	private void safeSleep(long millis) throws InterruptedException {
-		long done = 0;
-		do {
-			long before = System.currentTimeMillis();
-			sleep(millis - done);
-			long after = System.currentTimeMillis();
-			done += (after - before);
-		} while (done < millis);
+	private boolean safeSleep(long millis) throws InterruptedException {
+		long end = System.currentTimeMillis() + millis;
+		synchronized (sleepLock) {
+			for (;;) {
+				if (wokenUp) {
+					wokenUp = false;
+					return true;
+				}
+				long left = end - System.currentTimeMillis();
+				if (left <= 0) {
+					return false;
+				}
+				sleepLock.wait(left);
+			}
+		}
 	}
 
 	/**
@@ -96,11 +130,18 @@ class TimerThread extends Thread {
 		long nextMinute = ((millis / 60000) + 1) * 60000;
 		// Work until the scheduler is started.
 		for (;;) {
-			// Coffee break 'till next minute comes!
-			long sleepTime = (nextMinute - System.currentTimeMillis());
+			// Next second matched by a pattern checked every second, if any.
+			long next = Math.min(nextMinute,
+					scheduler.nextSecondsMatchingTime(millis));
+			// Coffee break 'till next minute (or second) comes!
+			long sleepTime = (next - System.currentTimeMillis());
 			if (sleepTime > 0) {
 				try {
-					safeSleep(sleepTime);
+					if (safeSleep(sleepTime)) {
+						// Woken up, the next time has to be computed again.
+						millis = System.currentTimeMillis();
+						continue;
+					}
 				} catch (InterruptedException e) {
 					// Must exit!
 					break;
@@ -108,10 +149,13 @@ class TimerThread extends Thread {
 			}
 			// What time is it?
 			millis = System.currentTimeMillis();
+			boolean minuteTick = millis >= nextMinute;
 			// Launching the launching thread!
-			scheduler.spawnLauncher(millis);
+			scheduler.spawnLauncher(millis, minuteTick);
 			// Calculating next minute.
-			nextMinute = ((millis / 60000) + 1) * 60000;
+			if (minuteTick) {
+				nextMinute = ((millis / 60000) + 1) * 60000;
+			}
 		}
 		// Discard scheduler reference.
 		scheduler = null;
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.cron.cron4j.repository;
+
+import top.osjf.cron.core.lang.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * An {@link Executor} running the task executions of the cron4j scheduler on a delegate
+ * executor, a platform thread pool or virtual threads, with at most a given number of
+ * concurrent executions.
+ *
+ * <p>Executions beyond this number wait in a queue, and are handled by the
+ * {@link SaturationPolicy} when the queue holds its capacity. A thread of the delegate
+ * executor keeps running the queued executions after its own, so that the delegate is
+ * never given more than the maximum number of concurrent executions.
+ *
+ * <p>An interruption of the launching thread is kept when the scheduler is stopping, as
+ * told by the given {@code stopping} condition, so that an execution run or waiting in
+ * the launching thread does not swallow the interruption of its stop.
+ *
+ * <p>The numbers of queued, running and skipped executions are kept as metrics.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.3
+ */
+public class BoundedTaskExecutor implements Executor {
+
+    private final Executor delegate;
+
+    private final int maxConcurrentExecutions;
+
+    private final int queueCapacity;
+
+    private final SaturationPolicy saturationPolicy;
+
+    private final BooleanSupplier stopping;
+
+    private final Queue<Runnable> queue = new ArrayDeque<>();
+
+    private final Object lock = new Object();
+
+    /*** The number of executions given to the delegate executor and not finished.*/
+    private int runningExecutions;
+
+    /*** The number of executions refused by the {@link SaturationPolicy#SKIP} policy.*/
+    private final AtomicLong skippedExecutions = new AtomicLong();
+
+    /**
+     * Creates a {@code BoundedTaskExecutor} whose launching thread is never told to stop.
+     *
+     * @param delegate                the executor running the executions.
+     * @param maxConcurrentExecutions the maximum number of concurrent executions,
+     *                                non-positive means no limit.
+     * @param queueCapacity           the number of waiting executions beyond which the
+     *                                {@code saturationPolicy} applies.
+     * @param saturationPolicy        the policy of the executions beyond the queue capacity.
+     */
+    public BoundedTaskExecutor(@NotNull Executor delegate, int maxConcurrentExecutions, int queueCapacity,
+                               @NotNull SaturationPolicy saturationPolicy) {
+        this(delegate, maxConcurrentExecutions, queueCapacity, saturationPolicy, () -> false);
+    }
+
+    /**
+     * Creates a {@code BoundedTaskExecutor}.
+     *
+     * @param delegate                the executor running the executions.
+     * @param maxConcurrentExecutions the maximum number of concurrent executions,
+     *                                non-positive means no limit.
+     * @param queueCapacity           the number of waiting executions beyond which the
+     *                                {@code saturationPolicy} applies.
+     * @param saturationPolicy        the policy of the executions beyond the queue capacity.
+     * @param stopping                whether the scheduler launching the executions is
+     *                                stopping, checked before an interruption of the
+     *                                launching thread is cleared.
+     */
+    public BoundedTaskExecutor(@NotNull Executor delegate, int maxConcurrentExecutions, int queueCapacity,
+                               @NotNull SaturationPolicy saturationPolicy, @NotNull BooleanSupplier stopping) {
+        this.delegate = delegate;
+        this.maxConcurrentExecutions = maxConcurrentExecutions > 0 ? maxConcurrentExecutions : Integer.MAX_VALUE;
+        this.queueCapacity = Math.max(queueCapacity, 0);
+        this.saturationPolicy = saturationPolicy;
+        this.stopping = stopping;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param command {@inheritDoc}
+     * @throws RejectedExecutionException if the execution is skipped by the
+     *                                    {@link SaturationPolicy#SKIP} policy, if the launching
+     *                                    thread is interrupted while waiting for room in the
+     *                                    queue, or if the execution is refused by the delegate
+     *                                    executor.
+     */
+    @Override
+    public void execute(@NotNull Runnable command) {
+        boolean callerRuns = false;
+        synchronized (lock) {
+            if (saturationPolicy == SaturationPolicy.QUEUE) {
+                awaitQueueRoom();
+            }
+            if (runningExecutions >= maxConcurrentExecutions) {
+                if (queue.size() < queueCapacity) {
+                    queue.add(command);
+                    return;
+                }
+                if (saturationPolicy == SaturationPolicy.SKIP) {
+                    skippedExecutions.incrementAndGet();
+                    throw new RejectedExecutionException("Skipped task execution, " + runningExecutions
+                            + " running and " + queue.size() + " queued executions");
+                }
+                callerRuns = true;
+            } else {
+                runningExecutions++;
+            }
+        }
+        if (callerRuns) {
+            //An execution stopped by its interruption does not interrupt the launching thread.
+            //The interruption of a stopping scheduler is kept, whenever it is delivered.
+            boolean interrupted = Thread.currentThread().isInterrupted();
+            command.run();
+            if (!interrupted && !stopping.getAsBoolean()) Thread.interrupted();
+            return;
+        }
+        try {
+            delegate.execute(() -> runExecutions(command));
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                runningExecutions--;
+                lock.notifyAll();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Wait, holding the lock, until the queue has room or an execution can be given to
+     * the delegate executor.
+     *
+     * @throws RejectedExecutionException if the launching thread is interrupted, the
+     *                                    interruption being kept.
+     */
+    private void awaitQueueRoom() {
+        while (runningExecutions >= maxConcurrentExecutions && queue.size() >= queueCapacity) {
+            try {
+                lock.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for room in the queue of "
+                        + queue.size() + " executions", e);
+            }
+        }
+    }
+
+    /**
+     * Run the given execution, then the queued ones until the queue is empty.
+     *
+     * @param first the first execution.
+     */
+    private void runExecutions(Runnable first) {
+        Runnable execution = first;
+        while (execution != null) {
+            try {
+                execution.run();
+            } catch (Throwable e) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+            //An execution stopped by its interruption does not interrupt the next one.
+            Thread.interrupted();
+            synchronized (lock) {
+                execution = queue.poll();
+                if (execution == null) {
+                    runningExecutions--;
+                }
+                lock.notifyAll();
+            }
+        }
+    }
+
+    public int getMaxConcurrentExecutions() {
+        return maxConcurrentExecutions;
+    }
+
+    public SaturationPolicy getSaturationPolicy() {
+        return saturationPolicy;
+    }
+
+    /**
+     * @return the number of executions waiting in the queue.
+     */
+    public int getQueuedExecutions() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * @return the number of executions running on the delegate executor.
+     */
+    public int getRunningExecutions() {
+        synchronized (lock) {
+            return runningExecutions;
+        }
+    }
+
+    /**
+     * @return the number of executions skipped by the {@link SaturationPolicy#SKIP} policy.
+     */
+    public long getSkippedExecutions() {
+        return skippedExecutions.get();
+    }
+
+    /**
+     * The policies of the executions arriving when the maximum number of concurrent
+     * executions are running and the queue holds its capacity.
+     */
+    public enum SaturationPolicy {
+
+        /**
+         * The launching thread waits for room in the queue, delaying the following launches
+         * while the execution runs on the delegate executor after the queued ones.
+         */
+        QUEUE,
+
+        /**
+         * The execution is skipped, and reported to the scheduler listeners as a failed task.
+         */
+        SKIP,
+
+        /**
+         * The execution runs in the launching thread, delaying the following launches.
+         */
+        CALLER_RUNS
+    }
+}
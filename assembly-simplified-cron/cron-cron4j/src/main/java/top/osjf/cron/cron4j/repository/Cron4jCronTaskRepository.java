@@ -18,15 +18,23 @@ package top.osjf.cron.cron4j.repository;
 
 import it.sauronsoftware.cron4j.InvalidPatternException;
 import it.sauronsoftware.cron4j.Scheduler;
+import it.sauronsoftware.cron4j.Task;
+import it.sauronsoftware.cron4j.TaskExecutionContext;
 import top.osjf.cron.core.lang.NotNull;
+import top.osjf.cron.core.lang.Nullable;
 import top.osjf.cron.core.lifecycle.SuperiorProperties;
 import top.osjf.cron.core.listener.CronListener;
+import top.osjf.cron.core.lock.ScheduledFireTime;
+import top.osjf.cron.core.lock.TaskLocker;
 import top.osjf.cron.core.repository.*;
 import top.osjf.cron.cron4j.listener.Cron4jCronListener;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
+import java.util.Locale;
 import java.util.TimeZone;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The {@link CronTaskRepository} implementation class of cron4j.
@@ -34,6 +42,13 @@ import java.util.TimeZone;
  * <p>This implementation class includes the construction and lifecycle management
  * of the cron4j build scheduler, as well as operations related to tasks and listeners.
  *
+ * <p>By default, cron4j starts a launcher thread every minute and a thread for every task
+ * execution. When {@link #setMaxConcurrentExecutions a maximum of concurrent executions},
+ * {@link #setExecutor an executor} or {@link #setVirtualThreads virtual threads} are set,
+ * the executions are run by a {@link BoundedTaskExecutor} and launched by a single thread.
+ * With {@link #setIndexedLaunching indexed launching}, the tasks due every minute are
+ * taken from a queue ordered by their next matching minute.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.0
  */
@@ -49,6 +64,32 @@ public class Cron4jCronTaskRepository implements CronTaskRepository {
      */
     public static final String PROPERTY_NAME_OF_TIMEZONE = "timezone";
     private static final TimeZone DEFAULT_VALUE_OF_TIMEZONE = TimeZone.getDefault();
+    /**
+     * The {@link #maxConcurrentExecutions} property name of cron4j.
+     */
+    public static final String PROPERTY_NAME_OF_MAX_CONCURRENT_EXECUTIONS = "maxConcurrentExecutions";
+    private static final int DEFAULT_VALUE_OF_MAX_CONCURRENT_EXECUTIONS = 0;
+    /**
+     * The {@link #executionQueueCapacity} property name of cron4j.
+     */
+    public static final String PROPERTY_NAME_OF_EXECUTION_QUEUE_CAPACITY = "executionQueueCapacity";
+    private static final int DEFAULT_VALUE_OF_EXECUTION_QUEUE_CAPACITY = Integer.MAX_VALUE;
+    /**
+     * The {@link #saturationPolicy} property name of cron4j.
+     */
+    public static final String PROPERTY_NAME_OF_SATURATION_POLICY = "executionSaturationPolicy";
+    private static final BoundedTaskExecutor.SaturationPolicy DEFAULT_VALUE_OF_SATURATION_POLICY
+            = BoundedTaskExecutor.SaturationPolicy.QUEUE;
+    /**
+     * The {@link #virtualThreads} property name of cron4j.
+     */
+    public static final String PROPERTY_NAME_OF_VIRTUAL_THREADS = "isVirtualThreads";
+    private static final boolean DEFAULT_VALUE_OF_VIRTUAL_THREADS = false;
+    /**
+     * The {@link #indexedLaunching} property name of cron4j.
+     */
+    public static final String PROPERTY_NAME_OF_INDEXED_LAUNCHING = "isIndexedLaunching";
+    private static final boolean DEFAULT_VALUE_OF_INDEXED_LAUNCHING = false;
     /**
      * The daemon flag. If true the scheduler and its spawned threads acts like
      * daemons.
@@ -60,10 +101,58 @@ public class Cron4jCronTaskRepository implements CronTaskRepository {
      */
     private TimeZone timezone = DEFAULT_VALUE_OF_TIMEZONE;
 
+    /**
+     * The maximum number of concurrent task executions, non-positive means no limit.
+     */
+    private int maxConcurrentExecutions = DEFAULT_VALUE_OF_MAX_CONCURRENT_EXECUTIONS;
+
+    /**
+     * The number of waiting task executions beyond which the {@link #saturationPolicy} applies.
+     */
+    private int executionQueueCapacity = DEFAULT_VALUE_OF_EXECUTION_QUEUE_CAPACITY;
+
+    /**
+     * The policy of the task executions beyond the queue capacity.
+     */
+    private BoundedTaskExecutor.SaturationPolicy saturationPolicy = DEFAULT_VALUE_OF_SATURATION_POLICY;
+
+    /**
+     * Whether the task executions run on virtual threads.
+     */
+    private boolean virtualThreads = DEFAULT_VALUE_OF_VIRTUAL_THREADS;
+
+    /**
+     * Whether the tasks are launched through an index of their next matching minute.
+     */
+    private boolean indexedLaunching = DEFAULT_VALUE_OF_INDEXED_LAUNCHING;
+
+    /**
+     * The custom executor of the task executions.
+     */
+    private Executor executor;
+
+    /**
+     * The locker running each fire of the tasks on a single node.
+     */
+    private TaskLocker taskLocker;
+
+    private BoundedTaskExecutor boundedTaskExecutor;
+
+    /**
+     * The executor of the task executions created by this repository, shut down
+     * when it is stopped, unlike a custom {@link #executor}.
+     */
+    private ExecutorService executionService;
+
     private Scheduler scheduler;
 
     private boolean setDaemon;
     private boolean setTimeZone;
+    private boolean setMaxConcurrentExecutions;
+    private boolean setExecutionQueueCapacity;
+    private boolean setSaturationPolicy;
+    private boolean setVirtualThreads;
+    private boolean setIndexedLaunching;
 
     /**
      * @since 1.0.3
@@ -127,6 +216,97 @@ public class Cron4jCronTaskRepository implements CronTaskRepository {
         setTimeZone = true;
     }
 
+    /**
+     * Set the maximum number of concurrent task executions, the executions beyond it
+     * wait in a queue. Unless an {@link #setExecutor executor} or {@link #setVirtualThreads
+     * virtual threads} are set, the executions run on a pool of as many threads.
+     *
+     * @param maxConcurrentExecutions the maximum number of concurrent task executions,
+     *                                non-positive means no limit.
+     * @since 1.0.3
+     */
+    public void setMaxConcurrentExecutions(int maxConcurrentExecutions) {
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        setMaxConcurrentExecutions = true;
+    }
+
+    /**
+     * Set the number of waiting task executions beyond which the
+     * {@link #setSaturationPolicy saturation policy} applies, default unbounded.
+     *
+     * @param executionQueueCapacity the capacity of the queue of the task executions.
+     * @since 1.0.3
+     */
+    public void setExecutionQueueCapacity(int executionQueueCapacity) {
+        this.executionQueueCapacity = executionQueueCapacity;
+        setExecutionQueueCapacity = true;
+    }
+
+    /**
+     * Set the policy of the task executions arriving when the maximum number of concurrent
+     * executions are running and the queue holds its capacity, default
+     * {@link BoundedTaskExecutor.SaturationPolicy#QUEUE}.
+     *
+     * @param saturationPolicy the policy of the task executions beyond the queue capacity.
+     * @since 1.0.3
+     */
+    public void setSaturationPolicy(BoundedTaskExecutor.SaturationPolicy saturationPolicy) {
+        this.saturationPolicy = saturationPolicy;
+        setSaturationPolicy = true;
+    }
+
+    /**
+     * Set whether the task executions run on virtual threads, which requires Java 21
+     * or later. Virtual threads are always daemon threads.
+     *
+     * @param virtualThreads {@code true} to run the task executions on virtual threads.
+     * @since 1.0.3
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        setVirtualThreads = true;
+    }
+
+    /**
+     * Set whether the tasks are launched through an index of their next matching
+     * minute, so that every minute the scheduler only deals with the tasks to launch
+     * instead of matching the pattern of every registered task.
+     *
+     * @param indexedLaunching {@code true} to launch the tasks through an index.
+     * @since 1.0.3
+     */
+    public void setIndexedLaunching(boolean indexedLaunching) {
+        this.indexedLaunching = indexedLaunching;
+        setIndexedLaunching = true;
+    }
+
+    /**
+     * Set the custom executor of the task executions, still limited by the
+     * {@link #setMaxConcurrentExecutions maximum number of concurrent executions}.
+     *
+     * <p>When customizing an executor, it is necessary to consider whether its threads
+     * are daemon threads {@link #setDaemon}.
+     *
+     * @param executor the custom executor of the task executions.
+     * @since 1.0.3
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Set the {@link TaskLocker} through which the tasks registered afterwards run,
+     * so that nodes sharing its lock provider run each fire of a task only once.
+     * The fire time of a lock is the {@link it.sauronsoftware.cron4j.TaskExecutor#getScheduledTime
+     * scheduled time} of the execution, the same on every node.
+     *
+     * @param taskLocker the locker running each fire of the tasks on a single node.
+     * @since 1.0.3
+     */
+    public void setTaskLocker(TaskLocker taskLocker) {
+        this.taskLocker = taskLocker;
+    }
+
     /**
      * Set the parameter {@link SuperiorProperties} object for building the cron4j task
      * scheduler, compatible with the Cron framework startup parameter series.
@@ -154,6 +334,26 @@ public class Cron4jCronTaskRepository implements CronTaskRepository {
                     setTimeZone(timeZone);
                 }
             }
+            if (!setMaxConcurrentExecutions)
+                setMaxConcurrentExecutions(superiorProperties.getProperty(PROPERTY_NAME_OF_MAX_CONCURRENT_EXECUTIONS,
+                        DEFAULT_VALUE_OF_MAX_CONCURRENT_EXECUTIONS));
+            if (!setExecutionQueueCapacity)
+                setExecutionQueueCapacity(superiorProperties.getProperty(PROPERTY_NAME_OF_EXECUTION_QUEUE_CAPACITY,
+                        DEFAULT_VALUE_OF_EXECUTION_QUEUE_CAPACITY));
+            if (!setVirtualThreads)
+                setVirtualThreads(superiorProperties.getProperty(PROPERTY_NAME_OF_VIRTUAL_THREADS,
+                        DEFAULT_VALUE_OF_VIRTUAL_THREADS));
+            if (!setIndexedLaunching)
+                setIndexedLaunching(superiorProperties.getProperty(PROPERTY_NAME_OF_INDEXED_LAUNCHING,
+                        DEFAULT_VALUE_OF_INDEXED_LAUNCHING));
+            if (!setSaturationPolicy) {
+                Object policy = superiorProperties.getProperty(PROPERTY_NAME_OF_SATURATION_POLICY);
+                if (policy instanceof BoundedTaskExecutor.SaturationPolicy) {
+                    setSaturationPolicy((BoundedTaskExecutor.SaturationPolicy) policy);
+                } else if (policy != null) {
+                    setSaturationPolicy(BoundedTaskExecutor.SaturationPolicy.valueOf(policy.toString().toUpperCase(Locale.ROOT)));
+                }
+            }
         }
     }
 
@@ -163,16 +363,96 @@ public class Cron4jCronTaskRepository implements CronTaskRepository {
             scheduler = new Scheduler();
             scheduler.setDaemon(daemon);
             scheduler.setTimeZone(timezone);
+            scheduler.setIndexedLaunching(indexedLaunching);
+            initializeExecutor();
         }
     }
 
+    /**
+     * Give the task executions of the scheduler to a {@link BoundedTaskExecutor} when
+     * they are not run within a thread of their own.
+     */
+    private void initializeExecutor() {
+        Executor delegate = getExecutionDelegate();
+        if (delegate != null) {
+            boundedTaskExecutor = new BoundedTaskExecutor(delegate, maxConcurrentExecutions,
+                    executionQueueCapacity, saturationPolicy, scheduler::isStopping);
+            scheduler.setExecutor(boundedTaskExecutor);
+        }
+    }
+
+    /**
+     * Return the executor the task executions are given to by the {@link BoundedTaskExecutor}:
+     * the custom executor, a virtual thread per execution, or a pool of
+     * {@link #maxConcurrentExecutions} threads.
+     *
+     * @return the executor of the task executions, {@literal null} to run each execution
+     * within a thread of its own.
+     */
+    @Nullable
+    private Executor getExecutionDelegate() {
+        if (executor != null) {
+            return executor;
+        }
+        if (virtualThreads) {
+            try {
+                executionService = (ExecutorService) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                return executionService;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Virtual threads require Java 21 or later", e);
+            }
+        }
+        if (maxConcurrentExecutions > 0) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(maxConcurrentExecutions, maxConcurrentExecutions,
+                    60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, "cron4j-task-" + threadNumber.incrementAndGet());
+                thread.setDaemon(daemon);
+                return thread;
+            });
+            pool.allowCoreThreadTimeOut(true);
+            executionService = pool;
+            return pool;
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of task executions waiting for a thread, 0 when each
+     * execution runs within a thread of its own.
+     * @since 1.0.3
+     */
+    public int getQueuedExecutions() {
+        return boundedTaskExecutor != null ? boundedTaskExecutor.getQueuedExecutions() : 0;
+    }
+
+    /**
+     * @return the number of running task executions, 0 when each execution runs
+     * within a thread of its own.
+     * @since 1.0.3
+     */
+    public int getRunningExecutions() {
+        return boundedTaskExecutor != null ? boundedTaskExecutor.getRunningExecutions() : 0;
+    }
+
+    /**
+     * @return the number of task executions skipped by the
+     * {@link BoundedTaskExecutor.SaturationPolicy#SKIP} policy.
+     * @since 1.0.3
+     */
+    public long getSkippedExecutions() {
+        return boundedTaskExecutor != null ? boundedTaskExecutor.getSkippedExecutions() : 0;
+    }
+
     /**
      * {@inheritDoc}
      *
-     * <p>Cron4j itself does not support cron expressions precise to seconds.
-     * The cron expression of cron4j allows a maximum of 5 parts, each
-     * separated by a space, representing "minute", "hour", "day", "month",
-     * "week" from left to right, and does not include the second part.
+     * <p>The cron expression of cron4j has 5 parts, each separated by a space,
+     * representing "minute", "hour", "day", "month", "week" from left to right.
+     * It can start with an optional sixth part, "second", in which case the task
+     * is checked every second instead of every minute, for example
+     * <code>"*&#47;10 * * * * *"</code> runs the task every 10 seconds.
      *
      * @param expression {@inheritDoc}
      * @param body       {@inheritDoc}
@@ -181,24 +461,27 @@ public class Cron4jCronTaskRepository implements CronTaskRepository {
     @Override
     @NotNull
     public String register(@NotNull String expression, @NotNull TaskBody body) {
-        return RepositoryUtils.doRegister(() ->
-                        scheduler.schedule(expression, body.unwrap(RunnableTaskBody.class).getRunnable()),
-                InvalidPatternException.class);
+        return RepositoryUtils.doRegister(() -> {
+            Runnable runnable = RepositoryUtils.getRunnable(body, taskLocker, expression);
+            return taskLocker != null ? scheduler.schedule(expression, new ScheduledFireTimeTask(runnable))
+                    : scheduler.schedule(expression, runnable);
+        }, InvalidPatternException.class);
     }
 
     @Override
     @NotNull
     public String register(@NotNull CronTask task) {
-        return register(task.getExpression(), new RunnableTaskBody(task.getRunnable()));
+        return register(task.getExpression(), new RunnableTaskBody(task.getRunnable(), task.getName()));
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>Cron4j itself does not support cron expressions precise to seconds.
-     * The cron expression of cron4j allows a maximum of 5 parts, each
-     * separated by a space, representing "minute", "hour", "day", "month",
-     * "week" from left to right, and does not include the second part.
+     * <p>The cron expression of cron4j has 5 parts, each separated by a space,
+     * representing "minute", "hour", "day", "month", "week" from left to right.
+     * It can start with an optional sixth part, "second", in which case the task
+     * is checked every second instead of every minute, for example
+     * <code>"*&#47;10 * * * * *"</code> runs the task every 10 seconds.
      *
      * @param taskId        {@inheritDoc}
      * @param newExpression {@inheritDoc}
@@ -227,17 +510,63 @@ public class Cron4jCronTaskRepository implements CronTaskRepository {
 
     @Override
     public void start() {
+        if (executionService != null && executionService.isShutdown() && !scheduler.isStarted()) {
+            initializeExecutor();
+        }
         scheduler.start();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Once the scheduler has stopped, the executor of the task executions created
+     * by this repository is shut down, and created again if it is started again;
+     * a custom {@link #setExecutor executor} is left to its owner.
+     */
     @Override
     @PreDestroy
     public void stop() {
-        scheduler.stop();
+        try {
+            scheduler.stop();
+        }
+        finally {
+            if (executionService != null) {
+                executionService.shutdown();
+            }
+        }
     }
 
     @Override
     public boolean isStarted() {
         return scheduler.isStarted();
     }
+
+    /**
+     * The task running a locked runnable with the {@link ScheduledFireTime scheduled
+     * fire time} of its executions.
+     */
+    private static class ScheduledFireTimeTask extends Task {
+
+        private final Runnable runnable;
+
+        ScheduledFireTimeTask(Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void execute(TaskExecutionContext context) {
+            long scheduledTime = context.getTaskExecutor().getScheduledTime();
+            if (scheduledTime < 0) {
+                runnable.run();
+            }
+            else {
+                ScheduledFireTime.runAt(scheduledTime, runnable);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return runnable.toString();
+        }
+    }
 }
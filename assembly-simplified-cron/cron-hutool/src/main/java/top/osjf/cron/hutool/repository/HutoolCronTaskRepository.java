@@ -22,6 +22,7 @@ import cn.hutool.cron.pattern.CronPattern;
 import top.osjf.cron.core.lang.NotNull;
 import top.osjf.cron.core.lifecycle.SuperiorProperties;
 import top.osjf.cron.core.listener.CronListener;
+import top.osjf.cron.core.lock.TaskLocker;
 import top.osjf.cron.core.repository.*;
 import top.osjf.cron.hutool.listener.HutoolCronListener;
 
@@ -65,6 +66,8 @@ public class HutoolCronTaskRepository implements CronTaskRepository {
 
     private TimeZone timeZone = TimeZone.getDefault();
 
+    private TaskLocker taskLocker;
+
     private Scheduler scheduler;
 
     private boolean setMatchSecond;
@@ -178,6 +181,19 @@ public class HutoolCronTaskRepository implements CronTaskRepository {
         setTimeZone = true;
     }
 
+    /**
+     * Set the {@link TaskLocker} through which the tasks registered afterwards run,
+     * so that nodes sharing its lock provider run each fire of a task only once.
+     * Hutool giving no scheduled fire time, the fire time of a lock is the current
+     * time truncated to the {@link TaskLocker#setFireTimePrecisionMillis precision}.
+     *
+     * @param taskLocker the locker running each fire of the tasks on a single node.
+     * @since 1.0.3
+     */
+    public void setTaskLocker(TaskLocker taskLocker) {
+        this.taskLocker = taskLocker;
+    }
+
     /**
      * Initialize the scheduled task manager based on the provided attributes.
      *
@@ -198,14 +214,14 @@ public class HutoolCronTaskRepository implements CronTaskRepository {
     @NotNull
     public String register(@NotNull String cronExpression, @NotNull TaskBody body) {
         return RepositoryUtils.doRegister(() ->
-                scheduler.schedule(cronExpression, body.unwrap(RunnableTaskBody.class)
-                        .getRunnable()), CronException.class);
+                scheduler.schedule(cronExpression, RepositoryUtils.getRunnable(body, taskLocker, cronExpression)),
+                CronException.class);
     }
 
     @Override
     @NotNull
     public String register(@NotNull CronTask task) {
-        return register(task.getExpression(), new RunnableTaskBody(task.getRunnable()));
+        return register(task.getExpression(), new RunnableTaskBody(task.getRunnable(), task.getName()));
     }
 
     @Override
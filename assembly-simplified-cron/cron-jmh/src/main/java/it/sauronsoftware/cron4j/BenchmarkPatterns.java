@@ -0,0 +1,201 @@
+/*
+ * cron4j - A pure Java cron-like scheduler
+ *
+ * Copyright (C) 2007-2010 Carlo Pelliccia (www.sauronsoftware.it)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License version
+ * 2.1, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License 2.1 for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License version 2.1 along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ */
+package it.sauronsoftware.cron4j;
+
+import java.util.Random;
+
+/**
+ * <p>
+ * Seeded generators of the scheduling patterns used by the benchmarks and by
+ * the equivalence checks, so that every run works on the same patterns.
+ * </p>
+ * <p>
+ * {@link #schedulePattern(Random, boolean)} returns the patterns of a
+ * scheduler: daily, weekly, monthly, hourly and every n minutes tasks.
+ * {@link #fuzzPattern(Random, boolean)} returns any valid pattern: lists,
+ * ranges wrapping around, steps, aliases, "L" and several matcher groups.
+ * </p>
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.3
+ */
+class BenchmarkPatterns {
+
+	/**
+	 * The seed of the generated patterns.
+	 */
+	static final long SEED = 20240601L;
+
+	/**
+	 * The month aliases.
+	 */
+	private static final String[] MONTHS = { "jan", "feb", "mar", "apr",
+			"may", "jun", "jul", "aug", "sep", "oct", "nov", "dec" };
+
+	/**
+	 * The day of week aliases.
+	 */
+	private static final String[] DAYS_OF_WEEK = { "sun", "mon", "tue", "wed",
+			"thu", "fri", "sat" };
+
+	private BenchmarkPatterns() {
+	}
+
+	/**
+	 * Returns the given count of patterns of a scheduler, from
+	 * {@link #SEED}.
+	 *
+	 * @param count
+	 *            The count of patterns.
+	 * @param seconds
+	 *            true to also return patterns having a "second" field.
+	 * @return The patterns.
+	 */
+	static String[] schedulePatterns(int count, boolean seconds) {
+		Random random = new Random(SEED);
+		String[] patterns = new String[count];
+		for (int i = 0; i < count; i++) {
+			patterns[i] = schedulePattern(random, seconds);
+		}
+		return patterns;
+	}
+
+	/**
+	 * Returns the pattern of a task of a scheduler. About 1% of these patterns
+	 * match a given minute.
+	 *
+	 * @param random
+	 *            The source of the pattern.
+	 * @param seconds
+	 *            true to also return patterns having a "second" field.
+	 * @return A pattern.
+	 */
+	static String schedulePattern(Random random, boolean seconds) {
+		int minute = random.nextInt(60);
+		int hour = random.nextInt(24);
+		if (seconds && random.nextInt(50) == 0) {
+			switch (random.nextInt(3)) {
+			case 0:
+				return "*/" + (15 << random.nextInt(2)) + " * * * * *";
+			case 1:
+				return random.nextInt(60) + " " + minute + " * * * *";
+			default:
+				return "0,30 " + minute + " " + hour + " * * *|" + minute + " " + hour + " * * sun";
+			}
+		}
+		int kind = random.nextInt(100);
+		if (kind < 45) {
+			return minute + " " + hour + " * * *";
+		} else if (kind < 65) {
+			return minute + " " + hour + " * * mon-fri";
+		} else if (kind < 72) {
+			return minute + " " + hour + " * * " + DAYS_OF_WEEK[random.nextInt(7)];
+		} else if (kind < 77) {
+			return minute + " " + hour + " " + (1 + random.nextInt(28)) + " * *";
+		} else if (kind < 80) {
+			return minute + " " + hour + " L * *";
+		} else if (kind < 83) {
+			return minute + " " + hour + " 1,15 * *";
+		} else if (kind < 85) {
+			return minute + " 9-17 * * mon-fri";
+		} else if (kind < 87) {
+			return minute + " 22-2 * * *";
+		} else if (kind < 89) {
+			return minute + " " + hour + " * * sat|" + minute + " " + ((hour + 6) % 24) + " * * sun";
+		} else if (kind < 90) {
+			return minute + " " + hour + " 29 feb *";
+		} else if (kind < 98) {
+			return minute + " * * * *";
+		} else {
+			return "*/" + (new int[] { 5, 10, 15, 30 })[random.nextInt(4)] + " * * * *";
+		}
+	}
+
+	/**
+	 * Returns any valid pattern, with one to three matcher groups.
+	 *
+	 * @param random
+	 *            The source of the pattern.
+	 * @param seconds
+	 *            true to also return patterns having a "second" field.
+	 * @return A pattern.
+	 */
+	static String fuzzPattern(Random random, boolean seconds) {
+		StringBuffer b = new StringBuffer();
+		int groups = 1 + (random.nextInt(4) == 0 ? 1 + random.nextInt(2) : 0);
+		for (int i = 0; i < groups; i++) {
+			if (i > 0) {
+				b.append('|');
+			}
+			if (seconds && random.nextBoolean()) {
+				b.append(fuzzField(random, 0, 59, null, false)).append(' ');
+			}
+			b.append(fuzzField(random, 0, 59, null, false)).append(' ');
+			b.append(fuzzField(random, 0, 23, null, false)).append(' ');
+			b.append(fuzzField(random, 1, 31, null, true)).append(' ');
+			b.append(fuzzField(random, 1, 12, MONTHS, false)).append(' ');
+			b.append(fuzzField(random, 0, 7, DAYS_OF_WEEK, false));
+		}
+		return b.toString();
+	}
+
+	/**
+	 * Returns a field between the given bounds: "*", or a list of values and
+	 * ranges, each one possibly with a step.
+	 */
+	private static String fuzzField(Random random, int min, int max,
+			String[] aliases, boolean last) {
+		if (random.nextInt(3) == 0) {
+			return random.nextInt(3) == 0 ? "*/" + (2 + random.nextInt(max / 2)) : "*";
+		}
+		StringBuffer b = new StringBuffer();
+		int elements = 1 + random.nextInt(3);
+		for (int i = 0; i < elements; i++) {
+			if (i > 0) {
+				b.append(',');
+			}
+			if (last && random.nextInt(6) == 0) {
+				b.append('L');
+				continue;
+			}
+			b.append(fuzzValue(random, min, max, aliases));
+			if (random.nextBoolean()) {
+				// A range, wrapping around if its end is lower than its start.
+				b.append('-').append(fuzzValue(random, min, max, aliases));
+				if (random.nextInt(3) == 0) {
+					b.append('/').append(1 + random.nextInt(5));
+				}
+			}
+		}
+		return b.toString();
+	}
+
+	/**
+	 * Returns a value between the given bounds, or its alias.
+	 */
+	private static String fuzzValue(Random random, int min, int max,
+			String[] aliases) {
+		int value = min + random.nextInt(max - min + 1);
+		if (aliases != null && random.nextInt(3) == 0) {
+			return aliases[(value - min) % aliases.length];
+		}
+		return String.valueOf(value);
+	}
+
+}
@@ -0,0 +1,205 @@
+/*
+ * cron4j - A pure Java cron-like scheduler
+ *
+ * Copyright (C) 2007-2010 Carlo Pelliccia (www.sauronsoftware.it)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License version
+ * 2.1, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License 2.1 for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License version 2.1 along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ */
+package it.sauronsoftware.cron4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TimeZone;
+
+/**
+ * <p>
+ * Checks that an indexed {@link MemoryTaskCollector} launches the same tasks
+ * as a scanned one, tick by tick:
+ * </p>
+ * <ul>
+ * <li>the {@link BenchmarkPatterns#schedulePatterns} of the given counts, 10k
+ * by default, plus "* * * * *";</li>
+ * <li>three days of minute ticks from 2024-03-08 00:00 UTC, across the March
+ * DST change of America/New_York, in that zone and in UTC;</li>
+ * <li>ticks coming up to five seconds late, and about one tick in ten
+ * skipping one to three minutes, which are not launched late;</li>
+ * <li>tasks added, rescheduled and descheduled between the ticks.</li>
+ * </ul>
+ * <p>
+ * A scanned collector launches a task when its pattern matches the tick, as
+ * the launcher does. The check prints the first diverging ticks and exits
+ * with the status 1 if any tick diverges:
+ * </p>
+ *
+ * <pre>
+ * java -cp cron-jmh/target/benchmarks.jar it.sauronsoftware.cron4j.IndexEquivalenceCheck 10000 100000
+ * </pre>
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.3
+ */
+public class IndexEquivalenceCheck {
+
+	/**
+	 * The first checked minute, 2024-03-08 00:00 UTC.
+	 */
+	private static final long START = 1709856000000L;
+
+	/**
+	 * The count of checked minutes.
+	 */
+	private static final int MINUTES = 3 * 24 * 60;
+
+	/**
+	 * The count of reported diverging ticks.
+	 */
+	private static final int REPORTED = 10;
+
+	public static void main(String[] args) {
+		int[] counts = { 10000 };
+		if (args.length > 0) {
+			counts = new int[args.length];
+			for (int i = 0; i < args.length; i++) {
+				counts[i] = Integer.parseInt(args[i]);
+			}
+		}
+		String[] zones = { "UTC", "America/New_York" };
+		int diverging = 0;
+		for (int i = 0; i < counts.length; i++) {
+			for (int j = 0; j < zones.length; j++) {
+				diverging += check(counts[i], TimeZone.getTimeZone(zones[j]));
+			}
+		}
+		if (diverging > 0) {
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Runs the check for the given count of patterns in the given zone.
+	 *
+	 * @return The count of diverging ticks.
+	 */
+	private static int check(int count, TimeZone timeZone) {
+		Random random = new Random(BenchmarkPatterns.SEED + count);
+		MemoryTaskCollector scanCollector = new MemoryTaskCollector();
+		MemoryTaskCollector indexCollector = new MemoryTaskCollector();
+		indexCollector.setIndexed(true);
+		// The IDs of a task in both collectors.
+		ArrayList scanIds = new ArrayList();
+		ArrayList indexIds = new ArrayList();
+		String[] patterns = BenchmarkPatterns.schedulePatterns(count, true);
+		int label = 0;
+		for (; label <= count; label++) {
+			SchedulingPattern pattern = new SchedulingPattern(label < count ? patterns[label] : "* * * * *");
+			scanIds.add(scanCollector.add(pattern, new LabelledTask(label)));
+			indexIds.add(indexCollector.add(pattern, new LabelledTask(label)));
+		}
+		int ticks = 0;
+		int skipped = 0;
+		long launched = 0;
+		int diverging = 0;
+		for (int minute = 0; minute < MINUTES; minute++) {
+			if (random.nextInt(10) == 0) {
+				int skip = 1 + random.nextInt(3);
+				minute += skip;
+				skipped += skip;
+			}
+			long time = START + minute * 60000L + random.nextInt(5000);
+			int[] scanned = labels(scan(scanCollector, timeZone, time));
+			int[] indexed = labels(indexCollector.getTasks(timeZone, time, true));
+			ticks++;
+			launched += scanned.length;
+			if (!Arrays.equals(scanned, indexed)) {
+				if (diverging++ < REPORTED) {
+					System.out.println("  " + timeZone.getID() + " tick " + time + ": scan "
+							+ scanned.length + " tasks, index " + indexed.length + " tasks");
+				}
+			}
+			// Churn between the ticks, applied to both collectors.
+			for (int k = random.nextInt(4); k > 0; k--) {
+				int operation = random.nextInt(3);
+				if (operation == 0 || scanIds.isEmpty()) {
+					SchedulingPattern pattern = new SchedulingPattern(
+							BenchmarkPatterns.schedulePattern(random, true));
+					scanIds.add(scanCollector.add(pattern, new LabelledTask(label)));
+					indexIds.add(indexCollector.add(pattern, new LabelledTask(label)));
+					label++;
+				} else {
+					int task = random.nextInt(scanIds.size());
+					if (operation == 1) {
+						SchedulingPattern pattern = new SchedulingPattern(
+								BenchmarkPatterns.schedulePattern(random, true));
+						scanCollector.update((String) scanIds.get(task), pattern);
+						indexCollector.update((String) indexIds.get(task), pattern);
+					} else {
+						scanCollector.remove((String) scanIds.remove(task));
+						indexCollector.remove((String) indexIds.remove(task));
+					}
+				}
+			}
+		}
+		System.out.println(count + " patterns, " + timeZone.getID() + ": " + ticks + " ticks, "
+				+ skipped + " skipped minutes, " + launched + " launches, " + diverging
+				+ " diverging ticks");
+		return diverging;
+	}
+
+	/**
+	 * Returns the tasks of a scanned collector launched at the given tick, as
+	 * the launcher does.
+	 */
+	private static TaskTable scan(MemoryTaskCollector collector, TimeZone timeZone, long time) {
+		TaskTable taskTable = collector.getTasks();
+		TaskTable ret = new TaskTable();
+		int size = taskTable.size();
+		for (int i = 0; i < size; i++) {
+			SchedulingPattern pattern = taskTable.getSchedulingPattern(i);
+			if (pattern.matchTick(timeZone, time, true)) {
+				ret.add(pattern, taskTable.getTask(i));
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the sorted labels of the tasks of the given table.
+	 */
+	private static int[] labels(TaskTable taskTable) {
+		int[] labels = new int[taskTable.size()];
+		for (int i = 0; i < labels.length; i++) {
+			labels[i] = ((LabelledTask) taskTable.getTask(i)).label;
+		}
+		Arrays.sort(labels);
+		return labels;
+	}
+
+	/**
+	 * A task known by a label, the same in both collectors.
+	 */
+	private static class LabelledTask extends Task {
+
+		private final int label;
+
+		public LabelledTask(int label) {
+			this.label = label;
+		}
+
+		public void execute(TaskExecutionContext context) {
+		}
+
+	}
+
+}
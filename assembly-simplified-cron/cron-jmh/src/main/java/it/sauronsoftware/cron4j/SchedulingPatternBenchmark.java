@@ -0,0 +1,121 @@
+/*
+ * cron4j - A pure Java cron-like scheduler
+ *
+ * Copyright (C) 2007-2010 Carlo Pelliccia (www.sauronsoftware.it)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License version
+ * 2.1, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License 2.1 for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License version 2.1 along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ */
+package it.sauronsoftware.cron4j;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Benchmark of the bitset {@link SchedulingPattern} against the
+ * {@link LegacySchedulingPattern} it replaced, on 1024 patterns of
+ * {@link BenchmarkPatterns#schedulePatterns} and times spread over ten years,
+ * every invocation taking the next pattern and time.
+ * </p>
+ * <ul>
+ * <li>{@code legacyMatch} and {@code bitsetMatch}: matching a time.</li>
+ * <li>{@code legacyPredictor} and {@code predictor}: predicting the first
+ * matching minute after a time, with a {@link LegacyPredictor} or a
+ * {@link Predictor}.</li>
+ * </ul>
+ * <p>
+ * The forked JVM runs in America/New_York, the legacy implementations
+ * partly using the default time zone. {@link SchedulingPatternEquivalenceCheck}
+ * checks that both implementations agree.
+ * </p>
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Duser.timezone=America/New_York")
+@State(Scope.Thread)
+public class SchedulingPatternBenchmark {
+
+	/**
+	 * The count of patterns and times, a power of two.
+	 */
+	private static final int SIZE = 1024;
+
+	/**
+	 * The first time, 2020-01-01 00:00 UTC.
+	 */
+	private static final long START = 1577836800000L;
+
+	/**
+	 * The span of the times, ten years.
+	 */
+	private static final long SPAN = 3652L * 24 * 60 * 60 * 1000;
+
+	private final TimeZone timeZone = TimeZone.getDefault();
+
+	private final LegacySchedulingPattern[] legacyPatterns = new LegacySchedulingPattern[SIZE];
+
+	private final SchedulingPattern[] patterns = new SchedulingPattern[SIZE];
+
+	private final long[] times = new long[SIZE];
+
+	private int next;
+
+	@Setup
+	public void setup() {
+		String[] strings = BenchmarkPatterns.schedulePatterns(SIZE, false);
+		Random random = new Random(BenchmarkPatterns.SEED);
+		for (int i = 0; i < SIZE; i++) {
+			legacyPatterns[i] = new LegacySchedulingPattern(strings[i]);
+			patterns[i] = new SchedulingPattern(strings[i]);
+			times[i] = START + (long) (random.nextDouble() * SPAN);
+		}
+	}
+
+	@Benchmark
+	public boolean legacyMatch() {
+		int i = next++ & (SIZE - 1);
+		return legacyPatterns[i].match(timeZone, times[i]);
+	}
+
+	@Benchmark
+	public boolean bitsetMatch() {
+		int i = next++ & (SIZE - 1);
+		return patterns[i].match(timeZone, times[i]);
+	}
+
+	@Benchmark
+	public long legacyPredictor() {
+		int i = next++ & (SIZE - 1);
+		LegacyPredictor predictor = new LegacyPredictor(legacyPatterns[i], times[i]);
+		predictor.setTimeZone(timeZone);
+		return predictor.nextMatchingTime();
+	}
+
+	@Benchmark
+	public long predictor() {
+		int i = next++ & (SIZE - 1);
+		Predictor predictor = new Predictor(patterns[i], times[i]);
+		predictor.setTimeZone(timeZone);
+		return predictor.nextMatchingTime();
+	}
+
+}
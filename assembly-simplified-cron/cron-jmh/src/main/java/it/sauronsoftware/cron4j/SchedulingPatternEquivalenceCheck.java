@@ -0,0 +1,221 @@
+/*
+ * cron4j - A pure Java cron-like scheduler
+ *
+ * Copyright (C) 2007-2010 Carlo Pelliccia (www.sauronsoftware.it)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License version
+ * 2.1, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License 2.1 for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License version 2.1 along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ */
+package it.sauronsoftware.cron4j;
+
+import java.util.Random;
+import java.util.TimeZone;
+
+/**
+ * <p>
+ * Checks the bitset {@link SchedulingPattern} by brute force:
+ * </p>
+ * <ul>
+ * <li>{@code match}: random triples of a {@link BenchmarkPatterns#fuzzPattern},
+ * a JDK time zone and a time between 1970 and 2100 are matched by the
+ * {@link LegacySchedulingPattern} and by the bitset pattern, which must
+ * agree. So must they every hour from 1999 to 2031 on patterns of leap days
+ * and of the last day of the month.</li>
+ * <li>{@code nextMatchingTime}: for random patterns, with or without a
+ * "second" field, zones and times, the result must be the first minute (or
+ * second) after the time that {@link SchedulingPattern#match(TimeZone, long)}
+ * accepts, found by checking every minute (or second) of the next 60 days
+ * (or 2 days). Zones with half hour and 45 minutes offsets and transitions
+ * are among the checked ones.</li>
+ * </ul>
+ * <p>
+ * Dates before the 1582 Gregorian cutover are not checked: the bitset
+ * pattern decodes them proleptically, where the legacy one uses Julian
+ * dates. The check prints the first mismatches and exits with the status 1
+ * if any:
+ * </p>
+ *
+ * <pre>
+ * java -cp cron-jmh/target/benchmarks.jar it.sauronsoftware.cron4j.SchedulingPatternEquivalenceCheck [matches] [predictions]
+ * </pre>
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.3
+ */
+public class SchedulingPatternEquivalenceCheck {
+
+	/**
+	 * 1970-01-01 00:00 UTC.
+	 */
+	private static final long EPOCH = 0L;
+
+	/**
+	 * 2100-01-01 00:00 UTC.
+	 */
+	private static final long YEAR_2100 = 4102444800000L;
+
+	/**
+	 * 1999-01-01 00:00 UTC.
+	 */
+	private static final long YEAR_1999 = 915148800000L;
+
+	/**
+	 * 2031-01-01 00:00 UTC.
+	 */
+	private static final long YEAR_2031 = 1924992000000L;
+
+	/**
+	 * 2020-01-01 00:00 UTC.
+	 */
+	private static final long YEAR_2020 = 1577836800000L;
+
+	private static final long SECOND = 1000L;
+
+	private static final long MINUTE = 60 * SECOND;
+
+	private static final long HOUR = 60 * MINUTE;
+
+	private static final long DAY = 24 * HOUR;
+
+	/**
+	 * The patterns of leap days and of the last day of the month.
+	 */
+	private static final String[] CALENDAR_PATTERNS = { "0 0 L * *",
+			"0 0 29 2 *", "0 0 L 2 *", "0 12 28-L feb *", "0 0 L * sun",
+			"0 0 29-31 * *", "0 0 31 apr-jun *", "0 0 L jan-mar mon-fri",
+			"0 23 29 feb mon" };
+
+	/**
+	 * The zones of the calendar patterns and of the predictions.
+	 */
+	private static final String[] ZONES = { "UTC", "America/New_York",
+			"America/Sao_Paulo", "Europe/London", "Australia/Lord_Howe",
+			"Asia/Kathmandu", "Pacific/Chatham", "Asia/Kolkata" };
+
+	/**
+	 * The count of reported mismatches.
+	 */
+	private static final int REPORTED = 10;
+
+	/**
+	 * The count of mismatches.
+	 */
+	private static int mismatches = 0;
+
+	public static void main(String[] args) {
+		int matches = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+		int predictions = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+		checkMatches(matches);
+		checkCalendarPatterns();
+		checkPredictions(predictions);
+		if (mismatches > 0) {
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Matches random patterns, zones and times with both implementations.
+	 */
+	private static void checkMatches(int count) {
+		Random random = new Random(BenchmarkPatterns.SEED);
+		String[] ids = TimeZone.getAvailableIDs();
+		int matched = 0;
+		int before = mismatches;
+		for (int i = 0; i < count; i++) {
+			String pattern = BenchmarkPatterns.fuzzPattern(random, false);
+			TimeZone timeZone = TimeZone.getTimeZone(ids[random.nextInt(ids.length)]);
+			long time = EPOCH + (long) (random.nextDouble() * (YEAR_2100 - EPOCH));
+			boolean expected = new LegacySchedulingPattern(pattern).match(timeZone, time);
+			if (expected) {
+				matched++;
+			}
+			if (new SchedulingPattern(pattern).match(timeZone, time) != expected) {
+				mismatch("match \"" + pattern + "\" " + timeZone.getID() + " " + time
+						+ ": legacy " + expected);
+			}
+		}
+		System.out.println("match: " + count + " triples, " + matched + " matching, "
+				+ (mismatches - before) + " mismatches");
+	}
+
+	/**
+	 * Matches every hour from 1999 to 2031 with both implementations, on the
+	 * patterns of leap days and of the last day of the month.
+	 */
+	private static void checkCalendarPatterns() {
+		int checked = 0;
+		int before = mismatches;
+		for (int i = 0; i < CALENDAR_PATTERNS.length; i++) {
+			LegacySchedulingPattern legacy = new LegacySchedulingPattern(CALENDAR_PATTERNS[i]);
+			SchedulingPattern pattern = new SchedulingPattern(CALENDAR_PATTERNS[i]);
+			for (int j = 0; j < ZONES.length; j++) {
+				TimeZone timeZone = TimeZone.getTimeZone(ZONES[j]);
+				for (long time = YEAR_1999; time < YEAR_2031; time += HOUR) {
+					boolean expected = legacy.match(timeZone, time);
+					if (pattern.match(timeZone, time) != expected) {
+						mismatch("match \"" + pattern + "\" " + timeZone.getID() + " " + time
+								+ ": legacy " + expected);
+					}
+					checked++;
+				}
+			}
+		}
+		System.out.println("match: " + checked + " hours of calendar patterns, "
+				+ (mismatches - before) + " mismatches");
+	}
+
+	/**
+	 * Checks the next matching time of random patterns, zones and times
+	 * against every minute (or second) following the time.
+	 */
+	private static void checkPredictions(int count) {
+		Random random = new Random(BenchmarkPatterns.SEED + 1);
+		int found = 0;
+		int before = mismatches;
+		for (int i = 0; i < count; i++) {
+			SchedulingPattern pattern = new SchedulingPattern(BenchmarkPatterns.fuzzPattern(random, true));
+			TimeZone timeZone = TimeZone.getTimeZone(ZONES[random.nextInt(ZONES.length)]);
+			long time = YEAR_2020 + (long) (random.nextDouble() * 10 * 365 * DAY);
+			long step = pattern.hasSeconds() ? SECOND : MINUTE;
+			long end = time + (pattern.hasSeconds() ? 2 * DAY : 60 * DAY);
+			long expected = Long.MAX_VALUE;
+			for (long t = Math.floorDiv(time, step) * step + step; t <= end; t += step) {
+				if (pattern.match(timeZone, t)) {
+					expected = t;
+					break;
+				}
+			}
+			long next = pattern.nextMatchingTime(timeZone, time);
+			if (expected != Long.MAX_VALUE) {
+				found++;
+			}
+			if (expected != Long.MAX_VALUE ? next != expected : next <= end) {
+				mismatch("nextMatchingTime \"" + pattern + "\" " + timeZone.getID() + " " + time
+						+ ": " + next + ", brute force " + (expected != Long.MAX_VALUE ? String.valueOf(expected)
+						: "none until " + end));
+			}
+		}
+		System.out.println("nextMatchingTime: " + count + " patterns, " + found
+				+ " matching within the checked days, " + (mismatches - before) + " mismatches");
+	}
+
+	/**
+	 * Counts a mismatch, reporting the first ones.
+	 */
+	private static void mismatch(String message) {
+		if (mismatches++ < REPORTED) {
+			System.out.println("  " + message);
+		}
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * cron4j - A pure Java cron-like scheduler
+ *
+ * Copyright (C) 2007-2010 Carlo Pelliccia (www.sauronsoftware.it)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License version
+ * 2.1, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License 2.1 for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License version 2.1 along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ */
+package it.sauronsoftware.cron4j;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Benchmark of the per-minute launch cost of a {@link MemoryTaskCollector}
+ * holding 10k and 100k tasks of {@link BenchmarkPatterns#schedulePatterns},
+ * every invocation launching the next minute.
+ * </p>
+ * <ul>
+ * <li>{@code scan}: the task table copied and every pattern matched, as the
+ * launcher does for a collector that is not indexed.</li>
+ * <li>{@code index}: the due tasks polled from the next-fire index of
+ * {@link MemoryTaskCollector#getTasks(TimeZone, long, boolean)}.</li>
+ * </ul>
+ * <p>
+ * Both return the count of due tasks, which {@link IndexEquivalenceCheck}
+ * checks to be the same tasks tick by tick.
+ * </p>
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class TaskCollectorBenchmark {
+
+	/**
+	 * The first launched minute, 2024-03-08 00:00 UTC.
+	 */
+	private static final long START = 1709856000000L;
+
+	/**
+	 * The runnable of every task, never executed.
+	 */
+	private static final Runnable NOOP = () -> {
+	};
+
+	@Param({ "10000", "100000" })
+	public int size;
+
+	private final TimeZone timeZone = TimeZone.getTimeZone("America/New_York");
+
+	private MemoryTaskCollector scanCollector;
+
+	private MemoryTaskCollector indexCollector;
+
+	private long scanTime;
+
+	private long indexTime;
+
+	@Setup
+	public void setup() {
+		scanCollector = new MemoryTaskCollector();
+		indexCollector = new MemoryTaskCollector();
+		indexCollector.setIndexed(true);
+		String[] patterns = BenchmarkPatterns.schedulePatterns(size, false);
+		for (int i = 0; i < patterns.length; i++) {
+			SchedulingPattern pattern = new SchedulingPattern(patterns[i]);
+			scanCollector.add(pattern, new RunnableTask(NOOP));
+			indexCollector.add(pattern, new RunnableTask(NOOP));
+		}
+		scanTime = START;
+		indexTime = START;
+		// Builds the index out of the measurement.
+		indexCollector.getTasks(timeZone, START - 60000, true);
+	}
+
+	@Benchmark
+	public int scan() {
+		long time = scanTime += 60000;
+		TaskTable taskTable = scanCollector.getTasks();
+		int due = 0;
+		int count = taskTable.size();
+		for (int i = 0; i < count; i++) {
+			if (taskTable.getSchedulingPattern(i).matchTick(timeZone, time, true)) {
+				due++;
+			}
+		}
+		return due;
+	}
+
+	@Benchmark
+	public int index() {
+		return indexCollector.getTasks(timeZone, indexTime += 60000, true).size();
+	}
+
+}
@@ -21,9 +21,13 @@ import org.quartz.*;
 import org.quartz.impl.JobExecutionContextImpl;
 import org.quartz.spi.JobFactory;
 import org.quartz.spi.TriggerFiredBundle;
+import top.osjf.cron.core.lang.Nullable;
+import top.osjf.cron.core.lock.ScheduledFireTime;
+import top.osjf.cron.core.lock.TaskLocker;
 import top.osjf.cron.core.util.ReflectUtils;
 
 import java.lang.reflect.Method;
+import java.util.Date;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -44,6 +48,13 @@ import java.util.concurrent.ConcurrentMap;
  * method {@link #getJob} for details. This method is extensible for subclasses and supported
  * by singleton frameworks.
  *
+ * <p>With a {@link #setTaskLocker TaskLocker}, every fire of a job runs only once among
+ * the nodes sharing the lock provider of the locker, which the in-memory {@code RAMJobStore}
+ * does not ensure on its own. The lock name is the declaring class name followed by the
+ * method name, as for a {@link top.osjf.cron.core.repository.CronMethodRunnable}, and the
+ * fire time is the {@link JobExecutionContext#getScheduledFireTime() scheduled fire time}
+ * of the trigger, the same on every node.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.3
  */
@@ -56,6 +67,22 @@ public class MethodLevelJobFactory implements JobFactory {
      */
     private final ConcurrentMap<String, Job> JOB_CACHE = new ConcurrentHashMap<>(64);
 
+    /**
+     * The locker running each fire of the jobs on a single node.
+     */
+    private TaskLocker taskLocker;
+
+    /**
+     * Set the {@link TaskLocker} through which the jobs created afterwards run, so that
+     * nodes sharing its lock provider run each fire of a job only once.
+     *
+     * @param taskLocker the locker running each fire of the jobs on a single node,
+     *                   {@literal null} to run every fire.
+     */
+    public void setTaskLocker(@Nullable TaskLocker taskLocker) {
+        this.taskLocker = taskLocker;
+    }
+
     @Override
     public final Job newJob(TriggerFiredBundle bundle, Scheduler scheduler) throws SchedulerException {
         JobDetail jobDetail = bundle.getJobDetail();
@@ -83,7 +110,8 @@ public class MethodLevelJobFactory implements JobFactory {
         String methodName = key.getName();
         //JobKey.group is declaring class name.
         String declaringClassName = key.getGroup();
-        return getJob(declaringClassName, methodName);
+        Job job = getJob(declaringClassName, methodName);
+        return taskLocker != null ? new LockingJob(taskLocker, declaringClassName + "." + methodName, job) : job;
     }
 
     /**
@@ -106,4 +134,44 @@ public class MethodLevelJobFactory implements JobFactory {
             return new MethodLevelJob(target, method);
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * The job running its delegate only when the lock of its scheduled fire time
+     * is acquired.
+     */
+    private static class LockingJob implements Job {
+
+        private final TaskLocker taskLocker;
+
+        private final String name;
+
+        private final Job job;
+
+        LockingJob(TaskLocker taskLocker, String name, Job job) {
+            this.taskLocker = taskLocker;
+            this.name = name;
+            this.job = job;
+        }
+
+        @Override
+        public void execute(JobExecutionContext context) throws JobExecutionException {
+            JobExecutionException[] failure = new JobExecutionException[1];
+            Runnable runnable = taskLocker.wrap(name, () -> {
+                try {
+                    job.execute(context);
+                } catch (JobExecutionException e) {
+                    failure[0] = e;
+                }
+            });
+            Date scheduledFireTime = context.getScheduledFireTime();
+            if (scheduledFireTime != null) {
+                ScheduledFireTime.runAt(scheduledFireTime.getTime(), runnable);
+            } else {
+                runnable.run();
+            }
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.quartz.simpl.SimpleThreadPool;
 import top.osjf.cron.core.lang.NotNull;
 import top.osjf.cron.core.lifecycle.SuperiorProperties;
 import top.osjf.cron.core.listener.CronListener;
+import top.osjf.cron.core.lock.TaskLocker;
 import top.osjf.cron.core.repository.CronTask;
 import top.osjf.cron.core.repository.CronTaskRepository;
 import top.osjf.cron.core.repository.RepositoryUtils;
@@ -71,6 +72,11 @@ public class QuartzCronTaskRepository implements CronTaskRepository, Supplier<Li
 
     private MethodLevelJobFactory jobFactory = new MethodLevelJobFactory();
 
+    /**
+     * The locker running each fire of the jobs on a single node.
+     */
+    private TaskLocker taskLocker;
+
     private SchedulerFactory schedulerFactory;
 
     private Class<? extends SchedulerFactory> schedulerFactoryClass = StdSchedulerFactory.class;
@@ -196,6 +202,20 @@ public class QuartzCronTaskRepository implements CronTaskRepository, Supplier<Li
         }
     }
 
+    /**
+     * Set the {@link TaskLocker} through which the jobs run, given to the
+     * {@link MethodLevelJobFactory job factory} when initialized, so that nodes sharing
+     * its lock provider run each fire of a job only once. The fire time of a lock is the
+     * scheduled fire time of the trigger. A clustered JDBC job store already fires each
+     * trigger on a single node, the locker is meant for the in-memory {@code RAMJobStore}.
+     *
+     * @param taskLocker the locker running each fire of the jobs on a single node.
+     * @since 1.0.3
+     */
+    public void setTaskLocker(TaskLocker taskLocker) {
+        this.taskLocker = taskLocker;
+    }
+
     /**
      * Set whether to wait for all tasks to complete when closing the scheduler.
      *
@@ -217,6 +237,9 @@ public class QuartzCronTaskRepository implements CronTaskRepository, Supplier<Li
      */
     @PostConstruct
     public void initialize() throws SchedulerException {
+        if (taskLocker != null) {
+            jobFactory.setTaskLocker(taskLocker);
+        }
         if (scheduler == null) {
             if (schedulerFactory != null) {
                 if (setSchedulerName) {
@@ -248,12 +271,10 @@ public class QuartzCronTaskRepository implements CronTaskRepository, Supplier<Li
                     ((StdSchedulerFactory) schedulerFactory).initialize(quartzProperties);
                     schedulerFactory.getScheduler();
                     scheduler = schedulerFactory.getScheduler(schedulerName);
-                    scheduler.setJobFactory(jobFactory);
                 }
             }
-        } else {
-            scheduler.setJobFactory(jobFactory);
         }
+        scheduler.setJobFactory(jobFactory);
         listenerManager = scheduler.getListenerManager();
     }
 
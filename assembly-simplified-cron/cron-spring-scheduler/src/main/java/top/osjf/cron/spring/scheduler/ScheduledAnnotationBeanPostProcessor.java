@@ -49,11 +49,14 @@ import org.springframework.scheduling.config.*;
 import org.springframework.scheduling.support.CronTrigger;
 import org.springframework.scheduling.support.ScheduledMethodRunnable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.util.StringValueResolver;
 import top.osjf.cron.core.lang.NotNull;
+import top.osjf.cron.core.lock.TaskLocker;
 import top.osjf.cron.core.support.ExpressionSupport;
 import top.osjf.cron.core.util.ArrayUtils;
+import top.osjf.cron.spring.ObjectProviderUtils;
 import top.osjf.cron.spring.annotation.Cron;
 import top.osjf.cron.spring.annotation.Crones;
 
@@ -135,6 +138,9 @@ public class ScheduledAnnotationBeanPostProcessor
     @Nullable
     private List<String> activeProfiles;
 
+    @Nullable
+    private TaskLocker taskLocker;
+
     private final Set<Class<?>> nonAnnotatedClasses = Collections.newSetFromMap(new ConcurrentHashMap<>(64));
 
     private final Map<Object, Set<ScheduledTask>> scheduledTasks = new IdentityHashMap<>(16);
@@ -408,7 +414,8 @@ public class ScheduledAnnotationBeanPostProcessor
             } else {
                 // Non-empty set of methods
                 annotatedMethods.forEach((method, scheduledAnnotations) ->
-                        scheduledAnnotations.forEach(scheduled -> processScheduled(scheduled, method, bean)));
+                        scheduledAnnotations.forEach(scheduled ->
+                                processScheduled(scheduled, method, bean, beanName)));
                 if (logger.isTraceEnabled()) {
                     logger.trace(annotatedMethods.size() + " @Scheduled methods processed on bean '" + beanName +
                             "': " + annotatedMethods);
@@ -437,10 +444,24 @@ public class ScheduledAnnotationBeanPostProcessor
     }
 
     protected void processScheduled(Annotation annotation, Method method, Object bean) {
+        processScheduled(annotation, method, bean, null);
+    }
+
+    /**
+     * Process the given scheduling annotation declaration on the given bean of the
+     * given name.
+     *
+     * @param annotation the {@code @Scheduled} or {@code @Cron} annotation
+     * @param method     the method that the annotation has been declared on
+     * @param bean       the target bean instance
+     * @param beanName   the name of the target bean, {@literal null} if unknown
+     * @since 1.0.3
+     */
+    protected void processScheduled(Annotation annotation, Method method, Object bean, @Nullable String beanName) {
         if (annotation instanceof Scheduled) {
             processScheduled((Scheduled) annotation, method, bean);
         } else if (annotation instanceof Cron) {
-            processScheduled((Cron) annotation, method, bean);
+            processScheduled((Cron) annotation, method, bean, beanName);
         }
     }
 
@@ -453,6 +474,25 @@ public class ScheduledAnnotationBeanPostProcessor
      * @see #createRunnable(Object, Method)
      */
     protected void processScheduled(Cron cron, Method method, Object bean) {
+        processScheduled(cron, method, bean, null);
+    }
+
+    /**
+     * Process the given {@code @Cron} method declaration on the given bean of the
+     * given name.
+     * <p>With a {@link TaskLocker} bean in the container, the method runs through
+     * it under the name of the bean and the method, each fire being locked with the
+     * execution time of its {@link ScheduledFireTimeCronTrigger trigger}; the name of
+     * the bean class is used when the bean name is unknown.
+     *
+     * @param cron     the {@code @Cron} annotation
+     * @param method   the method that the annotation has been declared on
+     * @param bean     the target bean instance
+     * @param beanName the name of the target bean, {@literal null} if unknown
+     * @see #createRunnable(Object, Method)
+     * @since 1.0.3
+     */
+    protected void processScheduled(Cron cron, Method method, Object bean, @Nullable String beanName) {
         String[] profiles = cron.profiles();
         if (activeProfiles != null && !ArrayUtils.isEmpty(profiles)
                 && Arrays.stream(profiles).noneMatch(activeProfiles::contains)) {
@@ -463,7 +503,17 @@ public class ScheduledAnnotationBeanPostProcessor
         if (!StringUtils.hasText(expression)) {
             expression = ExpressionSupport.secondLevelDefaultExpression();
         }
-        CronTrigger cronTrigger = new CronTrigger(expression);
+        CronTrigger cronTrigger;
+        TaskLocker taskLocker = getTaskLocker();
+        if (taskLocker != null) {
+            ScheduledFireTimeCronTrigger fireTimeTrigger = new ScheduledFireTimeCronTrigger(expression);
+            String name = (beanName != null ? beanName : ClassUtils.getUserClass(bean).getName())
+                    + "." + method.getName();
+            runnable = fireTimeTrigger.bind(taskLocker.wrap(name, runnable, expression));
+            cronTrigger = fireTimeTrigger;
+        } else {
+            cronTrigger = new CronTrigger(expression);
+        }
         CronTask cronTask = new CronTask(runnable, cronTrigger);
         ScheduledTask scheduledTask = this.registrar.scheduleCronTask(cronTask);
         synchronized (this.scheduledTasks) {
@@ -472,6 +522,18 @@ public class ScheduledAnnotationBeanPostProcessor
         }
     }
 
+    /**
+     * Return the {@link TaskLocker} bean of the container with the highest priority,
+     * {@literal null} if none.
+     */
+    @Nullable
+    private TaskLocker getTaskLocker() {
+        if (this.taskLocker == null && this.beanFactory != null) {
+            this.taskLocker = ObjectProviderUtils.getPriority(this.beanFactory.getBeanProvider(TaskLocker.class));
+        }
+        return this.taskLocker;
+    }
+
     /**
      * Process the given {@code @Scheduled} method declaration on the given bean.
      *
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.cron.spring.scheduler;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.support.CronTrigger;
+import top.osjf.cron.core.lock.ScheduledFireTime;
+
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * A {@link CronTrigger} recording the execution time it has computed last, which
+ * the runnables {@link #bind bound} to it run with as their {@link ScheduledFireTime
+ * scheduled fire time}, so that a {@link top.osjf.cron.core.lock.TaskLocker} locks
+ * the fire of the trigger rather than the time the task starts running.
+ *
+ * <p>A scheduler computes the next execution time of a task once it has run, the
+ * recorded time is then the one of the running execution. An instance is bound to
+ * a single task.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.3
+ */
+public class ScheduledFireTimeCronTrigger extends CronTrigger {
+
+    private volatile long scheduledFireTime = -1;
+
+    /**
+     * Create a new {@code ScheduledFireTimeCronTrigger} for the given expression,
+     * in the default time zone.
+     *
+     * @param expression the cron expression.
+     */
+    public ScheduledFireTimeCronTrigger(@NonNull String expression) {
+        super(expression);
+    }
+
+    /**
+     * Create a new {@code ScheduledFireTimeCronTrigger} for the given expression
+     * and time zone.
+     *
+     * @param expression the cron expression.
+     * @param timeZone   the time zone of the expression.
+     */
+    public ScheduledFireTimeCronTrigger(@NonNull String expression, @NonNull TimeZone timeZone) {
+        super(expression, timeZone);
+    }
+
+    @Override
+    @Nullable
+    public Date nextExecutionTime(@NonNull TriggerContext triggerContext) {
+        Date next = super.nextExecutionTime(triggerContext);
+        if (next != null) {
+            scheduledFireTime = next.getTime();
+        }
+        return next;
+    }
+
+    /**
+     * Return the given runnable running with the execution time this trigger has
+     * computed last as its scheduled fire time.
+     *
+     * @param runnable the runnable of the task of this trigger.
+     * @return the bound runnable.
+     */
+    @NonNull
+    public Runnable bind(@NonNull Runnable runnable) {
+        return () -> {
+            long fireTime = scheduledFireTime;
+            if (fireTime < 0) {
+                runnable.run();
+            } else {
+                ScheduledFireTime.runAt(fireTime, runnable);
+            }
+        };
+    }
+}
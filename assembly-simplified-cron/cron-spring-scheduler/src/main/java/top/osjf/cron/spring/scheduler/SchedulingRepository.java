@@ -23,12 +23,15 @@ import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.scheduling.config.ScheduledTask;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.support.CronTrigger;
 import org.springframework.util.IdGenerator;
 import org.springframework.util.SimpleIdGenerator;
 import top.osjf.cron.core.lang.NotNull;
 import top.osjf.cron.core.lang.Nullable;
 import top.osjf.cron.core.listener.CronListener;
+import top.osjf.cron.core.lock.TaskLocker;
 import top.osjf.cron.core.repository.CronTaskRepository;
+import top.osjf.cron.core.repository.RepositoryUtils;
 import top.osjf.cron.core.repository.RunnableTaskBody;
 import top.osjf.cron.core.repository.TaskBody;
 import top.osjf.cron.spring.scheduler.task.*;
@@ -87,6 +90,8 @@ public class SchedulingRepository extends ManageableTaskSupport implements CronT
 
     private final IdGenerator idGenerator = new SimpleIdGenerator();
 
+    private TaskLocker taskLocker;
+
     /**
      * Set all {@link SchedulingListener} beans in the container to the
      * current bean.
@@ -104,6 +109,19 @@ public class SchedulingRepository extends ManageableTaskSupport implements CronT
         this.schedulingListeners.addAll(schedulingListeners);
     }
 
+    /**
+     * Set the {@link TaskLocker} bean in the container, through which the tasks
+     * registered afterwards run, so that nodes sharing its lock provider run each
+     * fire of a task only once. The fire time of a lock is the execution time their
+     * {@link ScheduledFireTimeCronTrigger trigger} has computed, the same on every node.
+     *
+     * @param taskLocker the locker running each fire of the tasks on a single node.
+     */
+    @Autowired(required = false)
+    public void setTaskLocker(TaskLocker taskLocker) {
+        this.taskLocker = taskLocker;
+    }
+
     /**
      * Registers a scheduled task in the cache, without overwriting an existing
      * task with the same ID.
@@ -125,13 +143,14 @@ public class SchedulingRepository extends ManageableTaskSupport implements CronT
     @Override
     @NotNull
     public String register(@NotNull String expression, @NotNull TaskBody body) {
-        return registerOrUpdateSchedulingTask(expression, body, null);
+        return registerOrUpdateSchedulingTask(expression,
+                new RunnableTaskBody(RepositoryUtils.getRunnable(body, taskLocker, expression)), null);
     }
 
     @Override
     @NotNull
     public String register(@NotNull top.osjf.cron.core.repository.CronTask task) {
-        return register(task.getExpression(), new RunnableTaskBody(task.getRunnable()));
+        return register(task.getExpression(), new RunnableTaskBody(task.getRunnable(), task.getName()));
     }
 
     @Override
@@ -155,9 +174,18 @@ public class SchedulingRepository extends ManageableTaskSupport implements CronT
      * identify this scheduled task.
      */
     private String registerOrUpdateSchedulingTask(String expression, TaskBody body, @Nullable String id) {
-        SchedulingRunnable schedulingRunnable
-                = newSchedulingRunnableInternal(body.unwrap(RunnableTaskBody.class).getRunnable(), id);
-        scheduledTaskRegistrar.scheduleCronTask(new CronTask(schedulingRunnable, expression));
+        Runnable runnable = body.unwrap(RunnableTaskBody.class).getRunnable();
+        CronTrigger trigger;
+        if (taskLocker != null) {
+            // The locked runnable runs with the fire time of its trigger.
+            ScheduledFireTimeCronTrigger fireTimeTrigger = new ScheduledFireTimeCronTrigger(expression);
+            runnable = fireTimeTrigger.bind(runnable);
+            trigger = fireTimeTrigger;
+        } else {
+            trigger = new CronTrigger(expression);
+        }
+        SchedulingRunnable schedulingRunnable = newSchedulingRunnableInternal(runnable, id);
+        scheduledTaskRegistrar.scheduleCronTask(new CronTask(schedulingRunnable, trigger));
         return schedulingRunnable.get().getId();
     }
 
@@ -221,7 +249,8 @@ public class SchedulingRepository extends ManageableTaskSupport implements CronT
         if (cronTask instanceof CronTask) {
             return (CronTask) cronTask;
         }
-        return new CronTask(newSchedulingRunnable(cronTask.getRunnable()), cronTask.getExpression());
+        // Spring cron tasks always have a cron trigger, kept with its time zone.
+        return new CronTask(newSchedulingRunnable(cronTask.getRunnable()), (CronTrigger) cronTask.getTrigger());
     }
 
     @Override
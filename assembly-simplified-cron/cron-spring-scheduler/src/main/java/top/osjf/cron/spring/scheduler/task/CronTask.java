@@ -16,6 +16,7 @@
 
 package top.osjf.cron.spring.scheduler.task;
 
+import org.springframework.scheduling.support.CronTrigger;
 import top.osjf.cron.spring.scheduler.SchedulingContext;
 import top.osjf.cron.spring.scheduler.SchedulingContextSupplier;
 import top.osjf.cron.spring.scheduler.SchedulingRunnable;
@@ -41,6 +42,17 @@ public class CronTask extends org.springframework.scheduling.config.CronTask imp
         this.schedulingRunnable = runnable;
     }
 
+    /**
+     * Create a new {@code CronTask}.
+     *
+     * @param runnable    the underlying task to execute
+     * @param cronTrigger the cron trigger defining when the task should be executed
+     */
+    public CronTask(SchedulingRunnable runnable, CronTrigger cronTrigger) {
+        super(runnable, cronTrigger);
+        this.schedulingRunnable = runnable;
+    }
+
     @Override
     public SchedulingContext get() {
         return schedulingRunnable.get();
@@ -172,7 +172,7 @@ public class CronAnnotationPostProcessor implements ImportAware, ApplicationCont
             } else {
                 // Non-empty set of methods
                 annotatedMethods.forEach((method, cronAnnotations) ->
-                        cronAnnotations.forEach(cron -> processCron(cron, method, bean)));
+                        cronAnnotations.forEach(cron -> processCron(cron, method, bean, beanName)));
                 if (logger.isTraceEnabled()) {
                     logger.trace(annotatedMethods.size() + " @Cron methods processed on bean '" + beanName +
                             "': " + annotatedMethods);
@@ -202,6 +202,22 @@ public class CronAnnotationPostProcessor implements ImportAware, ApplicationCont
      * @since 1.0.3
      */
     protected void processCron(Cron cron, Method method, Object bean) {
+        processCron(cron, method, bean, null);
+    }
+
+    /**
+     * Process the given {@code @Cron} method declaration on the given bean of the
+     * given name, the task being named after the bean and the method so that a
+     * {@link top.osjf.cron.core.lock.TaskLocker} locks each bean on its own.
+     *
+     * @param cron     the {@code @Cron} annotation
+     * @param method   the method that the annotation has been declared on
+     * @param bean     the target bean instance
+     * @param beanName the name of the target bean, {@literal null} if unknown
+     * @see #createRunnable(Object, Method)
+     * @since 1.0.3
+     */
+    protected void processCron(Cron cron, Method method, Object bean, @Nullable String beanName) {
         CronMethodRunnable runnable = createRunnable(bean, method);
         String[] profiles = cron.profiles();
         String expression = cron.expression();
@@ -217,7 +233,8 @@ public class CronAnnotationPostProcessor implements ImportAware, ApplicationCont
             // to the current activated environment.
             if (ArrayUtils.isEmpty(profiles) ||
                     Arrays.stream(profiles).anyMatch(activeProfiles::contains)) {
-                CronTask cronTask = new CronTask(expression, runnable);
+                CronTask cronTask = new CronTask(expression, runnable,
+                        beanName != null ? beanName + "." + method.getName() : null);
                 cronTasks.add(cronTask);
             }
         }
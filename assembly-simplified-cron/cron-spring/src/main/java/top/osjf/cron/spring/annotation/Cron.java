@@ -31,8 +31,8 @@ import java.lang.annotation.*;
  * that' need to be executed at scheduled intervals according to cron expressions.
  *
  * <p>Cron expression is a powerful way of describing timing rules, which extends
- * traditional UNIX cron expressions by adding second level trigger support (except
- * for cron4j), allowing for finer time control.
+ * traditional UNIX cron expressions by adding second level trigger support (optional
+ * for cron4j, whose default expressions are minute level), allowing for finer time control.
  *
  * <p>This annotation is processed in {@link CronAnnotationPostProcessor} and can be
  * triggered for parsing based on the tags of the following annotations:
@@ -22,6 +22,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import top.osjf.cron.core.lifecycle.SuperiorProperties;
+import top.osjf.cron.core.lock.TaskLocker;
 import top.osjf.cron.cron4j.repository.Cron4jCronTaskRepository;
 import top.osjf.cron.spring.CronAnnotationPostProcessor;
 import top.osjf.cron.spring.ObjectProviderUtils;
@@ -45,14 +46,19 @@ public class Cron4jCronTaskConfiguration {
     @Bean
     @Order
     public Cron4jCronTaskRepository cron4jCronTaskRepository(ObjectProvider<Scheduler> schedulerProvider,
-                                                             ObjectProvider<SuperiorProperties> propertiesProvider) {
+                                                             ObjectProvider<SuperiorProperties> propertiesProvider,
+                                                             ObjectProvider<TaskLocker> taskLockerProvider) {
+        Cron4jCronTaskRepository repository;
         Scheduler scheduler = ObjectProviderUtils.getPriority(schedulerProvider);
         if (scheduler != null){
-            return new Cron4jCronTaskRepository(scheduler);
+            repository = new Cron4jCronTaskRepository(scheduler);
         }
-        Cron4jCronTaskRepository repository = new Cron4jCronTaskRepository();
-        SuperiorProperties properties = ObjectProviderUtils.getPriority(propertiesProvider);
-        repository.setProperties(properties);
+        else {
+            repository = new Cron4jCronTaskRepository();
+            SuperiorProperties properties = ObjectProviderUtils.getPriority(propertiesProvider);
+            repository.setProperties(properties);
+        }
+        repository.setTaskLocker(ObjectProviderUtils.getPriority(taskLockerProvider));
         return repository;
     }
 }
@@ -21,6 +21,7 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import top.osjf.cron.core.lifecycle.SuperiorProperties;
+import top.osjf.cron.core.lock.TaskLocker;
 import top.osjf.cron.core.repository.CronExecutorServiceSupplier;
 import top.osjf.cron.hutool.repository.HutoolCronTaskRepository;
 import top.osjf.cron.spring.CronAnnotationPostProcessor;
@@ -45,18 +46,23 @@ public class HutoolCronTaskConfiguration {
     @Bean
     public HutoolCronTaskRepository hutoolCronTaskRepository(ObjectProvider<Scheduler> schedulerProvider,
                                                              ObjectProvider<SuperiorProperties> propertiesProvider,
-                                                             ObjectProvider<CronExecutorServiceSupplier> executorServiceProvider) {
+                                                             ObjectProvider<CronExecutorServiceSupplier> executorServiceProvider,
+                                                             ObjectProvider<TaskLocker> taskLockerProvider) {
+        HutoolCronTaskRepository repository;
         Scheduler scheduler = ObjectProviderUtils.getPriority(schedulerProvider);
         if (scheduler != null) {
-            return new HutoolCronTaskRepository(scheduler);
+            repository = new HutoolCronTaskRepository(scheduler);
         }
-        HutoolCronTaskRepository repository = new HutoolCronTaskRepository();
-        SuperiorProperties properties = ObjectProviderUtils.getPriority(propertiesProvider);
-        repository.setProperties(properties);
-        CronExecutorServiceSupplier executorServiceSupplier = ObjectProviderUtils.getPriority(executorServiceProvider);
-        if (executorServiceSupplier != null) {
-            repository.setThreadExecutor(executorServiceSupplier.get());
+        else {
+            repository = new HutoolCronTaskRepository();
+            SuperiorProperties properties = ObjectProviderUtils.getPriority(propertiesProvider);
+            repository.setProperties(properties);
+            CronExecutorServiceSupplier executorServiceSupplier = ObjectProviderUtils.getPriority(executorServiceProvider);
+            if (executorServiceSupplier != null) {
+                repository.setThreadExecutor(executorServiceSupplier.get());
+            }
         }
+        repository.setTaskLocker(ObjectProviderUtils.getPriority(taskLockerProvider));
         return repository;
     }
 }
@@ -23,6 +23,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import top.osjf.cron.core.lifecycle.SuperiorProperties;
+import top.osjf.cron.core.lock.TaskLocker;
 import top.osjf.cron.core.repository.CronExecutorServiceSupplier;
 import top.osjf.cron.quartz.repository.QuartzCronTaskRepository;
 import top.osjf.cron.spring.CronAnnotationPostProcessor;
@@ -55,7 +56,9 @@ public class QuartzCronTaskConfiguration {
                                                              ObjectProvider<SchedulerFactory> schedulerFactoryProvider,
                                                              ObjectProvider<SuperiorProperties> propertiesProvider,
                                                              ObjectProvider<CronExecutorServiceSupplier> executorProvider,
+                                                             ObjectProvider<TaskLocker> taskLockerProvider,
                                                              SpringContainerGovernanceMethodLevelJobFactory jobFactory) {
+        jobFactory.setTaskLocker(ObjectProviderUtils.getPriority(taskLockerProvider));
         Scheduler scheduler = ObjectProviderUtils.getPriority(schedulerProvider);
         if (scheduler != null) {
             QuartzCronTaskRepository repository = new QuartzCronTaskRepository(scheduler);
@@ -26,6 +26,7 @@ import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The {@code AbstractRequest} class is an abstract class that implements
@@ -216,6 +217,20 @@ public abstract class AbstractRequest<R extends AbstractResponse> implements Req
         return ClientExecutors.executeRequestClient(host, this);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Default to use {@link ClientExecutors} execute current {@code Request} asynchronously.
+     *
+     * @param host {@inheritDoc}
+     * @return {@inheritDoc}
+     * @since 1.0.2
+     */
+    @Override
+    public CompletableFuture<R> executeAsync(@Nullable String host) {
+        return ClientExecutors.executeRequestClientAsync(host, this);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -18,6 +18,8 @@ package top.osjf.sdk.core;
 
 import top.osjf.sdk.core.support.Nullable;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Define {@code Request} as an executable interface aimed at facilitating
  * SDK calls and returning specific response types.
@@ -47,4 +49,25 @@ public interface Executable<R extends Response> {
      * @return Specific response.
      */
     R execute(@Nullable String host);
+
+    /**
+     * Carry the request host address parameter to obtain a {@code CompletableFuture}
+     * of the specific response type object, without waiting for the response.
+     *
+     * <p>The default executes {@link #execute(String)} in place, the implementation
+     * supporting non-blocking execution should rewrite this method.
+     *
+     * @param host the real server hostname.
+     * @return The {@code CompletableFuture} of the specific response.
+     * @since 1.0.2
+     */
+    default CompletableFuture<R> executeAsync(@Nullable String host) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        try {
+            future.complete(execute(host));
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
 }
@@ -18,12 +18,17 @@ package top.osjf.sdk.core.caller;
 
 import io.reactivex.rxjava3.core.BackpressureStrategy;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.functions.Function;
+import io.reactivex.rxjava3.schedulers.Schedulers;
 import org.reactivestreams.Publisher;
 import top.osjf.sdk.core.Response;
 import top.osjf.sdk.core.support.NotNull;
 import top.osjf.sdk.core.support.Nullable;
 import top.osjf.sdk.core.util.StringUtils;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -70,6 +75,17 @@ public abstract class AbstractFlowableCaller<R extends Response> extends Abstrac
                 whenResponseNonSuccessFinalThrow, customRetryExceptionPredicate);
     }
 
+    /* AbstractResponseFlowableCallerElement */
+    public AbstractFlowableCaller(@NotNull Supplier<R> runBody, int retryTimes,
+                                  long retryIntervalMilliseconds,
+                                  @Nullable RetryPolicy retryPolicy,
+                                  boolean whenResponseNonSuccessRetry,
+                                  boolean whenResponseNonSuccessFinalThrow,
+                                  @Nullable Predicate<? super Throwable> customRetryExceptionPredicate) {
+        super(runBody, retryTimes, retryIntervalMilliseconds, retryPolicy, whenResponseNonSuccessRetry,
+                whenResponseNonSuccessFinalThrow, customRetryExceptionPredicate);
+    }
+
     /**
      * Create a {@link Flowable} based on the existing conditions.
      *
@@ -79,7 +95,12 @@ public abstract class AbstractFlowableCaller<R extends Response> extends Abstrac
      * <p>During each retry, the custom assertion exception type is prioritized for matching.
      * If the former does not match, the default response failure match
      * {@link #RESPONSE_NON_SUCCESS_RETRY_PREDICATE} is used. When no custom assertion match
-     * is provided, all exceptions are retried by default.
+     * is provided, all exceptions are retried by default, except {@link CallNotPermittedException}
+     * thrown by an open circuit breaker or a full bulkhead, which is never retried.
+     *
+     * <p>The delay before each retry follows {@link #getRetryPolicy()} and is waited for by
+     * resubscribing on a timer of {@link #getRetryScheduler()}, the calling thread is never
+     * put to sleep.
      *
      * @return The {@code Flowable} class that implements the
      * <a href="https://github.com/reactive-streams/reactive-streams-jvm">Reactive Streams</a> {@link Publisher}
@@ -105,7 +126,31 @@ public abstract class AbstractFlowableCaller<R extends Response> extends Abstrac
             s.onComplete();
         }, backpressureStrategy);
 
-        return flowable0.retry(retryTimes, buildRetryPredicate());
+        return flowable0.retryWhen(new RetryWhenHandler(retryTimes, buildRetryPredicate()))
+                .onErrorResumeNext(e -> {
+                    if (!(e instanceof RetryDelegationException)) {
+                        return Flowable.error(e);
+                    }
+                    //The retry policy stopped before the retry times were exhausted.
+                    R response = retryHelpSupplier.lastResponse;
+                    try {
+                        retryHelpSupplier.finalResolve(response);
+                    } catch (SdkResponseNonSuccessException ex) {
+                        return Flowable.error(ex);
+                    }
+                    return Flowable.just(response);
+                });
+    }
+
+    /**
+     * Return the scheduler on which the delayed retries are resubscribed, since the
+     * run body is executed again on it, it defaults to the shared {@link Schedulers#io()}.
+     *
+     * @return the scheduler of the delayed retries.
+     * @since 1.0.2
+     */
+    protected Scheduler getRetryScheduler() {
+        return Schedulers.io();
     }
 
     /**
@@ -115,6 +160,10 @@ public abstract class AbstractFlowableCaller<R extends Response> extends Abstrac
      */
     protected io.reactivex.rxjava3.functions.Predicate<Throwable> buildRetryPredicate() {
         return e -> {
+            if (e instanceof CallNotPermittedException) {
+                //Calls refused by a circuit breaker or bulkhead fail fast.
+                return false;
+            }
             boolean customRetryPredicateResult;
             boolean responseNonSuccessRetryPredicateResult = false;
 
@@ -129,18 +178,7 @@ public abstract class AbstractFlowableCaller<R extends Response> extends Abstrac
                 }
             }
 
-            boolean finalResult = customRetryPredicateResult || responseNonSuccessRetryPredicateResult;
-            if (finalResult) {
-                long retryIntervalMilliseconds = getRetryIntervalMilliseconds();
-                if (retryIntervalMilliseconds > 0) {
-                    try {
-                        Thread.sleep(retryIntervalMilliseconds);
-                    } catch (InterruptedException ignored) {
-                        //When the thread sleep is interrupted, a retry is triggered directly.
-                    }
-                }
-            }
-            return finalResult;
+            return customRetryPredicateResult || responseNonSuccessRetryPredicateResult;
         };
     }
 
@@ -169,11 +207,51 @@ public abstract class AbstractFlowableCaller<R extends Response> extends Abstrac
         }
     }
 
+    /*** Decide for each failure of a subscription whether to retry and when, by returning a timer
+     *  for the retry or the failure itself to end the subscription. A new handler state is created
+     *  for each subscription, the retry budget is charged once per subscription. */
+    private class RetryWhenHandler implements Function<Flowable<Throwable>, Publisher<?>> {
+        private final int retryTimes;
+        private final io.reactivex.rxjava3.functions.Predicate<Throwable> retryPredicate;
+
+        RetryWhenHandler(int retryTimes, io.reactivex.rxjava3.functions.Predicate<Throwable> retryPredicate) {
+            this.retryTimes = retryTimes;
+            this.retryPredicate = retryPredicate;
+        }
+
+        @Override
+        public Publisher<?> apply(Flowable<Throwable> errors) {
+            RetryPolicy retryPolicy = getRetryPolicy();
+            RetryBudget budget = retryPolicy.getBudget();
+            if (budget != null) budget.deposit();
+            long startMillis = System.currentTimeMillis();
+            AtomicInteger attempts = new AtomicInteger();
+            return errors.flatMap(e -> {
+                int attempt = attempts.incrementAndGet();
+                if (attempt > retryTimes || !retryPredicate.test(e)) {
+                    return Flowable.error(e);
+                }
+                long delay = retryPolicy.computeDelayMilliseconds(getRetryIntervalMilliseconds(), attempt);
+                long maxElapsedMilliseconds = retryPolicy.getMaxElapsedMilliseconds();
+                if (maxElapsedMilliseconds > 0
+                        && System.currentTimeMillis() - startMillis + delay > maxElapsedMilliseconds) {
+                    return Flowable.error(e);
+                }
+                if (budget != null && !budget.tryWithdraw()) {
+                    return Flowable.error(e);
+                }
+                return delay > 0 ? Flowable.timer(delay, TimeUnit.MILLISECONDS, getRetryScheduler())
+                        : Flowable.just(0L);
+            });
+        }
+    }
+
     /*** The function of this class is to determine the success or failure of the response result,
      *  as well as to calculate the number of times exceptions are thrown when failures are allowed
      *  (exceptions are only thrown for retry).*/
     private class RetryHelpSupplier implements Supplier<R> {
         private int retryTimes;
+        private volatile R lastResponse;
 
         public RetryHelpSupplier(int retryTimes) {
             this.retryTimes = retryTimes;
@@ -186,6 +264,7 @@ public abstract class AbstractFlowableCaller<R extends Response> extends Abstrac
                 if (isWhenResponseNonSuccessRetry()) {
                     if (retryTimes > 0) {
                         retryTimes--;
+                        lastResponse = response;
                         //Is throwing a delegate exception here for exception retry.
                         throw RetryDelegationException.INSTANCE;
                     } else {
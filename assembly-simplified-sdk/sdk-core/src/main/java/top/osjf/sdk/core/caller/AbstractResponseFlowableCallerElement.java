@@ -48,6 +48,10 @@ public abstract class AbstractResponseFlowableCallerElement<R extends Response>
     /*** The millisecond value of the retry trigger delay interval. */
     private final long retryIntervalMilliseconds;
 
+    /*** The strategy growing, limiting and spreading the delay between retries. */
+    @NotNull
+    private final RetryPolicy retryPolicy;
+
     /*** The flag indicating whether to retry when the response is unsuccessful. If true, attempt
      *  to retry when the response does not meet the success criteria. */
     private final boolean whenResponseNonSuccessRetry;
@@ -84,10 +88,39 @@ public abstract class AbstractResponseFlowableCallerElement<R extends Response>
                                                  boolean whenResponseNonSuccessRetry,
                                                  boolean whenResponseNonSuccessFinalThrow,
                                                  @Nullable Predicate<? super Throwable> customRetryExceptionPredicate) {
+        this(runBody, retryTimes, retryIntervalMilliseconds, null, whenResponseNonSuccessRetry,
+                whenResponseNonSuccessFinalThrow, customRetryExceptionPredicate);
+    }
+
+    /**
+     * A construction method for collecting relevant information on response to weight tests and unsuccessful
+     * states, with a strategy for the delay between retries.
+     *
+     * @param runBody                          The asynchronous operation body.
+     * @param retryTimes                       The number of retries upon failure.
+     * @param retryIntervalMilliseconds        The millisecond value of the first retry interval time.
+     * @param retryPolicy                      The retry delay strategy, {@literal null} means
+     *                                         {@link RetryPolicy#FIXED}.
+     * @param whenResponseNonSuccessRetry      Do we need to retry when the response to the request is unsuccessful.
+     * @param whenResponseNonSuccessFinalThrow When the response is ultimately unsuccessful, should an exception be
+     *                                         thrown.
+     * @param customRetryExceptionPredicate    A custom predicate used to determine if an exception should trigger
+     *                                         a retry.
+     * @throws NullPointerException if input runBody is {@literal null}.
+     * @since 1.0.2
+     */
+    public AbstractResponseFlowableCallerElement(@NotNull Supplier<R> runBody,
+                                                 int retryTimes,
+                                                 long retryIntervalMilliseconds,
+                                                 @Nullable RetryPolicy retryPolicy,
+                                                 boolean whenResponseNonSuccessRetry,
+                                                 boolean whenResponseNonSuccessFinalThrow,
+                                                 @Nullable Predicate<? super Throwable> customRetryExceptionPredicate) {
         Objects.requireNonNull(runBody, "runBody == null");
         this.runBody = runBody;
         this.retryTimes = Math.max(retryTimes, 0);
         this.retryIntervalMilliseconds = Math.max(retryIntervalMilliseconds, 0);
+        this.retryPolicy = retryPolicy != null ? retryPolicy : RetryPolicy.FIXED;
         if (this.retryTimes == 0 && this.retryIntervalMilliseconds > 0) {
             LOGGER.warning
                     ("When there is no retry, providing the retry interval parameter will be meaningless.");
@@ -113,6 +146,12 @@ public abstract class AbstractResponseFlowableCallerElement<R extends Response>
         return retryIntervalMilliseconds;
     }
 
+    @Override
+    @NotNull
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
     @Override
     public boolean isWhenResponseNonSuccessRetry() {
         return whenResponseNonSuccessRetry;
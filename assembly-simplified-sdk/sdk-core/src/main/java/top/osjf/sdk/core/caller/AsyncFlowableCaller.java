@@ -17,6 +17,7 @@
 package top.osjf.sdk.core.caller;
 
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import top.osjf.sdk.core.Response;
 import top.osjf.sdk.core.support.NotNull;
@@ -111,7 +112,52 @@ public class AsyncFlowableCaller<R extends Response>
                                @Nullable Consumer<Throwable> customSubscriptionExceptionConsumer,
                                @Nullable Executor customSubscriptionExecutor,
                                @Nullable Executor customObserveExecutor) {
-        super(runBody, retryTimes, retryIntervalMilliseconds,
+        this(runBody, retryTimes, retryIntervalMilliseconds, null, whenResponseNonSuccessRetry,
+                whenResponseNonSuccessFinalThrow, customRetryExceptionPredicate, customSubscriptionRegularConsumer,
+                customSubscriptionExceptionConsumer, customSubscriptionExecutor, customObserveExecutor);
+    }
+
+    /**
+     * Creates a new {@code AsyncFlowableCaller} with the given {@code AbstractFlowableCaller}
+     * and {@code FlowableCaller} initial parameters and custom subscription executor and
+     * custom observe executor.
+     *
+     * @param runBody                             {@link AbstractFlowableCaller#getRunBody()}.
+     * @param retryTimes                          {@link AbstractFlowableCaller#getRetryTimes()}.
+     * @param retryIntervalMilliseconds           {@link AbstractFlowableCaller#getRetryIntervalMilliseconds()}.
+     * @param retryPolicy                         {@link AbstractFlowableCaller#getRetryPolicy()}.
+     * @param whenResponseNonSuccessRetry         {@link AbstractFlowableCaller#isWhenResponseNonSuccessRetry()}.
+     * @param whenResponseNonSuccessFinalThrow    {@link AbstractFlowableCaller#isWhenResponseNonSuccessFinalThrow()}.
+     * @param customRetryExceptionPredicate       {@link AbstractFlowableCaller#getCustomRetryExceptionPredicate()}.
+     * @param customSubscriptionRegularConsumer   {@link FlowableCaller#getCustomSubscriptionRegularConsumer()}}.
+     * @param customSubscriptionExceptionConsumer {@link FlowableCaller#getCustomSubscriptionExceptionConsumer()}}.
+     * @param customSubscriptionExecutor          Custom Subscription Executor. This parameter is typically used
+     *                                            to specify an executor that is responsible for executing code
+     *                                            or tasks when a subscription occurs (e.g., in reactive programming
+     *                                            , when a subscription to a stream is made). It allows developers
+     *                                            to control the execution context of subscription operations,
+     *                                            such as specifying which thread or thread pool to execute on.
+     * @param customObserveExecutor               Custom Observe Executor. Similar to customSubscriptionExecutor,
+     *                                            this parameter is also used to specify an executor, but it
+     *                                            focuses on controlling the execution context for observation
+     *                                            (or consumption) operations. In reactive programming, when data
+     *                                            is produced and ready to be consumed, customObserveExecutor determines
+     *                                            which thread or thread pool these consumption operations
+     *                                            (e.g., processing the data) will execute on.
+     * @throws NullPointerException if input runBody is {@literal null}.
+     * @since 1.0.2
+     */
+    public AsyncFlowableCaller(@NotNull Supplier<R> runBody, int retryTimes,
+                               long retryIntervalMilliseconds,
+                               @Nullable RetryPolicy retryPolicy,
+                               boolean whenResponseNonSuccessRetry,
+                               boolean whenResponseNonSuccessFinalThrow,
+                               @Nullable Predicate<? super Throwable> customRetryExceptionPredicate,
+                               @Nullable Consumer<R> customSubscriptionRegularConsumer,
+                               @Nullable Consumer<Throwable> customSubscriptionExceptionConsumer,
+                               @Nullable Executor customSubscriptionExecutor,
+                               @Nullable Executor customObserveExecutor) {
+        super(runBody, retryTimes, retryIntervalMilliseconds, retryPolicy,
                 whenResponseNonSuccessRetry, whenResponseNonSuccessFinalThrow, customRetryExceptionPredicate,
                 customSubscriptionRegularConsumer, customSubscriptionExceptionConsumer);
         this.customSubscriptionExecutor = customSubscriptionExecutor;
@@ -160,6 +206,18 @@ public class AsyncFlowableCaller<R extends Response>
         return flowable;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The delayed retries are resubscribed on the custom subscription executor when
+     * it is provided, so that the run body keeps executing on it.
+     */
+    @Override
+    protected Scheduler getRetryScheduler() {
+        Executor customSubscriptionExecutor0 = getCustomSubscriptionExecutor();
+        return customSubscriptionExecutor0 != null ? Schedulers.from(customSubscriptionExecutor0)
+                : super.getRetryScheduler();
+    }
+
     @Override
     @Nullable
     public Executor getCustomSubscriptionExecutor() {
@@ -76,6 +76,12 @@ public class AsyncFlowableCallerBuilder<R extends Response> extends FlowableCall
         return this;
     }
 
+    @Override
+    public AsyncFlowableCallerBuilder<R> retryPolicy(@Nullable RetryPolicy retryPolicy) {
+        super.retryPolicy(retryPolicy);
+        return this;
+    }
+
     @Override
     public AsyncFlowableCallerBuilder<R> whenResponseNonSuccessRetry() {
         super.whenResponseNonSuccessRetry();
@@ -147,6 +153,7 @@ public class AsyncFlowableCallerBuilder<R extends Response> extends FlowableCall
         return new AsyncFlowableCaller<>
                 (flowableCaller.getRunBody(), flowableCaller.getRetryTimes(),
                         flowableCaller.getRetryIntervalMilliseconds(),
+                        flowableCaller.getRetryPolicy(),
                         flowableCaller.isWhenResponseNonSuccessRetry(),
                         flowableCaller.isWhenResponseNonSuccessFinalThrow(),
                         flowableCaller.getCustomRetryExceptionPredicate(),
@@ -167,6 +174,7 @@ public class AsyncFlowableCallerBuilder<R extends Response> extends FlowableCall
         return new BlockedAsyncFlowableCaller<>
                 (flowableCaller.getRunBody(), flowableCaller.getRetryTimes(),
                         flowableCaller.getRetryIntervalMilliseconds(),
+                        flowableCaller.getRetryPolicy(),
                         flowableCaller.isWhenResponseNonSuccessRetry(),
                         flowableCaller.isWhenResponseNonSuccessFinalThrow(),
                         flowableCaller.getCustomRetryExceptionPredicate(),
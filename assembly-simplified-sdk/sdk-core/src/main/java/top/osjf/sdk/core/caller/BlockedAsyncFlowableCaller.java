@@ -17,6 +17,7 @@
 package top.osjf.sdk.core.caller;
 
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import top.osjf.sdk.core.Response;
 import top.osjf.sdk.core.support.NotNull;
@@ -56,7 +57,19 @@ public class BlockedAsyncFlowableCaller<R extends Response> extends BlockedFlowa
                                       boolean whenResponseNonSuccessFinalThrow,
                                       @Nullable Predicate<? super Throwable> customRetryExceptionPredicate,
                                       @Nullable Executor customSubscriptionExecutor) {
-        super(runBody, retryTimes, retryIntervalMilliseconds, whenResponseNonSuccessRetry,
+        this(runBody, retryTimes, retryIntervalMilliseconds, null, whenResponseNonSuccessRetry,
+                whenResponseNonSuccessFinalThrow, customRetryExceptionPredicate, customSubscriptionExecutor);
+    }
+
+    /* {@link AbstractFlowableCaller} */
+    public BlockedAsyncFlowableCaller(@NotNull Supplier<R> runBody, int retryTimes,
+                                      long retryIntervalMilliseconds,
+                                      @Nullable RetryPolicy retryPolicy,
+                                      boolean whenResponseNonSuccessRetry,
+                                      boolean whenResponseNonSuccessFinalThrow,
+                                      @Nullable Predicate<? super Throwable> customRetryExceptionPredicate,
+                                      @Nullable Executor customSubscriptionExecutor) {
+        super(runBody, retryTimes, retryIntervalMilliseconds, retryPolicy, whenResponseNonSuccessRetry,
                 whenResponseNonSuccessFinalThrow, customRetryExceptionPredicate);
         this.customSubscriptionExecutor = customSubscriptionExecutor;
     }
@@ -74,6 +87,12 @@ public class BlockedAsyncFlowableCaller<R extends Response> extends BlockedFlowa
         return flowable;
     }
 
+    @Override
+    protected Scheduler getRetryScheduler() {
+        return customSubscriptionExecutor != null ? Schedulers.from(customSubscriptionExecutor)
+                : super.getRetryScheduler();
+    }
+
     /**
      * A retrieve the response body static method for SDK calls using the API of {@code AsyncFlowableCaller}.
      *
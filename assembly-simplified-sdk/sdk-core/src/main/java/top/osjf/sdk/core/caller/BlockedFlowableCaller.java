@@ -43,6 +43,16 @@ public class BlockedFlowableCaller<R extends Response> extends AbstractFlowableC
                 whenResponseNonSuccessFinalThrow, customRetryExceptionPredicate);
     }
 
+    /* {@link AbstractFlowableCaller} */
+    public BlockedFlowableCaller(@NotNull Supplier<R> runBody, int retryTimes,
+                                 long retryIntervalMilliseconds, @Nullable RetryPolicy retryPolicy,
+                                 boolean whenResponseNonSuccessRetry,
+                                 boolean whenResponseNonSuccessFinalThrow,
+                                 @Nullable Predicate<? super Throwable> customRetryExceptionPredicate) {
+        super(runBody, retryTimes, retryIntervalMilliseconds, retryPolicy, whenResponseNonSuccessRetry,
+                whenResponseNonSuccessFinalThrow, customRetryExceptionPredicate);
+    }
+
     /**
      * This method will block until the response message sent by the subscriber is received.
      * When there is only one response message, it will be successfully obtained.
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.core.caller;
+
+import top.osjf.sdk.core.support.NotNull;
+import top.osjf.sdk.core.support.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bulkhead limiting the number of concurrent calls of a sdk, so that a slow
+ * remote cannot hold all the threads of the caller.
+ *
+ * <p>A call waits at most {@code maxWaitMilliseconds} for a free place and is
+ * otherwise refused with a {@link CallNotPermittedException}.
+ *
+ * <p>Bulkheads are shared by name (usually {@code SdkEnum#name()}), the first
+ * registration of a name decides its limits.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+public final class Bulkhead {
+
+    /*** The bulkheads registered by name.*/
+    private static final Map<String, Bulkhead> BULKHEADS = new ConcurrentHashMap<>();
+
+    /*** The name of the bulkhead.*/
+    private final String name;
+
+    /*** The maximum number of concurrent calls.*/
+    private final int maxConcurrentCalls;
+
+    /*** The maximum time to wait for a free place, non-positive means no wait.*/
+    private final long maxWaitMilliseconds;
+
+    /*** The places of the concurrent calls.*/
+    private final Semaphore semaphore;
+
+    /*** The number of refused calls.*/
+    private final AtomicLong rejectedCalls = new AtomicLong();
+
+    /**
+     * Constructs a {@code Bulkhead}.
+     *
+     * @param name                the name of the bulkhead.
+     * @param maxConcurrentCalls  the maximum number of concurrent calls.
+     * @param maxWaitMilliseconds the maximum time to wait for a free place.
+     */
+    public Bulkhead(@NotNull String name, int maxConcurrentCalls, long maxWaitMilliseconds) {
+        this.name = name;
+        this.maxConcurrentCalls = Math.max(maxConcurrentCalls, 1);
+        this.maxWaitMilliseconds = maxWaitMilliseconds;
+        this.semaphore = new Semaphore(this.maxConcurrentCalls, true);
+    }
+
+    /**
+     * Get the bulkhead registered by the given name, registering it with the given
+     * limits when it does not exist.
+     *
+     * @param name                the name of the bulkhead, usually {@code SdkEnum#name()}.
+     * @param maxConcurrentCalls  {@link #Bulkhead(String, int, long)}.
+     * @param maxWaitMilliseconds {@link #Bulkhead(String, int, long)}.
+     * @return the bulkhead of the name.
+     */
+    public static Bulkhead of(@NotNull String name, int maxConcurrentCalls, long maxWaitMilliseconds) {
+        Bulkhead bulkhead = BULKHEADS.get(name);
+        if (bulkhead == null) {
+            bulkhead = BULKHEADS.computeIfAbsent(name, n -> new Bulkhead(n, maxConcurrentCalls, maxWaitMilliseconds));
+        }
+        return bulkhead;
+    }
+
+    /**
+     * Get the bulkhead registered by the given name.
+     *
+     * @param name the name of the bulkhead.
+     * @return the bulkhead of the name, {@literal null} if not registered.
+     */
+    @Nullable
+    public static Bulkhead get(String name) {
+        return BULKHEADS.get(name);
+    }
+
+    /**
+     * Take a place for a call, waiting at most {@code maxWaitMilliseconds}.
+     *
+     * @throws CallNotPermittedException if no place became free in time.
+     */
+    public void acquire() {
+        boolean acquired;
+        try {
+            acquired = maxWaitMilliseconds > 0 ? semaphore.tryAcquire(maxWaitMilliseconds, TimeUnit.MILLISECONDS)
+                    : semaphore.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejectedCalls.incrementAndGet();
+            throw new CallNotPermittedException(name, "Bulkhead " + name + " is full with "
+                    + maxConcurrentCalls + " concurrent calls");
+        }
+    }
+
+    /**
+     * Give back the place of a finished call.
+     */
+    public void release() {
+        semaphore.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public int getAvailableConcurrentCalls() {
+        return semaphore.availablePermits();
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.get();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.core.caller;
+
+/**
+ * Thrown when a call is refused without being executed, because the
+ * {@link CircuitBreaker} of its sdk is open or its {@link Bulkhead} is full.
+ *
+ * <p>Such a call fails fast and is never retried.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+public class CallNotPermittedException extends SdkCallerException {
+
+    private static final long serialVersionUID = 3215813985390412537L;
+
+    /*** The name of the sdk whose call was refused.*/
+    private final String name;
+
+    public CallNotPermittedException(String name, String s) {
+        super(s);
+        this.name = name;
+    }
+
+    /**
+     * Return the name of the sdk whose call was refused.
+     *
+     * @return the name of the sdk.
+     */
+    public String getName() {
+        return name;
+    }
+}
@@ -61,6 +61,184 @@ public @interface CallOptions {
      */
     long retryIntervalMilliseconds() default 1000;
 
+    /**
+     * Get the factor by which the retry interval grows after each retry.
+     *
+     * <p>The default value is 1, keeping the {@link #retryIntervalMilliseconds()}
+     * fixed between retries; a value of 2 doubles it after each retry.
+     *
+     * @return the retry interval growth factor, values less than 1 are treated as 1.
+     * @since 1.0.2
+     */
+    double retryBackoffMultiplier() default 1;
+
+    /**
+     * Get the upper limit of a single retry interval (in milliseconds) when it
+     * grows by {@link #retryBackoffMultiplier()}.
+     *
+     * <p>The default value is 0, which means no limit.
+     *
+     * @return the upper limit of a single retry interval, in milliseconds.
+     * @since 1.0.2
+     */
+    long retryMaxIntervalMilliseconds() default 0;
+
+    /**
+     * Get the random range of each retry interval as a fraction of itself, so
+     * that the retries of concurrent calls failing together do not arrive together.
+     *
+     * <p>The default value is 0, which means no jitter; 0.5 spreads each interval
+     * between half and one and a half of itself.
+     *
+     * @return the jitter factor, between 0 and 1.
+     * @since 1.0.2
+     */
+    double retryJitterFactor() default 0;
+
+    /**
+     * Get the total time (in milliseconds) allowed for a call and its retries,
+     * a retry which would start after it is not attempted.
+     *
+     * <p>The default value is 0, which means no limit.
+     *
+     * @return the total time allowed for retries, in milliseconds.
+     * @since 1.0.2
+     */
+    long retryMaxElapsedMilliseconds() default 0;
+
+    /**
+     * Get the retries allowed for each call of the same sdk, shared by all calls
+     * with the same {@code SdkEnum} name, so that a failing remote is not flooded
+     * with retries.
+     *
+     * <p>The default value is 0, which means no budget; 0.2 allows on average one
+     * retry every five calls, see {@link RetryBudget}.
+     *
+     * @return the retry budget ratio.
+     * @since 1.0.2
+     */
+    double retryBudgetRatio() default 0;
+
+    /**
+     * Get the maximum number of retries the budget of {@link #retryBudgetRatio()}
+     * can save up, which is also the number of retries allowed before enough
+     * calls have been made.
+     *
+     * @return the retry budget capacity.
+     * @since 1.0.2
+     */
+    int retryBudgetCapacity() default 10;
+
+    /**
+     * Get the failure rate percentage of the last calls of the same sdk opening its
+     * {@link CircuitBreaker}, after which calls fail fast with a
+     * {@link CallNotPermittedException} until trial calls succeed again.
+     *
+     * <p>The default value is 0, which means the failure rate does not open the
+     * breaker; the breaker exists when this or {@link #circuitBreakerSlowCallRateThreshold()}
+     * is positive.
+     *
+     * @return the failure rate threshold, in percentage.
+     * @since 1.0.2
+     */
+    int circuitBreakerFailureRateThreshold() default 0;
+
+    /**
+     * Get the slow call rate percentage of the last calls of the same sdk opening
+     * its {@link CircuitBreaker}.
+     *
+     * <p>The default value is 0, which means the slow call rate does not open the breaker.
+     *
+     * @return the slow call rate threshold, in percentage.
+     * @since 1.0.2
+     */
+    int circuitBreakerSlowCallRateThreshold() default 0;
+
+    /**
+     * Get the duration (in milliseconds) from which a call is slow.
+     *
+     * @return the slow call duration, in milliseconds.
+     * @since 1.0.2
+     */
+    long circuitBreakerSlowCallDurationMilliseconds() default 60000;
+
+    /**
+     * Get the number of last calls the rates of the {@link CircuitBreaker} are computed on.
+     *
+     * @return the sliding window size.
+     * @since 1.0.2
+     */
+    int circuitBreakerSlidingWindowSize() default 100;
+
+    /**
+     * Get the number of calls needed before the rates of the {@link CircuitBreaker}
+     * are computed.
+     *
+     * @return the minimum number of calls.
+     * @since 1.0.2
+     */
+    int circuitBreakerMinimumNumberOfCalls() default 10;
+
+    /**
+     * Get the time (in milliseconds) an open {@link CircuitBreaker} refuses calls
+     * before permitting trial calls.
+     *
+     * @return the wait duration in open state, in milliseconds.
+     * @since 1.0.2
+     */
+    long circuitBreakerWaitDurationInOpenStateMilliseconds() default 60000;
+
+    /**
+     * Get the number of trial calls of a half open {@link CircuitBreaker}.
+     *
+     * @return the number of permitted calls in half open state.
+     * @since 1.0.2
+     */
+    int circuitBreakerPermittedCallsInHalfOpenState() default 10;
+
+    /**
+     * Get the maximum number of concurrent calls of the same sdk, calls beyond it
+     * wait {@link #bulkheadMaxWaitMilliseconds()} and then fail fast with a
+     * {@link CallNotPermittedException}, see {@link Bulkhead}.
+     *
+     * <p>The default value is 0, which means no bulkhead.
+     *
+     * @return the maximum number of concurrent calls.
+     * @since 1.0.2
+     */
+    int bulkheadMaxConcurrentCalls() default 0;
+
+    /**
+     * Get the maximum time (in milliseconds) a call waits for a free place in
+     * the {@link Bulkhead}.
+     *
+     * <p>The default value is 0, which means no wait.
+     *
+     * @return the maximum wait time, in milliseconds.
+     * @since 1.0.2
+     */
+    long bulkheadMaxWaitMilliseconds() default 0;
+
+    /**
+     * Whether the concurrent identical calls of the same sdk share a single call
+     * in flight and its {@code Response}, see {@link SingleFlight}.
+     * <p>The default value is {@literal false}; it is only suitable for idempotent
+     * calls whose {@code Response} is not modified by the caller.
+     * @return whether the concurrent identical calls are coalesced.
+     * @since 1.0.2
+     */
+    boolean coalesceIdenticalCalls() default false;
+
+    /**
+     * Whether the identical calls of a request which is not idempotent, such as an HTTP
+     * {@code POST}, are also coalesced when {@link #coalesceIdenticalCalls()}, see
+     * {@link CoalescingCapable#isIdempotent()}.
+     * <p>The default value is {@literal false}, so that each of them is executed.
+     * @return whether the identical calls of non-idempotent requests are coalesced.
+     * @since 1.0.2
+     */
+    boolean coalesceNonIdempotentCalls() default false;
+
     /**
      * Retrieve the exception condition class used to determine whether a
      * retry is necessary.
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.core.caller;
+
+import top.osjf.sdk.core.support.NotNull;
+import top.osjf.sdk.core.support.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * A circuit breaker of the calls of a sdk, based on the failure rate and the
+ * slow call rate of its last {@code slidingWindowSize} calls.
+ *
+ * <ul>
+ *     <li>{@link State#CLOSED}: calls are permitted; once at least {@code minimumNumberOfCalls}
+ *     are recorded, reaching either rate threshold opens the breaker.</li>
+ *     <li>{@link State#OPEN}: calls are refused with a {@link CallNotPermittedException} until
+ *     {@code waitDurationInOpenStateMilliseconds} has passed.</li>
+ *     <li>{@link State#HALF_OPEN}: {@code permittedCallsInHalfOpenState} trial calls are
+ *     permitted, their rates close the breaker or open it again.</li>
+ * </ul>
+ *
+ * <p>A call is a failure when it throws or its response is unsuccessful, and is slow
+ * when it takes {@code slowCallDurationMilliseconds} or more. A threshold of {@code 0}
+ * disables the corresponding rate.
+ *
+ * <p>Circuit breakers are shared by name (usually {@code SdkEnum#name()}), the first
+ * registration of a name decides its configuration. State transitions are logged and
+ * published to the listeners added by {@link #addStateTransitionListener}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+public final class CircuitBreaker {
+
+    /*** JDK logger.*/
+    private static final Logger LOGGER = Logger.getLogger(CircuitBreaker.class.getName());
+
+    /*** The circuit breakers registered by name.*/
+    private static final Map<String, CircuitBreaker> CIRCUIT_BREAKERS = new ConcurrentHashMap<>();
+
+    /*** The listeners of the state transitions of all circuit breakers.*/
+    private static final List<StateTransitionListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    /*** Outcome flag of a failed call in the sliding window.*/
+    private static final byte FAILURE = 1;
+
+    /*** Outcome flag of a slow call in the sliding window.*/
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final int minimumNumberOfCalls;
+    private final long waitDurationInOpenStateMilliseconds;
+    private final int permittedCallsInHalfOpenState;
+
+    /*** The outcomes of the last calls, as a ring of {@link #FAILURE} and {@link #SLOW} flags.*/
+    private final byte[] outcomes;
+    private int index;
+    private int calls;
+    private int failures;
+    private int slowCalls;
+
+    private volatile State state = State.CLOSED;
+    private long openedAtMillis;
+    private int halfOpenPermits;
+
+    /*** The number of calls refused since the creation of the breaker.*/
+    private final AtomicLong notPermittedCalls = new AtomicLong();
+
+    /**
+     * Constructs a {@code CircuitBreaker}.
+     *
+     * @param name                                the name of the circuit breaker.
+     * @param failureRateThreshold                the failure rate percentage opening the breaker.
+     * @param slowCallRateThreshold               the slow call rate percentage opening the breaker.
+     * @param slowCallDurationMilliseconds        the duration from which a call is slow.
+     * @param slidingWindowSize                   the number of last calls the rates are computed on.
+     * @param minimumNumberOfCalls                the number of calls needed before computing the rates.
+     * @param waitDurationInOpenStateMilliseconds the time refusing calls before trial calls.
+     * @param permittedCallsInHalfOpenState       the number of trial calls.
+     */
+    public CircuitBreaker(@NotNull String name, int failureRateThreshold, int slowCallRateThreshold,
+                          long slowCallDurationMilliseconds, int slidingWindowSize, int minimumNumberOfCalls,
+                          long waitDurationInOpenStateMilliseconds, int permittedCallsInHalfOpenState) {
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDurationNanos = TimeUnit.MILLISECONDS.toNanos(slowCallDurationMilliseconds);
+        this.outcomes = new byte[Math.max(slidingWindowSize, 1)];
+        this.minimumNumberOfCalls = Math.min(Math.max(minimumNumberOfCalls, 1), outcomes.length);
+        this.waitDurationInOpenStateMilliseconds = waitDurationInOpenStateMilliseconds;
+        this.permittedCallsInHalfOpenState = Math.min(Math.max(permittedCallsInHalfOpenState, 1), outcomes.length);
+    }
+
+    /**
+     * Get the circuit breaker registered by the given name, registering it with the
+     * given configuration when it does not exist.
+     *
+     * @param name                                the name of the circuit breaker, usually {@code SdkEnum#name()}.
+     * @param failureRateThreshold                {@link #CircuitBreaker}.
+     * @param slowCallRateThreshold               {@link #CircuitBreaker}.
+     * @param slowCallDurationMilliseconds        {@link #CircuitBreaker}.
+     * @param slidingWindowSize                   {@link #CircuitBreaker}.
+     * @param minimumNumberOfCalls                {@link #CircuitBreaker}.
+     * @param waitDurationInOpenStateMilliseconds {@link #CircuitBreaker}.
+     * @param permittedCallsInHalfOpenState       {@link #CircuitBreaker}.
+     * @return the circuit breaker of the name.
+     */
+    public static CircuitBreaker of(@NotNull String name, int failureRateThreshold, int slowCallRateThreshold,
+                                    long slowCallDurationMilliseconds, int slidingWindowSize,
+                                    int minimumNumberOfCalls, long waitDurationInOpenStateMilliseconds,
+                                    int permittedCallsInHalfOpenState) {
+        CircuitBreaker circuitBreaker = CIRCUIT_BREAKERS.get(name);
+        if (circuitBreaker == null) {
+            circuitBreaker = CIRCUIT_BREAKERS.computeIfAbsent(name, n -> new CircuitBreaker(n,
+                    failureRateThreshold, slowCallRateThreshold, slowCallDurationMilliseconds, slidingWindowSize,
+                    minimumNumberOfCalls, waitDurationInOpenStateMilliseconds, permittedCallsInHalfOpenState));
+        }
+        return circuitBreaker;
+    }
+
+    /**
+     * Get the circuit breaker registered by the given name.
+     *
+     * @param name the name of the circuit breaker.
+     * @return the circuit breaker of the name, {@literal null} if not registered.
+     */
+    @Nullable
+    public static CircuitBreaker get(String name) {
+        return CIRCUIT_BREAKERS.get(name);
+    }
+
+    /**
+     * Add a listener of the state transitions of all circuit breakers.
+     *
+     * @param listener the listener of state transitions.
+     */
+    public static void addStateTransitionListener(@NotNull StateTransitionListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Remove a listener added by {@link #addStateTransitionListener}.
+     *
+     * @param listener the listener of state transitions.
+     */
+    public static void removeStateTransitionListener(StateTransitionListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Ask the permission to execute a call, whose result must then be given
+     * to {@link #onResult}.
+     *
+     * @throws CallNotPermittedException if the breaker is open or all trial calls are taken.
+     */
+    public void acquirePermission() {
+        State from = null;
+        boolean permitted = true;
+        synchronized (this) {
+            if (state == State.OPEN
+                    && System.currentTimeMillis() - openedAtMillis >= waitDurationInOpenStateMilliseconds) {
+                from = transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                permitted = halfOpenPermits > 0;
+                if (permitted) halfOpenPermits--;
+            } else if (state == State.OPEN) {
+                permitted = false;
+            }
+        }
+        publish(from, State.HALF_OPEN);
+        if (!permitted) {
+            notPermittedCalls.incrementAndGet();
+            throw new CallNotPermittedException(name, "Circuit breaker " + name + " is " + state
+                    + " and does not permit further calls");
+        }
+    }
+
+    /**
+     * Record the result of a permitted call.
+     *
+     * @param durationNanos the duration of the call, in nanoseconds.
+     * @param success       whether the call succeeded.
+     */
+    public void onResult(long durationNanos, boolean success) {
+        State from = null;
+        State to = null;
+        synchronized (this) {
+            if (state == State.OPEN) {
+                //Result of a call permitted before the breaker opened.
+                return;
+            }
+            byte outcome = (byte) ((success ? 0 : FAILURE) | (durationNanos >= slowCallDurationNanos ? SLOW : 0));
+            if (calls == outcomes.length) {
+                byte evicted = outcomes[index];
+                if ((evicted & FAILURE) != 0) failures--;
+                if ((evicted & SLOW) != 0) slowCalls--;
+            } else {
+                calls++;
+            }
+            outcomes[index] = outcome;
+            index = (index + 1) % outcomes.length;
+            if ((outcome & FAILURE) != 0) failures++;
+            if ((outcome & SLOW) != 0) slowCalls++;
+
+            int requiredCalls = state == State.HALF_OPEN ? permittedCallsInHalfOpenState : minimumNumberOfCalls;
+            if (calls >= requiredCalls) {
+                if (exceeds(failures, failureRateThreshold) || exceeds(slowCalls, slowCallRateThreshold)) {
+                    to = State.OPEN;
+                } else if (state == State.HALF_OPEN) {
+                    to = State.CLOSED;
+                }
+                if (to != null) {
+                    from = transitionTo(to);
+                }
+            }
+        }
+        publish(from, to);
+    }
+
+    private boolean exceeds(int count, int threshold) {
+        return threshold > 0 && count * 100 >= threshold * calls;
+    }
+
+    /* Change the state and reset the window, return the previous state. Must hold the lock. */
+    private State transitionTo(State to) {
+        State from = state;
+        state = to;
+        index = 0;
+        calls = 0;
+        failures = 0;
+        slowCalls = 0;
+        if (to == State.OPEN) {
+            openedAtMillis = System.currentTimeMillis();
+        } else if (to == State.HALF_OPEN) {
+            halfOpenPermits = permittedCallsInHalfOpenState;
+        }
+        return from;
+    }
+
+    private void publish(@Nullable State from, @Nullable State to) {
+        if (from == null || to == null) {
+            return;
+        }
+        LOGGER.info("Circuit breaker " + name + " changed state from " + from + " to " + to);
+        for (StateTransitionListener listener : LISTENERS) {
+            listener.onStateTransition(this, from, to);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Return the failure rate of the calls in the current window.
+     *
+     * @return the failure rate percentage, {@code -1} when no call is recorded.
+     */
+    public synchronized float getFailureRate() {
+        return calls == 0 ? -1 : failures * 100f / calls;
+    }
+
+    /**
+     * Return the slow call rate of the calls in the current window.
+     *
+     * @return the slow call rate percentage, {@code -1} when no call is recorded.
+     */
+    public synchronized float getSlowCallRate() {
+        return calls == 0 ? -1 : slowCalls * 100f / calls;
+    }
+
+    public synchronized int getNumberOfCalls() {
+        return calls;
+    }
+
+    public long getNotPermittedCalls() {
+        return notPermittedCalls.get();
+    }
+
+    /**
+     * The states of a {@link CircuitBreaker}.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * The listener of the state transitions of the circuit breakers, for
+     * events or metrics.
+     */
+    @FunctionalInterface
+    public interface StateTransitionListener {
+
+        /**
+         * Called after the state of a circuit breaker has changed.
+         *
+         * @param circuitBreaker the circuit breaker.
+         * @param from           the previous state.
+         * @param to             the new state.
+         */
+        void onStateTransition(CircuitBreaker circuitBreaker, State from, State to);
+    }
+}
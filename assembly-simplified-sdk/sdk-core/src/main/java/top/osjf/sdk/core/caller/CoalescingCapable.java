@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.core.caller;
+
+import top.osjf.sdk.core.Request;
+import top.osjf.sdk.core.support.Nullable;
+
+/**
+ * Coalescing capability of a {@code Request}, used by {@link SingleFlight} to know
+ * whether the identical calls of the request may be coalesced and to identify its
+ * parameter in the {@link SingleFlight#fingerprint fingerprint} of a call.
+ *
+ * <p>A request without this capability is considered idempotent and is identified
+ * by its {@link Request#getRequestParam()}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+public interface CoalescingCapable {
+
+    /**
+     * The coalescing key of a request without parameter.
+     */
+    Object NO_PARAMETER_KEY = new Object() {
+        @Override
+        public String toString() {
+            return "NO_PARAMETER_KEY";
+        }
+    };
+
+    /**
+     * Return whether the request is idempotent; the identical calls of a request
+     * which is not are only coalesced when {@link CallOptions#coalesceNonIdempotentCalls()}.
+     *
+     * @return whether the request is idempotent.
+     */
+    boolean isIdempotent();
+
+    /**
+     * Return the key identifying the parameter of the request in the fingerprint of
+     * a call, whose {@code equals} and {@code hashCode} are those of the parameter
+     * content, such as the bytes sent.
+     *
+     * <p>A request without parameter returns {@link #NO_PARAMETER_KEY}; a request whose
+     * parameter content cannot be identified returns {@literal null} and its calls are
+     * not coalesced.
+     *
+     * @return the key of the parameter, {@link #NO_PARAMETER_KEY} without parameter,
+     * {@literal null} when the calls may not be coalesced.
+     */
+    @Nullable
+    Object getCoalescingKey();
+}
@@ -83,7 +83,39 @@ public class FlowableCaller<R extends Response>
                           @Nullable Predicate<? super Throwable> customRetryExceptionPredicate,
                           @Nullable Consumer<R> customSubscriptionRegularConsumer,
                           @Nullable Consumer<Throwable> customSubscriptionExceptionConsumer) {
-        super(runBody, retryTimes, retryIntervalMilliseconds, whenResponseNonSuccessRetry,
+        this(runBody, retryTimes, retryIntervalMilliseconds, null, whenResponseNonSuccessRetry,
+                whenResponseNonSuccessFinalThrow, customRetryExceptionPredicate, customSubscriptionRegularConsumer,
+                customSubscriptionExceptionConsumer);
+    }
+
+    /**
+     * Creates a new {@code FlowableCaller} with the given {@code AbstractFlowableCaller}
+     * and initial parameters, a retry delay strategy and custom subscription regular consumer
+     * and custom subscription exception consumer.
+     *
+     * @param runBody                             {@link AbstractFlowableCaller#getRunBody()}.
+     * @param retryTimes                          {@link AbstractFlowableCaller#getRetryTimes()}.
+     * @param retryIntervalMilliseconds           {@link AbstractFlowableCaller#getRetryIntervalMilliseconds()}.
+     * @param retryPolicy                         {@link AbstractFlowableCaller#getRetryPolicy()}.
+     * @param whenResponseNonSuccessRetry         {@link AbstractFlowableCaller#isWhenResponseNonSuccessRetry()}.
+     * @param whenResponseNonSuccessFinalThrow    {@link AbstractFlowableCaller#isWhenResponseNonSuccessFinalThrow()}.
+     * @param customRetryExceptionPredicate       {@link AbstractFlowableCaller#getCustomRetryExceptionPredicate()}.
+     * @param customSubscriptionRegularConsumer   A custom consumer invoked upon successful subscription completion,
+     *                                            used to handle successful results.
+     * @param customSubscriptionExceptionConsumer A custom consumer invoked upon exception during subscription,
+     *                                            used to handle errors.
+     * @since 1.0.2
+     */
+    public FlowableCaller(@NotNull Supplier<R> runBody,
+                          int retryTimes,
+                          long retryIntervalMilliseconds,
+                          @Nullable RetryPolicy retryPolicy,
+                          boolean whenResponseNonSuccessRetry,
+                          boolean whenResponseNonSuccessFinalThrow,
+                          @Nullable Predicate<? super Throwable> customRetryExceptionPredicate,
+                          @Nullable Consumer<R> customSubscriptionRegularConsumer,
+                          @Nullable Consumer<Throwable> customSubscriptionExceptionConsumer) {
+        super(runBody, retryTimes, retryIntervalMilliseconds, retryPolicy, whenResponseNonSuccessRetry,
                 whenResponseNonSuccessFinalThrow, customRetryExceptionPredicate);
         this.customSubscriptionRegularConsumer = customSubscriptionRegularConsumer;
         this.customSubscriptionExceptionConsumer = customSubscriptionExceptionConsumer;
@@ -105,7 +137,8 @@ public class FlowableCaller<R extends Response>
     @Override
     public void run() {
         this.disposable = getFlowable().subscribe(getOnNext(), getOnError());
-        if (disposeSync()) dispose();
+        //A retry waiting on its timer keeps the subscription, which is released when it terminates.
+        if (disposeSync() && isDisposed()) dispose();
     }
 
     /**
@@ -44,6 +44,9 @@ public class FlowableCallerBuilder<R extends Response> {
     private int retryTimes;
     /*** {@code FlowableCaller#retryIntervalMilliseconds}*/
     private long retryIntervalMilliseconds;
+    /*** {@code FlowableCaller#retryPolicy}*/
+    @Nullable
+    private RetryPolicy retryPolicy;
     /*** {@code FlowableCaller#whenResponseNonSuccessRetry}*/
     private boolean whenResponseNonSuccessRetry;
     /*** {@code FlowableCaller#whenResponseNonSuccessFinalThrow}*/
@@ -102,6 +105,18 @@ public class FlowableCallerBuilder<R extends Response> {
         return this;
     }
 
+    /**
+     * Set a {@link #retryPolicy} for {@link FlowableCallerBuilder}.
+     *
+     * @param retryPolicy {@code FlowableCaller#retryPolicy}
+     * @return this.
+     * @since 1.0.2
+     */
+    public FlowableCallerBuilder<R> retryPolicy(@Nullable RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        return this;
+    }
+
     /**
      * Set {@code true} value to {@code whenResponseNonSuccessRetry} for {@link FlowableCallerBuilder}.
      *
@@ -172,7 +187,7 @@ public class FlowableCallerBuilder<R extends Response> {
      */
     public FlowableCaller<R> build() {
         return new FlowableCaller<>
-                (runBody, retryTimes, retryIntervalMilliseconds, whenResponseNonSuccessRetry,
+                (runBody, retryTimes, retryIntervalMilliseconds, retryPolicy, whenResponseNonSuccessRetry,
                         whenResponseNonSuccessFinalThrow,
                         customRetryExceptionPredicate, customSubscriptionRegularConsumer,
                         customSubscriptionExceptionConsumer);
@@ -186,7 +201,7 @@ public class FlowableCallerBuilder<R extends Response> {
      */
     public BlockedFlowableCaller<R> buildBlock() {
         return new BlockedFlowableCaller<>
-                (runBody, retryTimes, retryIntervalMilliseconds, whenResponseNonSuccessRetry,
+                (runBody, retryTimes, retryIntervalMilliseconds, retryPolicy, whenResponseNonSuccessRetry,
                         whenResponseNonSuccessFinalThrow,
                         customRetryExceptionPredicate);
     }
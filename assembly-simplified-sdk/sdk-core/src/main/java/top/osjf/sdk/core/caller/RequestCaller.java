@@ -148,6 +148,9 @@ public class RequestCaller {
      * configuring the call options based on the {@code CallOptions} annotation on the method
      * or class.
      *
+     * <p>When the {@link RequestExecuteMetadata.OptionsMetadata#getCallOptions()} has already
+     * been resolved, it is used directly instead of looking up the annotation again.
+     *
      * @param metadata the metadata instance object related to the request execution.
      * @param host     the real server hostname.
      * @return The {@code Response} object obtained from the response
@@ -165,6 +168,11 @@ public class RequestCaller {
             providerThrowablePredicate = optionsMetadata.getThrowablePredicate();
             providerExecutorProvider = optionsMetadata.getSubscriptionExecutorProvider();
         }
+        CallOptions callOptions = optionsMetadata != null ? optionsMetadata.getCallOptions() : null;
+        if (callOptions != null) {
+            return resolveRequestExecuteWithOptions(metadata.getRequest(), host, callOptions,
+                    providerCallbacks, providerThrowablePredicate, providerExecutorProvider);
+        }
         return resolveRequestExecuteWithOptions(metadata.getRequest(), host, metadata.getMethod(),
                 providerCallbacks, providerThrowablePredicate, providerExecutorProvider);
     }
@@ -219,8 +227,8 @@ public class RequestCaller {
                                                      @Nullable AsyncPubSubExecutorProvider providerExecutorProvider) {
 
         return resolveRequestExecuteWithOptions
-                (() -> request.execute(host), request, callOptions, providerCallbacks, providerThrowablePredicate,
-                        providerExecutorProvider);
+                (() -> request.execute(host), request, host, callOptions, providerCallbacks,
+                        providerThrowablePredicate, providerExecutorProvider);
     }
 
     /**
@@ -248,9 +256,42 @@ public class RequestCaller {
                                                      @Nullable List<Callback> providerCallbacks,
                                                      @Nullable ThrowablePredicate providerThrowablePredicate,
                                                      @Nullable AsyncPubSubExecutorProvider providerExecutorProvider) {
+        return resolveRequestExecuteWithOptions(supplier, request, null, callOptions, providerCallbacks,
+                providerThrowablePredicate, providerExecutorProvider);
+    }
+
+    /**
+     * Same as {@code resolveRequestExecuteWithOptions(Supplier, Request, CallOptions, List,
+     * ThrowablePredicate, AsyncPubSubExecutorProvider)}, with the real server hostname of
+     * the request, used in the fingerprint of the call when identical calls are coalesced.
+     *
+     * @param supplier                   the provider function of the {@code Response} object.
+     * @param request                    input {@code Request} obj.
+     * @param host                       the real server hostname.
+     * @param callOptions                {@code CallOptions} annotation.
+     * @param providerCallbacks          the provider {@code Callback} instances.
+     * @param providerThrowablePredicate the provider {@code ThrowablePredicate} instance.
+     * @param providerExecutorProvider   the provider {@code AsyncPubSubExecutorProvider} instance.
+     * @return The {@code Response} object obtained from the response
+     * returns empty when {@link CallOptions#callbackClass()} exists.
+     * @throws NullPointerException if input request or {@code CallOptions} is {@literal null}.
+     * @since 1.0.2
+     */
+    @Nullable
+    public Response resolveRequestExecuteWithOptions(@NotNull Supplier<Response> supplier,
+                                                     @NotNull Request<?> request,
+                                                     @Nullable String host,
+                                                     @NotNull CallOptions callOptions,
+                                                     @Nullable List<Callback> providerCallbacks,
+                                                     @Nullable ThrowablePredicate providerThrowablePredicate,
+                                                     @Nullable AsyncPubSubExecutorProvider providerExecutorProvider) {
         int retryTimes = getRetryTimesByOptions(callOptions);
         long retryIntervalMilliseconds = getRetryIntervalMillisecondsByOptions(callOptions);
         String name = request.matchSdkEnum().name();
+        RetryPolicy retryPolicy = getRetryPolicyByOptions(name, callOptions);
+        supplier = guardSupplier(supplier, getBulkheadByOptions(name, callOptions),
+                getCircuitBreakerByOptions(name, callOptions));
+        supplier = coalesceSupplier(supplier, getSingleFlightByOptions(name, callOptions, request), request, host);
         ThrowablePredicate throwablePredicate = ifProviderOrGetting(providerThrowablePredicate,
                 () -> getThrowablePredicateByOptions(name, callOptions));
         boolean whenResponseNonSuccessRetry = getWhenResponseNonSuccessRetryOptions(callOptions);
@@ -258,12 +299,83 @@ public class RequestCaller {
         Callback callback = getCallbackByOptions(name, callOptions);
         AsyncPubSubExecutorProvider pubSubExecutorProvider = ifProviderOrGetting(providerExecutorProvider,
                 () -> getAsyncPubSubExecutorProviderByOptions(name, callOptions));
-        return resolveRequestExecuteWithOptions(supplier, retryTimes, retryIntervalMilliseconds,
+        return resolveRequestExecuteWithOptions(supplier, retryTimes, retryIntervalMilliseconds, retryPolicy,
                 throwablePredicate, whenResponseNonSuccessRetry, whenResponseNonSuccessFinalThrow, request,
                 fusionOrProviderCallbacks(callback, providerCallbacks, getOnlyUseProvidedCallback(callOptions)),
                 pubSubExecutorProvider);
     }
 
+    /**
+     * Guard each execution of the supplier, including retries, by the given bulkhead
+     * and circuit breaker: a refused execution throws {@link CallNotPermittedException}
+     * without calling the supplier, and the outcome and duration of an accepted one
+     * are recorded by the circuit breaker.
+     *
+     * @param supplier       the provider function of the {@code Response} object.
+     * @param bulkhead       the bulkhead of the sdk, may be {@literal null}.
+     * @param circuitBreaker the circuit breaker of the sdk, may be {@literal null}.
+     * @return the guarded provider function.
+     * @since 1.0.2
+     */
+    protected Supplier<Response> guardSupplier(@NotNull Supplier<Response> supplier,
+                                               @Nullable Bulkhead bulkhead,
+                                               @Nullable CircuitBreaker circuitBreaker) {
+        if (bulkhead == null && circuitBreaker == null) {
+            return supplier;
+        }
+        return () -> {
+            if (bulkhead != null) bulkhead.acquire();
+            try {
+                if (circuitBreaker == null) {
+                    return supplier.get();
+                }
+                circuitBreaker.acquirePermission();
+                long start = System.nanoTime();
+                Response response;
+                try {
+                    response = supplier.get();
+                } catch (RuntimeException | Error e) {
+                    circuitBreaker.onResult(System.nanoTime() - start, false);
+                    throw e;
+                }
+                circuitBreaker.onResult(System.nanoTime() - start, response != null && response.isSuccess());
+                return response;
+            } finally {
+                if (bulkhead != null) bulkhead.release();
+            }
+        };
+    }
+
+    /**
+     * Coalesce each execution of the supplier, including retries, with the identical
+     * executions in flight through the given single flight: the first one calls the
+     * supplier, the others wait for it and share its outcome, without going through
+     * the bulkhead and circuit breaker again. The fingerprint of the call is made once
+     * for all its executions; a {@link CoalescingCapable} request without coalescing
+     * key is not coalesced.
+     *
+     * @param supplier     the provider function of the {@code Response} object.
+     * @param singleFlight the single flight of the sdk, may be {@literal null}.
+     * @param request      input {@code Request} obj.
+     * @param host         the real server hostname.
+     * @return the coalesced provider function.
+     * @since 1.0.2
+     */
+    protected Supplier<Response> coalesceSupplier(@NotNull Supplier<Response> supplier,
+                                                  @Nullable SingleFlight singleFlight,
+                                                  @NotNull Request<?> request,
+                                                  @Nullable String host) {
+        if (singleFlight == null) {
+            return supplier;
+        }
+        Object coalescingKey = SingleFlight.coalescingKey(request);
+        if (coalescingKey == null && request instanceof CoalescingCapable) {
+            return supplier;
+        }
+        Object fingerprint = SingleFlight.fingerprint(request, host, coalescingKey);
+        return () -> singleFlight.execute(fingerprint, request, coalescingKey, supplier);
+    }
+
     private static <T> T ifProviderOrGetting(T providerInstance, Supplier<T> instanceSupplier) {
         if (providerInstance != null) {
             return providerInstance;
@@ -312,6 +424,42 @@ public class RequestCaller {
                                                      @NotNull Request<?> request,
                                                      @Nullable List<Callback> callbacks,
                                                      @Nullable AsyncPubSubExecutorProvider pubSubExecutorProvider) {
+        return resolveRequestExecuteWithOptions(supplier, retryTimes, retryIntervalMilliseconds, null,
+                throwablePredicate, whenResponseNonSuccessRetry, whenResponseNonSuccessFinalThrow, request,
+                callbacks, pubSubExecutorProvider);
+    }
+
+    /**
+     * Same as {@code resolveRequestExecuteWithOptions(Supplier, int, long, ThrowablePredicate,
+     * boolean, boolean, Request, List, AsyncPubSubExecutorProvider)}, with a {@code RetryPolicy}
+     * growing, limiting and spreading the delay between retries.
+     *
+     * @param supplier                         the provider function of the {@code Response} object.
+     * @param retryTimes                       the retry times.
+     * @param retryIntervalMilliseconds        the first retry interval milliseconds.
+     * @param retryPolicy                      the retry delay strategy, {@literal null} means fixed interval.
+     * @param throwablePredicate               the Instance {@code ThrowablePredicate}.
+     * @param whenResponseNonSuccessRetry      when response nonSuccess retry boolean mark.
+     * @param whenResponseNonSuccessFinalThrow when response nonSuccess final throw exception mark.
+     * @param request                          input {@code Request} obj.
+     * @param callbacks                        the provider {@code Callback} instances.
+     * @param pubSubExecutorProvider           the {@code AsyncPubSubExecutorProvider} instance.
+     * @return The {@code Response} object obtained from the response
+     * returns empty when {@link CallOptions#callbackClass()} exists.
+     * @throws NullPointerException if input args is {@literal null}.
+     * @since 1.0.2
+     */
+    @Nullable
+    public Response resolveRequestExecuteWithOptions(@NotNull Supplier<Response> supplier,
+                                                     int retryTimes,
+                                                     long retryIntervalMilliseconds,
+                                                     @Nullable RetryPolicy retryPolicy,
+                                                     @Nullable ThrowablePredicate throwablePredicate,
+                                                     boolean whenResponseNonSuccessRetry,
+                                                     boolean whenResponseNonSuccessFinalThrow,
+                                                     @NotNull Request<?> request,
+                                                     @Nullable List<Callback> callbacks,
+                                                     @Nullable AsyncPubSubExecutorProvider pubSubExecutorProvider) {
         boolean hasCallbacks = CollectionUtils.isNotEmpty(callbacks);
         FlowableCallerBuilder<Response> builder;
         if (pubSubExecutorProvider != null) {
@@ -325,6 +473,7 @@ public class RequestCaller {
         builder.runBody(supplier)
                 .retryTimes(retryTimes)
                 .retryIntervalMilliseconds(retryIntervalMilliseconds)
+                .retryPolicy(retryPolicy)
                 .customRetryExceptionPredicate(throwablePredicate);
         if (whenResponseNonSuccessRetry) builder.whenResponseNonSuccessRetry();
         if (whenResponseNonSuccessFinalThrow) builder.whenResponseNonSuccessFinalThrow();
@@ -473,6 +622,86 @@ public class RequestCaller {
         return callOptions.retryIntervalMilliseconds();
     }
 
+    /**
+     * Get the retry delay strategy by annotation {@code CallOptions}, with the retry
+     * budget shared by the current sdk name when one is configured.
+     *
+     * @param name        current sdk name.
+     * @param callOptions {@code CallOptions} annotation.
+     * @return The retry delay strategy.
+     * @since 1.0.2
+     */
+    protected RetryPolicy getRetryPolicyByOptions(String name, CallOptions callOptions) {
+        RetryBudget budget = null;
+        if (callOptions.retryBudgetRatio() > 0) {
+            budget = RetryBudget.of(name, callOptions.retryBudgetRatio(), callOptions.retryBudgetCapacity());
+        }
+        if (callOptions.retryBackoffMultiplier() <= 1 && callOptions.retryMaxIntervalMilliseconds() <= 0
+                && callOptions.retryJitterFactor() <= 0 && callOptions.retryMaxElapsedMilliseconds() <= 0
+                && budget == null) {
+            return RetryPolicy.FIXED;
+        }
+        return new RetryPolicy(callOptions.retryBackoffMultiplier(), callOptions.retryMaxIntervalMilliseconds(),
+                callOptions.retryJitterFactor(), callOptions.retryMaxElapsedMilliseconds(), budget);
+    }
+
+    /**
+     * Get the circuit breaker shared by the current sdk name by annotation {@code CallOptions}.
+     *
+     * @param name        current sdk name.
+     * @param callOptions {@code CallOptions} annotation.
+     * @return The circuit breaker, {@literal null} when no rate threshold is configured.
+     * @since 1.0.2
+     */
+    @Nullable
+    protected CircuitBreaker getCircuitBreakerByOptions(String name, CallOptions callOptions) {
+        if (callOptions.circuitBreakerFailureRateThreshold() <= 0
+                && callOptions.circuitBreakerSlowCallRateThreshold() <= 0) {
+            return null;
+        }
+        return CircuitBreaker.of(name, callOptions.circuitBreakerFailureRateThreshold(),
+                callOptions.circuitBreakerSlowCallRateThreshold(),
+                callOptions.circuitBreakerSlowCallDurationMilliseconds(),
+                callOptions.circuitBreakerSlidingWindowSize(), callOptions.circuitBreakerMinimumNumberOfCalls(),
+                callOptions.circuitBreakerWaitDurationInOpenStateMilliseconds(),
+                callOptions.circuitBreakerPermittedCallsInHalfOpenState());
+    }
+
+    /**
+     * Get the bulkhead shared by the current sdk name by annotation {@code CallOptions}.
+     *
+     * @param name        current sdk name.
+     * @param callOptions {@code CallOptions} annotation.
+     * @return The bulkhead, {@literal null} when no concurrent calls limit is configured.
+     * @since 1.0.2
+     */
+    @Nullable
+    protected Bulkhead getBulkheadByOptions(String name, CallOptions callOptions) {
+        if (callOptions.bulkheadMaxConcurrentCalls() <= 0) {
+            return null;
+        }
+        return Bulkhead.of(name, callOptions.bulkheadMaxConcurrentCalls(), callOptions.bulkheadMaxWaitMilliseconds());
+    }
+
+    /**
+     * Get the single flight shared by the current sdk name by annotation {@code CallOptions}.
+     *
+     * @param name        current sdk name.
+     * @param callOptions {@code CallOptions} annotation.
+     * @param request     input {@code Request} obj.
+     * @return The single flight, {@literal null} when identical calls of the request are
+     * not coalesced.
+     * @since 1.0.2
+     */
+    @Nullable
+    protected SingleFlight getSingleFlightByOptions(String name, CallOptions callOptions, Request<?> request) {
+        if (!callOptions.coalesceIdenticalCalls()
+                || !SingleFlight.isCoalescible(request, callOptions.coalesceNonIdempotentCalls())) {
+            return null;
+        }
+        return SingleFlight.of(name);
+    }
+
     /**
      * Get an Instance {@code ThrowablePredicate} by annotation {@code CallOptions}.
      *
@@ -89,5 +89,17 @@ public interface RequestExecuteMetadata {
          */
         @Nullable
         AsyncPubSubExecutorProvider getSubscriptionExecutorProvider();
+
+        /**
+         * Retrieves the {@code CallOptions} already resolved from the method or its declaring
+         * class, so that the caller does not have to look up the annotation for each request.
+         *
+         * @return The resolved {@code CallOptions}, {@literal null} means not resolved.
+         * @since 1.0.2
+         */
+        @Nullable
+        default CallOptions getCallOptions() {
+            return null;
+        }
     }
 }
@@ -61,6 +61,18 @@ public interface ResponseFlowableCallerElement<R extends Response> {
      */
     long getRetryIntervalMilliseconds();
 
+    /**
+     * Return the strategy growing, limiting and spreading the delay between retries
+     * based on {@link #getRetryIntervalMilliseconds()}.
+     *
+     * @return the retry delay strategy, {@link RetryPolicy#FIXED} by default.
+     * @since 1.0.2
+     */
+    @NotNull
+    default RetryPolicy getRetryPolicy() {
+        return RetryPolicy.FIXED;
+    }
+
     /**
      * Return the flag indicating whether to retry when the response is unsuccessful.
      * If true, attempt to retry when the response does not meet the success criteria.
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.core.caller;
+
+import top.osjf.sdk.core.support.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket limiting the retries of a sdk to a ratio of its calls, so that
+ * a failing remote is not flooded with retries on top of the regular traffic.
+ *
+ * <p>Each call deposits {@code ratio} token and each retry withdraws one token, the
+ * balance never exceeding {@code capacity} tokens, which is also the initial balance
+ * allowing retries before enough calls have been made.
+ *
+ * <p>Budgets are shared by name (usually {@code SdkEnum#name()}), the first
+ * registration of a name decides its ratio and capacity.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+public final class RetryBudget {
+
+    /*** The precision of the token balance, in fractions of a token.*/
+    private static final long SCALE = 1000;
+
+    /*** The budgets registered by name.*/
+    private static final Map<String, RetryBudget> BUDGETS = new ConcurrentHashMap<>();
+
+    /*** Tokens deposited by each call, in fractions of {@link #SCALE}.*/
+    private final long deposit;
+
+    /*** The maximum balance, in fractions of {@link #SCALE}.*/
+    private final long capacity;
+
+    /*** The current balance, in fractions of {@link #SCALE}.*/
+    private final AtomicLong balance;
+
+    /**
+     * Constructs a {@code RetryBudget}.
+     *
+     * @param ratio    the retries allowed for each call, for example {@code 0.2} allows
+     *                 one retry every five calls.
+     * @param capacity the maximum number of retries that can be saved up.
+     */
+    public RetryBudget(double ratio, int capacity) {
+        this.deposit = (long) (Math.max(ratio, 0) * SCALE);
+        this.capacity = Math.max(capacity, 1) * SCALE;
+        this.balance = new AtomicLong(this.capacity);
+    }
+
+    /**
+     * Get the budget registered by the given name, registering it with the given
+     * ratio and capacity when it does not exist.
+     *
+     * @param name     the name of the budget, usually {@code SdkEnum#name()}.
+     * @param ratio    {@link #RetryBudget(double, int)}.
+     * @param capacity {@link #RetryBudget(double, int)}.
+     * @return the budget of the name.
+     */
+    public static RetryBudget of(@NotNull String name, double ratio, int capacity) {
+        RetryBudget budget = BUDGETS.get(name);
+        if (budget == null) {
+            budget = BUDGETS.computeIfAbsent(name, n -> new RetryBudget(ratio, capacity));
+        }
+        return budget;
+    }
+
+    /**
+     * Record a call, adding its share of tokens to the budget.
+     */
+    public void deposit() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= capacity) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(current + deposit, capacity)));
+    }
+
+    /**
+     * Try to take a token for a retry.
+     *
+     * @return {@code true} if the retry is allowed by the budget.
+     */
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+}
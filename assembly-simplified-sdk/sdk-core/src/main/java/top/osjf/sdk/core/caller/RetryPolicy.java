@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.core.caller;
+
+import top.osjf.sdk.core.support.Nullable;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The retry delay strategy of {@link AbstractFlowableCaller}, applied on top of
+ * {@link ResponseFlowableCallerElement#getRetryIntervalMilliseconds()} which is
+ * used as the first delay.
+ *
+ * <p>The delay of the n-th retry is {@code interval * multiplier^(n-1)}, capped by
+ * {@link #getMaxIntervalMilliseconds()} and then spread by a random jitter of
+ * {@code ±jitterFactor}. A retry whose delay would exceed the total time allowed
+ * by {@link #getMaxElapsedMilliseconds()} is not attempted, nor is one refused by
+ * the {@link RetryBudget} of the sdk.
+ *
+ * <p>The delays are waited for by resubscribing on a timer instead of sleeping the
+ * calling thread, see {@link AbstractFlowableCaller#createFlowable()}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+public final class RetryPolicy {
+
+    /*** Fixed interval between retries without limit, the behavior of callers built without a policy.*/
+    public static final RetryPolicy FIXED = new RetryPolicy(1, 0, 0, 0, null);
+
+    /*** The factor by which the delay grows after each retry, a value less than 1 is treated as 1.*/
+    private final double multiplier;
+
+    /*** The upper limit of a single delay, non-positive means no limit.*/
+    private final long maxIntervalMilliseconds;
+
+    /*** The random range of the delay as a fraction of itself, between 0 and 1.*/
+    private final double jitterFactor;
+
+    /*** The total time allowed from the first call to the last retry, non-positive means no limit.*/
+    private final long maxElapsedMilliseconds;
+
+    /*** The budget shared by all calls of a sdk, {@literal null} means no budget.*/
+    @Nullable
+    private final RetryBudget budget;
+
+    /**
+     * Constructs a {@code RetryPolicy} with the given delay strategy.
+     *
+     * @param multiplier              the factor by which the delay grows after each retry.
+     * @param maxIntervalMilliseconds the upper limit of a single delay, non-positive means no limit.
+     * @param jitterFactor            the random range of the delay as a fraction of itself.
+     * @param maxElapsedMilliseconds  the total time allowed for retries, non-positive means no limit.
+     * @param budget                  the retry budget, may be {@literal null}.
+     */
+    public RetryPolicy(double multiplier, long maxIntervalMilliseconds, double jitterFactor,
+                       long maxElapsedMilliseconds, @Nullable RetryBudget budget) {
+        this.multiplier = Math.max(multiplier, 1);
+        this.maxIntervalMilliseconds = maxIntervalMilliseconds;
+        this.jitterFactor = Math.min(Math.max(jitterFactor, 0), 1);
+        this.maxElapsedMilliseconds = maxElapsedMilliseconds;
+        this.budget = budget;
+    }
+
+    /**
+     * Compute the delay before the given retry.
+     *
+     * @param intervalMilliseconds the delay before the first retry.
+     * @param attempt              the number of the retry, starting at 1.
+     * @return the delay in milliseconds, {@code 0} means retry immediately.
+     */
+    public long computeDelayMilliseconds(long intervalMilliseconds, int attempt) {
+        if (intervalMilliseconds <= 0) {
+            return 0;
+        }
+        double delay = intervalMilliseconds;
+        if (multiplier > 1) {
+            delay *= Math.pow(multiplier, attempt - 1);
+        }
+        if (maxIntervalMilliseconds > 0) {
+            delay = Math.min(delay, maxIntervalMilliseconds);
+        }
+        if (jitterFactor > 0) {
+            delay *= 1 + jitterFactor * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        }
+        return (long) Math.min(delay, Long.MAX_VALUE);
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public long getMaxIntervalMilliseconds() {
+        return maxIntervalMilliseconds;
+    }
+
+    public double getJitterFactor() {
+        return jitterFactor;
+    }
+
+    public long getMaxElapsedMilliseconds() {
+        return maxElapsedMilliseconds;
+    }
+
+    @Nullable
+    public RetryBudget getBudget() {
+        return budget;
+    }
+}
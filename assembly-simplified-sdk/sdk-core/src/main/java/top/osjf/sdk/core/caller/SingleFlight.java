@@ -0,0 +1,269 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.core.caller;
+
+import top.osjf.sdk.core.Request;
+import top.osjf.sdk.core.Response;
+import top.osjf.sdk.core.support.NotNull;
+import top.osjf.sdk.core.support.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A single flight coalescing the concurrent identical calls of a sdk: while a call
+ * is in flight, the identical calls wait for it and share its {@code Response} or
+ * its exception instead of being executed again.
+ *
+ * <p>Calls are identical when their {@link #fingerprint(Request, String) fingerprint},
+ * made of the request type, url, parameter and headers, are equal. Coalescing is only
+ * suitable for idempotent calls whose shared {@code Response} is not modified by its
+ * callers: the calls of a {@link CoalescingCapable} request which is not
+ * {@link CoalescingCapable#isIdempotent() idempotent} are only coalesced when opted in
+ * by {@link CallOptions#coalesceNonIdempotentCalls()}.
+ *
+ * <p>Single flights are shared by name (usually {@code SdkEnum#name()}).
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+public final class SingleFlight {
+
+    /*** The single flights registered by name.*/
+    private static final Map<String, SingleFlight> SINGLE_FLIGHTS = new ConcurrentHashMap<>();
+
+    /*** The call led by the current thread while its supplier is executed.*/
+    private static final ThreadLocal<LeadingCall> LEADING_CALL = new ThreadLocal<>();
+
+    /*** The name of the single flight.*/
+    private final String name;
+
+    /*** The calls in flight by fingerprint.*/
+    private final Map<Object, CompletableFuture<Response>> inFlightCalls = new ConcurrentHashMap<>();
+
+    /*** The number of calls which shared a call in flight.*/
+    private final AtomicLong hits = new AtomicLong();
+
+    /*** The number of calls which were executed.*/
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructs a {@code SingleFlight}.
+     *
+     * @param name the name of the single flight.
+     */
+    public SingleFlight(@NotNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the single flight registered by the given name, registering it when it
+     * does not exist.
+     *
+     * @param name the name of the single flight, usually {@code SdkEnum#name()}.
+     * @return the single flight of the name.
+     */
+    public static SingleFlight of(@NotNull String name) {
+        SingleFlight singleFlight = SINGLE_FLIGHTS.get(name);
+        if (singleFlight == null) {
+            singleFlight = SINGLE_FLIGHTS.computeIfAbsent(name, SingleFlight::new);
+        }
+        return singleFlight;
+    }
+
+    /**
+     * Get the single flight registered by the given name.
+     *
+     * @param name the name of the single flight.
+     * @return the single flight of the name, {@literal null} if not registered.
+     */
+    @Nullable
+    public static SingleFlight get(String name) {
+        return SINGLE_FLIGHTS.get(name);
+    }
+
+    /**
+     * Return whether the identical calls of the given request may be coalesced, when it
+     * is idempotent or when non-idempotent calls are coalesced.
+     *
+     * @param request                the request of the call.
+     * @param coalesceNonIdempotent  whether the calls of a non-idempotent request are coalesced.
+     * @return whether the identical calls of the request may be coalesced.
+     */
+    public static boolean isCoalescible(@NotNull Request<?> request, boolean coalesceNonIdempotent) {
+        return coalesceNonIdempotent || !(request instanceof CoalescingCapable)
+                || ((CoalescingCapable) request).isIdempotent();
+    }
+
+    /**
+     * Return the key identifying the parameter of the given request in the fingerprint
+     * of a call: {@link CoalescingCapable#getCoalescingKey()} when the request has this
+     * capability, {@link Request#getRequestParam()} otherwise.
+     *
+     * @param request the request of the call.
+     * @return the key of the parameter, {@literal null} when the calls of a
+     * {@code CoalescingCapable} request may not be coalesced.
+     */
+    @Nullable
+    public static Object coalescingKey(@NotNull Request<?> request) {
+        return request instanceof CoalescingCapable ? ((CoalescingCapable) request).getCoalescingKey()
+                : request.getRequestParam();
+    }
+
+    /**
+     * Return the fingerprint of the call of the given request, equal for the calls
+     * sending the same request type to the same url with the same parameter and headers.
+     *
+     * <p>The parameter is identified by {@link #coalescingKey(Request)}.
+     *
+     * @param request the request of the call.
+     * @param host    the real server hostname.
+     * @return the fingerprint of the call.
+     */
+    public static Object fingerprint(@NotNull Request<?> request, @Nullable String host) {
+        return fingerprint(request, host, coalescingKey(request));
+    }
+
+    /**
+     * Return the fingerprint of the call of the given request, with the key of its
+     * parameter already given by {@link #coalescingKey(Request)}.
+     *
+     * @param request       the request of the call.
+     * @param host          the real server hostname.
+     * @param coalescingKey the key of the parameter of the request.
+     * @return the fingerprint of the call.
+     */
+    public static Object fingerprint(@NotNull Request<?> request, @Nullable String host,
+                                     @Nullable Object coalescingKey) {
+        return Arrays.asList(request.getClass(), request.getUrl(host).getUrl(), coalescingKey, request.getHeadMap());
+    }
+
+    /**
+     * Return the coalescing key of the given request when the current thread is executing
+     * the call it leads, so that the parameter serialized for the key is not serialized
+     * again for the body.
+     *
+     * @param request the request of the call.
+     * @return the coalescing key of the led call of the request, {@literal null} when the
+     * current thread is not leading a call of this request instance.
+     */
+    @Nullable
+    public static Object getLeadingCoalescingKey(@NotNull Request<?> request) {
+        LeadingCall leadingCall = LEADING_CALL.get();
+        return leadingCall != null && leadingCall.request == request ? leadingCall.coalescingKey : null;
+    }
+
+    /**
+     * Execute the call of the given fingerprint, or wait for the identical call in
+     * flight and return its {@code Response}.
+     *
+     * @param fingerprint the fingerprint of the call.
+     * @param supplier    the provider function of the {@code Response} object.
+     * @return the {@code Response} of the executed or shared call.
+     * @throws RuntimeException the exception of the executed or shared call.
+     */
+    public Response execute(@NotNull Object fingerprint, @NotNull Supplier<Response> supplier) {
+        return execute(fingerprint, null, null, supplier);
+    }
+
+    /**
+     * Execute the call of the given fingerprint, or wait for the identical call in
+     * flight and return its {@code Response}.
+     *
+     * <p>While the supplier of a led call is executed, the given coalescing key is
+     * available from {@link #getLeadingCoalescingKey(Request)} for the given request
+     * on the current thread only.
+     *
+     * @param fingerprint   the fingerprint of the call.
+     * @param request       the request of the call, may be {@literal null}.
+     * @param coalescingKey the coalescing key of the request, may be {@literal null}.
+     * @param supplier      the provider function of the {@code Response} object.
+     * @return the {@code Response} of the executed or shared call.
+     * @throws RuntimeException the exception of the executed or shared call.
+     */
+    public Response execute(@NotNull Object fingerprint, @Nullable Request<?> request,
+                            @Nullable Object coalescingKey, @NotNull Supplier<Response> supplier) {
+        CompletableFuture<Response> call = new CompletableFuture<>();
+        CompletableFuture<Response> inFlightCall = inFlightCalls.putIfAbsent(fingerprint, call);
+        if (inFlightCall != null) {
+            hits.incrementAndGet();
+            try {
+                return inFlightCall.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw e;
+            }
+        }
+        misses.incrementAndGet();
+        LeadingCall previousLeadingCall = LEADING_CALL.get();
+        if (request != null) {
+            LEADING_CALL.set(new LeadingCall(request, coalescingKey));
+        }
+        try {
+            Response response = supplier.get();
+            call.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (request != null) {
+                if (previousLeadingCall != null) LEADING_CALL.set(previousLeadingCall);
+                else LEADING_CALL.remove();
+            }
+            inFlightCalls.remove(fingerprint, call);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getInFlightCalls() {
+        return inFlightCalls.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * A request and its coalescing key, for the call led by a thread.
+     */
+    private static final class LeadingCall {
+
+        private final Request<?> request;
+
+        private final Object coalescingKey;
+
+        LeadingCall(Request<?> request, Object coalescingKey) {
+            this.request = request;
+            this.coalescingKey = coalescingKey;
+        }
+    }
+}
@@ -52,6 +52,18 @@ public abstract class AbstractClient<R extends Response> implements Client<R>, J
 
     private static final long serialVersionUID = -6931093876869566743L;
 
+    /*** Whether the class of a client keeps the default {@link #normal()} logging. */
+    private static final ClassValue<Boolean> DEFAULT_NORMAL_LOGGING = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("normal").getDeclaringClass() == AbstractClient.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     /*** Default slf4j logger with current {@link Client} impl */
     protected final Logger LOGGER = LoggerFactory.getLogger(getClass());
 
@@ -189,6 +201,19 @@ public abstract class AbstractClient<R extends Response> implements Client<R>, J
         return LOGGER::info;
     }
 
+    /**
+     * {@inheritDoc}
+     * Default use {@link Logger#isInfoEnabled()} with the default {@link #normal()}; when
+     * {@code normal()} is overridden, its logs are always considered enabled unless this
+     * method is overridden along with it.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isNormalEnabled() {
+        return !DEFAULT_NORMAL_LOGGING.get(getClass()) || LOGGER.isInfoEnabled();
+    }
+
     /**
      * {@inheritDoc}
      * Default use {@link Logger#error}.
@@ -22,6 +22,7 @@ import top.osjf.sdk.core.Response;
 import top.osjf.sdk.core.URL;
 import top.osjf.sdk.core.util.ReflectUtil;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 /**
@@ -78,6 +79,31 @@ public class ClientExecutors {
         }
     }
 
+    /**
+     * Execute client requests asynchronously using the host name and request object.
+     * <p>
+     * The client is retrieved and bound in the same way as {@link #executeRequestClient(String, Request)},
+     * and released as soon as the request has been handed over to {@link Client#requestAsync()}.
+     *
+     * @param host    The name of the link to the host SDK.
+     * @param request object, containing API parameters.
+     * @param <R>     is a generic type that responds to data.
+     * @return Returns the {@code CompletableFuture} of a response object of the specified type,
+     * completed exceptionally with {@link ClientRequestFailedException} if the request cannot
+     * be handed over.
+     * @since 1.0.2
+     */
+    public static <R extends Response> CompletableFuture<R> executeRequestClientAsync(String host,
+                                                                                      Request<R> request) {
+        try (Client<R> client = getClient(request.getUrl(host), request)) {
+            return client.requestAsync();
+        } catch (Throwable e) {
+            CompletableFuture<R> future = new CompletableFuture<>();
+            future.completeExceptionally(new ClientRequestFailedException(e));
+            return future;
+        }
+    }
+
     /**
      * Retrieve a {@code Client} instance using the given URL and request object.
      * <p>
@@ -16,23 +16,29 @@
 
 package top.osjf.sdk.core.client;
 
+import com.alibaba.fastjson2.JSONException;
+import com.alibaba.fastjson2.JSONReader;
 import top.osjf.sdk.core.DefaultErrorResponse;
 import top.osjf.sdk.core.Request;
 import top.osjf.sdk.core.Response;
 import top.osjf.sdk.core.exception.DataConvertException;
 import top.osjf.sdk.core.support.NotNull;
-import top.osjf.sdk.core.util.CollectionUtils;
+import top.osjf.sdk.core.support.Nullable;
 import top.osjf.sdk.core.util.JSONUtil;
+import top.osjf.sdk.core.util.StringUtils;
 
-import java.lang.reflect.Type;
-import java.util.List;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * JSON response converter interface
  * <p>
  * This interface is used to define a universal mechanism that can convert JSON
  * formatted response strings into specific response objects.
- * It extends from a more general response converter interface ({@link ResponseConvert})
+ * It extends from a more general response converter interface ({@link StreamResponseConvert})
  * and is specifically designed to handle JSON formatted responses.
  * Classes that implement this interface will be able to parse JSON responses from
  * network requests or other sources and convert them into the specific response
@@ -46,15 +52,21 @@ import java.util.List;
  * Overview of Conversion Logic:
  * <ul>
  * <li>Firstly, obtain the expected response type based on the request object ({@code Request<R>})</li>
- * <li>Then, check if the response string ({@code responsiveStr}) is a valid JSON object. If so,
- * attempt to parse it into an object of the expected type</li>
- * <li>If the response string is a valid JSON array, parse it into a list of objects of the
+ * <li>Then, if the response ({@code responsiveStr} or the response stream) is a JSON object,
+ * parse it into an object of the expected type</li>
+ * <li>If the response is a JSON array, parse it into a list of objects of the
  * expected type. If the list is not empty, take the first element in the list as the response object;
  * If the list is empty, create an empty object of the corresponding type</li>
- * <li>If the response string is neither a valid JSON object nor a valid JSON array, treat it as
- * an error response and attempt to parse it into a default error response object</li>
+ * <li>If the response is neither a valid JSON object nor a valid JSON array, treat it as
+ * an error response and attempt to parse it into a default error response object; a valid
+ * JSON string which cannot be mapped to the expected type throws its {@code JSONException}</li>
  * </ul>
  * <p>
+ * Since 1.0.2, the response is read in a single pass of a fastjson2 {@link JSONReader} by
+ * {@link JSONUtil#readObjectOrFirstElement}, rather than being validated as an object, then
+ * as an array, before being parsed, and it can be read from the bytes of the response
+ * by {@link #convertToResponse(Request, InputStream, Charset)}.
+ * <p>
  * This interface is mainly used for network request libraries or any scenario that requires
  * converting JSON format data into Java objects.
  *
@@ -62,7 +74,7 @@ import java.util.List;
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.2
  */
-public interface JSONResponseConvert<R extends Response> extends ResponseConvert<R> {
+public interface JSONResponseConvert<R extends Response> extends StreamResponseConvert<R> {
 
     /**
      * {@inheritDoc}
@@ -74,23 +86,73 @@ public interface JSONResponseConvert<R extends Response> extends ResponseConvert
      */
     @Override
     default R convertToResponse(@NotNull Request<R> request, @NotNull String responseStr) {
-        R response;
-        Type responseType = request.getResponseType();
-        if (JSONUtil.isValidObject(responseStr)) {
-            response = JSONUtil.parseObject(responseStr, responseType);
-        } else if (JSONUtil.isValidArray(responseStr)) {
-            List<R> responses = JSONUtil.parseArray(responseStr, responseType);
-            if (CollectionUtils.isNotEmpty(responses)) {
-                response = responses.get(0);
-            } else {
-                response = JSONUtil.toEmptyObj(responseType);
+        JSONException cause = null;
+        if (StringUtils.isNotBlank(responseStr)) {
+            try (JSONReader reader = JSONReader.of(responseStr)) {
+                return JSONUtil.readObjectOrFirstElement(reader, request.getResponseType());
+            } catch (JSONException e) {
+                //A well-formed json that cannot be mapped to the response type is not an error response.
+                if (JSONUtil.isValidObjectOrArray(responseStr)) {
+                    throw e;
+                }
+                cause = e;
+            }
+        }
+        return DefaultErrorResponse
+                .parseErrorResponse(new DataConvertException
+                                ("JSON", "The [ " + responseStr + " ] not a valid json string"
+                                        + (cause != null ? " : " + cause.getMessage() : ""), cause),
+                        DefaultErrorResponse.ErrorType.SDK, request);
+    }
+
+    /**
+     * {@inheritDoc}
+     * By default, the bytes of the stream are buffered, and the UTF-8 encoded ones are read
+     * by fastjson2 without decoding them to characters first, the other ones being decoded
+     * and converted by {@link #convertToResponse(Request, String)}. As with the string, bytes
+     * of a valid JSON object or array which cannot be mapped to the expected type throw their
+     * {@code JSONException} rather than being treated as an error response.
+     *
+     * @param request        {@inheritDoc}
+     * @param responseStream {@inheritDoc}
+     * @param charset        {@inheritDoc}
+     * @return {@inheritDoc}
+     * @since 1.0.2
+     */
+    @Override
+    default R convertToResponse(@NotNull Request<R> request, @NotNull InputStream responseStream,
+                                @Nullable Charset charset) {
+        if (charset == null) {
+            charset = StandardCharsets.UTF_8;
+        }
+        byte[] bytes;
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = responseStream.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            bytes = out.toByteArray();
+        } catch (IOException e) {
+            return DefaultErrorResponse
+                    .parseErrorResponse(new DataConvertException
+                                    ("JSON", "The response stream cannot be read : " + e.getMessage(), e),
+                            DefaultErrorResponse.ErrorType.SDK, request);
+        }
+        if (!StandardCharsets.UTF_8.equals(charset)) {
+            return convertToResponse(request, new String(bytes, charset));
+        }
+        try (JSONReader reader = JSONReader.of(bytes, 0, bytes.length, charset)) {
+            return JSONUtil.readObjectOrFirstElement(reader, request.getResponseType());
+        } catch (JSONException e) {
+            //A well-formed json that cannot be mapped to the response type is not an error response.
+            if (JSONUtil.isValidObjectOrArray(bytes)) {
+                throw e;
             }
-        } else {
-            response = DefaultErrorResponse
+            return DefaultErrorResponse
                     .parseErrorResponse(new DataConvertException
-                            ("JSON", "The [ " + responseStr + " ] not a valid json string"),
+                                    ("JSON", "The response not a valid json stream : " + e.getMessage(), e),
                             DefaultErrorResponse.ErrorType.SDK, request);
         }
-        return response;
     }
 }
@@ -48,6 +48,20 @@ public interface LoggerConsumer {
     @NotNull
     BiConsumer<String, Object[]> normal();
 
+    /**
+     * Return whether the logs of {@link #normal()} are written, so that callers
+     * can skip building their arguments when they are not.
+     *
+     * <p>It is similar to the `Logger#isInfoEnabled()` method in SLF4J, by default
+     * {@code true}.
+     *
+     * @return {@code true} if the logs of {@link #normal()} are written.
+     * @since 1.0.2
+     */
+    default boolean isNormalEnabled() {
+        return true;
+    }
+
     /**
      * SDK exception-exclusive log item, used for logging exceptions that occur
      * within the user's SDK.
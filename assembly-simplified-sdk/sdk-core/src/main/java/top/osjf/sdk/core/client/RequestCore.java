@@ -20,6 +20,8 @@ import top.osjf.sdk.core.Request;
 import top.osjf.sdk.core.Response;
 import top.osjf.sdk.core.support.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * The request method function interface, {@link #request()}, is the
  * entry point for the request.
@@ -50,4 +52,26 @@ public interface RequestCore<R extends Response> extends RequestBinder<R> {
      */
     @NotNull
     R request();
+
+    /**
+     * Return a {@code CompletableFuture} completed with the response body {@code Response}
+     * of this {@code Client} request, the binding rules are the same as {@link #request()}.
+     *
+     * <p>The bound {@code Request} and URL are read before this method returns, they can be
+     * released as soon as it has returned. The {@code Client} having a non-blocking transport
+     * should rewrite this method, the default executes {@link #request()} in place.
+     *
+     * @return the {@code CompletableFuture} of the response body {@code Response} of this request.
+     * @since 1.0.2
+     */
+    @NotNull
+    default CompletableFuture<R> requestAsync() {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        try {
+            future.complete(request());
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
 }
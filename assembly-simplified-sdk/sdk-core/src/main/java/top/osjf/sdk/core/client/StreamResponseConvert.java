@@ -0,0 +1,55 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.core.client;
+
+import top.osjf.sdk.core.Request;
+import top.osjf.sdk.core.Response;
+import top.osjf.sdk.core.support.NotNull;
+import top.osjf.sdk.core.support.Nullable;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+/**
+ * A {@link ResponseConvert} that is also able to convert the response data read
+ * from an {@code InputStream}, without first decoding it to a string.
+ *
+ * <p>For large responses, decoding the bytes of the response directly into the
+ * response object avoids the copy of the whole response as characters and lets
+ * the converter read it in a single pass.
+ *
+ * @param <R> Implement a unified response class data type.
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @see JSONResponseConvert
+ * @since 1.0.2
+ */
+public interface StreamResponseConvert<R extends Response> extends ResponseConvert<R> {
+
+    /**
+     * Convert the response type {@link Request} of the request class record
+     * to the specified {@link Response} by reading the data of the API
+     * response from the given stream.
+     *
+     * @param request        {@link Request} class model parameters of API.
+     * @param responseStream the stream of the data for API response.
+     * @param charset        the charset of the data, UTF-8 used when {@literal null}.
+     * @return The converted response model data is implemented in
+     * {@link Response} and cannot be {@literal null}.
+     */
+    R convertToResponse(@NotNull Request<R> request, @NotNull InputStream responseStream,
+                        @Nullable Charset charset);
+}
@@ -37,4 +37,17 @@ public class DataConvertException extends SdkIllegalArgumentException {
     public DataConvertException(String conventType, String message) {
         super(conventType + " : " + message);
     }
+
+    /**
+     * Creates a {@code DataConvertException} by given need convent type,
+     * the error message description and the cause {@code Throwable}.
+     *
+     * @param conventType the need convent type,such as "Json".
+     * @param message     the convert error message.
+     * @param cause       the cause {@code Throwable}.
+     * @since 1.0.2
+     */
+    public DataConvertException(String conventType, String message, Throwable cause) {
+        super(conventType + " : " + message, cause);
+    }
 }
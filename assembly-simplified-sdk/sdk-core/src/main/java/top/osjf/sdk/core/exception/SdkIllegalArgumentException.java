@@ -35,4 +35,16 @@ public class SdkIllegalArgumentException extends SdkException {
     public SdkIllegalArgumentException(String s) {
         super(s);
     }
+
+    /**
+     * Creates a {@code SdkIllegalArgumentException} by given message and
+     * the cause {@code Throwable}.
+     *
+     * @param message the detail error message.
+     * @param cause   the cause {@code Throwable}.
+     * @since 1.0.2
+     */
+    public SdkIllegalArgumentException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
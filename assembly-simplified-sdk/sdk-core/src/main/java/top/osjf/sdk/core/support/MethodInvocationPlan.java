@@ -0,0 +1,514 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.core.support;
+
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Single;
+import top.osjf.sdk.core.*;
+import top.osjf.sdk.core.caller.*;
+import top.osjf.sdk.core.exception.UnknownRequestParameterException;
+import top.osjf.sdk.core.exception.UnknownResponseParameterException;
+import top.osjf.sdk.core.util.ArrayUtils;
+import top.osjf.sdk.core.util.ReflectUtil;
+import top.osjf.sdk.core.util.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * The invocation plan of a SDK proxy method, everything that
+ * {@link SdkSupport#createRequest} and {@link SdkSupport#resolveResponse} derive
+ * from the {@code Method} alone is resolved once when the plan is created:
+ * <ul>
+ *     <li>The role of each parameter, that is the order of {@link RequestConstructor},
+ *     the name and mode of {@link RequestSetter}, and the {@link Subscription} and
+ *     {@link Observe} markers.</li>
+ *     <li>The {@code Request} type of annotation {@link RequestType}.</li>
+ *     <li>The {@link CallOptions} found on the method or its declaring class.</li>
+ *     <li>The return type of the method and whether it is a {@code Response}, for the
+ *     asynchronous return types {@code CompletableFuture}, {@code CompletionStage},
+ *     {@code Single} and {@code Flowable} the type of their element.</li>
+ * </ul>
+ *
+ * <p>The constructor of the {@code Request} and the {@code MethodHandle} of each
+ * setter depend on the runtime types of the arguments, so they are resolved at
+ * the first call and kept as long as the following calls bring the same types.
+ *
+ * <p>A plan is immutable apart from those lazily resolved handles, it is thread
+ * safe and is meant to be cached by the proxy callback for the life cycle of
+ * the proxy, see {@code ComprehensiveDelegationCallback}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+@SuppressWarnings("rawtypes")
+public final class MethodInvocationPlan {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Method method;
+
+    /*** The return type of the method, or the element type of its asynchronous type.*/
+    private final Class<?> returnType;
+
+    private final boolean returnResponse;
+
+    private final AsyncType asyncType;
+
+    @Nullable
+    private final Class<? extends Request> annotatedRequestType;
+
+    @Nullable
+    private final CallOptions callOptions;
+
+    private final ParameterRole[] roles;
+
+    /*** The indexes of required constructor parameters, sorted by their order.*/
+    private final int[] constructorIndexes;
+
+    private final int[] constructorOrders;
+
+    private final boolean hasSetters;
+
+    @Nullable
+    private volatile Instantiator instantiator;
+
+    /**
+     * Creates the plan of the given method.
+     *
+     * @param method the proxy method.
+     * @throws NullPointerException if the input method is {@literal null}.
+     */
+    public MethodInvocationPlan(@NotNull Method method) {
+        this.method = method;
+        this.asyncType = AsyncType.of(method.getReturnType());
+        this.returnType = asyncType == AsyncType.NONE ? method.getReturnType() :
+                AsyncType.elementType(method.getGenericReturnType());
+        this.returnResponse = Response.class.isAssignableFrom(returnType);
+        RequestType requestType = method.getAnnotation(RequestType.class);
+        this.annotatedRequestType = requestType != null ? requestType.value() : null;
+        CallOptions callOptions = method.getAnnotation(CallOptions.class);
+        if (callOptions == null) {
+            callOptions = method.getDeclaringClass().getAnnotation(CallOptions.class);
+        }
+        this.callOptions = callOptions;
+        Parameter[] parameters = method.getParameters();
+        this.roles = new ParameterRole[parameters.length];
+        List<int[]> constructorParameters = new ArrayList<>();
+        boolean hasSetters = false;
+        for (int i = 0; i < parameters.length; i++) {
+            roles[i] = new ParameterRole(parameters[i]);
+            if (roles[i].constructor) constructorParameters.add(new int[]{roles[i].constructorOrder, i});
+            hasSetters |= roles[i].setterName != null;
+        }
+        //Stable sort, the parameters of the same order stay in the declared order.
+        constructorParameters.sort((a, b) -> Integer.compare(a[0], b[0]));
+        this.constructorIndexes = new int[constructorParameters.size()];
+        this.constructorOrders = new int[constructorParameters.size()];
+        for (int i = 0; i < constructorParameters.size(); i++) {
+            constructorOrders[i] = constructorParameters.get(i)[0];
+            constructorIndexes[i] = constructorParameters.get(i)[1];
+        }
+        this.hasSetters = hasSetters;
+    }
+
+    /**
+     * @return the proxy method of this plan.
+     */
+    @NotNull
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the {@code CallOptions} of the method or its declaring class, {@literal null}
+     * if neither is annotated.
+     */
+    @Nullable
+    public CallOptions getCallOptions() {
+        return callOptions;
+    }
+
+    /**
+     * Create the {@code Request} of a call with the resolved parameter roles, the
+     * rules are the same as {@link SdkSupport#createRequest}.
+     *
+     * @param args exec target method args.
+     * @return the metadata of the request execution.
+     * @throws UnknownRequestParameterException If the {@code Request} instance found from the parameter
+     *                                          is not unique or the {@code Request} type is not found
+     *                                          from dynamic annotations or parameter specific interfaces.
+     */
+    @SuppressWarnings("unchecked")
+    public RequestExecuteMetadata createRequest(@Nullable Object[] args) {
+        Request<?> request = null;
+        List<Callback> callbacks = new ArrayList<>();
+        ThrowablePredicate throwablePredicate = null;
+        AsyncPubSubExecutorProvider executorProvider = null;
+        Executor subscriptionExecutor = null;
+        Executor observeExecutor = null;
+        if (args == null) {
+            request = instantiate(requiredAnnotatedRequestType(), null, 0);
+        } else {
+            for (Object arg : args) {
+                if (arg instanceof Request) {
+                    if (request != null) throw new UnknownRequestParameterException(); //Only one request can exist.
+                    request = (Request<?>) arg;
+                }
+            }
+            Class<? extends Request> requestType = null;
+            for (int i = 0; i < args.length; i++) {
+                Object arg = args[i];
+                if (arg == null || arg instanceof Request) continue;
+                if (arg instanceof RequestTypeSupplier && request == null) {
+                    Class<? extends Request> rt = ((RequestTypeSupplier) arg).getRequestType();
+                    if (requestType == null) {
+                        requestType = rt;
+                    } else if (requestType != rt) {
+                        throw new UnknownRequestParameterException();
+                    }
+                }
+                if (arg instanceof Callback) {
+                    callbacks.add((Callback) arg);
+                } else if (arg instanceof Collection) {
+                    if (((Collection<?>) arg).stream().allMatch(c -> c instanceof Callback)) {
+                        callbacks.addAll((Collection<? extends Callback>) arg);
+                    }
+                } else if (arg.getClass().isArray()) {
+                    if (Callback.class.isAssignableFrom(arg.getClass().getComponentType())) {
+                        for (Object o : ArrayUtils.toArray(arg)) {
+                            callbacks.add((Callback) o);
+                        }
+                    }
+                }
+                if (throwablePredicate == null && arg instanceof ThrowablePredicate) {
+                    throwablePredicate = (ThrowablePredicate) arg;
+                }
+                if (executorProvider == null && arg instanceof AsyncPubSubExecutorProvider) {
+                    executorProvider = (AsyncPubSubExecutorProvider) arg;
+                }
+                if (executorProvider == null
+                        && (subscriptionExecutor == null || observeExecutor == null)
+                        && arg instanceof Executor) {
+                    if (roles[i].subscription) {
+                        subscriptionExecutor = (Executor) arg;
+                    } else if (roles[i].observe) {
+                        observeExecutor = (Executor) arg;
+                    }
+                }
+            }
+            if (request == null) {
+                if (requestType == null) requestType = requiredAnnotatedRequestType();
+                //Arrange the construction parameters in the order provided by the annotations,
+                // of the same order the last one given wins.
+                Object[] constructorArgs = new Object[constructorIndexes.length];
+                int size = 0;
+                int lastOrder = 0;
+                for (int i = 0; i < constructorIndexes.length; i++) {
+                    Object arg = args[constructorIndexes[i]];
+                    if (arg == null) continue;
+                    if (size > 0 && constructorOrders[i] == lastOrder) {
+                        constructorArgs[size - 1] = arg;
+                    } else {
+                        constructorArgs[size++] = arg;
+                        lastOrder = constructorOrders[i];
+                    }
+                }
+                request = instantiate(requestType, constructorArgs, size);
+            }
+            //Finally, perform set support assignment on the instantiated request instance.
+            if (hasSetters) {
+                for (int i = 0; i < args.length; i++) {
+                    if (args[i] != null && roles[i].setterName != null) roles[i].set(request, args[i]);
+                }
+            }
+        }
+        return new SdkSupport.ParameterResolveRequestExecuteMetadata(request, method, callOptions,
+                callbacks, throwablePredicate, executorProvider != null ? executorProvider :
+                (subscriptionExecutor != null || observeExecutor != null) ?
+                        new SdkSupport.AsyncPubSubExecutorProviderImpl(subscriptionExecutor, observeExecutor)
+                        : null);
+    }
+
+    /**
+     * Resolve the return value of the call from the {@code Response}, the rules are
+     * the same as {@link SdkSupport#resolveResponse}.
+     *
+     * @param response response instance.
+     * @return The required return object.
+     * @throws UnknownResponseParameterException If the data does not match the return
+     *                                           type of the method.
+     */
+    @Nullable
+    public Object resolveResponse(@Nullable Response response) {
+        if (asyncType == AsyncType.NONE) return resolveValue(response);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        try {
+            future.complete(resolveValue(response));
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+        return adaptFuture(() -> future);
+    }
+
+    /**
+     * @return if {@code true} the method returns {@code CompletableFuture}, {@code CompletionStage},
+     * {@code Single} or {@code Flowable}, whose element is resolved from the {@code Response}.
+     */
+    public boolean isAsync() {
+        return asyncType != AsyncType.NONE;
+    }
+
+    /**
+     * Adapt the asynchronous execution of the request to the return type of the method,
+     * the element of which is resolved from the {@code Response} in the same way as
+     * {@link #resolveResponse}.
+     *
+     * <p>A {@code CompletableFuture} or {@code CompletionStage} starts the execution at
+     * once, while {@code Single} and {@code Flowable} are cold and start it when they are
+     * subscribed. A {@literal null} element completes the {@code Flowable} empty and fails
+     * the {@code Single} with {@link java.util.NoSuchElementException}.
+     *
+     * @param execution the asynchronous execution of the request.
+     * @return The required return object.
+     * @throws IllegalStateException if the method is not {@link #isAsync()}.
+     */
+    @NotNull
+    public Object resolveAsyncResponse(@NotNull Supplier<? extends CompletableFuture<? extends Response>> execution) {
+        if (asyncType == AsyncType.NONE) {
+            throw new IllegalStateException(method + " is not asynchronous");
+        }
+        return adaptFuture(() -> execution.get().thenApply(this::resolveValue));
+    }
+
+    //Adapt the future of the resolved element to the asynchronous return type.
+    private Object adaptFuture(Supplier<CompletableFuture<Object>> future) {
+        switch (asyncType) {
+            case SINGLE:
+                return Maybe.defer(() -> Maybe.fromCompletionStage(future.get())).toSingle();
+            case FLOWABLE:
+                return Maybe.defer(() -> Maybe.fromCompletionStage(future.get())).toFlowable();
+            default:
+                return future.get();
+        }
+    }
+
+    //Resolve the value, or the element of the asynchronous type, from the response.
+    @Nullable
+    private Object resolveValue(@Nullable Response response) {
+        if (response == null) return null;
+        if (returnResponse) return response;
+        return SdkSupport.resolveResponseData(returnType, response);
+    }
+
+    private Class<? extends Request> requiredAnnotatedRequestType() {
+        if (annotatedRequestType == null) {
+            throw new UnknownRequestParameterException();
+        }
+        return annotatedRequestType;
+    }
+
+    private Request<?> instantiate(Class<? extends Request> requestType, Object[] args, int size) {
+        Class<?>[] argTypes = new Class[size];
+        for (int i = 0; i < size; i++) {
+            argTypes[i] = args[i].getClass();
+        }
+        Instantiator instantiator = this.instantiator;
+        if (instantiator == null || !instantiator.matches(requestType, argTypes)) {
+            instantiator = new Instantiator(requestType, argTypes);
+            this.instantiator = instantiator;
+        }
+        return instantiator.newInstance(size == 0 ? null : size == args.length ? args : Arrays.copyOf(args, size));
+    }
+
+    /**
+     * The asynchronous return types recognized by the plan.
+     */
+    private enum AsyncType {
+
+        NONE, FUTURE, SINGLE, FLOWABLE;
+
+        static AsyncType of(Class<?> returnType) {
+            if (returnType == CompletableFuture.class || returnType == CompletionStage.class) return FUTURE;
+            if (returnType == Single.class) return SINGLE;
+            if (returnType == Flowable.class) return FLOWABLE;
+            return NONE;
+        }
+
+        //The raw class of the type argument, Object if it cannot be resolved.
+        static Class<?> elementType(Type genericReturnType) {
+            if (genericReturnType instanceof ParameterizedType) {
+                Type elementType = ((ParameterizedType) genericReturnType).getActualTypeArguments()[0];
+                if (elementType instanceof ParameterizedType) {
+                    elementType = ((ParameterizedType) elementType).getRawType();
+                }
+                if (elementType instanceof Class) {
+                    return (Class<?>) elementType;
+                }
+            }
+            return Object.class;
+        }
+    }
+
+    /**
+     * The role of a method parameter.
+     */
+    private static final class ParameterRole {
+
+        final boolean constructor;
+
+        final int constructorOrder;
+
+        @Nullable
+        final String setterName;
+
+        final boolean setterUseReflect;
+
+        final boolean subscription;
+
+        final boolean observe;
+
+        @Nullable
+        volatile Setter setter;
+
+        ParameterRole(Parameter parameter) {
+            RequestConstructor requestConstructor = parameter.getAnnotation(RequestConstructor.class);
+            this.constructor = requestConstructor != null && requestConstructor.required();
+            this.constructorOrder = constructor ? requestConstructor.order() : 0;
+            RequestSetter requestSetter = parameter.getAnnotation(RequestSetter.class);
+            if (requestSetter != null) {
+                String name = requestSetter.name();
+                this.setterName = StringUtils.isBlank(name) ? parameter.getName() : name;
+                this.setterUseReflect = requestSetter.useReflect();
+            } else {
+                this.setterName = null;
+                this.setterUseReflect = false;
+            }
+            this.subscription = parameter.isAnnotationPresent(Subscription.class);
+            this.observe = parameter.isAnnotationPresent(Observe.class);
+        }
+
+        void set(Request<?> request, Object arg) {
+            Setter setter = this.setter;
+            if (setter == null || setter.requestType != request.getClass() || setter.argType != arg.getClass()) {
+                setter = new Setter(request.getClass(), arg.getClass(), setterName, setterUseReflect);
+                this.setter = setter;
+            }
+            setter.set(request, arg);
+        }
+    }
+
+    /**
+     * The setter of a {@code Request} type resolved for an argument type, either
+     * a public field or a {@code MethodHandle} of the set method.
+     */
+    private static final class Setter {
+
+        final Class<?> requestType;
+
+        final Class<?> argType;
+
+        @Nullable
+        final Field field;
+
+        @Nullable
+        final MethodHandle handle;
+
+        Setter(Class<?> requestType, Class<?> argType, String name, boolean useReflect) {
+            this.requestType = requestType;
+            this.argType = argType;
+            try {
+                if (useReflect) {
+                    Field field = requestType.getField(name);
+                    ReflectUtil.makeAccessible(field);
+                    this.field = field;
+                    this.handle = null;
+                } else {
+                    Method setMethod = SdkSupport.findSetMethod(requestType, name, argType);
+                    ReflectUtil.makeAccessible(setMethod);
+                    this.field = null;
+                    this.handle = MethodHandles.lookup().unreflect(setMethod).asType(SETTER_TYPE);
+                }
+            } catch (NoSuchFieldException e) {
+                throw new IllegalStateException("set field failed ", e);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("invoke method failed ", e);
+            }
+        }
+
+        void set(Request<?> request, Object arg) {
+            if (field != null) {
+                ReflectUtil.setFieldValue(request, field, arg);
+                return;
+            }
+            try {
+                handle.invokeExact((Object) request, arg);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("invoke method failed ", e);
+            }
+        }
+    }
+
+    /**
+     * The constructor of a {@code Request} type resolved for the argument types.
+     */
+    private static final class Instantiator {
+
+        final Class<?> requestType;
+
+        final Class<?>[] argTypes;
+
+        final Constructor<?> constructor;
+
+        Instantiator(Class<? extends Request> requestType, Class<?>[] argTypes) {
+            this.requestType = requestType;
+            this.argTypes = argTypes;
+            try {
+                this.constructor = ReflectUtil.getConstructor(requestType, argTypes);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Method not found : " + e.getMessage(), e);
+            }
+            ReflectUtil.makeAccessible(constructor);
+        }
+
+        boolean matches(Class<?> requestType, Class<?>[] argTypes) {
+            return this.requestType == requestType && Arrays.equals(this.argTypes, argTypes);
+        }
+
+        Request<?> newInstance(@Nullable Object[] args) {
+            try {
+                return (Request<?>) (args == null ? constructor.newInstance() : constructor.newInstance(args));
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalArgumentException("Construction method instantiation execution failed : "
+                        + e.getMessage(), e);
+            }
+        }
+    }
+}
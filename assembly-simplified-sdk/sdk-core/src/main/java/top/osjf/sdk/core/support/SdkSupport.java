@@ -24,8 +24,8 @@ import top.osjf.sdk.core.util.*;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
-import java.util.stream.Collectors;
 
 /**
  * SDK Support class for handling the creation of request objects and conversion
@@ -60,6 +60,20 @@ public abstract class SdkSupport {
      */
     protected static final Map<String, Method> METHOD_CACHE = new SynchronizedWeakHashMap<>();
 
+    /*** cache for the {@link MethodInvocationPlan} of the methods given to {@link #createRequest}
+     * and {@link #resolveResponse}, kept by the declaring class of the methods so that a plan,
+     * which references its method, does not prevent the class and its classloader from being
+     * unloaded.
+     * @since 1.0.2
+     * */
+    private static final ClassValue<Map<Method, MethodInvocationPlan>> PLAN_CACHE
+            = new ClassValue<Map<Method, MethodInvocationPlan>>() {
+        @Override
+        protected Map<Method, MethodInvocationPlan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     /*** cache for dynamically obtain the type of response class.
      * Since 1.0.2,cache modification to weak references, freeing up memory in appropriate
      * places to prevent memory leaks.
@@ -78,19 +92,21 @@ public abstract class SdkSupport {
      *
      * @since 1.0.2
      */
-    private static class ParameterResolveRequestExecuteMetadata implements RequestExecuteMetadata {
+    static class ParameterResolveRequestExecuteMetadata implements RequestExecuteMetadata {
         @NotNull Request<?> request;
         @NotNull Method method;
         @Nullable OptionsMetadata optionsMetadata;
         ParameterResolveRequestExecuteMetadata(@NotNull Request<?> request,
                                                @NotNull Method method,
+                                               @Nullable CallOptions callOptions,
                                                @Nullable List<Callback> callbacks,
                                                @Nullable ThrowablePredicate throwablePredicate,
                                                @Nullable AsyncPubSubExecutorProvider executorProvider) {
             this.request = request;
             this.method = method;
-            if (RequestCaller.condition(method)) {
-                optionsMetadata = new ParameterResolveOptionsMetadata(callbacks, throwablePredicate, executorProvider);
+            if (callOptions != null) {
+                optionsMetadata = new ParameterResolveOptionsMetadata(callOptions, callbacks, throwablePredicate,
+                        executorProvider);
             }
         }
         @Override @NotNull public Request<?> getRequest() {
@@ -109,12 +125,15 @@ public abstract class SdkSupport {
          * @since 1.0.2
          */
         static class ParameterResolveOptionsMetadata implements OptionsMetadata {
+            @NotNull CallOptions callOptions;
             @Nullable List<Callback> callbacks;
             @Nullable ThrowablePredicate throwablePredicate;
             @Nullable AsyncPubSubExecutorProvider executorProvider;
-            ParameterResolveOptionsMetadata(@Nullable List<Callback> callbacks,
+            ParameterResolveOptionsMetadata(@NotNull CallOptions callOptions,
+                                            @Nullable List<Callback> callbacks,
                                             @Nullable ThrowablePredicate throwablePredicate,
                                             @Nullable AsyncPubSubExecutorProvider executorProvider) {
+                this.callOptions = callOptions;
                 this.callbacks = callbacks;
                 this.throwablePredicate = throwablePredicate;
                 this.executorProvider = executorProvider;
@@ -128,6 +147,9 @@ public abstract class SdkSupport {
             @Nullable @Override public AsyncPubSubExecutorProvider getSubscriptionExecutorProvider() {
                 return executorProvider;
             }
+            @NotNull @Override public CallOptions getCallOptions() {
+                return callOptions;
+            }
         }
     }
 
@@ -135,7 +157,7 @@ public abstract class SdkSupport {
      * A simple implementation class for encapsulating and obtaining {@link AsyncPubSubExecutorProvider}.
      * @since 1.0.2
      */
-    private static class AsyncPubSubExecutorProviderImpl implements AsyncPubSubExecutorProvider {
+    static class AsyncPubSubExecutorProviderImpl implements AsyncPubSubExecutorProvider {
         @Nullable Executor subscriptionExecutor;
         @Nullable Executor observeExecutor;
         AsyncPubSubExecutorProviderImpl(@Nullable Executor subscriptionExecutor,
@@ -200,158 +222,25 @@ public abstract class SdkSupport {
      * @see Observe
      */
     public static RequestExecuteMetadata createRequest(@NotNull Method method, @Nullable Object[] args) {
-        Request<?> request = null; //create request.
-        List<Callback> callbacks = new ArrayList<>(); //parameter callbacks.
-        ThrowablePredicate throwablePredicate = null;
-        AsyncPubSubExecutorProvider executorProvider = null;
-        Executor subscriptionExecutor = null;
-        Executor observeExecutor = null;
-        Map<String, Pair<Boolean, Object>> setterMetadata = new HashMap<>(); //support setter data.
-        /*
-         *  When the parameter does not provide the type of Request,
-         *  find the annotation for the method.
-         * */
-        if (args == null) {
-            RequestType requestType = method.getAnnotation(RequestType.class);
-            if (requestType == null) {
-                throw new UnknownRequestParameterException();
-            }
-            request = ReflectUtil.instantiates(requestType.value());
-        } else {
-            //First, filter to see if there are any Request instances.
-            List<Object> requestInstances = Arrays.stream(args)
-                    .filter(r -> r instanceof Request).collect(Collectors.toList());
-            if (CollectionUtils.isNotEmpty(requestInstances)) {
-                if (requestInstances.size() > 1)
-                    throw new UnknownRequestParameterException(); //Only one request can exist.
-                request = (Request<?>) requestInstances.get(0);
-            }
-            //the reflection creation type when there is no request for the parameter.
-            Class<? extends Request> requestType = null;
-            //support for RequestConstructor annotation as constructor args.
-            //Arrange the construction parameter groups in the order provided by the annotations.
-            SortedMap<Integer, Object> constructorArgs = null;
-            if (request == null) constructorArgs = new TreeMap<>();//Initialize only when no instance exists.
-            Parameter[] parameters = method.getParameters();
-            for (int i = 0; i < args.length; i++) {
-                Object arg = args[i];
-                if (arg == null) continue; // null filter continue.
-                if (arg instanceof Request) continue;//It has been resolved in the above steps.
-                /*
-                 * Support type 1: Retrieve the type of Request from a specific interface
-                 * and support subsequent parsing.
-                 */
-                if (arg instanceof RequestTypeSupplier && request == null) {
-                    Class<? extends Request> rt = ((RequestTypeSupplier) arg).getRequestType();
-                    if (requestType == null) {
-                        requestType = rt;
-                    } else {
-                        if (!Objects.equals(requestType, rt)) {
-                            throw new UnknownRequestParameterException();
-                        }
-                    }
-                }
-                Parameter parameter = parameters[i];
-                /*
-                 * Support type 2: Callback type parameter parsing, supporting object instance,
-                 * collection, array and other types for subsequent parsing.
-                 */
-                if (arg instanceof Callback) {
-                    callbacks.add((Callback) arg);
-                } else if (arg instanceof Collection) {
-                    //2-arg-collection-1: all of them are Callback elements.
-                    if (((Collection<?>) arg).stream().allMatch(c -> c instanceof Callback)) {
-                        callbacks.addAll((Collection<? extends Callback>) arg);
-                    }
-                } else if (arg.getClass().isArray()) {
-                    //2-arg-array-1: all of them are Callback elements.
-                    if (Callback.class.isAssignableFrom(arg.getClass().getComponentType())) {
-                        for (Object o : ArrayUtils.toArray(arg)) {
-                            callbacks.add((Callback) o);
-                        }
-                    }
-                }
-                /*
-                 * Support type 3: Support annotation RequestConstructor parsing, provided that
-                 * the parameter array does not have a Request instance.
-                 */
-                if (request == null && parameter.isAnnotationPresent(RequestConstructor.class)) {
-                    RequestConstructor requestConstructor = parameter.getAnnotation(RequestConstructor.class);
-                    if (requestConstructor.required()) {
-                        constructorArgs.put(requestConstructor.order(), arg);
-                    }
-                }
-                /*
-                 * Support type 4:Support annotation RequestSetter parsing, perform set related
-                 * assignment after obtaining the Request instance.
-                 */
-                if (parameter.isAnnotationPresent(RequestSetter.class)) {
-                    RequestSetter requestSetter = parameter.getAnnotation(RequestSetter.class);
-                    String name = requestSetter.name();
-                    if (StringUtils.isBlank(name)) name = parameter.getName();
-                    setterMetadata.put(name, Pair.create(requestSetter.useReflect(), arg));
-                }
-                /*
-                 * Support type 5:Support parsing the first {@code ThrowablePredicate} instance
-                 * object from parameters.
-                 */
-                if (throwablePredicate == null && arg instanceof ThrowablePredicate) {
-                    throwablePredicate = (ThrowablePredicate) arg;
-                }
-                /*
-                 * Support type 6:Support parsing the first {@code AsyncPubSubExecutorProvider} instance
-                 * object from the parameters, or the subscriber {@code Executor} instance object marked
-                 * with annotation {@code Subscription}, or the observer {@code Executor} instance object
-                 * marked with annotation {@code Observe}.
-                 */
-                if (executorProvider == null && arg instanceof AsyncPubSubExecutorProvider) {
-                    executorProvider = (AsyncPubSubExecutorProvider) arg;
-                }
-                if (executorProvider == null
-                        && (subscriptionExecutor == null || observeExecutor == null)
-                        && arg instanceof Executor) {
-                    if (parameter.isAnnotationPresent(Subscription.class)) {
-                        subscriptionExecutor = (Executor) arg;
-                    } else if (parameter.isAnnotationPresent(Observe.class)) {
-                        observeExecutor = (Executor) arg;
-                    }
-                }
-            }
-            //After the loop ends, initialize using the type based on whether
-            // the request instance exists.
-            if (request == null) {
-                if (requestType == null) {
-                    RequestType annotation = method.getAnnotation(RequestType.class);
-                    if (annotation == null) {
-                        throw new UnknownRequestParameterException();
-                    }
-                    requestType = annotation.value();
-                }
-                if (constructorArgs.isEmpty()) {
-                    request = ReflectUtil.instantiates(requestType);
-                } else {
-                    request = ReflectUtil.instantiates(requestType,
-                            constructorArgs.values().toArray());
-                }
-            }
-        }
-        //Finally, perform set support assignment on the instantiated request instance.
-        if (!setterMetadata.isEmpty()) {
-            for (Map.Entry<String, Pair<Boolean, Object>> entry : setterMetadata.entrySet()) {
-                String name = entry.getKey();
-                Pair<Boolean, Object> assignmentInfo = entry.getValue();
-                Object value = assignmentInfo.getSecond();
-                if (assignmentInfo.getFirst()) {
-                    ReflectUtil.setFieldValue(request, name, value);
-                } else {
-                    executeSetMethod(request, request.getClass(), name, value);
-                }
-            }
-        }
-        return new ParameterResolveRequestExecuteMetadata(request, method, callbacks, throwablePredicate,
-                executorProvider != null ? executorProvider :
-                        (subscriptionExecutor != null || observeExecutor != null) ?
-                                new AsyncPubSubExecutorProviderImpl(subscriptionExecutor, observeExecutor) : null);
+        return createRequest(getInvocationPlan(method), args);
+    }
+
+    /**
+     * Create the request of a call of a method with the {@link MethodInvocationPlan}
+     * of the method, which callers calling it repeatedly keep, such as the proxy
+     * callback, rather than {@link #createRequest(Method, Object[])} looking the plan
+     * up at every call.
+     *
+     * @param plan the {@code MethodInvocationPlan} of the target method.
+     * @param args exec target method args.
+     * @return the metadata of the request execution.
+     * @throws NullPointerException             If the input plan is {@literal null}.
+     * @throws UnknownRequestParameterException If the {@code Request} instance cannot be created,
+     *                                          see {@link #createRequest(Method, Object[])}.
+     * @since 1.0.2
+     */
+    public static RequestExecuteMetadata createRequest(@NotNull MethodInvocationPlan plan, @Nullable Object[] args) {
+        return plan.createRequest(args);
     }
 
     /**
@@ -360,6 +249,11 @@ public abstract class SdkSupport {
      * extends to the {@link ResponseData} and {@link InspectionResponseData}
      * interfaces.
      *
+     * <p>Since 1.0.2, the method returning {@code CompletableFuture}, {@code CompletionStage},
+     * {@code Single} or {@code Flowable} gets the data resolved with the type argument of its
+     * return type wrapped into that type, see {@link MethodInvocationPlan#resolveAsyncResponse}
+     * for the non-blocking execution of such methods.
+     *
      * @param method   target method.
      * @param response response instance.
      * @return The required return object.
@@ -372,42 +266,42 @@ public abstract class SdkSupport {
      */
     @Nullable
     public static Object resolveResponse(@NotNull Method method, @Nullable Response response) {
-        if (response == null) return null;
-        Class<?> returnType = method.getReturnType();
-
-        //First, check if the return value type of the proxy method
-        // is a subclass of Response. If so, return the current Response directly.
-        if (Response.class.isAssignableFrom(returnType)) {
-            return response;
-        }
-        Object data = null;
-        if (response instanceof ResponseData) {
-            ResponseData responseData = (ResponseData) response;
-            if (responseData.inspectionResponseResult()) {
-                //If the type value is specified, the data returned
-                // when the request is successful is obtained.
-                if (responseData.isSuccess()) {
-                    data = responseData.getData();
-                } else {
-                    //The default data returned when a customization request fails.
-                    if (responseData instanceof InspectionResponseData) {
-                        data = ((InspectionResponseData) responseData).failedSeatData();
-                    }
-                }
-                //On the contrary, directly return the data result.
-            } else responseData.getData();
-        }
+        return resolveResponse(getInvocationPlan(method), response);
+    }
 
-        //If the final data is not empty, then verify whether
-        // it is of the type returned by the proxy method.
-        if (data != null) {
-            if (!returnType.isInstance(data)) {
-                throw new UnknownResponseParameterException
-                        (new ClassCastException(data.getClass().getName() + " cannot be cast to " + returnType.getName()));
-            }
+    /**
+     * Return the {@link MethodInvocationPlan} of the given method, created at the first
+     * request and cached for the following ones with the declaring class of the method.
+     *
+     * @param method target method.
+     * @return the {@code MethodInvocationPlan} of the method.
+     * @throws NullPointerException if the input method is {@literal null}.
+     * @since 1.0.2
+     */
+    public static MethodInvocationPlan getInvocationPlan(@NotNull Method method) {
+        Map<Method, MethodInvocationPlan> plans = PLAN_CACHE.get(method.getDeclaringClass());
+        MethodInvocationPlan plan = plans.get(method);
+        if (plan == null) {
+            plan = plans.computeIfAbsent(method, MethodInvocationPlan::new);
         }
+        return plan;
+    }
 
-        return data;
+    /**
+     * Resolve the return value of a call of a method with the {@link MethodInvocationPlan}
+     * of the method, see {@link #createRequest(MethodInvocationPlan, Object[])}.
+     *
+     * @param plan     the {@code MethodInvocationPlan} of the target method.
+     * @param response response instance.
+     * @return The required return object.
+     * @throws NullPointerException              if the input plan is {@literal null}.
+     * @throws UnknownResponseParameterException If the response and the method types are inconsistent,
+     *                                           see {@link #resolveResponse(Method, Response)}.
+     * @since 1.0.2
+     */
+    @Nullable
+    public static Object resolveResponse(@NotNull MethodInvocationPlan plan, @Nullable Response response) {
+        return plan.resolveResponse(response);
     }
 
     /**
@@ -510,24 +404,59 @@ public abstract class SdkSupport {
 
     /*  ################################### Internal assistance methods. ###################################  */
 
-    //find and exec set method.
-    static void executeSetMethod(Request<?> request, Class<? extends Request> requestType,
-                                 String filedName, Object arg) {
+    //Resolve the data of a response for a return type other than Response.
+    //First, the plan checks if the return value type of the proxy method
+    // is a subclass of Response. If so, it returns the current Response directly.
+    static Object resolveResponseData(Class<?> returnType, Response response) {
+        Object data = null;
+        if (response instanceof ResponseData) {
+            ResponseData responseData = (ResponseData) response;
+            if (responseData.inspectionResponseResult()) {
+                //If the type value is specified, the data returned
+                // when the request is successful is obtained.
+                if (responseData.isSuccess()) {
+                    data = responseData.getData();
+                } else {
+                    //The default data returned when a customization request fails.
+                    if (responseData instanceof InspectionResponseData) {
+                        data = ((InspectionResponseData) responseData).failedSeatData();
+                    }
+                }
+                //On the contrary, directly return the data result.
+            } else data = responseData.getData();
+        }
+
+        //If the final data is not empty, then verify whether
+        // it is of the type returned by the proxy method.
+        if (data != null) {
+            if (!returnType.isInstance(data)) {
+                throw new UnknownResponseParameterException
+                        (new ClassCastException(data.getClass().getName() + " cannot be cast to " + returnType.getName()));
+            }
+        }
+
+        return data;
+    }
+
+    //find the set method of the field accepting the argument type.
+    static Method findSetMethod(Class<?> requestType, String filedName, Class<?> argType) {
         final String setMethodName = "set" + Character.toUpperCase(filedName.charAt(0))
                 + filedName.substring(1);
         final String cacheKey = requestType.getName() + "@" + setMethodName;
-        Method setMethod = METHOD_CACHE.computeIfAbsent(cacheKey, s -> {
-            for (Method method : ReflectUtil.getAllDeclaredMethods(requestType)) {
-                if (method.getName().equals(setMethodName) // name equal
-                        && method.getParameterTypes().length == 1 // param len = 1
-                        && method.getParameterTypes()[0].isAssignableFrom(arg.getClass())) // arg is param instance
-                {
-                    return method;
-                }
+        Method setMethod = METHOD_CACHE.get(cacheKey);
+        if (setMethod != null && setMethod.getParameterTypes()[0].isAssignableFrom(argType)) {
+            return setMethod;
+        }
+        for (Method method : ReflectUtil.getAllDeclaredMethods(requestType)) {
+            if (method.getName().equals(setMethodName) // name equal
+                    && method.getParameterTypes().length == 1 // param len = 1
+                    && method.getParameterTypes()[0].isAssignableFrom(argType)) // arg is param instance
+            {
+                METHOD_CACHE.put(cacheKey, method);
+                return method;
             }
-            throw new IllegalArgumentException(new NoSuchMethodException(setMethodName));
-        });
-        ReflectUtil.invokeMethod(request, setMethod, arg);
+        }
+        throw new IllegalArgumentException(new NoSuchMethodException(setMethodName));
     }
 
     //Find a subclass belonging to top.osjf.sdk.core.Request from numerous generic classes.
@@ -19,6 +19,7 @@ package top.osjf.sdk.core.util;
 import com.alibaba.fastjson2.JSON;
 import com.alibaba.fastjson2.JSONException;
 import com.alibaba.fastjson2.JSONObject;
+import com.alibaba.fastjson2.JSONReader;
 import com.alibaba.fastjson2.TypeReference;
 
 import java.lang.reflect.Type;
@@ -46,6 +47,22 @@ public abstract class JSONUtil {
         return JSON.toJSONString(obj);
     }
 
+    /**
+     * (Comments from {@link JSON})
+     * Serializes the specified object to the UTF-8 encoded json bytes, written
+     * straight to bytes by the UTF-8 writer of fastjson2 on its cached buffer,
+     * without an intermediate {@link String}.
+     *
+     * @param <T> Object types.
+     * @param obj the specified object will be serialized
+     * @return {@code byte[]} that is not null
+     * @throws JSONException If a serialization error occurs
+     * @since 1.0.2
+     */
+    public static <T> byte[] toJSONBytes(T obj) {
+        return JSON.toJSONBytes(obj);
+    }
+
     /**
      * (Comments from {@link JSON})
      * Parses the json string as a {@link JSONObject}. Returns {@code null}
@@ -213,6 +230,20 @@ public abstract class JSONUtil {
         return isValidObject(jsonStr) || isValidArray(jsonStr);
     }
 
+    /**
+     * Verify that the UTF-8 encoded json bytes are a legal JsonObject or JsonArray.
+     *
+     * @param utf8Bytes the specified UTF-8 bytes to be checked.
+     * @return {@code true} or {@code false}.
+     * @since 1.0.2
+     */
+    public static boolean isValidObjectOrArray(byte[] utf8Bytes) {
+        if (utf8Bytes == null || utf8Bytes.length == 0) {
+            return false;
+        }
+        return JSON.isValidObject(utf8Bytes) || JSON.isValidArray(utf8Bytes);
+    }
+
     /**
      * (Comments from {@link JSON})
      * Verify that the json string is a legal JsonObject
@@ -252,6 +283,39 @@ public abstract class JSONUtil {
         return JSON.parseObject(str, references);
     }
 
+    /**
+     * Reads the input of a {@link JSONReader} in one pass as a JSON object of the
+     * specified type or, when it is a JSON array, as its first element, an empty
+     * {@link T} being returned for an empty array.
+     *
+     * <p>Unlike checking {@link #isValidObject} and {@link #isValidArray} before
+     * parsing, the input is only read once, so it can be read from a stream.
+     *
+     * @param reader the reader of the json input.
+     * @param type   the specified actual type.
+     * @param <T>    required Type.
+     * @return {@link T} of the json object or of the first element of the json array.
+     * @throws JSONException If the input is not a json object or array, or a parsing error occurs.
+     * @since 1.0.2
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T readObjectOrFirstElement(JSONReader reader, Type type) {
+        T result;
+        if (reader.isObject()) {
+            result = reader.read(type);
+        } else if (reader.isArray()) {
+            List<Object> elements = reader.readArray(type);
+            result = elements.isEmpty() ? toEmptyObj(type) : (T) elements.get(0);
+        } else {
+            throw new JSONException(reader.info("not a json object or array"));
+        }
+        if (!reader.isEnd()) {
+            throw new JSONException(reader.info("input not end"));
+        }
+        reader.handleResolveTasks(result);
+        return result;
+    }
+
     /**
      * Parses an empty {@link T} with unKnow type.
      *
@@ -78,12 +78,12 @@ public class ApacheHttpRequestExecutor extends AbstractMultiHttpMethodExecutor {
             }
             HttpEntity entity = response.getEntity();
             Charset responseCharset = ApacheHttpSimpleRequestUtils.getCharsetByResponse(response);
-            String responseBodyString = EntityUtils.toString(entity, responseCharset);
+            byte[] responseBodyBytes = EntityUtils.toByteArray(entity);
             return new DefaultHttpResponse(statusLine.getStatusCode(),
                     statusLine.getReasonPhrase(),
                     responseHeaders,
                     responseCharset,
-                    responseBodyString,
+                    responseBodyBytes,
                     response.getProtocolVersion());
         } finally {
             if (response instanceof CloseableHttpResponse) {
@@ -20,22 +20,32 @@ import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.*;
 import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.util.EntityUtils;
 import top.osjf.sdk.core.support.Nullable;
 import top.osjf.sdk.core.util.MapUtils;
 import top.osjf.sdk.core.util.StringUtils;
+import top.osjf.sdk.http.client.HttpPoolOptions;
+import top.osjf.sdk.http.client.HttpPoolStats;
+import top.osjf.sdk.http.client.HttpRequestOptions;
+import top.osjf.sdk.http.spi.AbstractMultiHttpMethodExecutor;
 import top.osjf.sdk.http.support.HttpSdkSupport;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A simple HTTP calling utility class encapsulated with Apache HTTP packages.
@@ -47,14 +57,39 @@ import java.util.Map;
  * <p>Provide a default static global client {@code HttpClient} to be used by default
  * when not provided.
  *
+ * <p>Since 1.0.2, the default client is backed by a pooling connection manager sized
+ * by {@link HttpPoolOptions#DEFAULT_OPTIONS}, with the timeouts of
+ * {@link HttpRequestOptions#DEFAULT_OPTIONS}; the timeouts of the {@code HttpRequestOptions}
+ * of a request executed by {@link ApacheHttpRequestExecutor} apply to that request, and
+ * the utilization of the pool is given by {@link #getPoolStats()}.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.0
  */
 public abstract class ApacheHttpSimpleRequestUtils {
 
-    private final static HttpClient DEFAULT = HttpClients.createDefault();
+    private final static PoolingHttpClientConnectionManager CONNECTION_MANAGER;
+
+    private final static HttpClient DEFAULT;
 
     static {
+        HttpPoolOptions poolOptions = HttpPoolOptions.DEFAULT_OPTIONS;
+        CONNECTION_MANAGER = new PoolingHttpClientConnectionManager();
+        CONNECTION_MANAGER.setMaxTotal(poolOptions.maxTotal());
+        CONNECTION_MANAGER.setDefaultMaxPerRoute(poolOptions.maxPerRoute());
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(CONNECTION_MANAGER)
+                .setDefaultRequestConfig(toRequestConfig(HttpRequestOptions.DEFAULT_OPTIONS))
+                .setKeepAliveStrategy((response, context) -> {
+                    long duration = DefaultConnectionKeepAliveStrategy.INSTANCE
+                            .getKeepAliveDuration(response, context);
+                    return duration > 0 ? duration : poolOptions.keepAliveMilliseconds();
+                });
+        if (poolOptions.idleEvictMilliseconds() > 0) {
+            builder.evictExpiredConnections()
+                    .evictIdleConnections(poolOptions.idleEvictMilliseconds(), TimeUnit.MILLISECONDS);
+        }
+        DEFAULT = builder.build();
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             try {
                 ((CloseableHttpClient) DEFAULT).close();
@@ -287,11 +322,44 @@ public abstract class ApacheHttpSimpleRequestUtils {
         if (client == null) {
             client = DEFAULT;
         }
+        HttpRequestOptions options = AbstractMultiHttpMethodExecutor.currentRequestOptions();
+        if (options != null && options != HttpRequestOptions.DEFAULT_OPTIONS && requestBase.getConfig() == null) {
+            requestBase.setConfig(toRequestConfig(options));
+        }
         addHeaders(headers, requestBase);
         setEntity(body, requestBase, headers, charset);
         return client.execute(requestBase);
     }
 
+    /**
+     * Convert {@code HttpRequestOptions} to the {@link RequestConfig} of a request, the
+     * connect timeout also bounds the wait for a connection of the pool.
+     *
+     * @param options the input http request options.
+     * @return the request config of the options.
+     * @since 1.0.2
+     */
+    public static RequestConfig toRequestConfig(HttpRequestOptions options) {
+        int connectTimeout = (int) Math.min(options.connectTimeoutMillis(), Integer.MAX_VALUE);
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(connectTimeout)
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout((int) Math.min(options.readTimeoutMillis(), Integer.MAX_VALUE))
+                .setRedirectsEnabled(options.isFollowRedirects())
+                .build();
+    }
+
+    /**
+     * Return the utilization of the connection pool of the default client.
+     *
+     * @return the pool stats of the default client.
+     * @since 1.0.2
+     */
+    public static HttpPoolStats getPoolStats() {
+        PoolStats stats = CONNECTION_MANAGER.getTotalStats();
+        return new HttpPoolStats(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+
     /**
      * Returns the encoded character set based on the returned response body
      * , default to {@link StandardCharsets#UTF_8}.
@@ -350,12 +418,17 @@ public abstract class ApacheHttpSimpleRequestUtils {
             if (StringUtils.isBlank(contentType)) {
                 contentType = HttpSdkSupport.getContentTypeWithBody(body, charset);
             }
-            String bodyStr = body.toString();
-            if (contentType != null) {
-                httpEntity = new StringEntity(bodyStr, ContentType.parse(contentType));
+            if (body instanceof byte[]) {
+                httpEntity = new ByteArrayEntity((byte[]) body,
+                        contentType != null ? ContentType.parse(contentType) : null);
             } else {
-                byte[] buf = charset != null ? bodyStr.getBytes(charset) : bodyStr.getBytes();
-                httpEntity = new ByteArrayEntity(buf, null);
+                String bodyStr = body.toString();
+                if (contentType != null) {
+                    httpEntity = new StringEntity(bodyStr, ContentType.parse(contentType));
+                } else {
+                    byte[] buf = charset != null ? bodyStr.getBytes(charset) : bodyStr.getBytes();
+                    httpEntity = new ByteArrayEntity(buf, null);
+                }
             }
         }
         ((HttpEntityEnclosingRequestBase) requestBase).setEntity(httpEntity);
@@ -27,6 +27,7 @@ import top.osjf.sdk.http.spi.HttpResponse;
 import top.osjf.sdk.http.util.IOUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.Collections;
@@ -52,10 +53,13 @@ public abstract class AbstractFeignClientHttpRequestExecutor implements FeignCli
     public final HttpResponse execute(@NotNull HttpRequest httpRequest) throws Exception {
         //Create a request body for feign.
         feign.Request.Body feignBody;
-        String requestBody = httpRequest.getBody(String.class, Object::toString);
         Charset charset = httpRequest.getCharset();
+        byte[] requestBodyBytes = httpRequest.getBodyBytes();
+        String requestBody = requestBodyBytes == null ? httpRequest.getBody(String.class, Object::toString) : null;
 
-        if (requestBody != null) {
+        if (requestBodyBytes != null) {
+            feignBody = feign.Request.Body.create(requestBodyBytes, charset);
+        } else if (requestBody != null) {
             if (charset != null) {
                 feignBody = feign.Request.Body.create(requestBody, charset);
             } else {
@@ -98,7 +102,7 @@ public abstract class AbstractFeignClientHttpRequestExecutor implements FeignCli
                             response.reason(),
                             toValueObjHeaderMap(response.headers()),
                             response.charset(),
-                            toStringBody(response),
+                            toBodyBytes(response),
                             response.protocolVersion());
         }
     }
@@ -110,9 +114,13 @@ public abstract class AbstractFeignClientHttpRequestExecutor implements FeignCli
         return Collections.unmodifiableMap(new HashMap<>(feignHeaders));
     }
 
-    private static String toStringBody(Response response) throws IOException {
-        byte[] bytes = IOUtils.readAllBytes(response.body().asInputStream());
-        Charset charset = response.charset();
-        return charset != null ? new String(bytes, charset) : new String(bytes);
+    private static byte[] toBodyBytes(Response response) throws IOException {
+        Response.Body body = response.body();
+        if (body == null) {
+            return new byte[0];
+        }
+        try (InputStream in = body.asInputStream()) {
+            return IOUtils.readAllBytes(in);
+        }
     }
 }
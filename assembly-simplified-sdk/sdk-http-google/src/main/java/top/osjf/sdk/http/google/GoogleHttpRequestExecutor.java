@@ -65,7 +65,7 @@ public class GoogleHttpRequestExecutor extends AbstractMultiHttpMethodExecutor {
                 response.getStatusMessage(),
                 response.getHeaders(),
                 response.getContentCharset(),
-                response.parseAsString(),
+                GoogleHttpSimpleRequestUtils.getBodyBytes(response),
                 null);
     }
 }
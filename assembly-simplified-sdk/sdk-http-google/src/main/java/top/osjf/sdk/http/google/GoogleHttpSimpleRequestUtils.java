@@ -21,9 +21,14 @@ import com.google.api.client.http.javanet.NetHttpTransport;
 import top.osjf.sdk.core.support.Nullable;
 import top.osjf.sdk.core.util.MapUtils;
 import top.osjf.sdk.core.util.StringUtils;
+import top.osjf.sdk.http.client.HttpPoolOptions;
+import top.osjf.sdk.http.client.HttpRequestOptions;
+import top.osjf.sdk.http.spi.AbstractMultiHttpMethodExecutor;
 import top.osjf.sdk.http.support.HttpSdkSupport;
+import top.osjf.sdk.http.util.IOUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.Map;
 
@@ -35,15 +40,22 @@ import java.util.Map;
  * requests.
  * <p>Provide a default static global client {@code HttpRequestFactory} to be used by default
  * when not provided.
+ * <p>The default {@code NetHttpTransport} pools its connections by the keep-alive cache of
+ * {@code HttpURLConnection}, whose connections kept per destination are bounded by the
+ * JVM-wide system property {@code http.maxConnections}, only set by this class when opted
+ * in, see {@link HttpPoolOptions#applyUrlConnectionMaxConnections()}; the connect and read
+ * timeouts and the redirects of a request are taken from its {@code HttpRequestOptions}.
  *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.2
  */
 public abstract class GoogleHttpSimpleRequestUtils {
 
-    private static final HttpRequestFactory DEFAULT = new NetHttpTransport().createRequestFactory();
+    private static final HttpRequestFactory DEFAULT;
 
     static {
+        HttpPoolOptions.applyUrlConnectionMaxConnections();
+        DEFAULT = new NetHttpTransport().createRequestFactory();
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             try {
                 DEFAULT.getTransport().shutdown();
@@ -287,8 +299,13 @@ public abstract class GoogleHttpSimpleRequestUtils {
             if (StringUtils.isBlank(contentType)) {
                 contentType = HttpSdkSupport.getContentTypeWithBody(body, charset);
             }
-            String bodyStr = body.toString();
-            byte[] array = charset != null ? bodyStr.getBytes(charset) : bodyStr.getBytes();
+            byte[] array;
+            if (body instanceof byte[]) {
+                array = (byte[]) body;
+            } else {
+                String bodyStr = body.toString();
+                array = charset != null ? bodyStr.getBytes(charset) : bodyStr.getBytes();
+            }
             content = new ByteArrayContent(contentType, array);
         }
         HttpRequest request =
@@ -300,6 +317,40 @@ public abstract class GoogleHttpSimpleRequestUtils {
             }
             request.setHeaders(httpHeaders);
         }
+        applyOptions(request, AbstractMultiHttpMethodExecutor.currentRequestOptions());
         return request.execute();
     }
+
+    /**
+     * Read the content of a {@code HttpResponse} as bytes, closing its content stream
+     * as {@link HttpResponse#parseAsString()} does.
+     *
+     * @param response the google http response.
+     * @return the bytes of the content of the response, empty when it has no content.
+     * @throws IOException if an I/O error occurs when reading the content.
+     * @since 1.0.2
+     */
+    public static byte[] getBodyBytes(HttpResponse response) throws IOException {
+        try (InputStream content = response.getContent()) {
+            return content != null ? IOUtils.readAllBytes(content) : new byte[0];
+        }
+    }
+
+    /**
+     * Apply the connect and read timeouts and the redirects of {@code HttpRequestOptions}
+     * to a {@code HttpRequest}.
+     *
+     * @param request the google http request.
+     * @param options the http request options,the {@link HttpRequestOptions#DEFAULT_OPTIONS}
+     *                applied when {@literal null}.
+     * @since 1.0.2
+     */
+    public static void applyOptions(HttpRequest request, @Nullable HttpRequestOptions options) {
+        if (options == null) {
+            options = HttpRequestOptions.DEFAULT_OPTIONS;
+        }
+        request.setConnectTimeout((int) Math.min(Integer.MAX_VALUE, options.connectTimeoutMillis()));
+        request.setReadTimeout((int) Math.min(Integer.MAX_VALUE, options.readTimeoutMillis()));
+        request.setFollowRedirects(options.isFollowRedirects());
+    }
 }
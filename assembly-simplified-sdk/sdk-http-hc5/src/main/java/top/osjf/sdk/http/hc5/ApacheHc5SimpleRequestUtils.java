@@ -16,10 +16,22 @@
 
 package top.osjf.sdk.http.hc5;
 
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.classic.methods.*;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
@@ -27,15 +39,25 @@ import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import top.osjf.sdk.core.support.Nullable;
 import top.osjf.sdk.core.util.MapUtils;
 import top.osjf.sdk.core.util.StringUtils;
+import top.osjf.sdk.http.client.HttpPoolOptions;
+import top.osjf.sdk.http.client.HttpPoolStats;
+import top.osjf.sdk.http.client.HttpRequestOptions;
+import top.osjf.sdk.http.spi.AbstractMultiHttpMethodExecutor;
 import top.osjf.sdk.http.support.HttpSdkSupport;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A simple HTTP calling utility class encapsulated with Apache HTTP5 packages.
@@ -46,13 +68,35 @@ import java.util.Map;
  * <p>Provide a default static global client {@code HttpClient} to be used by default
  * when not provided.
  *
+ * <p>The default classic and asynchronous clients are backed by pooling connection
+ * managers sized by {@link HttpPoolOptions#DEFAULT_OPTIONS}, with the timeouts of
+ * {@link HttpRequestOptions#DEFAULT_OPTIONS}; the timeouts of the {@code HttpRequestOptions}
+ * of a request executed by {@link Hc5HttpRequestExecutor} apply to that request, and
+ * the utilization of the pools is given by {@link #getPoolStats()} and
+ * {@link #getAsyncPoolStats()}.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.2
  */
 public abstract class ApacheHc5SimpleRequestUtils {
-    private final static HttpClient DEFAULT = HttpClientBuilder.create().build();
+    private final static PoolingHttpClientConnectionManager CONNECTION_MANAGER =
+            PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(HttpPoolOptions.DEFAULT_OPTIONS.maxTotal())
+                    .setMaxConnPerRoute(HttpPoolOptions.DEFAULT_OPTIONS.maxPerRoute())
+                    .setDefaultConnectionConfig(toConnectionConfig(HttpRequestOptions.DEFAULT_OPTIONS))
+                    .build();
+
+    private final static HttpClient DEFAULT;
 
     static {
+        HttpClientBuilder builder = HttpClientBuilder.create()
+                .setConnectionManager(CONNECTION_MANAGER)
+                .setDefaultRequestConfig(toRequestConfig(HttpRequestOptions.DEFAULT_OPTIONS));
+        if (HttpPoolOptions.DEFAULT_OPTIONS.idleEvictMilliseconds() > 0) {
+            builder.evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.ofMilliseconds(HttpPoolOptions.DEFAULT_OPTIONS.idleEvictMilliseconds()));
+        }
+        DEFAULT = builder.build();
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             try {
                 ((CloseableHttpClient) DEFAULT).close();
@@ -276,15 +320,123 @@ public abstract class ApacheHc5SimpleRequestUtils {
         if (client == null) {
             client = DEFAULT;
         }
+        HttpRequestOptions options = AbstractMultiHttpMethodExecutor.currentRequestOptions();
+        if (options != null && options != HttpRequestOptions.DEFAULT_OPTIONS && requestBase.getConfig() == null) {
+            requestBase.setConfig(toRequestConfig(options));
+        }
         addHeaders(headers, requestBase);
         setEntity(body, requestBase, headers, charset);
         return client.execute(requestBase, response -> {
             Charset responseCharset = getCharsetByResponse(response);
             return new Hc5ClosedResponse
-                    (response, EntityUtils.toString(response.getEntity(), responseCharset), responseCharset);
+                    (response, EntityUtils.toByteArray(response.getEntity()), responseCharset);
         });
     }
 
+    /**
+     * The asynchronous HTTP5 request sending method, the request is executed by the
+     * I/O reactor of the client and the returned {@code CompletableFuture} is completed
+     * by its callback.
+     * <p>
+     * The default format is {@link CloseableHttpAsyncClient} in
+     * <pre>{@code HttpAsyncClients.createDefault()}</pre>, started at its first use.
+     *
+     * @param client     Apache's asynchronous HTTP request client,can be {@literal null}.
+     * @param methodName HTTP request method name.
+     * @param url        The target URL of the request.
+     * @param headers    Optional HTTP header information used to control the behavior of requests.
+     * @param body       Optional request body.
+     * @param charset    Encoding character set.
+     * @return Returns the {@code CompletableFuture} of a {@link Hc5ClosedResponse}, completed
+     * exceptionally with the error of the execution.
+     * @since 1.0.2
+     */
+    public static CompletableFuture<Hc5ClosedResponse> getResponseAsync(@Nullable CloseableHttpAsyncClient client,
+                                                                        String methodName,
+                                                                        String url,
+                                                                        @Nullable Map<String, String> headers,
+                                                                        @Nullable Object body,
+                                                                        @Nullable Charset charset) {
+        return getResponseAsync(client, methodName, url, headers, body, charset, null);
+    }
+
+    /**
+     * The asynchronous HTTP5 request sending method, applying the timeouts of the
+     * given {@code HttpRequestOptions} to the request.
+     *
+     * @param client     Apache's asynchronous HTTP request client,can be {@literal null}.
+     * @param methodName HTTP request method name.
+     * @param url        The target URL of the request.
+     * @param headers    Optional HTTP header information used to control the behavior of requests.
+     * @param body       Optional request body.
+     * @param charset    Encoding character set.
+     * @param options    Optional request options, {@link AbstractMultiHttpMethodExecutor#currentRequestOptions()}
+     *                   apply when {@literal null}.
+     * @return Returns the {@code CompletableFuture} of a {@link Hc5ClosedResponse}, completed
+     * exceptionally with the error of the execution.
+     * @since 1.0.2
+     */
+    public static CompletableFuture<Hc5ClosedResponse> getResponseAsync(@Nullable CloseableHttpAsyncClient client,
+                                                                        String methodName,
+                                                                        String url,
+                                                                        @Nullable Map<String, String> headers,
+                                                                        @Nullable Object body,
+                                                                        @Nullable Charset charset,
+                                                                        @Nullable HttpRequestOptions options) {
+        if (client == null) {
+            client = AsyncClientHolder.DEFAULT;
+        }
+        if (options == null) {
+            options = AbstractMultiHttpMethodExecutor.currentRequestOptions();
+        }
+        SimpleHttpRequest request = SimpleHttpRequest.create(methodName, url);
+        if (options != null && options != HttpRequestOptions.DEFAULT_OPTIONS) {
+            request.setConfig(toRequestConfig(options));
+        }
+        if (MapUtils.isNotEmpty(headers)) {
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                request.addHeader(header.getKey(), header.getValue());
+            }
+        }
+        if (body instanceof byte[]) {
+            String contentType = getContentType(body, headers, charset);
+            request.setBody((byte[]) body, contentType != null ? ContentType.parse(contentType) : null);
+        } else if (body != null) {
+            String contentType = getContentType(body, headers, charset);
+            String bodyStr = body.toString();
+            if (contentType != null) {
+                request.setBody(bodyStr, ContentType.parse(contentType));
+            } else {
+                request.setBody(charset != null ? bodyStr.getBytes(charset) : bodyStr.getBytes(), null);
+            }
+        }
+        CompletableFuture<Hc5ClosedResponse> future = new CompletableFuture<>();
+        client.execute(request, new FutureCallback<SimpleHttpResponse>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                try {
+                    ContentType contentType = response.getContentType();
+                    Charset responseCharset = contentType != null && contentType.getCharset() != null ?
+                            contentType.getCharset() : StandardCharsets.UTF_8;
+                    future.complete(new Hc5ClosedResponse(response, response.getBodyBytes(), responseCharset));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(Exception e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void cancelled() {
+                future.cancel(false);
+            }
+        });
+        return future;
+    }
+
     /**
      * Returns the encoded character set based on the returned response body
      * , default to {@link StandardCharsets#UTF_8}.
@@ -334,14 +486,11 @@ public abstract class ApacheHc5SimpleRequestUtils {
         HttpEntity httpEntity;
         if (body == null) {
             httpEntity = new ByteArrayEntity(new byte[0], null);
+        } else if (body instanceof byte[]) {
+            String contentType = getContentType(body, headers, charset);
+            httpEntity = new ByteArrayEntity((byte[]) body, contentType != null ? ContentType.parse(contentType) : null);
         } else {
-            String contentType = null;
-            if (MapUtils.isNotEmpty(headers)) {
-                contentType = headers.get(HttpSdkSupport.CONTENT_TYPE_NAME);
-            }
-            if (StringUtils.isBlank(contentType)) {
-                contentType = HttpSdkSupport.getContentTypeWithBody(body, charset);
-            }
+            String contentType = getContentType(body, headers, charset);
             String bodyStr = body.toString();
             if (contentType != null) {
                 httpEntity = new StringEntity(bodyStr, ContentType.parse(contentType));
@@ -353,6 +502,27 @@ public abstract class ApacheHc5SimpleRequestUtils {
         requestBase.setEntity(httpEntity);
     }
 
+    /**
+     * Returns the content type of the body, given by the headers or derived from the body.
+     *
+     * @param body    the request body.
+     * @param headers Optional HTTP header information used to control the behavior of requests.
+     * @param charset Encoding character set.
+     * @return the content type of the body,can be {@literal null}.
+     */
+    @Nullable
+    private static String getContentType(Object body, @Nullable Map<String, String> headers,
+                                         @Nullable Charset charset) {
+        String contentType = null;
+        if (MapUtils.isNotEmpty(headers)) {
+            contentType = headers.get(HttpSdkSupport.CONTENT_TYPE_NAME);
+        }
+        if (StringUtils.isBlank(contentType)) {
+            contentType = HttpSdkSupport.getContentTypeWithBody(body, charset);
+        }
+        return contentType;
+    }
+
     /**
      * Add header information for HTTP requests.
      *
@@ -366,4 +536,93 @@ public abstract class ApacheHc5SimpleRequestUtils {
             }
         }
     }
+
+    /**
+     * Convert {@code HttpRequestOptions} to the {@link RequestConfig} of a request, the
+     * connect timeout also bounds the wait for a connection of the pool.
+     *
+     * @param options the input http request options.
+     * @return the request config of the options.
+     * @since 1.0.2
+     */
+    @SuppressWarnings("deprecation")
+    public static RequestConfig toRequestConfig(HttpRequestOptions options) {
+        Timeout connectTimeout = Timeout.ofMilliseconds(options.connectTimeoutMillis());
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(connectTimeout)
+                .setConnectTimeout(connectTimeout)
+                .setResponseTimeout(Timeout.ofMilliseconds(options.readTimeoutMillis()))
+                .setRedirectsEnabled(options.isFollowRedirects())
+                .setDefaultKeepAlive(HttpPoolOptions.DEFAULT_OPTIONS.keepAliveMilliseconds(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Convert {@code HttpRequestOptions} to the {@link ConnectionConfig} of the pooled
+     * connections of the default clients.
+     *
+     * @param options the input http request options.
+     * @return the connection config of the options.
+     * @since 1.0.2
+     */
+    public static ConnectionConfig toConnectionConfig(HttpRequestOptions options) {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(options.connectTimeoutMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(options.readTimeoutMillis()))
+                .build();
+    }
+
+    /**
+     * Return the utilization of the connection pool of the default classic client.
+     *
+     * @return the pool stats of the default classic client.
+     * @since 1.0.2
+     */
+    public static HttpPoolStats getPoolStats() {
+        return toHttpPoolStats(CONNECTION_MANAGER.getTotalStats());
+    }
+
+    /**
+     * Return the utilization of the connection pool of the default asynchronous client,
+     * creating and starting it when not yet used.
+     *
+     * @return the pool stats of the default asynchronous client.
+     * @since 1.0.2
+     */
+    public static HttpPoolStats getAsyncPoolStats() {
+        return toHttpPoolStats(AsyncClientHolder.CONNECTION_MANAGER.getTotalStats());
+    }
+
+    private static HttpPoolStats toHttpPoolStats(PoolStats stats) {
+        return new HttpPoolStats(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+
+    /**
+     * The holder of the default asynchronous client, which is only created and started
+     * when an asynchronous request is first executed.
+     *
+     * @since 1.0.2
+     */
+    private static final class AsyncClientHolder {
+        private static final PoolingAsyncClientConnectionManager CONNECTION_MANAGER =
+                PoolingAsyncClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(HttpPoolOptions.DEFAULT_OPTIONS.maxTotal())
+                        .setMaxConnPerRoute(HttpPoolOptions.DEFAULT_OPTIONS.maxPerRoute())
+                        .setDefaultConnectionConfig(toConnectionConfig(HttpRequestOptions.DEFAULT_OPTIONS))
+                        .build();
+        private static final CloseableHttpAsyncClient DEFAULT;
+
+        static {
+            HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                    .setConnectionManager(CONNECTION_MANAGER)
+                    .setDefaultRequestConfig(toRequestConfig(HttpRequestOptions.DEFAULT_OPTIONS));
+            if (HttpPoolOptions.DEFAULT_OPTIONS.idleEvictMilliseconds() > 0) {
+                builder.evictExpiredConnections()
+                        .evictIdleConnections(TimeValue.ofMilliseconds(HttpPoolOptions.DEFAULT_OPTIONS.idleEvictMilliseconds()));
+            }
+            DEFAULT = builder.build();
+            DEFAULT.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> DEFAULT.close(CloseMode.GRACEFUL)));
+        }
+    }
 }
@@ -19,6 +19,7 @@ package top.osjf.sdk.http.hc5;
 
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpResponse;
 import top.osjf.sdk.http.spi.DefaultHttpResponse;
 
 import java.nio.charset.Charset;
@@ -35,10 +36,36 @@ public class Hc5ClosedResponse extends DefaultHttpResponse {
     private static final long serialVersionUID = -470351131493467831L;
 
     public Hc5ClosedResponse(ClassicHttpResponse rawResponse, String result, Charset charset) {
+        this((HttpResponse) rawResponse, result, charset);
+    }
+
+    /**
+     * Creates the response of a classic or an asynchronous HC5 response.
+     *
+     * @param rawResponse the HC5 response.
+     * @param result      the body of the response.
+     * @param charset     the charset of the body.
+     * @since 1.0.2
+     */
+    public Hc5ClosedResponse(HttpResponse rawResponse, String result, Charset charset) {
         super(rawResponse.getCode(), rawResponse.getReasonPhrase(),
                 toHeaderMap(rawResponse.getHeaders()), charset, result, rawResponse.getVersion());
     }
 
+    /**
+     * Creates the response of a classic or an asynchronous HC5 response, with the
+     * body given as the bytes read from the server.
+     *
+     * @param rawResponse the HC5 response.
+     * @param bodyBytes   the bytes of the body of the response.
+     * @param charset     the charset of the body.
+     * @since 1.0.2
+     */
+    public Hc5ClosedResponse(HttpResponse rawResponse, byte[] bodyBytes, Charset charset) {
+        super(rawResponse.getCode(), rawResponse.getReasonPhrase(),
+                toHeaderMap(rawResponse.getHeaders()), charset, bodyBytes, rawResponse.getVersion());
+    }
+
     private static Map<String, Object> toHeaderMap(Header[] headers) {
         Map<String, Object> responseHeaders = new HashMap<>();
         for (Header header : headers) {
@@ -19,22 +19,28 @@ package top.osjf.sdk.http.hc5;
 import org.apache.hc.client5.http.classic.methods.*;
 import top.osjf.sdk.core.support.LoadOrder;
 import top.osjf.sdk.core.support.Nullable;
+import top.osjf.sdk.http.client.HttpRequestOptions;
 import top.osjf.sdk.http.spi.AbstractMultiHttpMethodExecutor;
+import top.osjf.sdk.http.spi.AsyncHttpRequestExecutor;
 import top.osjf.sdk.http.spi.HttpRequestExecutor;
 import top.osjf.sdk.http.spi.HttpResponse;
 
 import java.nio.charset.Charset;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * One of the implementation classes of {@link HttpRequestExecutor}, please
  * refer to{@link ApacheHc5SimpleRequestUtils} for implementation.
  *
+ * <p>Since 1.0.2, it is also an {@link AsyncHttpRequestExecutor}, the asynchronous
+ * requests are executed by the HC5 asynchronous client.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.2
  */
 @LoadOrder(Integer.MIN_VALUE + 18)
-public class Hc5HttpRequestExecutor extends AbstractMultiHttpMethodExecutor {
+public class Hc5HttpRequestExecutor extends AbstractMultiHttpMethodExecutor implements AsyncHttpRequestExecutor {
     @Override public HttpResponse get(String url, @Nullable Map<String, String> headers, @Nullable Object body, @Nullable Charset charset) throws Exception {
         return getApacheResponseAsSpiResponse(new HttpGet(url), headers, body, charset);
     }
@@ -59,6 +65,21 @@ public class Hc5HttpRequestExecutor extends AbstractMultiHttpMethodExecutor {
     @Override public HttpResponse patch(String url, @Nullable Map<String, String> headers, @Nullable Object body, @Nullable Charset charset) throws Exception {
         return getApacheResponseAsSpiResponse(new HttpPatch(url), headers, body, charset);
     }
+    @Override public CompletableFuture<HttpResponse> executeAsync(top.osjf.sdk.http.spi.HttpRequest httpRequest) {
+        try {
+            @SuppressWarnings("unchecked") Map<String, String> headers = (Map) httpRequest.getHeaders();
+            String methodName = httpRequest.getMethodName();
+            HttpRequestOptions options = httpRequest.getOptions();
+            return ApacheHc5SimpleRequestUtils.getResponseAsync(null, methodName.toUpperCase(),
+                    httpRequest.getUrl(), headers, getBody(httpRequest), httpRequest.getCharset(),
+                    options != null ? options.getMethodOptions(methodName) : null)
+                    .thenApply(HttpResponse.class::cast);
+        } catch (Throwable e) {
+            CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
     private static HttpResponse getApacheResponseAsSpiResponse(HttpUriRequestBase requestBase, @Nullable Map<String, String> headers, @Nullable Object body, @Nullable Charset charset) throws Exception {
         return ApacheHc5SimpleRequestUtils.getResponse(null, requestBase, headers, body, charset);
     }
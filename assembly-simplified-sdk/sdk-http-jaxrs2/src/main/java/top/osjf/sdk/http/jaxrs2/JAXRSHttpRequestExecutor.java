@@ -18,7 +18,9 @@ package top.osjf.sdk.http.jaxrs2;
 
 import top.osjf.sdk.core.support.LoadOrder;
 import top.osjf.sdk.core.support.Nullable;
+import top.osjf.sdk.http.client.HttpRequestOptions;
 import top.osjf.sdk.http.spi.AbstractMultiHttpMethodExecutor;
+import top.osjf.sdk.http.spi.AsyncHttpRequestExecutor;
 import top.osjf.sdk.http.spi.DefaultHttpResponse;
 import top.osjf.sdk.http.spi.HttpRequestExecutor;
 import top.osjf.sdk.http.spi.HttpResponse;
@@ -27,16 +29,20 @@ import javax.ws.rs.core.Response;
 import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * One of the implementation classes of {@link HttpRequestExecutor}, please
  * refer to{@link JAXRSHttpSimpleRequestUtils} for implementation.
  *
+ * <p>Since 1.0.2, it is also an {@link AsyncHttpRequestExecutor}, the asynchronous
+ * requests are submitted with the asynchronous invoker of JAX-RS.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.2
  */
 @LoadOrder(Integer.MIN_VALUE + 20)
-public class JAXRSHttpRequestExecutor extends AbstractMultiHttpMethodExecutor {
+public class JAXRSHttpRequestExecutor extends AbstractMultiHttpMethodExecutor implements AsyncHttpRequestExecutor {
     @Override public HttpResponse get(String url, @Nullable Map<String, String> headers, @Nullable Object body, @Nullable Charset charset) throws Exception {
         return getJAXRSResponseAsSpiResponse("GET", url, headers, body, charset);
     }
@@ -61,16 +67,38 @@ public class JAXRSHttpRequestExecutor extends AbstractMultiHttpMethodExecutor {
     @Override public HttpResponse patch(String url, @Nullable Map<String, String> headers, @Nullable Object body, @Nullable Charset charset) throws Exception {
         return getJAXRSResponseAsSpiResponse("PATCH", url, headers, body, charset);
     }
+    @Override public CompletableFuture<HttpResponse> executeAsync(top.osjf.sdk.http.spi.HttpRequest httpRequest) {
+        try {
+            @SuppressWarnings("unchecked") Map<String, String> headers = (Map) httpRequest.getHeaders();
+            String methodName = httpRequest.getMethodName();
+            HttpRequestOptions options = httpRequest.getOptions();
+            return JAXRSHttpSimpleRequestUtils.getResponseAsync(null, httpRequest.getUrl(),
+                    methodName.toUpperCase(), headers, getBody(httpRequest), httpRequest.getCharset(),
+                    options != null ? options.getMethodOptions(methodName) : null)
+                    .thenApply(response -> {
+                        try (Response r = response) {
+                            return toSpiResponse(r);
+                        }
+                    });
+        } catch (Throwable e) {
+            CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
     private static HttpResponse getJAXRSResponseAsSpiResponse(String methodName, String url, @Nullable Map<String, String> headers, @Nullable Object body, @Nullable Charset charset) throws Exception {
         try (Response response = JAXRSHttpSimpleRequestUtils.getResponse(null, url, methodName, headers, body, charset)) {
-            Response.StatusType statusInfo = response.getStatusInfo();
-            Charset responseCharset = JAXRSHttpSimpleRequestUtils.getCharsetByResponse(response);
-            String responseBodyString = response.readEntity(String.class);
-            return new DefaultHttpResponse(statusInfo.getStatusCode(),
-                    statusInfo.getReasonPhrase(),
-                    new HashMap<>(response.getHeaders()),
-                    responseCharset,
-                    responseBodyString,null);
+            return toSpiResponse(response);
         }
     }
+    private static HttpResponse toSpiResponse(Response response) {
+        Response.StatusType statusInfo = response.getStatusInfo();
+        Charset responseCharset = JAXRSHttpSimpleRequestUtils.getCharsetByResponse(response);
+        byte[] responseBodyBytes = response.readEntity(byte[].class);
+        return new DefaultHttpResponse(statusInfo.getStatusCode(),
+                statusInfo.getReasonPhrase(),
+                new HashMap<>(response.getHeaders()),
+                responseCharset,
+                responseBodyBytes,null);
+    }
 }
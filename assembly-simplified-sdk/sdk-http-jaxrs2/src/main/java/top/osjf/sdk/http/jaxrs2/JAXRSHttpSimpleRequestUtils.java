@@ -16,21 +16,28 @@
 
 package top.osjf.sdk.http.jaxrs2;
 
+import org.glassfish.jersey.client.ClientProperties;
 import top.osjf.sdk.core.support.Nullable;
 import top.osjf.sdk.core.util.MapUtils;
 import top.osjf.sdk.core.util.StringUtils;
+import top.osjf.sdk.http.client.HttpPoolOptions;
+import top.osjf.sdk.http.client.HttpRequestOptions;
+import top.osjf.sdk.http.spi.AbstractMultiHttpMethodExecutor;
 import top.osjf.sdk.http.support.HttpSdkSupport;
 
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.InvocationCallback;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriBuilder;
 import java.nio.charset.Charset;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The {@code JAXRSHttpSimpleRequestUtils} class serves as a utility for simplifying
@@ -42,14 +49,27 @@ import java.util.Map;
  * The class utilizes a global JAX-RS Client instance, which is created upon class loading
  * and automatically closed when the JVM shuts down via the {@code Runtime.getRuntime().
  * addShutdownHook} method.
+ * <p>
+ * The global client is created with the connect and read timeouts of
+ * {@link HttpRequestOptions#DEFAULT_OPTIONS}, and the timeouts and redirects of the
+ * {@code HttpRequestOptions} of a request are set as the Jersey properties of its
+ * invocation. The Jersey default connector pools its connections by the keep-alive
+ * cache of {@code HttpURLConnection}, whose connections kept per destination are
+ * bounded by the JVM-wide system property {@code http.maxConnections}, only set by this
+ * class when opted in, see {@link HttpPoolOptions#applyUrlConnectionMaxConnections()}.
  *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.2
  */
 public abstract class JAXRSHttpSimpleRequestUtils {
-    private static final Client DEFAULT = ClientBuilder.newBuilder().build();
+    private static final Client DEFAULT;
 
     static {
+        HttpPoolOptions.applyUrlConnectionMaxConnections();
+        DEFAULT = ClientBuilder.newBuilder()
+                .connectTimeout(HttpRequestOptions.DEFAULT_OPTIONS.connectTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(HttpRequestOptions.DEFAULT_OPTIONS.readTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .build();
         Runtime.getRuntime().addShutdownHook(new Thread(DEFAULT::close));
     }
 
@@ -222,16 +242,95 @@ public abstract class JAXRSHttpSimpleRequestUtils {
                                        String methodName,
                                        @Nullable Map<String, String> headers,
                                        @Nullable Object body, @Nullable Charset charset) {
+        Invocation.Builder builder = getInvocationBuilder(client, url, headers,
+                AbstractMultiHttpMethodExecutor.currentRequestOptions());
+        return builder.method(methodName, toEntity(body, charset, headers));
+    }
+
+    /**
+     * The asynchronous HTTP request sending method, the request is submitted with
+     * {@link Invocation.Builder#async()} and the returned {@code CompletableFuture}
+     * is completed by its {@link InvocationCallback}.
+     *
+     * @param client     JAXRS's HTTP request client,can be {@literal null}.
+     * @param methodName HTTP request method name .
+     * @param url        The target URL of the request.
+     * @param headers    Optional HTTP header information used to control the behavior of requests.
+     * @param body       Optional request body.
+     * @param charset    Encoding character set.
+     * @return Returns the {@code CompletableFuture} of the response, which must be closed
+     * by the caller.
+     * @since 1.0.2
+     */
+    public static CompletableFuture<Response> getResponseAsync(@Nullable Client client,
+                                                               String url,
+                                                               String methodName,
+                                                               @Nullable Map<String, String> headers,
+                                                               @Nullable Object body, @Nullable Charset charset) {
+        return getResponseAsync(client, url, methodName, headers, body, charset, null);
+    }
+
+    /**
+     * The asynchronous HTTP request sending method, applying the timeouts and redirects
+     * of the given {@code HttpRequestOptions} to the invocation.
+     *
+     * @param client     JAXRS's HTTP request client,can be {@literal null}.
+     * @param methodName HTTP request method name .
+     * @param url        The target URL of the request.
+     * @param headers    Optional HTTP header information used to control the behavior of requests.
+     * @param body       Optional request body.
+     * @param charset    Encoding character set.
+     * @param options    Optional request options, {@link AbstractMultiHttpMethodExecutor#currentRequestOptions()}
+     *                   apply when {@literal null}.
+     * @return Returns the {@code CompletableFuture} of the response, which must be closed
+     * by the caller.
+     * @since 1.0.2
+     */
+    public static CompletableFuture<Response> getResponseAsync(@Nullable Client client,
+                                                               String url,
+                                                               String methodName,
+                                                               @Nullable Map<String, String> headers,
+                                                               @Nullable Object body, @Nullable Charset charset,
+                                                               @Nullable HttpRequestOptions options) {
+        if (options == null) {
+            options = AbstractMultiHttpMethodExecutor.currentRequestOptions();
+        }
+        Invocation.Builder builder = getInvocationBuilder(client, url, headers, options);
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        builder.async().method(methodName, toEntity(body, charset, headers), new InvocationCallback<Response>() {
+            @Override
+            public void completed(Response response) {
+                future.complete(response);
+            }
+
+            @Override
+            public void failed(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+        });
+        return future;
+    }
+
+    private static Invocation.Builder getInvocationBuilder(@Nullable Client client,
+                                                           String url,
+                                                           @Nullable Map<String, String> headers,
+                                                           @Nullable HttpRequestOptions options) {
         if (client == null) {
             client = DEFAULT;
         }
         Invocation.Builder builder = client.target(UriBuilder.fromUri(url))
                 .request();
         if (headers != null) builder.headers(new MultivaluedHashMap<>(headers));
-        return builder.method(methodName, toEntity(body, charset, headers));
+        if (options != null && options != HttpRequestOptions.DEFAULT_OPTIONS) {
+            builder.property(ClientProperties.CONNECT_TIMEOUT,
+                    (int) Math.min(Integer.MAX_VALUE, options.connectTimeoutMillis()));
+            builder.property(ClientProperties.READ_TIMEOUT,
+                    (int) Math.min(Integer.MAX_VALUE, options.readTimeoutMillis()));
+            builder.property(ClientProperties.FOLLOW_REDIRECTS, options.isFollowRedirects());
+        }
+        return builder;
     }
 
-
     @Nullable
     private static Entity<Object> toEntity(@Nullable Object body, @Nullable Charset charset,
                                            @Nullable Map<String, String> headers) {
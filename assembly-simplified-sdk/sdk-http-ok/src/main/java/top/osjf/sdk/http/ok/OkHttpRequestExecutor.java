@@ -16,29 +16,39 @@
 
 package top.osjf.sdk.http.ok;
 
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
 import top.osjf.sdk.core.support.LoadOrder;
 import top.osjf.sdk.core.support.Nullable;
 import top.osjf.sdk.core.util.Pair;
+import top.osjf.sdk.http.client.HttpRequestOptions;
 import top.osjf.sdk.http.spi.AbstractMultiHttpMethodExecutor;
+import top.osjf.sdk.http.spi.AsyncHttpRequestExecutor;
 import top.osjf.sdk.http.spi.DefaultHttpResponse;
 import top.osjf.sdk.http.spi.HttpRequestExecutor;
 import top.osjf.sdk.http.spi.HttpResponse;
 
+import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * One of the implementation classes of {@link HttpRequestExecutor}, please
  * refer to {@link OkHttpSimpleRequestUtils} for implementation.
  *
+ * <p>Since 1.0.2, it is also an {@link AsyncHttpRequestExecutor}, the asynchronous
+ * requests are enqueued to the dispatcher of {@code OkHttpClient}.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.0
  */
 @LoadOrder(Integer.MIN_VALUE + 14)
-public class OkHttpRequestExecutor extends AbstractMultiHttpMethodExecutor {
+public class OkHttpRequestExecutor extends AbstractMultiHttpMethodExecutor implements AsyncHttpRequestExecutor {
     @Override public HttpResponse get(String url, @Nullable Map<String, String> headers, @Nullable Object body, @Nullable Charset charset) throws Exception {
         return getOkResponseAsSpiResponse("GET", url, headers, body, charset);
     }
@@ -63,26 +73,57 @@ public class OkHttpRequestExecutor extends AbstractMultiHttpMethodExecutor {
     @Override public HttpResponse patch(String url, @Nullable Map<String, String> headers, @Nullable Object body, @Nullable Charset charset) throws Exception {
         return getOkResponseAsSpiResponse("PATCH", url, headers, body, charset);
     }
+    @Override public CompletableFuture<HttpResponse> executeAsync(top.osjf.sdk.http.spi.HttpRequest httpRequest) {
+        CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+        try {
+            @SuppressWarnings("unchecked") Map<String, String> headers = (Map) httpRequest.getHeaders();
+            Request.Builder builder = OkHttpSimpleRequestUtils.getRequestBuilder(httpRequest.getUrl(),
+                    getBody(httpRequest), httpRequest.getCharset(), headers, httpRequest.getMethodName().toUpperCase());
+            HttpRequestOptions options = httpRequest.getOptions();
+            OkHttpClient client = OkHttpSimpleRequestUtils.getClient(options != null ?
+                    options.getMethodOptions(httpRequest.getMethodName()) : null);
+            OkHttpSimpleRequestUtils.enqueue(client, builder, headers, new Callback() {
+                @Override public void onFailure(Call call, IOException e) {
+                    future.completeExceptionally(e);
+                }
+                @Override public void onResponse(Call call, Response response) {
+                    try {
+                        future.complete(toSpiResponse(response));
+                    } catch (Throwable e) {
+                        future.completeExceptionally(e);
+                    } finally {
+                        response.close();
+                    }
+                }
+            });
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
     private static HttpResponse getOkResponseAsSpiResponse(String methodName, String url, @Nullable Map<String, String> headers, @Nullable Object body, @Nullable Charset charset) throws Exception {
         Response response = null;
         try {
             Request.Builder builder = OkHttpSimpleRequestUtils.getRequestBuilder(url, body, charset, headers, methodName);
             response = OkHttpSimpleRequestUtils.getResponse(null, builder, headers);
-            Map<String, Object> responseHeaders = new HashMap<>();
-            for (String name : response.headers().names()) {
-                responseHeaders.put(name, response.headers(name));
-            }
-            Pair<String, Charset> pair = OkHttpSimpleRequestUtils.getCharsetByResponse(response);
-            return new DefaultHttpResponse(response.code(),
-                    response.message(),
-                    responseHeaders,
-                    pair.getSecond(),
-                    pair.getFirst(),
-                    response.protocol());
+            return toSpiResponse(response);
         } finally {
             if (response != null) {
                 response.close();
             }
         }
     }
+    private static HttpResponse toSpiResponse(Response response) throws IOException {
+        Map<String, Object> responseHeaders = new HashMap<>();
+        for (String name : response.headers().names()) {
+            responseHeaders.put(name, response.headers(name));
+        }
+        Pair<byte[], Charset> pair = OkHttpSimpleRequestUtils.getBytesByResponse(response);
+        return new DefaultHttpResponse(response.code(),
+                response.message(),
+                responseHeaders,
+                pair.getSecond(),
+                pair.getFirst(),
+                response.protocol());
+    }
 }
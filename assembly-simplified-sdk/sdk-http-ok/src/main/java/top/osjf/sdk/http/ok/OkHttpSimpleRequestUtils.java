@@ -24,12 +24,18 @@ import top.osjf.sdk.core.support.Nullable;
 import top.osjf.sdk.core.util.MapUtils;
 import top.osjf.sdk.core.util.Pair;
 import top.osjf.sdk.core.util.StringUtils;
+import top.osjf.sdk.core.util.SynchronizedWeakHashMap;
+import top.osjf.sdk.http.client.HttpPoolOptions;
+import top.osjf.sdk.http.client.HttpPoolStats;
+import top.osjf.sdk.http.client.HttpRequestOptions;
 import top.osjf.sdk.http.exception.ResponseFailedException;
+import top.osjf.sdk.http.spi.AbstractMultiHttpMethodExecutor;
 import top.osjf.sdk.http.support.HttpSdkSupport;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -41,14 +47,34 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * requests.
  * <p>Provide a default static global client {@code OkHttpClient} to be used by default
  * when not provided.
+ * <p>The default client shares one connection pool and dispatcher sized by
+ * {@link HttpPoolOptions#DEFAULT_OPTIONS}, with the timeouts of
+ * {@link HttpRequestOptions#DEFAULT_OPTIONS}; a request with other
+ * {@code HttpRequestOptions} is executed by a client derived from it by
+ * {@link #getClient(HttpRequestOptions)}, sharing the same pool, and the
+ * utilization of the pool is given by {@link #getPoolStats()}.
  *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.0
  */
 public abstract class OkHttpSimpleRequestUtils {
-    private static final OkHttpClient DEFAULT = new okhttp3.OkHttpClient().newBuilder().build();
+    private static final OkHttpClient DEFAULT;
+
+    private static final Map<HttpRequestOptions, OkHttpClient> OPTIONS_CLIENTS = new SynchronizedWeakHashMap<>();
 
     static {
+        HttpPoolOptions poolOptions = HttpPoolOptions.DEFAULT_OPTIONS;
+        Dispatcher defaultDispatcher = new Dispatcher();
+        defaultDispatcher.setMaxRequests(poolOptions.maxTotal());
+        defaultDispatcher.setMaxRequestsPerHost(poolOptions.maxPerRoute());
+        DEFAULT = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(poolOptions.maxTotal(),
+                        poolOptions.keepAliveMilliseconds(), TimeUnit.MILLISECONDS))
+                .dispatcher(defaultDispatcher)
+                .connectTimeout(HttpRequestOptions.DEFAULT_OPTIONS.connectTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(HttpRequestOptions.DEFAULT_OPTIONS.readTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .followRedirects(HttpRequestOptions.DEFAULT_OPTIONS.isFollowRedirects())
+                .build();
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             Dispatcher dispatcher = DEFAULT.dispatcher();
             dispatcher.executorService().shutdownNow();
@@ -278,12 +304,70 @@ public abstract class OkHttpSimpleRequestUtils {
                                        Request.Builder builder,
                                        @Nullable Map<String, String> headers) throws Exception {
         if (client == null) {
-            client = DEFAULT;
+            client = getClient(AbstractMultiHttpMethodExecutor.currentRequestOptions());
         }
         addHeaders(headers, builder);
         return client.newCall(builder.build()).execute();
     }
 
+    /**
+     * The asynchronous HTTP request sending method, the request is enqueued to the
+     * dispatcher of the client and the given callback is called with its response.
+     * <p>Without a client, the client of {@link AbstractMultiHttpMethodExecutor#currentRequestOptions()}
+     * is used, as by {@link #getResponse}.
+     *
+     * @param client   Square's HTTP request client,can be {@literal null}.
+     * @param builder  HTTP Public Request Class {@link Request.Builder}.
+     * @param headers  Optional HTTP header information used to control the behavior of requests.
+     * @param callback the callback of the response, which must close it.
+     * @since 1.0.2
+     */
+    public static void enqueue(@Nullable okhttp3.OkHttpClient client,
+                               Request.Builder builder,
+                               @Nullable Map<String, String> headers,
+                               Callback callback) {
+        if (client == null) {
+            client = getClient(AbstractMultiHttpMethodExecutor.currentRequestOptions());
+        }
+        addHeaders(headers, builder);
+        client.newCall(builder.build()).enqueue(callback);
+    }
+
+    /**
+     * Return the client executing the requests with the given {@code HttpRequestOptions},
+     * derived from the default client with the timeouts of the options and sharing its
+     * connection pool and dispatcher.
+     *
+     * @param options the http request options,the default client returned when {@literal null}.
+     * @return the client of the options.
+     * @since 1.0.2
+     */
+    public static OkHttpClient getClient(@Nullable HttpRequestOptions options) {
+        if (options == null || options == HttpRequestOptions.DEFAULT_OPTIONS) {
+            return DEFAULT;
+        }
+        return OPTIONS_CLIENTS.computeIfAbsent(options, o -> DEFAULT.newBuilder()
+                .connectTimeout(o.connectTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(o.readTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .followRedirects(o.isFollowRedirects())
+                .build());
+    }
+
+    /**
+     * Return the utilization of the connection pool of the default client, the pending
+     * number being the calls queued by its dispatcher.
+     *
+     * @return the pool stats of the default client.
+     * @since 1.0.2
+     */
+    public static HttpPoolStats getPoolStats() {
+        ConnectionPool pool = DEFAULT.connectionPool();
+        Dispatcher dispatcher = DEFAULT.dispatcher();
+        int idle = pool.idleConnectionCount();
+        return new HttpPoolStats(pool.connectionCount() - idle, idle, dispatcher.queuedCallsCount(),
+                dispatcher.getMaxRequests());
+    }
+
     /**
      * Add header information for HTTP Request.
      *
@@ -332,8 +416,13 @@ public abstract class OkHttpSimpleRequestUtils {
         if (charset != null && mediaType != null) {
             mediaType.charset(charset);
         }
-        String bodyStr = body != null ? body.toString() : "";
-        RequestBody requestBody = RequestBody.create(mediaType, bodyStr);
+        RequestBody requestBody;
+        if (body instanceof byte[]) {
+            requestBody = RequestBody.create(mediaType, (byte[]) body);
+        } else {
+            String bodyStr = body != null ? body.toString() : "";
+            requestBody = RequestBody.create(mediaType, bodyStr);
+        }
         switch (method) {
             case "GET":
                 requestBuild = requestBuild.get();
@@ -379,4 +468,27 @@ public abstract class OkHttpSimpleRequestUtils {
             return Pair.create(source.readString(charset), charset);
         }
     }
+
+    /**
+     * Returns the bytes of the returned response body with their character set,
+     * a leading byte order mark being consumed to determine it.
+     *
+     * @param response the input ok http response.
+     * @return the bytes of the response body and its charset encoding.
+     * @throws NullPointerException if input response is {@literal null}.
+     * @throws IOException          If the response body is read incorrectly.
+     * @since 1.0.2
+     */
+    public static Pair<byte[], Charset> getBytesByResponse(Response response) throws IOException {
+        ResponseBody body = response.body();
+        if (body == null) {
+            return Pair.create(new byte[0], null);
+        }
+        MediaType contentType = body.contentType();
+        Charset contentCharset = contentType != null ? contentType.charset(UTF_8) : UTF_8;
+        try (BufferedSource source = body.source()) {
+            Charset charset = Util.bomAwareCharset(source, contentCharset);
+            return Pair.create(source.readByteArray(), charset);
+        }
+    }
 }
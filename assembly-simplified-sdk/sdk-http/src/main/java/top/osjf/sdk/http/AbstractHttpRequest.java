@@ -18,6 +18,7 @@ package top.osjf.sdk.http;
 
 import top.osjf.sdk.core.AbstractRequest;
 import top.osjf.sdk.core.URL;
+import top.osjf.sdk.core.caller.CoalescingCapable;
 import top.osjf.sdk.core.client.Client;
 import top.osjf.sdk.core.support.NotNull;
 import top.osjf.sdk.core.support.Nullable;
@@ -27,6 +28,7 @@ import top.osjf.sdk.http.client.DefaultHttpClient;
 import top.osjf.sdk.http.support.HttpSdkSupport;
 
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -59,7 +61,7 @@ import java.util.Map;
  */
 @SuppressWarnings("rawtypes")
 public abstract class AbstractHttpRequest<R extends AbstractHttpResponse> extends AbstractRequest<R>
-        implements HttpRequest<R> {
+        implements HttpRequest<R>, CoalescingCapable {
 
     private static final long serialVersionUID = 7487068349280012103L;
 
@@ -127,6 +129,46 @@ public abstract class AbstractHttpRequest<R extends AbstractHttpResponse> extend
         return super.getHeadMap();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only {@code GET} and {@code HEAD} requests are considered idempotent.
+     *
+     * @return {@inheritDoc}
+     * @since 1.0.2
+     */
+    @Override
+    public boolean isIdempotent() {
+        HttpRequestMethod method = matchSdkEnum().getRequestMethod();
+        return method == HttpRequestMethod.GET || method == HttpRequestMethod.HEAD;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Return the body sent for {@link #getRequestParam()} when its content is known: its
+     * bytes wrapped in a {@code ByteBuffer} or its string. Other parameters, whose
+     * {@code toString()} does not identify their content, are not coalesced.
+     *
+     * <p>A {@code ByteBuffer} key wraps the bytes of the body, which are sent as is by the
+     * execution leading the coalesced call.
+     *
+     * @return {@inheritDoc}
+     * @since 1.0.2
+     */
+    @Override
+    @Nullable
+    public Object getCoalescingKey() {
+        Object requestParam = getRequestParam();
+        if (requestParam == null) {
+            return NO_PARAMETER_KEY;
+        }
+        if (requestParam instanceof byte[]) {
+            return ByteBuffer.wrap((byte[]) requestParam);
+        }
+        return requestParam instanceof String ? requestParam : null;
+    }
+
     @Nullable
     @Override
     public Type defResponseType() {
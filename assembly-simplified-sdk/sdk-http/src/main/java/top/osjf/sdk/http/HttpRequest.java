@@ -84,6 +84,24 @@ public interface HttpRequest<R extends HttpResponse> extends Request<R> {
     @Nullable
     String urlJoin();
 
+    /**
+     * Return the request parameter {@link #getRequestParam()} as the bytes sent by the
+     * executors, or {@literal null} to let them encode the parameter themselves.
+     *
+     * <p>By default, only a parameter that is already a {@code byte[]} is returned, as the
+     * executors derive the content type of the other parameters from their type. Requests
+     * serializing their parameter under their own content type, such as
+     * {@link JsonSerialHttpRequest}, override this method to have their bytes sent as is.
+     *
+     * @return nullable bytes of the request parameter.
+     * @since 1.0.2
+     */
+    @Nullable
+    default byte[] getRequestParamBytes() {
+        Object requestParam = getRequestParam();
+        return requestParam instanceof byte[] ? (byte[]) requestParam : null;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -20,6 +20,9 @@ import top.osjf.sdk.core.support.Nullable;
 import top.osjf.sdk.core.util.JSONUtil;
 import top.osjf.sdk.http.support.HttpSdkSupport;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -72,6 +75,53 @@ public abstract class JsonSerialHttpRequest<R extends AbstractHttpResponse> exte
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Return the JSON parameter encoded with {@link #getCharset()} or UTF-8 when it is
+     * not set, sent under the {@code application/json} content type of {@link #getHeadMap()}.
+     *
+     * <p>When encoded with UTF-8, a non-string parameter is written straight to bytes,
+     * serializing it once without the intermediate string of {@link #getRequestParam()}.
+     *
+     * @return nullable bytes of the json parameter.
+     * @since 1.0.2
+     */
+    @Override
+    @Nullable
+    public final byte[] getRequestParamBytes() {
+        Object param = getParam();
+        if (param == null) {
+            return null;
+        }
+        Charset charset = getCharset();
+        if (charset == null) {
+            charset = StandardCharsets.UTF_8;
+        }
+        if (!(param instanceof String) && StandardCharsets.UTF_8.equals(charset)) {
+            return JSONUtil.toJSONBytes(param);
+        }
+        String json = getRequestParam();
+        return json != null ? json.getBytes(charset) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Return the bytes of {@link #getRequestParamBytes()}, which the execution leading
+     * the coalesced call sends as its body: a coalesced request serializes its parameter
+     * once for both its key and its body.
+     *
+     * @return {@inheritDoc}
+     * @since 1.0.2
+     */
+    @Override
+    @Nullable
+    public Object getCoalescingKey() {
+        byte[] requestParamBytes = getRequestParamBytes();
+        return requestParamBytes != null ? ByteBuffer.wrap(requestParamBytes) : NO_PARAMETER_KEY;
+    }
+
     /**
      * When the provided parameter {@link #getParam()} is not empty,
      * add {@code application/json} to the context of the request header.
@@ -23,6 +23,7 @@ import top.osjf.sdk.core.Request;
 import top.osjf.sdk.core.URL;
 import top.osjf.sdk.core.client.AbstractClient;
 import top.osjf.sdk.core.client.Client;
+import top.osjf.sdk.core.client.JSONResponseConvert;
 import top.osjf.sdk.core.exception.SdkException;
 import top.osjf.sdk.core.support.NotNull;
 import top.osjf.sdk.core.support.Nullable;
@@ -33,12 +34,15 @@ import top.osjf.sdk.core.util.ReflectUtil;
 import top.osjf.sdk.http.AbstractHttpResponse;
 import top.osjf.sdk.http.HttpRequest;
 import top.osjf.sdk.http.HttpResponse;
+import top.osjf.sdk.http.spi.AsyncHttpRequestExecutor;
 import top.osjf.sdk.http.spi.DefaultHttpRequest;
 import top.osjf.sdk.http.spi.HttpRequestExecutor;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -53,6 +57,10 @@ import java.util.concurrent.TimeUnit;
  * is in JSON form, without conversion, and returns directly.<br>
  * {@link #convertToResponse(Request, String)} Directly converts the
  * JSON form to the desired response type.<br>
+ * When neither is overridden and the executor gives the body of the response
+ * as bytes, the response is decoded from them in one pass by
+ * {@link #convertToResponse(Request, java.io.InputStream, java.nio.charset.Charset)},
+ * see {@link #isStreamDecoding()}.<br>
  *
  * <p>It is also a step-by-step implementation process that involves
  * verifying parameters, obtaining parameters, HTTP type method requests,
@@ -76,6 +84,34 @@ public abstract class AbstractHttpClient<R extends HttpResponse> extends Abstrac
 
     private static final long serialVersionUID = -7793213059840466979L;
 
+    /*** Whether the class of a client keeps the default string handling of the response. */
+    private static final ClassValue<Boolean> DEFAULT_STRING_HANDLING = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("preResponseStrHandler", Request.class, String.class)
+                        .getDeclaringClass() == AbstractClient.class
+                        && type.getMethod("convertToResponse", Request.class, String.class)
+                        .getDeclaringClass() == JSONResponseConvert.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    /*** Whether the class of a client keeps the default logging of {@link #finallyHandler}. */
+    private static final ClassValue<Boolean> DEFAULT_FINALLY_HANDLING = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("finallyHandler", HttpResultSolver.ExecuteInfo.class)
+                        .getDeclaringClass() == AbstractHttpClient.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     /**
      * Http request executor.
      * <p>
@@ -150,6 +186,13 @@ public abstract class AbstractHttpClient<R extends HttpResponse> extends Abstrac
     @Nullable
     private String persistentUrl;
 
+    /**
+     * The options of the request logs of {@link #finallyHandler}, default
+     * {@link HttpLoggingOptions#DEFAULT_OPTIONS}.
+     */
+    @Nullable
+    private transient HttpLoggingOptions loggingOptions;
+
     /**
      * Constructing for {@code AbstractHttpClient} objects using access URLs.
      *
@@ -176,6 +219,30 @@ public abstract class AbstractHttpClient<R extends HttpResponse> extends Abstrac
         this.requestExecutor = requestExecutor;
     }
 
+    /**
+     * Set the {@code HttpLoggingOptions} of the request logs of this client.
+     *
+     * @param loggingOptions a {@code HttpLoggingOptions}.
+     * @throws NullPointerException if input loggingOptions is
+     *                              {@literal null}.
+     * @since 1.0.2
+     */
+    public void setLoggingOptions(@NotNull HttpLoggingOptions loggingOptions) {
+        Objects.requireNonNull(loggingOptions, "loggingOptions == null");
+        this.loggingOptions = loggingOptions;
+    }
+
+    /**
+     * Return the {@code HttpLoggingOptions} of the request logs of this client.
+     *
+     * @return the {@code HttpLoggingOptions} of this client.
+     * @since 1.0.2
+     */
+    @NotNull
+    public HttpLoggingOptions getLoggingOptions() {
+        return loggingOptions != null ? loggingOptions : HttpLoggingOptions.DEFAULT_OPTIONS;
+    }
+
     /**
      * Return an available {@code HttpRequestExecutor}.
      *
@@ -257,28 +324,122 @@ public abstract class AbstractHttpClient<R extends HttpResponse> extends Abstrac
         //Get the binding parameters for HTTP requests.
         HttpRequest<R> request = getBindRequest().unwrap(HttpRequest.class);
 
-        R response;
-        String responseStr = null;
-        Throwable throwable = null;
-
         //Create a request timer.
         Stopwatch stopwatch = Stopwatch.createStarted();
+        DefaultHttpRequest spiRequest = null;
+        top.osjf.sdk.http.spi.HttpResponse spiResponse = null;
+        Throwable cause = null;
         try {
             //Validation of custom parameters.
             request.validate();
 
             //Execute HTTP components based on encapsulation parameters.
-            top.osjf.sdk.http.spi.HttpResponse spiResponse =
-                    getRequestExecutor().execute(new DefaultHttpRequest(request, getUrl(), getOptions()));
+            spiRequest = new DefaultHttpRequest(request, getUrl(), getOptions());
+            spiResponse = getRequestExecutor().execute(spiRequest);
+        } catch (Throwable e) {
+            cause = e;
+        }
+        return completeResponse(request, spiRequest, spiResponse, cause, stopwatch);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the {@code HttpRequestExecutor} is also an {@link AsyncHttpRequestExecutor},
+     * the request is handed over to its non-blocking transport and the response is
+     * converted in the same way as {@link #request()} by the thread completing it,
+     * otherwise the request is executed in place.
+     *
+     * <p>The returned {@code CompletableFuture} is always completed normally, errors
+     * are converted to the current response type as {@link #request()} does.
+     *
+     * @return {@inheritDoc}
+     * @since 1.0.2
+     */
+    @Override
+    @NotNull
+    public CompletableFuture<R> requestAsync() {
+        HttpRequestExecutor requestExecutor = null;
+        try {
+            requestExecutor = getRequestExecutor();
+        } catch (IllegalStateException ignored) {
+            //Let the blocking request convert the missing executor error.
+        }
+        if (!(requestExecutor instanceof AsyncHttpRequestExecutor)) {
+            return CompletableFuture.completedFuture(request());
+        }
 
-            //Get request body string parameters
-            responseStr = spiResponse.getBody();
+        //Get the binding parameters for HTTP requests before they are released.
+        HttpRequest<R> request = getBindRequest().unwrap(HttpRequest.class);
+        String url = getUrl();
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        DefaultHttpRequest spiRequest = null;
+        CompletableFuture<top.osjf.sdk.http.spi.HttpResponse> future;
+        try {
+            request.validate();
+            spiRequest = new DefaultHttpRequest(request, url, getOptions());
+            future = ((AsyncHttpRequestExecutor) requestExecutor).executeAsync(spiRequest);
+        } catch (Throwable e) {
+            return CompletableFuture.completedFuture(completeResponse(request, spiRequest, null, e, stopwatch));
+        }
+        DefaultHttpRequest executedRequest = spiRequest;
+        return future.handle((spiResponse, e) -> completeResponse(request, executedRequest, spiResponse,
+                e instanceof CompletionException && e.getCause() != null ? e.getCause() : e, stopwatch));
+    }
+
+    /**
+     * Return whether the response is decoded in one pass from the bytes of the body
+     * given by the {@code HttpRequestExecutor}, rather than from its string.
+     *
+     * <p>By default, it is the case when this client overrides neither
+     * {@link #preResponseStrHandler(Request, String)} nor {@link #convertToResponse(Request, String)},
+     * whose customization relies on the response string.
+     *
+     * @return {@code true} if the response is decoded from the bytes of the body.
+     * @since 1.0.2
+     */
+    protected boolean isStreamDecoding() {
+        return DEFAULT_STRING_HANDLING.get(getClass());
+    }
+
+    /**
+     * Convert the result of the execution of {@code HttpRequestExecutor} to the current
+     * response type, including the preprocessing of the response string and the handling
+     * of {@link SdkException} exceptions and {@link Exception} unknown exceptions.
+     *
+     * @param request     the executed http request.
+     * @param spiRequest  the spi request, {@literal null} if it was not created.
+     * @param spiResponse the spi response, {@literal null} if the execution failed.
+     * @param cause       the error of the execution, {@literal null} if it succeeded.
+     * @param stopwatch   the request timer started before the execution.
+     * @return the current response type.
+     * @since 1.0.2
+     */
+    private R completeResponse(HttpRequest<R> request, @Nullable top.osjf.sdk.http.spi.HttpRequest spiRequest,
+                               @Nullable top.osjf.sdk.http.spi.HttpResponse spiResponse,
+                               @Nullable Throwable cause, Stopwatch stopwatch) {
+        R response;
+        String responseStr = null;
+        Throwable throwable = null;
+        try {
+            if (cause != null) throw cause;
+
+            if (spiResponse.getBodyBytes() != null && isStreamDecoding()) {
 
-            //Preprocessing operation for request results.
-            responseStr = preResponseStrHandler(request, responseStr);
+                //Decode the request result from the bytes of the body in one pass.
+                response = convertToResponse(request, spiResponse.getBodyStream(), spiResponse.getCharset());
+            } else {
+
+                //Get request body string parameters
+                responseStr = spiResponse.getBody();
 
-            //The result conversion operation of the request result.
-            response = convertToResponse(request, responseStr);
+                //Preprocessing operation for request results.
+                responseStr = preResponseStrHandler(request, responseStr);
+
+                //The result conversion operation of the request result.
+                response = convertToResponse(request, responseStr);
+            }
 
             //Set a spi response to sdk response.
             setSpiResponse(response, spiResponse);
@@ -303,17 +464,47 @@ public abstract class AbstractHttpClient<R extends HttpResponse> extends Abstrac
             //Stop timing.
             stopwatch.stop();
 
-            //Hand over the call information to the final processing project.
-            finallyHandler(HttpResultSolver.ExecuteInfoBuild.builder().requestAccess(request)
-                    .spend(stopwatch.elapsed(TimeUnit.MILLISECONDS))
-                    .maybeError(throwable)
-                    .response(responseStr)
-                    .build());
+            //Hand over the call information to the final processing project,
+            // the body decoded from bytes is only materialized when it is asked.
+            if (isFinallyHandled(request, throwable)) {
+                HttpResultSolver.ExecuteInfoBuild infoBuild = HttpResultSolver.ExecuteInfoBuild.builder()
+                        .requestAccess(request)
+                        .requestBody(spiRequest)
+                        .spend(stopwatch.elapsed(TimeUnit.MILLISECONDS))
+                        .maybeError(throwable);
+                if (responseStr == null && spiResponse != null) {
+                    infoBuild.response(spiResponse::getBody);
+                } else {
+                    infoBuild.response(responseStr);
+                }
+                finallyHandler(infoBuild.build());
+            }
         }
 
         return response;
     }
 
+    /**
+     * Return whether {@link #finallyHandler} is called for the executed request.
+     *
+     * <p>It is always the case when this client overrides {@code finallyHandler}, otherwise
+     * only when its log is written: the {@link #getLoggingOptions()} are enabled, the
+     * {@link #normal()} logs are enabled and, for a successful request, the request is sampled.
+     *
+     * @param request the executed http request.
+     * @param error   the error of the request, {@literal null} if it succeeded.
+     * @return {@code true} if {@code finallyHandler} is called.
+     * @since 1.0.2
+     */
+    private boolean isFinallyHandled(HttpRequest<R> request, @Nullable Throwable error) {
+        if (!DEFAULT_FINALLY_HANDLING.get(getClass())) {
+            return true;
+        }
+        HttpLoggingOptions options = getLoggingOptions();
+        return options.isEnabled() && isNormalEnabled()
+                && (error != null || options.isSampled(request.matchSdkEnum().name()));
+    }
+
     /**
      * Set a {@link top.osjf.sdk.http.spi.HttpResponse spiResponse} for sdk response
      * {@link HttpResponse} to support queries important information returned by the
@@ -352,21 +543,30 @@ public abstract class AbstractHttpClient<R extends HttpResponse> extends Abstrac
                 ArrayUtils.toArray(request.matchSdkEnum().name(), ExceptionUtils.getMessage(e)));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The request body and the response are only got when the log is formatted, truncated
+     * according to the {@link #getLoggingOptions()}, which may also write the log in a
+     * background thread.
+     *
+     * @param info {@inheritDoc}
+     */
     @Override
     public void finallyHandler(HttpResultSolver.ExecuteInfo info) {
+        HttpLoggingOptions options = getLoggingOptions();
         HttpRequest<?> httpRequest = info.getHttpRequest();
         String name = httpRequest.matchSdkEnum().name();
-        Object requestParam = httpRequest.getRequestParam();
-        String body = requestParam != null ? requestParam.toString() : "";
-        String response = info.getResponse();
+        Object body = options.abbreviate(info::getRequestBody);
+        Object response = options.abbreviate(info::getResponse);
         long spendTotalTimeMillis = info.getSpendTotalTimeMillis();
         if (info.noHappenError().get()) {
             String msgFormat = "Request end, name={}, request={}, response={}, time={}ms";
-            normal().accept(msgFormat,
+            options.log(normal(), msgFormat,
                     ArrayUtils.toArray(name, body, response, spendTotalTimeMillis));
         } else {
             String msgFormat = "Request fail, name={}, request={}, response={}, error={}, time={}ms";
-            normal().accept(msgFormat,
+            options.log(normal(), msgFormat,
                     ArrayUtils.toArray(name, body, response, info.getErrorMessage(), spendTotalTimeMillis));
         }
     }
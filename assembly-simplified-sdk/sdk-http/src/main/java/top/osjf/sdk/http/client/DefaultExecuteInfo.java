@@ -19,6 +19,8 @@ package top.osjf.sdk.http.client;
 import top.osjf.sdk.http.HttpRequest;
 
 import java.io.Serializable;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.function.Supplier;
 
 /**
@@ -38,7 +40,11 @@ public class DefaultExecuteInfo implements HttpResultSolver.ExecuteInfo, Seriali
 
     private final HttpRequest<?> httpRequest;
 
-    private final String response;
+    private String response;
+
+    private transient Supplier<String> responseSupplier;
+
+    private transient top.osjf.sdk.http.spi.HttpRequest spiRequest;
 
     public DefaultExecuteInfo(long spendTotalTimeMillis, Throwable error, HttpRequest<?> httpRequest, String response) {
         this.spendTotalTimeMillis = spendTotalTimeMillis;
@@ -47,6 +53,30 @@ public class DefaultExecuteInfo implements HttpResultSolver.ExecuteInfo, Seriali
         this.response = response;
     }
 
+    /**
+     * Creates a {@code DefaultExecuteInfo} whose response can be given by a supplier,
+     * called at the first {@link #getResponse()}, and whose request body can be given
+     * by the executed spi request.
+     *
+     * @param spendTotalTimeMillis the number of milliseconds spent on the request.
+     * @param error                the error of the request, can be {@literal null}.
+     * @param httpRequest          the parameters of the request.
+     * @param response             the response, can be {@literal null}.
+     * @param responseSupplier     the supplier of the response, used when the response is {@literal null}.
+     * @param spiRequest           the executed spi request, can be {@literal null}.
+     * @since 1.0.2
+     */
+    public DefaultExecuteInfo(long spendTotalTimeMillis, Throwable error, HttpRequest<?> httpRequest,
+                              String response, Supplier<String> responseSupplier,
+                              top.osjf.sdk.http.spi.HttpRequest spiRequest) {
+        this.spendTotalTimeMillis = spendTotalTimeMillis;
+        this.error = error;
+        this.httpRequest = httpRequest;
+        this.response = response;
+        this.responseSupplier = responseSupplier;
+        this.spiRequest = spiRequest;
+    }
+
     @Override
     public long getSpendTotalTimeMillis() {
         return spendTotalTimeMillis;
@@ -64,9 +94,36 @@ public class DefaultExecuteInfo implements HttpResultSolver.ExecuteInfo, Seriali
 
     @Override
     public String getResponse() {
+        if (response == null && responseSupplier != null) {
+            response = responseSupplier.get();
+            responseSupplier = null;
+        }
         return response;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>When the executed spi request has serialized its body as bytes, these bytes
+     * are returned wrapped, only decoded when the body is formatted by the logger.
+     *
+     * @return {@inheritDoc}
+     * @since 1.0.2
+     */
+    @Override
+    public Object getRequestBody() {
+        byte[] bodyBytes = spiRequest != null ? spiRequest.getBodyBytes() : null;
+        if (bodyBytes == null) {
+            return HttpResultSolver.ExecuteInfo.super.getRequestBody();
+        }
+        Charset charset = spiRequest.getCharset();
+        return new Object() {
+            @Override
+            public String toString() {
+                return new String(bodyBytes, charset != null ? charset : StandardCharsets.UTF_8);
+            }
+        };
+    }
+
     @Override
     public String getErrorMessage() {
         return error == null ? null : error.getMessage();
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.http.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import top.osjf.sdk.core.support.NotNull;
+import top.osjf.sdk.core.support.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * A class that encapsulates how {@link AbstractHttpClient#finallyHandler} logs the
+ * executed requests.
+ *
+ * <p>The {@link #DEFAULT_OPTIONS} are read once from the system properties below:
+ * <ul>
+ *     <li>{@code top.osjf.sdk.http.logging.enabled}: whether requests are logged, default true.</li>
+ *     <li>{@code top.osjf.sdk.http.logging.maxBodyLength}: the maximum number of characters of
+ *     the logged request body and response, 0 for no truncation, default 0.</li>
+ *     <li>{@code top.osjf.sdk.http.logging.sampleRate}: the ratio between 0 and 1 of the successful
+ *     requests that are logged, default 1.</li>
+ *     <li>{@code top.osjf.sdk.http.logging.sampleRate.<name>}: the ratio for the requests of the
+ *     {@code SdkEnum} of this name, default the one above.</li>
+ *     <li>{@code top.osjf.sdk.http.logging.async}: whether the logs are written by a background
+ *     thread, default false.</li>
+ *     <li>{@code top.osjf.sdk.http.logging.asyncQueueCapacity}: the number of logs waiting for the
+ *     background thread, beyond which logs are dropped, default 1024.</li>
+ * </ul>
+ *
+ * <p>A sample rate that is not a number is ignored with a warning, and one outside
+ * of [0,1] is clamped to it.
+ *
+ * <p>Failed requests are always logged, whatever their sample rate.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+public final class HttpLoggingOptions {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpLoggingOptions.class);
+
+    /*** The prefix of the system properties of {@link #DEFAULT_OPTIONS}.*/
+    public static final String PROPERTY_PREFIX = "top.osjf.sdk.http.logging.";
+
+    /*** The prefix of the system properties of the sample rates by {@code SdkEnum} name.*/
+    private static final String SAMPLE_RATE_PREFIX = PROPERTY_PREFIX + "sampleRate.";
+
+    /**
+     * The logging options of the clients, read from the system properties.
+     */
+    public static final HttpLoggingOptions DEFAULT_OPTIONS = new HttpLoggingOptions(
+            Boolean.parseBoolean(System.getProperty(PROPERTY_PREFIX + "enabled", "true")),
+            Integer.getInteger(PROPERTY_PREFIX + "maxBodyLength", 0),
+            getSampleRateProperty(PROPERTY_PREFIX + "sampleRate", 1),
+            getSampleRatesFromProperties(),
+            Boolean.getBoolean(PROPERTY_PREFIX + "async"),
+            Integer.getInteger(PROPERTY_PREFIX + "asyncQueueCapacity", 1024));
+
+    /*** Whether requests are logged.*/
+    private final boolean enabled;
+    /*** The maximum number of characters of the logged body and response, 0 for no truncation.*/
+    private final int maxBodyLength;
+    /*** The ratio of the successful requests that are logged.*/
+    private final double sampleRate;
+    /*** The ratios of the successful requests that are logged by {@code SdkEnum} name.*/
+    private final Map<String, Double> sampleRates;
+    /*** The background thread that writes the logs, {@literal null} if they are written directly.*/
+    @Nullable
+    private final ThreadPoolExecutor asyncSink;
+    /*** The number of logs dropped by the full queue of the background thread.*/
+    private final AtomicLong droppedLogs = new AtomicLong();
+
+    /**
+     * Creates the new {@code HttpLoggingOptions}.
+     *
+     * @param enabled            whether requests are logged.
+     * @param maxBodyLength      the maximum number of characters of the logged body and response,
+     *                           0 for no truncation.
+     * @param sampleRate         the ratio between 0 and 1 of the successful requests that are logged.
+     * @param sampleRates        the ratios by {@code SdkEnum} name, overriding {@code sampleRate}.
+     * @param async              whether the logs are written by a background thread.
+     * @param asyncQueueCapacity the number of logs waiting for the background thread.
+     */
+    public HttpLoggingOptions(boolean enabled, int maxBodyLength, double sampleRate,
+                              @Nullable Map<String, Double> sampleRates, boolean async, int asyncQueueCapacity) {
+        this.enabled = enabled;
+        this.maxBodyLength = Math.max(maxBodyLength, 0);
+        this.sampleRate = sampleRate;
+        this.sampleRates = sampleRates == null || sampleRates.isEmpty() ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new HashMap<>(sampleRates));
+        this.asyncSink = async ? newAsyncSink(Math.max(asyncQueueCapacity, 1)) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int maxBodyLength() {
+        return maxBodyLength;
+    }
+
+    public boolean isAsync() {
+        return asyncSink != null;
+    }
+
+    /**
+     * @return the number of logs dropped because the queue of the background thread was full.
+     */
+    public long droppedLogs() {
+        return droppedLogs.get();
+    }
+
+    /**
+     * Return the ratio of the successful requests of the given {@code SdkEnum} name
+     * that are logged.
+     *
+     * @param name the {@code SdkEnum} name.
+     * @return the ratio between 0 and 1.
+     */
+    public double sampleRate(@NotNull String name) {
+        return sampleRates.getOrDefault(name, sampleRate);
+    }
+
+    /**
+     * Decide whether a successful request of the given {@code SdkEnum} name is logged.
+     *
+     * @param name the {@code SdkEnum} name.
+     * @return {@code true} if the request is logged.
+     */
+    public boolean isSampled(@NotNull String name) {
+        double rate = sampleRate(name);
+        return rate >= 1 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /**
+     * Return a log argument that gets the given value only when the log is formatted,
+     * and truncates it to {@link #maxBodyLength()} characters.
+     *
+     * @param value the supplier of the logged value.
+     * @return the log argument.
+     */
+    @NotNull
+    public Object abbreviate(@NotNull Supplier<?> value) {
+        return new Object() {
+            @Override
+            public String toString() {
+                Object v = value.get();
+                String s = v == null ? "" : v.toString();
+                if (maxBodyLength > 0 && s.length() > maxBodyLength) {
+                    return s.substring(0, maxBodyLength) + "...(" + s.length() + " chars)";
+                }
+                return s;
+            }
+        };
+    }
+
+    /**
+     * Write a log with the given consumer, in the background thread if these
+     * options are asynchronous.
+     *
+     * @param consumer the log consumer.
+     * @param format   the log message template.
+     * @param args     the log arguments.
+     */
+    public void log(@NotNull BiConsumer<String, Object[]> consumer, @NotNull String format, Object[] args) {
+        if (asyncSink == null) {
+            consumer.accept(format, args);
+        } else {
+            asyncSink.execute(() -> consumer.accept(format, args));
+        }
+    }
+
+    private ThreadPoolExecutor newAsyncSink(int queueCapacity) {
+        ThreadPoolExecutor sink = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+            Thread thread = new Thread(r, "Sdk Http Log thread");
+            thread.setDaemon(true);
+            return thread;
+        }, (r, executor) -> droppedLogs.incrementAndGet());
+        sink.allowCoreThreadTimeOut(true);
+        return sink;
+    }
+
+    private static Map<String, Double> getSampleRatesFromProperties() {
+        Map<String, Double> sampleRates = new HashMap<>();
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(SAMPLE_RATE_PREFIX)) {
+                double sampleRate = getSampleRateProperty(name, Double.NaN);
+                if (!Double.isNaN(sampleRate)) {
+                    sampleRates.put(name.substring(SAMPLE_RATE_PREFIX.length()), sampleRate);
+                }
+            }
+        }
+        return sampleRates;
+    }
+
+    /**
+     * Return the sample rate of the given system property clamped to [0,1], or the
+     * given default when it is not set or not a number, so that a wrong value does
+     * not fail the initialization of the clients.
+     */
+    private static double getSampleRateProperty(String name, double def) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            return def;
+        }
+        double sampleRate;
+        try {
+            sampleRate = Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            sampleRate = Double.NaN;
+        }
+        if (Double.isNaN(sampleRate)) {
+            LOGGER.warn("Ignore the sample rate {}={}, which is not a number.", name, value);
+            return def;
+        }
+        if (sampleRate < 0 || sampleRate > 1) {
+            double clamped = Math.min(Math.max(sampleRate, 0), 1);
+            LOGGER.warn("Clamp the sample rate {}={} to {}.", name, value, clamped);
+            return clamped;
+        }
+        return sampleRate;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.http.client;
+
+/**
+ * A class that encapsulates the connection pool configuration shared by the
+ * default clients of the HTTP executor modules.
+ *
+ * <p>The {@link #DEFAULT_OPTIONS} are read once from the system properties below,
+ * they must therefore be set before the first request of a module:
+ * <ul>
+ *     <li>{@code top.osjf.sdk.http.pool.maxTotal}: maximum connections, default 200.</li>
+ *     <li>{@code top.osjf.sdk.http.pool.maxPerRoute}: maximum connections per route, default 50.</li>
+ *     <li>{@code top.osjf.sdk.http.pool.keepAliveMilliseconds}: how long an idle connection is kept
+ *     when the server does not say, default 5 minutes.</li>
+ *     <li>{@code top.osjf.sdk.http.pool.idleEvictMilliseconds}: idle time after which a connection is
+ *     evicted by the background eviction, default 1 minute.</li>
+ *     <li>{@code top.osjf.sdk.http.pool.urlConnectionMaxConnections}: {@code true} to let the modules
+ *     whose default client runs on {@code HttpURLConnection} (Google HTTP, JAX-RS with the Jersey
+ *     default connector) set the system property {@code http.maxConnections} to {@link #maxPerRoute()}
+ *     when not given, default {@code false}, see {@link #applyUrlConnectionMaxConnections()}.</li>
+ * </ul>
+ *
+ * <p>The connect and read timeouts of the default clients are those of
+ * {@link HttpRequestOptions#DEFAULT_OPTIONS}, the {@code HttpRequestOptions} of a request
+ * override them for that request.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+public final class HttpPoolOptions {
+
+    /*** The prefix of the system properties of {@link #DEFAULT_OPTIONS}.*/
+    public static final String PROPERTY_PREFIX = "top.osjf.sdk.http.pool.";
+
+    /**
+     * The pool options of the default clients, read from the system properties.
+     */
+    public static final HttpPoolOptions DEFAULT_OPTIONS = new HttpPoolOptions(
+            Integer.getInteger(PROPERTY_PREFIX + "maxTotal", 200),
+            Integer.getInteger(PROPERTY_PREFIX + "maxPerRoute", 50),
+            Long.getLong(PROPERTY_PREFIX + "keepAliveMilliseconds", 300000L),
+            Long.getLong(PROPERTY_PREFIX + "idleEvictMilliseconds", 60000L));
+
+    /*** Whether {@link #applyUrlConnectionMaxConnections()} sets {@code http.maxConnections}.*/
+    private static final boolean URL_CONNECTION_MAX_CONNECTIONS =
+            Boolean.getBoolean(PROPERTY_PREFIX + "urlConnectionMaxConnections");
+
+    /*** The maximum number of connections of the pool.*/
+    private final int maxTotal;
+    /*** The maximum number of connections to a single route (scheme, host and port).*/
+    private final int maxPerRoute;
+    /*** How long an idle connection is kept alive when the server gives no keep-alive.*/
+    private final long keepAliveMilliseconds;
+    /*** The idle time after which a connection is evicted from the pool.*/
+    private final long idleEvictMilliseconds;
+
+    /**
+     * Creates the new {@code HttpPoolOptions}.
+     *
+     * @param maxTotal              the maximum number of connections of the pool.
+     * @param maxPerRoute           the maximum number of connections to a single route.
+     * @param keepAliveMilliseconds how long an idle connection is kept alive when the server
+     *                              gives no keep-alive.
+     * @param idleEvictMilliseconds the idle time after which a connection is evicted.
+     */
+    public HttpPoolOptions(int maxTotal, int maxPerRoute, long keepAliveMilliseconds, long idleEvictMilliseconds) {
+        this.maxTotal = Math.max(maxTotal, 1);
+        this.maxPerRoute = Math.min(Math.max(maxPerRoute, 1), this.maxTotal);
+        this.keepAliveMilliseconds = keepAliveMilliseconds;
+        this.idleEvictMilliseconds = idleEvictMilliseconds;
+    }
+
+    /**
+     * Set the system property {@code http.maxConnections}, the number of idle connections the
+     * keep-alive cache of {@code HttpURLConnection} keeps per destination, to {@link #maxPerRoute()}
+     * of {@link #DEFAULT_OPTIONS}, when opted in by {@code top.osjf.sdk.http.pool.urlConnectionMaxConnections}
+     * and the property is not given.
+     *
+     * <p>The property is read once by the JDK and applies to every {@code HttpURLConnection} of the
+     * JVM, not only to the clients of this library, which is why it is not set by default: otherwise
+     * the JDK default of 5 connections per destination applies.
+     */
+    public static void applyUrlConnectionMaxConnections() {
+        if (URL_CONNECTION_MAX_CONNECTIONS && System.getProperty("http.maxConnections") == null) {
+            System.setProperty("http.maxConnections", String.valueOf(DEFAULT_OPTIONS.maxPerRoute()));
+        }
+    }
+
+    public int maxTotal() {
+        return maxTotal;
+    }
+
+    public int maxPerRoute() {
+        return maxPerRoute;
+    }
+
+    public long keepAliveMilliseconds() {
+        return keepAliveMilliseconds;
+    }
+
+    public long idleEvictMilliseconds() {
+        return idleEvictMilliseconds;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.http.client;
+
+/**
+ * A snapshot of the utilization of the connection pool of an HTTP client.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+public final class HttpPoolStats {
+
+    /*** The number of connections in use.*/
+    private final int leased;
+    /*** The number of idle connections ready to be reused.*/
+    private final int available;
+    /*** The number of requests waiting for a connection.*/
+    private final int pending;
+    /*** The maximum number of connections.*/
+    private final int max;
+
+    /**
+     * Creates the new {@code HttpPoolStats}.
+     *
+     * @param leased    the number of connections in use.
+     * @param available the number of idle connections.
+     * @param pending   the number of requests waiting for a connection.
+     * @param max       the maximum number of connections.
+     */
+    public HttpPoolStats(int leased, int available, int pending, int max) {
+        this.leased = leased;
+        this.available = available;
+        this.pending = pending;
+        this.max = max;
+    }
+
+    public int getLeased() {
+        return leased;
+    }
+
+    public int getAvailable() {
+        return available;
+    }
+
+    public int getPending() {
+        return pending;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * Return the fraction of the maximum connections in use.
+     *
+     * @return the utilization, between 0 and 1.
+     */
+    public double getUtilization() {
+        return max <= 0 ? 0 : (double) leased / max;
+    }
+
+    @Override
+    public String toString() {
+        return "[leased: " + leased + "; pending: " + pending + "; available: " + available + "; max: " + max + "]";
+    }
+}
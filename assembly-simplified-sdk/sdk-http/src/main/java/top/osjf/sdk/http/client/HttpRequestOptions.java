@@ -132,6 +132,9 @@ public final class HttpRequestOptions {
      * @return http method Options
      */
     public HttpRequestOptions getMethodOptions(String methodName) {
+        if (threadToMethodOptions.isEmpty()) {
+            return this;
+        }
         Map<String, HttpRequestOptions> methodOptions =
                 threadToMethodOptions.getOrDefault(getThreadIdentifier(), new HashMap<>());
         return methodOptions.getOrDefault(methodName, this);
@@ -181,4 +184,24 @@ public final class HttpRequestOptions {
     public TimeUnit readTimeoutUnit() {
         return readTimeoutUnit;
     }
+
+    /**
+     * Return the connection timeout duration in milliseconds.
+     *
+     * @return the connection timeout, in milliseconds.
+     * @since 1.0.2
+     */
+    public long connectTimeoutMillis() {
+        return connectTimeoutUnit.toMillis(connectTimeout);
+    }
+
+    /**
+     * Return the read timeout duration in milliseconds.
+     *
+     * @return the read timeout, in milliseconds.
+     * @since 1.0.2
+     */
+    public long readTimeoutMillis() {
+        return readTimeoutUnit.toMillis(readTimeout);
+    }
 }
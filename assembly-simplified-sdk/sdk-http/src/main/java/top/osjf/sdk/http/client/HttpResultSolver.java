@@ -102,6 +102,17 @@ public interface HttpResultSolver {
          */
         String getResponse();
 
+        /**
+         * Return the body of this request for logging, whose {@code toString} gives
+         * its content; by default the {@link HttpRequest#getRequestParam()}.
+         *
+         * @return the body of this request, can be {@literal null}.
+         * @since 1.0.2
+         */
+        default Object getRequestBody() {
+            return getHttpRequest().getRequestParam();
+        }
+
         /**
          * @return Returns the error response information for this request.
          */
@@ -121,6 +132,10 @@ public interface HttpResultSolver {
 
         String response;
 
+        Supplier<String> responseSupplier;
+
+        top.osjf.sdk.http.spi.HttpRequest spiRequest;
+
         public static ExecuteInfoBuild builder() {
             return new ExecuteInfoBuild();
         }
@@ -135,6 +150,19 @@ public interface HttpResultSolver {
             return this;
         }
 
+        /**
+         * Set the executed spi request, whose serialized body bytes are reused
+         * for the logging of the request body.
+         *
+         * @param spiRequest the executed spi request,can be {@literal null}.
+         * @return this builder.
+         * @since 1.0.2
+         */
+        public ExecuteInfoBuild requestBody(top.osjf.sdk.http.spi.HttpRequest spiRequest) {
+            this.spiRequest = spiRequest;
+            return this;
+        }
+
         public ExecuteInfoBuild maybeError(Throwable error) {
             this.error = error;
             return this;
@@ -142,6 +170,21 @@ public interface HttpResultSolver {
 
         public ExecuteInfoBuild response(String response) {
             this.response = response;
+            this.responseSupplier = null;
+            return this;
+        }
+
+        /**
+         * Set the response of the request as a supplier called at the first
+         * {@link ExecuteInfo#getResponse()}.
+         *
+         * @param responseSupplier the supplier of the response.
+         * @return this builder.
+         * @since 1.0.2
+         */
+        public ExecuteInfoBuild response(Supplier<String> responseSupplier) {
+            this.response = null;
+            this.responseSupplier = responseSupplier;
             return this;
         }
 
@@ -150,7 +193,9 @@ public interface HttpResultSolver {
                     spendTotalTimeMillis,
                     error,
                     httpRequest,
-                    response
+                    response,
+                    responseSupplier,
+                    spiRequest
             );
         }
     }
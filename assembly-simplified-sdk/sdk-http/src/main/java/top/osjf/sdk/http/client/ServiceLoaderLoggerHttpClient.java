@@ -70,6 +70,11 @@ public class ServiceLoaderLoggerHttpClient<R extends HttpResponse> extends Defau
         return consumer.normal();
     }
 
+    @Override
+    public boolean isNormalEnabled() {
+        return consumer.isNormalEnabled();
+    }
+
     @Override
     @NotNull
     public BiConsumer<String, Object[]> sdkError() {
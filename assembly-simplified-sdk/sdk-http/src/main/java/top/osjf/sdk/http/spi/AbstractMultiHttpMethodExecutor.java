@@ -17,29 +17,136 @@
 package top.osjf.sdk.http.spi;
 
 import top.osjf.sdk.core.support.NotNull;
+import top.osjf.sdk.core.support.Nullable;
+import top.osjf.sdk.http.HttpRequestMethod;
+import top.osjf.sdk.http.client.HttpRequestOptions;
 
+import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.Charset;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 /**
  * {@code AbstractMultiHttpMethodExecutor} is an abstract class that implements
  * {@code MultiHttpMethodExecutor}, which rewrites {@link #execute} methods to
- * obtain the source {@code HttpRequest} and reflects the execution of relevant
+ * obtain the source {@code HttpRequest} and dispatches it to the relevant
  * request methods.
  *
+ * <p>The request methods of {@link HttpRequestMethod} are dispatched through a table
+ * built once, method names outside of it are still reflected on the public methods
+ * of the executor class.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.2
  */
 public abstract class AbstractMultiHttpMethodExecutor implements MultiHttpMethodExecutor {
 
+    /*** The {@code HttpRequestOptions} of the request being executed by the current thread.*/
+    private static final ThreadLocal<HttpRequestOptions> CURRENT_REQUEST_OPTIONS = new ThreadLocal<>();
+
+    /*** The {@code MultiHttpMethodExecutor} method of each {@code HttpRequestMethod}.*/
+    private static final Map<HttpRequestMethod, HttpMethodCall> HTTP_METHOD_CALLS =
+            new EnumMap<>(HttpRequestMethod.class);
+
+    /*** The {@code HttpRequestMethod} of the upper and lower case method names.*/
+    private static final Map<String, HttpRequestMethod> HTTP_METHODS_BY_NAME = new HashMap<>();
+
+    static {
+        HTTP_METHOD_CALLS.put(HttpRequestMethod.GET, MultiHttpMethodExecutor::get);
+        HTTP_METHOD_CALLS.put(HttpRequestMethod.POST, MultiHttpMethodExecutor::post);
+        HTTP_METHOD_CALLS.put(HttpRequestMethod.PUT, MultiHttpMethodExecutor::put);
+        HTTP_METHOD_CALLS.put(HttpRequestMethod.DELETE, MultiHttpMethodExecutor::delete);
+        HTTP_METHOD_CALLS.put(HttpRequestMethod.TRACE, MultiHttpMethodExecutor::trace);
+        HTTP_METHOD_CALLS.put(HttpRequestMethod.OPTIONS, MultiHttpMethodExecutor::options);
+        HTTP_METHOD_CALLS.put(HttpRequestMethod.HEAD, MultiHttpMethodExecutor::head);
+        HTTP_METHOD_CALLS.put(HttpRequestMethod.PATCH, MultiHttpMethodExecutor::patch);
+        for (HttpRequestMethod method : HttpRequestMethod.values()) {
+            HTTP_METHODS_BY_NAME.put(method.name(), method);
+            HTTP_METHODS_BY_NAME.put(method.name().toLowerCase(Locale.ROOT), method);
+        }
+    }
+
     @Override
     public final HttpResponse execute(@NotNull HttpRequest httpRequest) throws Exception {
-        return (HttpResponse) getClass().getMethod(httpRequest.getMethodName().toLowerCase(),
-                String.class,
-                Map.class,
-                Object.class,
-                Charset.class).invoke(this, httpRequest.getUrl(),
-                httpRequest.getHeaders(),
-                httpRequest.getBody(), httpRequest.getCharset());
+        String methodName = httpRequest.getMethodName();
+        HttpRequestOptions options = httpRequest.getOptions();
+        CURRENT_REQUEST_OPTIONS.set(options != null ? options.getMethodOptions(methodName) : null);
+        try {
+            @SuppressWarnings("unchecked") Map<String, String> headers = (Map) httpRequest.getHeaders();
+            HttpMethodCall call = getHttpMethodCall(methodName);
+            if (call != null) {
+                return call.call(this, httpRequest.getUrl(), headers, getBody(httpRequest),
+                        httpRequest.getCharset());
+            }
+            return (HttpResponse) getClass().getMethod(methodName.toLowerCase(),
+                    String.class,
+                    Map.class,
+                    Object.class,
+                    Charset.class).invoke(this, httpRequest.getUrl(),
+                    headers,
+                    getBody(httpRequest), httpRequest.getCharset());
+        } catch (InvocationTargetException e) {
+            Throwable target = e.getTargetException();
+            throw target instanceof Exception ? (Exception) target : e;
+        } finally {
+            CURRENT_REQUEST_OPTIONS.remove();
+        }
+    }
+
+    /**
+     * Return the {@code MultiHttpMethodExecutor} method of the given method name from
+     * the dispatch table.
+     *
+     * @param methodName the method name of the http request.
+     * @return the method of the name, {@literal null} if it is not of {@link HttpRequestMethod}.
+     */
+    @Nullable
+    private static HttpMethodCall getHttpMethodCall(String methodName) {
+        HttpRequestMethod method = HTTP_METHODS_BY_NAME.get(methodName);
+        if (method == null) {
+            method = HTTP_METHODS_BY_NAME.get(methodName.toUpperCase(Locale.ROOT));
+        }
+        return method != null ? HTTP_METHOD_CALLS.get(method) : null;
+    }
+
+    /**
+     * Return the body given to the HTTP method implementations, the serialized
+     * {@link HttpRequest#getBodyBytes()} when available, so that they are sent as
+     * a byte array entity without encoding the body again.
+     *
+     * @param httpRequest the executed http request.
+     * @return the {@code byte[]} of the body, or {@link HttpRequest#getBody()}.
+     * @since 1.0.2
+     */
+    @Nullable
+    protected Object getBody(HttpRequest httpRequest) {
+        byte[] bodyBytes = httpRequest.getBodyBytes();
+        return bodyBytes != null ? bodyBytes : httpRequest.getBody();
+    }
+
+    /**
+     * Return the {@code HttpRequestOptions} of the request being executed by the current
+     * thread through {@link #execute}, so that the HTTP method implementations, whose
+     * signatures do not carry them, can apply its timeouts to the underlying client.
+     *
+     * @return the options of the current request, {@literal null} when the HTTP method is
+     * not called through {@link #execute}.
+     * @since 1.0.2
+     */
+    @Nullable
+    public static HttpRequestOptions currentRequestOptions() {
+        return CURRENT_REQUEST_OPTIONS.get();
+    }
+
+    /**
+     * A {@code MultiHttpMethodExecutor} method of the dispatch table.
+     */
+    @FunctionalInterface
+    private interface HttpMethodCall {
+
+        HttpResponse call(MultiHttpMethodExecutor executor, String url, @Nullable Map<String, String> headers,
+                          @Nullable Object body, @Nullable Charset charset) throws Exception;
     }
 }
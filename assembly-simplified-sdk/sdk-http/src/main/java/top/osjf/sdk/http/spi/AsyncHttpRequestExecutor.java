@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.http.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The {@code AsyncHttpRequestExecutor} interface is the non-blocking counterpart of
+ * {@link HttpRequestExecutor}, the {@code HttpRequest} is handed over to the asynchronous
+ * transport of the HTTP library and the returned {@code CompletableFuture} is completed
+ * by the callback of that library, so no thread waits for the response of the request.
+ *
+ * <p>It is implemented alongside {@code HttpRequestExecutor} by the executors whose HTTP
+ * library has such a transport, the HTTP client checks whether its executor is also an
+ * {@code AsyncHttpRequestExecutor} when a request is executed asynchronously, and falls
+ * back to the blocking {@link HttpRequestExecutor#execute} otherwise.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+@FunctionalInterface
+public interface AsyncHttpRequestExecutor {
+
+    /**
+     * Executes the specified HTTP request asynchronously.
+     *
+     * <p>Any error of the execution, such as network issues, timeouts, or protocol errors,
+     * completes the returned {@code CompletableFuture} exceptionally instead of being thrown.
+     *
+     * @param httpRequest the HTTP request instance object to be executed contains all the
+     *                    parameters and header information of the request.
+     * @return The {@code CompletableFuture} completed with the HTTP response of the request.
+     */
+    CompletableFuture<HttpResponse> executeAsync(HttpRequest httpRequest);
+}
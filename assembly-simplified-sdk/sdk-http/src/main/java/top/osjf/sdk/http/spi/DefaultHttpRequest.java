@@ -18,10 +18,12 @@
 package top.osjf.sdk.http.spi;
 
 import com.google.common.collect.Lists;
+import top.osjf.sdk.core.caller.SingleFlight;
 import top.osjf.sdk.core.support.NotNull;
 import top.osjf.sdk.core.support.Nullable;
 import top.osjf.sdk.http.client.HttpRequestOptions;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -35,6 +37,11 @@ import java.util.stream.Collectors;
  * The default implementation encapsulation class for {@link HttpRequest} interface
  * description information provides support for obtaining it.
  *
+ * <p>The bytes of the body are those of {@link top.osjf.sdk.http.HttpRequest#getRequestParamBytes()},
+ * serialized once, at the first {@link #getBodyBytes()}, and kept for the logging of the request. When this request
+ * leads a coalesced call on the current thread, the body bytes wrapped by its
+ * {@code ByteBuffer} coalescing key are sent instead of serializing the body again.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.2
  */
@@ -43,6 +50,8 @@ public class DefaultHttpRequest implements HttpRequest {
     private final String url;
     private final top.osjf.sdk.http.HttpRequest<?> rawHttpRequest;
     private final HttpRequestOptions requestOptions;
+    private transient volatile byte[] bodyBytes;
+    private transient volatile boolean bodyBytesResolved;
     /**
      * Creates a new {@code DefaultHttpRequest} by given original http request
      * and access url and a {@code HttpRequestOptions}.
@@ -67,6 +76,18 @@ public class DefaultHttpRequest implements HttpRequest {
     @Override @Nullable public Object getBody() {
         return rawHttpRequest.getRequestParam();
     }
+    @Override @Nullable public byte[] getBodyBytes() {
+        if (!bodyBytesResolved) {
+            byte[] leadingKeyBytes = getLeadingCoalescingKeyBytes();
+            if (leadingKeyBytes != null) {
+                bodyBytes = leadingKeyBytes;
+            } else {
+                bodyBytes = rawHttpRequest.getRequestParamBytes();
+            }
+            bodyBytesResolved = true;
+        }
+        return bodyBytes;
+    }
     @Override @Nullable public <T> T getBody(Class<T> requiredType) {
         return getBody(requiredType, null);
     }
@@ -135,6 +156,18 @@ public class DefaultHttpRequest implements HttpRequest {
     @Override @NotNull public HttpRequestOptions getOptions() {
         return requestOptions;
     }
+    @Nullable private byte[] getLeadingCoalescingKeyBytes() {
+        Object coalescingKey = SingleFlight.getLeadingCoalescingKey(rawHttpRequest);
+        if (!(coalescingKey instanceof ByteBuffer)) {
+            return null;
+        }
+        ByteBuffer keyBuffer = (ByteBuffer) coalescingKey;
+        if (!keyBuffer.hasArray() || keyBuffer.arrayOffset() != 0 || keyBuffer.position() != 0
+                || keyBuffer.remaining() != keyBuffer.array().length) {
+            return null;
+        }
+        return keyBuffer.array();
+    }
     private <T> T convertValueToRequired(Object value,
                                          Class<T> requiredType,
                                          Function<Object, T> customConversionAfterFailed)
@@ -20,6 +20,7 @@ package top.osjf.sdk.http.spi;
 import top.osjf.sdk.core.support.Nullable;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
 
@@ -27,6 +28,9 @@ import java.util.Map;
  * The default implementation encapsulation class for {@link HttpResponse} interface
  * description information provides support for obtaining it.
  *
+ * <p>Since 1.0.2, the body can be given as the bytes read from the server,
+ * which are only decoded to a string when {@link #getBody()} is called.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.2
  */
@@ -36,7 +40,8 @@ public class DefaultHttpResponse implements HttpResponse {
     private final String statusMessage;
     private final Map<String, Object> headerMap;
     private final Charset charset;
-    private final String body;
+    private volatile String body;
+    private final byte[] bodyBytes;
     private final Object protocolVersion;
     /**
      * Creates a new {@code DefaultHttpRequest} by given original http request
@@ -60,6 +65,32 @@ public class DefaultHttpResponse implements HttpResponse {
         this.headerMap = Collections.unmodifiableMap(headerMap);
         this.charset = charset;
         this.body = body;
+        this.bodyBytes = null;
+        this.protocolVersion = protocolVersion;
+    }
+    /**
+     * Creates a new {@code DefaultHttpResponse} with the body given as the bytes
+     * read from the server.
+     *
+     * @param statusCode        the status code of the HTTP response.
+     * @param statusMessage     the status message of the HTTP response.
+     * @param headerMap         the header information of the HTTP response.
+     * @param charset           the {@code Charset} set of the HTTP response.
+     * @param bodyBytes         the bytes of the body content of the HTTP response.
+     * @param protocolVersion   the http protocol version instance.
+     * @since 1.0.2
+     */
+    public DefaultHttpResponse(int statusCode,
+                               String statusMessage,
+                               Map<String, Object> headerMap,
+                               Charset charset,
+                               @Nullable byte[] bodyBytes,
+                               Object protocolVersion) {
+        this.statusCode = statusCode;
+        this.statusMessage = statusMessage;
+        this.headerMap = Collections.unmodifiableMap(headerMap);
+        this.charset = charset;
+        this.bodyBytes = bodyBytes;
         this.protocolVersion = protocolVersion;
     }
     @Override public int getStatusCode() {
@@ -75,8 +106,16 @@ public class DefaultHttpResponse implements HttpResponse {
         return charset;
     }
     @Override public String getBody() {
+        String body = this.body;
+        if (body == null && bodyBytes != null) {
+            body = new String(bodyBytes, charset != null ? charset : StandardCharsets.UTF_8);
+            this.body = body;
+        }
         return body;
     }
+    @Nullable @Override public byte[] getBodyBytes() {
+        return bodyBytes;
+    }
     @Nullable @Override public Object getProtocolVersion() {
         return protocolVersion;
     }
@@ -84,6 +84,23 @@ public interface HttpRequest extends Serializable {
     @Nullable
     <T> T getBody(Class<T> requiredType) throws ClassCastException;
 
+    /**
+     * Get the body content of the HTTP request serialized as the bytes to be sent,
+     * encoded with {@link #getCharset()}.
+     *
+     * <p>Executors send these bytes as the entity of the request when they are given,
+     * rather than encoding the string of {@link #getBody()}; by default, they are only
+     * given for a body that is already a {@code byte[]}.
+     *
+     * @return The bytes of the body content of the request, or {@literal null}.
+     * @since 1.0.2
+     */
+    @Nullable
+    default byte[] getBodyBytes() {
+        Object body = getBody();
+        return body instanceof byte[] ? (byte[]) body : null;
+    }
+
     /**
      * Get the body content of the HTTP request and attempt to convert it to
      * the specified type.
@@ -19,8 +19,11 @@ package top.osjf.sdk.http.spi;
 
 import top.osjf.sdk.core.support.Nullable;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.Serializable;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 /**
@@ -89,6 +92,41 @@ public interface HttpResponse extends Serializable {
      */
     String getBody();
 
+    /**
+     * Gets the body content of the HTTP response as the bytes read from the server,
+     * encoded with {@link #getCharset()}.
+     *
+     * <p>Executors reading the response body as bytes return them here, so that the
+     * body can be decoded into the SDK response without being materialized as a
+     * {@code String}; {@literal null} is returned by default, when the body is only
+     * available by {@link #getBody()}.
+     *
+     * @return The bytes of the body content of the HTTP response, or {@literal null}.
+     * @since 1.0.2
+     */
+    @Nullable
+    default byte[] getBodyBytes() {
+        return null;
+    }
+
+    /**
+     * Gets the body content of the HTTP response as an {@code InputStream} of the
+     * bytes encoded with {@link #getCharset()}.
+     *
+     * @return The stream of the body content of the HTTP response.
+     * @since 1.0.2
+     */
+    default InputStream getBodyStream() {
+        byte[] bodyBytes = getBodyBytes();
+        if (bodyBytes == null) {
+            String body = getBody();
+            Charset charset = getCharset();
+            bodyBytes = body != null ? body.getBytes(charset != null ? charset : StandardCharsets.UTF_8)
+                    : new byte[0];
+        }
+        return new ByteArrayInputStream(bodyBytes);
+    }
+
     /**
      * Return the HTTP protocol version instance object, and return a generalized
      * object according to different docking frameworks, which can be converted
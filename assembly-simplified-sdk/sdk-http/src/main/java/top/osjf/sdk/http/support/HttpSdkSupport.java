@@ -30,6 +30,7 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.ByteArrayInputStream;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -86,6 +87,8 @@ public abstract class HttpSdkSupport extends SdkSupport {
      *     <li>{@code "application/x-www-form-urlencoded"}</li>
      * </ul>
      * with the rest being {@literal null}.
+     * <p>Since 1.0.2, a {@code byte[]} body is judged by its string decoded with
+     * the charset, UTF-8 by default.
      *
      * @param body    input body.
      * @param charset input charset.
@@ -93,8 +96,10 @@ public abstract class HttpSdkSupport extends SdkSupport {
      * @since 1.0.2
      */
     public static String getContentTypeWithBody(Object body, Charset charset) {
-        if (body == null || StringUtils.isBlank(body.toString())) return null;
-        String bodyStr = body.toString();
+        if (body == null) return null;
+        String bodyStr = body instanceof byte[] ?
+                new String((byte[]) body, charset != null ? charset : StandardCharsets.UTF_8) : body.toString();
+        if (StringUtils.isBlank(bodyStr)) return null;
         for (Map.Entry<BiPredicate<String, Charset>, String> entry : content_type_predicates.entrySet()) {
             if (entry.getKey().test(bodyStr, charset)) {
                 return entry.getValue();
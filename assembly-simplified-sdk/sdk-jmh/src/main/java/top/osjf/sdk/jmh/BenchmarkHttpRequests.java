@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.jmh;
+
+import top.osjf.sdk.core.support.NotNull;
+import top.osjf.sdk.core.support.Nullable;
+import top.osjf.sdk.http.AbstractHttpRequest;
+import top.osjf.sdk.http.HttpProtocol;
+import top.osjf.sdk.http.HttpRequestMethod;
+import top.osjf.sdk.http.HttpResultResponse;
+import top.osjf.sdk.http.HttpSdkEnum;
+import top.osjf.sdk.http.spi.DefaultHttpRequest;
+import top.osjf.sdk.http.spi.HttpRequest;
+
+/**
+ * The http requests given to the executors by the benchmarks.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+final class BenchmarkHttpRequests {
+
+    private BenchmarkHttpRequests() {
+    }
+
+    /**
+     * Return the executor request of the given http method to the given url, with a
+     * small JSON body for the methods sending one.
+     *
+     * @param method the http method.
+     * @param url    the url of the request.
+     * @return the request given to the executors.
+     */
+    static HttpRequest of(HttpRequestMethod method, String url) {
+        return new DefaultHttpRequest(new PingRequest(method), url, null);
+    }
+
+    /**
+     * The sdk of each http method of the benchmarks.
+     */
+    enum PingSdkEnum implements HttpSdkEnum {
+
+        GET(HttpRequestMethod.GET),
+        POST(HttpRequestMethod.POST),
+        PUT(HttpRequestMethod.PUT),
+        DELETE(HttpRequestMethod.DELETE);
+
+        private final HttpRequestMethod requestMethod;
+
+        PingSdkEnum(HttpRequestMethod requestMethod) {
+            this.requestMethod = requestMethod;
+        }
+
+        @Override
+        @NotNull
+        public String getUrl(@Nullable String host) {
+            return "http://" + (host != null ? host : "localhost") + "/ping";
+        }
+
+        @Override
+        @NotNull
+        public HttpRequestMethod getRequestMethod() {
+            return requestMethod;
+        }
+
+        @Override
+        public HttpProtocol getProtocol() {
+            return HttpProtocol.HTTP;
+        }
+    }
+
+    /**
+     * A request of an sdk of {@link PingSdkEnum}.
+     */
+    static class PingRequest extends AbstractHttpRequest<HttpResultResponse<String>> {
+
+        private static final long serialVersionUID = 3342402146040969522L;
+
+        private final PingSdkEnum sdkEnum;
+
+        PingRequest(HttpRequestMethod method) {
+            this.sdkEnum = PingSdkEnum.valueOf(method.name());
+        }
+
+        @Override
+        public Object getRequestParam() {
+            return sdkEnum == PingSdkEnum.POST || sdkEnum == PingSdkEnum.PUT ? "{\"id\":1,\"name\":\"ping\"}" : null;
+        }
+
+        @Override
+        @NotNull
+        public HttpSdkEnum matchSdkEnum() {
+            return sdkEnum;
+        }
+    }
+}
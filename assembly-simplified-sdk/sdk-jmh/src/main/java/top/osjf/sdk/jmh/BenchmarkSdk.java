@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.jmh;
+
+import top.osjf.sdk.core.AbstractRequest;
+import top.osjf.sdk.core.AbstractResponse;
+import top.osjf.sdk.core.RequestSetter;
+import top.osjf.sdk.core.RequestType;
+import top.osjf.sdk.core.SdkEnum;
+import top.osjf.sdk.core.client.Client;
+import top.osjf.sdk.core.support.NotNull;
+import top.osjf.sdk.core.support.Nullable;
+
+/**
+ * An sdk interface and its request and response, which are executed in memory
+ * so that the benchmarks measure the overhead of the sdk rather than any I/O.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+public interface BenchmarkSdk {
+
+    @RequestType(EchoRequest.class)
+    EchoResponse echo(@RequestSetter(name = "value") String value);
+
+    /**
+     * The only sdk of the benchmarks.
+     */
+    enum EchoSdkEnum implements SdkEnum {
+
+        ECHO;
+
+        @Override
+        @NotNull
+        public String getUrl(@Nullable String host) {
+            return "http://" + (host != null ? host : "localhost") + "/echo";
+        }
+    }
+
+    /**
+     * A request returning its value in a response without any client.
+     */
+    class EchoRequest extends AbstractRequest<EchoResponse> {
+
+        private static final long serialVersionUID = 7014328315318215317L;
+
+        private String value;
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object getRequestParam() {
+            return value;
+        }
+
+        @Override
+        @NotNull
+        public SdkEnum matchSdkEnum() {
+            return EchoSdkEnum.ECHO;
+        }
+
+        @Override
+        @NotNull
+        public Class<? extends Client> getClientType() {
+            return Client.class;
+        }
+
+        @Override
+        public EchoResponse execute(@Nullable String host) {
+            return new EchoResponse(value);
+        }
+    }
+
+    /**
+     * The response of an {@link EchoRequest}.
+     */
+    class EchoResponse extends AbstractResponse {
+
+        private static final long serialVersionUID = -1436707957436870128L;
+
+        private final String value;
+
+        public EchoResponse(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
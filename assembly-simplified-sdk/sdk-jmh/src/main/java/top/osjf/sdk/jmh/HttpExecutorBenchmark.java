@@ -0,0 +1,131 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.jmh;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import top.osjf.sdk.http.HttpRequestMethod;
+import top.osjf.sdk.http.apache.ApacheHttpRequestExecutor;
+import top.osjf.sdk.http.feign.apache.ApacheFeignClientHttpRequestExecutor;
+import top.osjf.sdk.http.feign.google.GoogleFeignClientHttpRequestExecutor;
+import top.osjf.sdk.http.feign.hc5.Hc5FeignClientHttpRequestExecutor;
+import top.osjf.sdk.http.feign.jaxrs2.JAXRSFeignClientHttpRequestExecutor;
+import top.osjf.sdk.http.feign.ok.OkFeignClientHttpRequestExecutor;
+import top.osjf.sdk.http.google.GoogleHttpRequestExecutor;
+import top.osjf.sdk.http.hc5.Hc5HttpRequestExecutor;
+import top.osjf.sdk.http.jaxrs2.JAXRSHttpRequestExecutor;
+import top.osjf.sdk.http.ok.OkHttpRequestExecutor;
+import top.osjf.sdk.http.spi.HttpRequest;
+import top.osjf.sdk.http.spi.HttpRequestExecutor;
+import top.osjf.sdk.http.spi.HttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of a request executed by each {@link HttpRequestExecutor} module against a
+ * loopback server answering a small JSON body, giving the per-request cost of each
+ * executor on top of the network round trip, which is the same for all of them.
+ *
+ * <p>The {@code AbstractMultiHttpMethodExecutor} modules ({@code ok}, {@code apache},
+ * {@code hc5}, {@code google} and {@code jaxrs2}) dispatch through the table measured
+ * alone by {@link HttpMethodDispatchBenchmark}; the {@code feign-*} modules go through
+ * the feign bridging, which has no method dispatch.
+ *
+ * <p>The loopback server writes its responses without Nagle's algorithm, which would
+ * otherwise hold each response for the delayed acknowledgment of the client, adding
+ * about 40ms to every request whatever the executor. Its content type carries a charset,
+ * without which the {@code jaxrs2} executor refuses the response.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@State(Scope.Benchmark)
+public class HttpExecutorBenchmark {
+
+    private static final byte[] RESPONSE_BODY = "{\"code\":0,\"message\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"ok", "apache", "hc5", "google", "jaxrs2",
+            "feign-ok", "feign-apache", "feign-hc5", "feign-google", "feign-jaxrs2"})
+    public String executor;
+
+    @Param({"GET", "POST"})
+    public HttpRequestMethod method;
+
+    private HttpServer server;
+
+    private HttpRequestExecutor requestExecutor;
+
+    private HttpRequest httpRequest;
+
+    @Setup
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 128);
+        server.createContext("/ping", exchange -> {
+            try (InputStream in = exchange.getRequestBody()) {
+                while (in.read() != -1) {
+                    //Drain the request body.
+                }
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, RESPONSE_BODY.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(RESPONSE_BODY);
+            }
+        });
+        server.start();
+        requestExecutor = newExecutor(executor);
+        httpRequest = BenchmarkHttpRequests.of(method,
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/ping");
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public HttpResponse execute() throws Exception {
+        return requestExecutor.execute(httpRequest);
+    }
+
+    private static HttpRequestExecutor newExecutor(String name) {
+        switch (name) {
+            case "ok": return new OkHttpRequestExecutor();
+            case "apache": return new ApacheHttpRequestExecutor();
+            case "hc5": return new Hc5HttpRequestExecutor();
+            case "google": return new GoogleHttpRequestExecutor();
+            case "jaxrs2": return new JAXRSHttpRequestExecutor();
+            case "feign-ok": return new OkFeignClientHttpRequestExecutor();
+            case "feign-apache": return new ApacheFeignClientHttpRequestExecutor();
+            case "feign-hc5": return new Hc5FeignClientHttpRequestExecutor();
+            case "feign-google": return new GoogleFeignClientHttpRequestExecutor();
+            case "feign-jaxrs2": return new JAXRSFeignClientHttpRequestExecutor();
+            default: throw new IllegalArgumentException("Unknown executor " + name);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import top.osjf.sdk.core.support.Nullable;
+import top.osjf.sdk.http.HttpRequestMethod;
+import top.osjf.sdk.http.spi.AbstractMultiHttpMethodExecutor;
+import top.osjf.sdk.http.spi.DefaultHttpResponse;
+import top.osjf.sdk.http.spi.HttpRequest;
+import top.osjf.sdk.http.spi.HttpResponse;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the dispatch of a request to the HTTP method implementations of an
+ * {@link AbstractMultiHttpMethodExecutor}, whose methods return a response without
+ * any I/O so that only the dispatch is measured.
+ *
+ * <ul>
+ *     <li>{@code dispatchTable}: {@link AbstractMultiHttpMethodExecutor#execute}, dispatching
+ *     through its {@code HttpRequestMethod} table.</li>
+ *     <li>{@code reflectiveDispatch}: the method looked up by its lower case name and invoked
+ *     reflectively, as {@code execute} did before the table.</li>
+ * </ul>
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HttpMethodDispatchBenchmark {
+
+    @Param({"GET", "POST"})
+    public HttpRequestMethod method;
+
+    private final NoopExecutor executor = new NoopExecutor();
+
+    private HttpRequest httpRequest;
+
+    @Setup
+    public void setup() {
+        httpRequest = BenchmarkHttpRequests.of(method, "http://localhost/ping");
+    }
+
+    @Benchmark
+    public HttpResponse dispatchTable() throws Exception {
+        return executor.execute(httpRequest);
+    }
+
+    @Benchmark
+    public HttpResponse reflectiveDispatch() throws Exception {
+        return (HttpResponse) executor.getClass().getMethod(httpRequest.getMethodName().toLowerCase(),
+                String.class,
+                Map.class,
+                Object.class,
+                Charset.class).invoke(executor, httpRequest.getUrl(),
+                httpRequest.getHeaders(),
+                httpRequest.getBody(), httpRequest.getCharset());
+    }
+
+    /**
+     * An executor returning the same response for every HTTP method.
+     */
+    public static class NoopExecutor extends AbstractMultiHttpMethodExecutor {
+
+        private static final HttpResponse RESPONSE = new DefaultHttpResponse(200, "OK", Collections.emptyMap(),
+                StandardCharsets.UTF_8, "{\"ok\":true}".getBytes(StandardCharsets.UTF_8), "HTTP/1.1");
+
+        @Override
+        public HttpResponse get(String url, @Nullable Map<String, String> headers, @Nullable Object body,
+                                @Nullable Charset charset) {
+            return RESPONSE;
+        }
+
+        @Override
+        public HttpResponse post(String url, @Nullable Map<String, String> headers, @Nullable Object body,
+                                 @Nullable Charset charset) {
+            return RESPONSE;
+        }
+
+        @Override
+        public HttpResponse put(String url, @Nullable Map<String, String> headers, @Nullable Object body,
+                                @Nullable Charset charset) {
+            return RESPONSE;
+        }
+
+        @Override
+        public HttpResponse delete(String url, @Nullable Map<String, String> headers, @Nullable Object body,
+                                   @Nullable Charset charset) {
+            return RESPONSE;
+        }
+
+        @Override
+        public HttpResponse trace(String url, @Nullable Map<String, String> headers, @Nullable Object body,
+                                  @Nullable Charset charset) {
+            return RESPONSE;
+        }
+
+        @Override
+        public HttpResponse options(String url, @Nullable Map<String, String> headers, @Nullable Object body,
+                                    @Nullable Charset charset) {
+            return RESPONSE;
+        }
+
+        @Override
+        public HttpResponse head(String url, @Nullable Map<String, String> headers, @Nullable Object body,
+                                 @Nullable Charset charset) {
+            return RESPONSE;
+        }
+
+        @Override
+        public HttpResponse patch(String url, @Nullable Map<String, String> headers, @Nullable Object body,
+                                  @Nullable Charset charset) {
+            return RESPONSE;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import top.osjf.sdk.core.Request;
+import top.osjf.sdk.core.RequestSetter;
+import top.osjf.sdk.core.RequestType;
+import top.osjf.sdk.core.Response;
+import top.osjf.sdk.core.support.MethodInvocationPlan;
+import top.osjf.sdk.core.support.SdkSupport;
+import top.osjf.sdk.core.util.ReflectUtil;
+import top.osjf.sdk.core.util.SynchronizedWeakHashMap;
+import top.osjf.sdk.proxy.ComprehensiveDelegationCallback;
+import top.osjf.sdk.proxy.jdk.JDKProxyFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the overhead of an sdk proxy call, the request being executed in
+ * memory by {@link BenchmarkSdk.EchoRequest}.
+ *
+ * <ul>
+ *     <li>{@code proxyCall}: a call of the JDK proxy through {@link ComprehensiveDelegationCallback},
+ *     which keeps the {@link MethodInvocationPlan} of its methods.</li>
+ *     <li>{@code cachedPlan}: the request creation and the response resolution with a kept plan.</li>
+ *     <li>{@code methodOverloads}: the same with the {@code Method} overloads of {@link SdkSupport},
+ *     looking the plan up at each call.</li>
+ *     <li>{@code reflectivePerCall}: the per-call reflective resolution which preceded the plans,
+ *     reading the parameters and their annotations and looking the setter up at each call.</li>
+ * </ul>
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProxyInvocationBenchmark {
+
+    private BenchmarkSdk proxy;
+
+    private Method method;
+
+    private MethodInvocationPlan plan;
+
+    private Object[] args;
+
+    private final Map<String, Method> setterCache = new SynchronizedWeakHashMap<>();
+
+    @Setup
+    public void setup() throws Throwable {
+        proxy = new JDKProxyFactory().newProxy(BenchmarkSdk.class, new ComprehensiveDelegationCallback());
+        method = BenchmarkSdk.class.getMethod("echo", String.class);
+        plan = new MethodInvocationPlan(method);
+        args = new Object[]{"value"};
+    }
+
+    @Benchmark
+    public Object proxyCall() {
+        return proxy.echo("value");
+    }
+
+    @Benchmark
+    public Object cachedPlan() {
+        Request<?> request = SdkSupport.createRequest(plan, args).getRequest();
+        return SdkSupport.resolveResponse(plan, request.execute(null));
+    }
+
+    @Benchmark
+    public Object methodOverloads() {
+        Request<?> request = SdkSupport.createRequest(method, args).getRequest();
+        return SdkSupport.resolveResponse(method, request.execute(null));
+    }
+
+    @Benchmark
+    public Object reflectivePerCall() {
+        Request<?> request = reflectiveCreateRequest(method, args);
+        Response response = request.execute(null);
+        return Response.class.isAssignableFrom(method.getReturnType()) ? response : null;
+    }
+
+    /*
+     * The steps of the request creation before the invocation plans, for the parameters
+     * of BenchmarkSdk#echo: the parameters and their annotations are read, the request
+     * type is resolved from the method annotation, and the setter is looked up by name
+     * in a weakly keyed cache and invoked reflectively.
+     */
+    private Request<?> reflectiveCreateRequest(Method method, Object[] args) {
+        SortedMap<Integer, Object> constructorArgs = new TreeMap<>();
+        Map<String, Object> setterArgs = new TreeMap<>();
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < args.length; i++) {
+            Parameter parameter = parameters[i];
+            RequestSetter requestSetter = parameter.getAnnotation(RequestSetter.class);
+            if (requestSetter != null) {
+                setterArgs.put(requestSetter.name(), args[i]);
+            }
+        }
+        RequestType requestType = method.getAnnotation(RequestType.class);
+        Request<?> request = constructorArgs.isEmpty() ? ReflectUtil.instantiates(requestType.value())
+                : ReflectUtil.instantiates(requestType.value(), constructorArgs.values().toArray());
+        for (Map.Entry<String, Object> entry : setterArgs.entrySet()) {
+            String name = entry.getKey();
+            Object arg = entry.getValue();
+            String setMethodName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            Method setMethod = setterCache.computeIfAbsent(request.getClass().getName() + "@" + setMethodName, s -> {
+                for (Method candidate : ReflectUtil.getAllDeclaredMethods(request.getClass())) {
+                    if (candidate.getName().equals(setMethodName) && candidate.getParameterTypes().length == 1
+                            && candidate.getParameterTypes()[0].isAssignableFrom(arg.getClass())) {
+                        return candidate;
+                    }
+                }
+                throw new IllegalArgumentException(new NoSuchMethodException(setMethodName));
+            });
+            ReflectUtil.invokeMethod(request, setMethod, arg);
+        }
+        return request;
+    }
+}
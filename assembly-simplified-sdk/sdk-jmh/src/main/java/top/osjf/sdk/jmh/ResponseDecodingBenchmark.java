@@ -0,0 +1,198 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import top.osjf.sdk.core.AbstractRequest;
+import top.osjf.sdk.core.AbstractResponse;
+import top.osjf.sdk.core.SdkEnum;
+import top.osjf.sdk.core.client.Client;
+import top.osjf.sdk.core.client.JSONResponseConvert;
+import top.osjf.sdk.core.support.NotNull;
+import top.osjf.sdk.core.util.JSONUtil;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the decoding of JSON responses of 10KB, 1MB and 10MB from the bytes
+ * of the body.
+ *
+ * <ul>
+ *     <li>{@code validateThenParse}: the body decoded to a string, validated as a JSON
+ *     object then parsed, as responses were converted before the single-pass decoding.</li>
+ *     <li>{@code singlePassString}: the body decoded to a string and converted by
+ *     {@link JSONResponseConvert#convertToResponse(top.osjf.sdk.core.Request, String)}.</li>
+ *     <li>{@code singlePassStream}: the bytes of the body converted by
+ *     {@link JSONResponseConvert#convertToResponse(top.osjf.sdk.core.Request, java.io.InputStream,
+ *     java.nio.charset.Charset)} without any string.</li>
+ * </ul>
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 1.0.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ResponseDecodingBenchmark {
+
+    @Param({"10240", "1048576", "10485760"})
+    public int size;
+
+    private final JSONResponseConvert<ItemsResponse> convert = new JSONResponseConvert<ItemsResponse>() {
+    };
+
+    private final ItemsRequest request = new ItemsRequest();
+
+    private byte[] body;
+
+    @Setup
+    public void setup() {
+        StringBuilder json = new StringBuilder(size + 128).append("{\"code\":0,\"items\":[");
+        for (int i = 0; json.length() < size; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"id\":").append(i).append(",\"name\":\"item-").append(i)
+                    .append("\",\"price\":").append(i * 0.25).append(",\"tags\":[\"a\",\"b\"]}");
+        }
+        body = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object validateThenParse() {
+        String responseStr = new String(body, StandardCharsets.UTF_8);
+        if (JSONUtil.isValidObject(responseStr)) {
+            return JSONUtil.parseObject(responseStr, request.getResponseType());
+        }
+        throw new IllegalStateException("not a json object");
+    }
+
+    @Benchmark
+    public Object singlePassString() {
+        return convert.convertToResponse(request, new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public Object singlePassStream() {
+        return convert.convertToResponse(request, new ByteArrayInputStream(body), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The request of an {@link ItemsResponse}, only used for its response type.
+     */
+    public static class ItemsRequest extends AbstractRequest<ItemsResponse> {
+
+        private static final long serialVersionUID = -2811400532346405745L;
+
+        @Override
+        @NotNull
+        public SdkEnum matchSdkEnum() {
+            return BenchmarkSdk.EchoSdkEnum.ECHO;
+        }
+
+        @Override
+        @NotNull
+        public Class<? extends Client> getClientType() {
+            return Client.class;
+        }
+
+        @Override
+        @NotNull
+        public Type getResponseType() {
+            return ItemsResponse.class;
+        }
+    }
+
+    /**
+     * A response of a list of items.
+     */
+    public static class ItemsResponse extends AbstractResponse {
+
+        private static final long serialVersionUID = 4937420958733361466L;
+
+        private int code;
+
+        private List<Item> items;
+
+        public int getCode() {
+            return code;
+        }
+
+        public void setCode(int code) {
+            this.code = code;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+    }
+
+    /**
+     * An item of an {@link ItemsResponse}.
+     */
+    public static class Item {
+
+        private long id;
+
+        private String name;
+
+        private double price;
+
+        private List<String> tags;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+}
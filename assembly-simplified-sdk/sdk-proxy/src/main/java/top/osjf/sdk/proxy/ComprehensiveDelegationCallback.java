@@ -21,7 +21,12 @@ import top.osjf.sdk.core.Request;
 import top.osjf.sdk.core.RequestAttributes;
 import top.osjf.sdk.core.caller.RequestExecuteMetadata;
 import top.osjf.sdk.core.Response;
+import top.osjf.sdk.core.caller.AsyncPubSubExecutorProvider;
+import top.osjf.sdk.core.caller.CallOptions;
+import top.osjf.sdk.core.caller.Callback;
 import top.osjf.sdk.core.caller.RequestCaller;
+import top.osjf.sdk.core.caller.ThrowablePredicate;
+import top.osjf.sdk.core.support.MethodInvocationPlan;
 import top.osjf.sdk.core.support.Nullable;
 import top.osjf.sdk.core.support.SdkSupport;
 import top.osjf.sdk.core.util.CollectionUtils;
@@ -31,6 +36,10 @@ import top.osjf.sdk.proxy.springcglib.SpringCglibDelegationCallback;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * The {@code ComprehensiveDelegationCallback} class is a callback class that
@@ -72,6 +81,11 @@ public class ComprehensiveDelegationCallback implements RequestAttributes,
     @Nullable
     private RequestCaller requestCaller;
 
+    /**
+     * The {@code MethodInvocationPlan} of each proxy method, computed at its first call.
+     */
+    private final Map<Method, MethodInvocationPlan> invocationPlans = new ConcurrentHashMap<>();
+
     /**
      * Empty constructor, all related properties of this callback class
      * are optional and can be set using the set method according to one's
@@ -151,13 +165,15 @@ public class ComprehensiveDelegationCallback implements RequestAttributes,
      * The relevant logic for executing SDK requests includes
      * the following steps:
      * <ul>
-     *     <li>Parse method parameters and create request base class {@code Request}.</li>
+     *     <li>Parse method parameters with the cached {@link MethodInvocationPlan} of the method
+     *     and create request base class {@code Request}.</li>
      *     <li>Execute the pre method of the processor and return the enhanced base class
      *     instance {@code Request}.</li>
      *     <li>Execute SDK related requests based on the presence or absence of {@code RequestCaller}
      *     instances.</li>
      *     <li>Parse the corresponding data based on the type of response {@code Response}
-     *     returned.</li>
+     *     returned, or adapt the asynchronous execution to the {@code CompletableFuture},
+     *     {@code Single} or {@code Flowable} returned by the method.</li>
      *     <li>Execute the post-processing method of the processor and return an enhanced SDK
      *     return value.</li>
      * </ul>
@@ -175,20 +191,26 @@ public class ComprehensiveDelegationCallback implements RequestAttributes,
             case "hashCode": return hashCode();
             case "equals": return equals(args[0]);
         }
-        RequestExecuteMetadata metadata = SdkSupport.createRequest(method, args);
+        MethodInvocationPlan plan = getInvocationPlan(method);
+        RequestExecuteMetadata metadata = SdkSupport.createRequest(plan, args);
         Request<?> request = metadata.getRequest();
         if (CollectionUtils.isNotEmpty(postProcessors)) {
             for (HandlerPostProcessor postProcessor : postProcessors) {
                 request = postProcessor.postProcessRequestBeforeHandle(request, method, args, variable);
             }
         }
-        Response response;
-        if (requestCaller == null) {
-            response = request.execute(host);
+        Object result;
+        if (plan.isAsync()) {
+            result = plan.resolveAsyncResponse(executeAsync(request, metadata));
         } else {
-            response = requestCaller.resolveRequestExecuteWithOptions(metadata, host);
+            Response response;
+            if (requestCaller == null) {
+                response = request.execute(host);
+            } else {
+                response = requestCaller.resolveRequestExecuteWithOptions(metadata, host);
+            }
+            result = SdkSupport.resolveResponse(plan, response);
         }
-        Object result = SdkSupport.resolveResponse(method, response);
         if (CollectionUtils.isNotEmpty(postProcessors)) {
             for (HandlerPostProcessor postProcessor : postProcessors) {
                 result = postProcessor.postProcessResultAfterHandle(result, request, method, args, variable);
@@ -196,4 +218,172 @@ public class ComprehensiveDelegationCallback implements RequestAttributes,
         }
         return result;
     }
+
+    /**
+     * Return the asynchronous execution of the request of a method returning an asynchronous
+     * type.
+     *
+     * <p>Without {@code CallOptions} the request is executed by {@link Request#executeAsync},
+     * which does not occupy any thread while waiting for the response when the client has a
+     * non-blocking transport. The {@code CallOptions} of {@code RequestCaller} are applied by
+     * a blocking execution, with its retries and waits, which runs on the subscription
+     * {@code Executor} of the {@link AsyncPubSubExecutorProvider} of the method when there is
+     * one, the subscription then staying on its thread, and otherwise on the bounded
+     * {@link #getAsyncExecutor() executor} of the SDK, never on the common pool.
+     *
+     * @param request  the enhanced request.
+     * @param metadata the metadata of the request execution.
+     * @return the asynchronous execution of the request.
+     */
+    protected Supplier<CompletableFuture<? extends Response>> executeAsync(Request<?> request,
+                                                                           RequestExecuteMetadata metadata) {
+        if (requestCaller == null || metadata.getOptionsMetadata() == null) {
+            return () -> request.executeAsync(host);
+        }
+        RequestCaller caller = requestCaller;
+        AsyncPubSubExecutorProvider provider = metadata.getOptionsMetadata().getSubscriptionExecutorProvider();
+        Executor subscriptionExecutor = provider != null ? provider.getCustomSubscriptionExecutor() : null;
+        if (subscriptionExecutor == null) {
+            Executor executor = getAsyncExecutor();
+            return () -> supplyAsync(() -> caller.resolveRequestExecuteWithOptions(metadata, host), executor);
+        }
+        RequestExecuteMetadata subscribed = new SubscribedExecuteMetadata(metadata, provider);
+        return () -> supplyAsync(() -> caller.resolveRequestExecuteWithOptions(subscribed, host),
+                subscriptionExecutor);
+    }
+
+    /**
+     * Return the {@code Executor} of the blocking asynchronous executions of the methods
+     * without a subscription {@code Executor}, by default a pool shared by the callbacks
+     * and bounded in threads and queued executions, whose daemon threads end when idle.
+     *
+     * @return the {@code Executor} of the blocking asynchronous executions.
+     */
+    protected Executor getAsyncExecutor() {
+        return AsyncExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Return the asynchronous execution of the given supplier on the given executor, failed
+     * with the {@code RejectedExecutionException} when the executor is saturated.
+     */
+    private static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, executor);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
+    /**
+     * Return the cached {@code MethodInvocationPlan} of the given method, creating
+     * it at the first call of the method.
+     *
+     * @param method the proxy method.
+     * @return the {@code MethodInvocationPlan} of the method.
+     */
+    protected MethodInvocationPlan getInvocationPlan(Method method) {
+        MethodInvocationPlan plan = invocationPlans.get(method);
+        if (plan == null) {
+            plan = invocationPlans.computeIfAbsent(method, MethodInvocationPlan::new);
+        }
+        return plan;
+    }
+
+    /**
+     * The lazily created default {@code Executor} of the blocking asynchronous executions.
+     */
+    private static final class AsyncExecutorHolder {
+
+        private static final int THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+
+        private static final int QUEUE_CAPACITY = 1024;
+
+        private static final ThreadPoolExecutor EXECUTOR = newExecutor();
+
+        private static ThreadPoolExecutor newExecutor() {
+            AtomicInteger count = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(THREADS, THREADS, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(QUEUE_CAPACITY), r -> {
+                Thread thread = new Thread(r, "Sdk Async Execution thread-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    /**
+     * The metadata of a request executed on the subscription {@code Executor} of its
+     * provider, with the same options but no subscription {@code Executor}, so that the
+     * blocking execution does not wait on its own thread for another thread of it.
+     */
+    private static final class SubscribedExecuteMetadata implements RequestExecuteMetadata,
+            RequestExecuteMetadata.OptionsMetadata, AsyncPubSubExecutorProvider {
+
+        private final RequestExecuteMetadata metadata;
+
+        private final RequestExecuteMetadata.OptionsMetadata optionsMetadata;
+
+        private final AsyncPubSubExecutorProvider provider;
+
+        SubscribedExecuteMetadata(RequestExecuteMetadata metadata, AsyncPubSubExecutorProvider provider) {
+            this.metadata = metadata;
+            this.optionsMetadata = metadata.getOptionsMetadata();
+            this.provider = provider;
+        }
+
+        @Override
+        public Request<?> getRequest() {
+            return metadata.getRequest();
+        }
+
+        @Override
+        public Method getMethod() {
+            return metadata.getMethod();
+        }
+
+        @Override
+        public RequestExecuteMetadata.OptionsMetadata getOptionsMetadata() {
+            return this;
+        }
+
+        @Override
+        @Nullable
+        public List<Callback> getCallbacks() {
+            return optionsMetadata.getCallbacks();
+        }
+
+        @Override
+        @Nullable
+        public ThrowablePredicate getThrowablePredicate() {
+            return optionsMetadata.getThrowablePredicate();
+        }
+
+        @Override
+        public AsyncPubSubExecutorProvider getSubscriptionExecutorProvider() {
+            return this;
+        }
+
+        @Override
+        @Nullable
+        public CallOptions getCallOptions() {
+            return optionsMetadata.getCallOptions();
+        }
+
+        @Override
+        @Nullable
+        public Executor getCustomSubscriptionExecutor() {
+            return null;
+        }
+
+        @Override
+        @Nullable
+        public Executor getCustomObserveExecutor() {
+            return provider.getCustomObserveExecutor();
+        }
+    }
 }
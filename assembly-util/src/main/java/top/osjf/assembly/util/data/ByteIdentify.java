@@ -1,5 +1,6 @@
 package top.osjf.assembly.util.data;
 
+import cn.hutool.core.lang.hash.CityHash;
 import top.osjf.assembly.util.annotation.NotNull;
 import top.osjf.assembly.util.lang.SimilarAble;
 import top.osjf.assembly.util.serial.SerialUtils;
@@ -15,6 +16,10 @@ import java.util.function.Function;
  *
  * <p>After deserialization, use a separate API for handling {@link String} types.</p>
  *
+ * <p>From 1.1.4, {@link #hashCode()} is computed directly on the byte array with
+ * {@link CityHash#hash64(byte[])} and cached, and {@link #equals(Object)} compares
+ * the byte arrays, so that two arrays with colliding hash are no longer equal.
+ *
  * @author zpf
  * @since 1.0.0
  */
@@ -24,6 +29,9 @@ public class ByteIdentify extends Identify<byte[], ByteIdentify> {
 
     public Function<byte[], Object> deserializeFc = SerialUtils::deserialize;
 
+    /*** Cache the hash code of the byte array, {@code 0} means not yet computed.*/
+    private transient int hash;
+
     public ByteIdentify(byte[] var) {
         super(var);
     }
@@ -48,6 +56,40 @@ public class ByteIdentify extends Identify<byte[], ByteIdentify> {
         return deserializeFc;
     }
 
+    /**
+     * Calculate the hash code of a byte array, folding its 64-bit
+     * {@link CityHash#hash64(byte[])}.
+     *
+     * @param data must not be {@literal null}.
+     * @return the hash code of the byte array.
+     * @since 1.1.4
+     */
+    public static int hash(@NotNull byte[] data) {
+        long hash64 = CityHash.hash64(data);
+        return (int) (hash64 ^ (hash64 >>> 32));
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            hash = h = hash(getData());
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ByteIdentify)) {
+            return false;
+        }
+        ByteIdentify other = (ByteIdentify) obj;
+        return hashCode() == other.hashCode() && Arrays.equals(getData(), other.getData());
+    }
+
     @Override
     public int compareTo(@NotNull ByteIdentify o) {
         byte[] data = getData();
@@ -69,7 +111,7 @@ public class ByteIdentify extends Identify<byte[], ByteIdentify> {
         if (Arrays.equals(data, dataChallenge)) {
             return true;
         }
-        Object deserializeData = deserializeFc.apply(data);
+        Object deserializeData = getDeserializeFc().apply(data);
         Object deserializeDataChallenge = o.getDeserializeFc().apply(dataChallenge);
         if (deserializeData instanceof SimilarAble) {
             //Note type cast exceptions.
@@ -81,6 +123,6 @@ public class ByteIdentify extends Identify<byte[], ByteIdentify> {
     @Override
     public String toString() {
         return String.format("Byte array = %s , real value = %s", Arrays.toString(getData()),
-                deserializeFc.apply(getData()));
+                getDeserializeFc().apply(getData()));
     }
 }
@@ -83,7 +83,7 @@ public abstract class Identify<T, SELF extends Identify<T, SELF>> implements Com
         if (data instanceof byte[]) {
             bytes = (byte[]) data;
         } else {
-            bytes = serializeFc.apply(data);
+            bytes = getSerializeFc().apply(data);
         }
         return CityHash.hash32(bytes);
     }